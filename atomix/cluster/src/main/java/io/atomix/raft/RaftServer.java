@@ -573,6 +573,7 @@ public interface RaftServer {
     private static final Duration DEFAULT_ELECTION_TIMEOUT = Duration.ofMillis(750);
     private static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofMillis(250);
     private static final Duration DEFAULT_SESSION_TIMEOUT = Duration.ofMillis(5000);
+    private static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
     private static final ThreadModel DEFAULT_THREAD_MODEL = ThreadModel.SHARED_THREAD_POOL;
     private static final int DEFAULT_THREAD_POOL_SIZE =
         Math.max(Math.min(Runtime.getRuntime().availableProcessors() * 2, 8), 4);
@@ -585,6 +586,7 @@ public interface RaftServer {
     protected Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
     protected Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
     protected Duration sessionTimeout = DEFAULT_SESSION_TIMEOUT;
+    protected int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
     protected PrimitiveTypeRegistry primitiveTypes;
     protected ThreadModel threadModel = DEFAULT_THREAD_MODEL;
     protected int threadPoolSize = DEFAULT_THREAD_POOL_SIZE;
@@ -727,6 +729,20 @@ public interface RaftServer {
       return this;
     }
 
+    /**
+     * Sets the maximum number of append requests which the leader sends to a follower without
+     * waiting for their responses.
+     *
+     * @param maxAppendsPerFollower The maximum number of in-flight append requests per follower.
+     * @return The server builder.
+     * @throws IllegalArgumentException If the maximum is not positive
+     */
+    public Builder withMaxAppendsPerFollower(final int maxAppendsPerFollower) {
+      checkArgument(maxAppendsPerFollower > 0, "maxAppendsPerFollower must be positive");
+      this.maxAppendsPerFollower = maxAppendsPerFollower;
+      return this;
+    }
+
     /**
      * Sets the server thread pool size.
      *
@@ -95,7 +95,9 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
           // If the member state doesn't already exist, create it.
           final RaftMemberContext state =
               new RaftMemberContext(
-                  new DefaultRaftMember(member.memberId(), member.getType(), updateTime), this);
+                  new DefaultRaftMember(member.memberId(), member.getType(), updateTime),
+                  this,
+                  raft.getMaxAppendsPerFollower());
           state.resetState(raft.getLog());
           this.members.add(state.getMember());
           this.remoteMembers.add(state);
@@ -603,7 +605,7 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
         if (state == null) {
           final DefaultRaftMember defaultMember =
               new DefaultRaftMember(member.memberId(), member.getType(), time);
-          state = new RaftMemberContext(defaultMember, this);
+          state = new RaftMemberContext(defaultMember, this, raft.getMaxAppendsPerFollower());
           state.resetState(raft.getLog());
           this.members.add(state.getMember());
           this.remoteMembers.add(state);
@@ -30,9 +30,9 @@ import org.slf4j.LoggerFactory;
 /** Cluster member state. */
 public final class RaftMemberContext {
 
-  private static final int MAX_APPENDS = 2;
   private static final int APPEND_WINDOW_SIZE = 8;
   private final DefaultRaftMember member;
+  private final int maxAppends;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private long term;
   private long configIndex;
@@ -51,8 +51,11 @@ public final class RaftMemberContext {
   private long failureTime;
   private volatile RaftLogReader reader;
 
-  RaftMemberContext(final DefaultRaftMember member, final RaftClusterContext cluster) {
+  RaftMemberContext(
+      final DefaultRaftMember member, final RaftClusterContext cluster, final int maxAppends) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
+    checkArgument(maxAppends > 0, "maxAppends must be positive");
+    this.maxAppends = maxAppends;
   }
 
   /** Resets the member state. */
@@ -89,13 +92,17 @@ public final class RaftMemberContext {
   /**
    * Returns a boolean indicating whether an append request can be sent to the member.
    *
+   * <p>As long as the previous appends succeeded, up to the configured maximum of append requests
+   * are pipelined to the member. The requests are spread over the mean append latency, so the
+   * window is refilled as responses arrive rather than in bursts.
+   *
    * @return Indicates whether an append request can be sent to the member.
    */
   public boolean canAppend() {
     return appending == 0
         || (appendSucceeded
-            && appending < MAX_APPENDS
-            && System.currentTimeMillis() - (timeStats.getMean() / MAX_APPENDS) >= appendTime);
+            && appending < maxAppends
+            && System.currentTimeMillis() - (timeStats.getMean() / maxAppends) >= appendTime);
   }
 
   /**
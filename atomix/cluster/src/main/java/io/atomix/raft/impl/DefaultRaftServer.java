@@ -336,6 +336,7 @@ public class DefaultRaftServer implements RaftServer {
       raft.setElectionTimeout(electionTimeout);
       raft.setHeartbeatInterval(heartbeatInterval);
       raft.setSessionTimeout(sessionTimeout);
+      raft.setMaxAppendsPerFollower(maxAppendsPerFollower);
 
       return new DefaultRaftServer(raft);
     }
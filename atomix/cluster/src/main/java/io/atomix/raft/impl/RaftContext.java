@@ -124,6 +124,7 @@ public class RaftContext implements AutoCloseable {
   private Duration electionTimeout = Duration.ofMillis(500);
   private Duration heartbeatInterval = Duration.ofMillis(150);
   private Duration sessionTimeout = Duration.ofMillis(5000);
+  private int maxAppendsPerFollower = 2;
   private volatile MemberId leader;
   private volatile long term;
   private MemberId lastVotedFor;
@@ -790,6 +791,25 @@ public class RaftContext implements AutoCloseable {
     this.heartbeatInterval = checkNotNull(heartbeatInterval, "heartbeatInterval cannot be null");
   }
 
+  /**
+   * Returns the maximum number of append requests which can be in flight to a single follower.
+   *
+   * @return The maximum number of in-flight append requests per follower.
+   */
+  public int getMaxAppendsPerFollower() {
+    return maxAppendsPerFollower;
+  }
+
+  /**
+   * Sets the maximum number of append requests which can be in flight to a single follower.
+   *
+   * @param maxAppendsPerFollower The maximum number of in-flight append requests per follower.
+   */
+  public void setMaxAppendsPerFollower(final int maxAppendsPerFollower) {
+    checkArgument(maxAppendsPerFollower > 0, "maxAppendsPerFollower must be positive");
+    this.maxAppendsPerFollower = maxAppendsPerFollower;
+  }
+
   /**
    * Returns the last applied index.
    *
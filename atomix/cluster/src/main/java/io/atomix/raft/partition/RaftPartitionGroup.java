@@ -422,6 +422,18 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the maximum number of append requests which a leader sends to a follower without waiting
+     * for their responses.
+     *
+     * @param maxAppendsPerFollower the maximum number of in-flight append requests per follower
+     * @return the Raft partition group builder
+     */
+    public Builder withMaxAppendsPerFollower(final int maxAppendsPerFollower) {
+      config.setMaxAppendsPerFollower(maxAppendsPerFollower);
+      return this;
+    }
+
     /**
      * Sets the default session timeout.
      *
@@ -32,12 +32,14 @@ public class RaftPartitionGroupConfig extends PartitionGroupConfig<RaftPartition
   private static final Duration DEFAULT_ELECTION_TIMEOUT = Duration.ofMillis(2500);
   private static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofMillis(250);
   private static final Duration DEFAULT_DEFAULT_SESSION_TIMEOUT = Duration.ofMillis(5000);
+  private static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
 
   private Set<String> members = new HashSet<>();
   private int partitionSize;
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private Duration defaultSessionTimeout = DEFAULT_DEFAULT_SESSION_TIMEOUT;
+  private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private RaftStorageConfig storageConfig = new RaftStorageConfig();
   private RaftCompactionConfig compactionConfig = new RaftCompactionConfig();
 
@@ -134,6 +136,26 @@ public class RaftPartitionGroupConfig extends PartitionGroupConfig<RaftPartition
     return this;
   }
 
+  /**
+   * Returns the maximum number of in-flight append requests per follower.
+   *
+   * @return the maximum number of in-flight append requests per follower
+   */
+  public int getMaxAppendsPerFollower() {
+    return maxAppendsPerFollower;
+  }
+
+  /**
+   * Sets the maximum number of in-flight append requests per follower.
+   *
+   * @param maxAppendsPerFollower the maximum number of in-flight append requests per follower
+   * @return the Raft partition group configuration
+   */
+  public RaftPartitionGroupConfig setMaxAppendsPerFollower(final int maxAppendsPerFollower) {
+    this.maxAppendsPerFollower = maxAppendsPerFollower;
+    return this;
+  }
+
   /**
    * Returns the set of members in the partition group.
    *
@@ -71,6 +71,7 @@ import io.atomix.raft.storage.log.entry.OpenSessionEntry;
 import io.atomix.raft.storage.log.entry.QueryEntry;
 import io.atomix.raft.storage.system.Configuration;
 import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.raft.zeebe.ZeebeEntrySerializer;
 import io.atomix.utils.serializer.Namespace;
 import io.atomix.utils.serializer.Namespaces;
 import java.time.Instant;
@@ -148,7 +149,7 @@ public final class RaftNamespaces {
           .register(RaftMember.Type.class)
           .register(Instant.class)
           .register(Configuration.class)
-          .register(ZeebeEntry.class)
+          .register(new ZeebeEntrySerializer(), ZeebeEntry.class)
           .build("RaftProtocol");
 
   /** Raft storage namespace. */
@@ -175,7 +176,7 @@ public final class RaftNamespaces {
           .register(RaftMember.Type.class)
           .register(Instant.class)
           .register(Configuration.class)
-          .register(ZeebeEntry.class)
+          .register(new ZeebeEntrySerializer(), ZeebeEntry.class)
           .build("RaftStorage");
 
   private RaftNamespaces() {}
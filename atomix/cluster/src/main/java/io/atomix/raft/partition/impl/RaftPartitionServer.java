@@ -165,6 +165,7 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
         .withHeartbeatInterval(config.getHeartbeatInterval())
         .withElectionTimeout(config.getElectionTimeout())
         .withSessionTimeout(config.getDefaultSessionTimeout())
+        .withMaxAppendsPerFollower(config.getMaxAppendsPerFollower())
         .withStorage(createRaftStorage())
         .withThreadContextFactory(threadContextFactory)
         .withStateMachineFactory(config.getStateMachineFactory())
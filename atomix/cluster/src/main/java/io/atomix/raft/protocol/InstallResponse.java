@@ -16,19 +16,29 @@
  */
 package io.atomix.raft.protocol;
 
+import static com.google.common.base.MoreObjects.toStringHelper;
+
 import io.atomix.raft.RaftError;
+import io.atomix.utils.misc.StringUtils;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Aside from indicating whether or not the request was successful, the response may
+ * contain the ID of the next chunk the receiver expects. It differs from the {@link
+ * InstallRequest#nextChunkId()} if the receiver already has some of the following chunks, e.g.
+ * because they are part of a previous snapshot, and the leader should skip them.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
-  public InstallResponse(final Status status, final RaftError error) {
+  private final ByteBuffer nextChunkId;
+
+  public InstallResponse(final Status status, final RaftError error, final ByteBuffer nextChunkId) {
     super(status, error);
+    this.nextChunkId = nextChunkId;
   }
 
   /**
@@ -40,13 +50,64 @@ public class InstallResponse extends AbstractRaftResponse {
     return new Builder();
   }
 
+  /**
+   * Returns the ID of the next chunk the receiver expects, or null if it expects the chunk
+   * announced by the request.
+   *
+   * @return the ID of the next expected chunk
+   */
+  public ByteBuffer nextChunkId() {
+    return nextChunkId;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), status, nextChunkId);
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (object instanceof InstallResponse) {
+      final InstallResponse response = (InstallResponse) object;
+      return response.status == status
+          && Objects.equals(response.error, error)
+          && Objects.equals(response.nextChunkId, nextChunkId);
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    if (status == Status.OK) {
+      return toStringHelper(this)
+          .add("status", status)
+          .add("nextChunkId", StringUtils.printShortBuffer(nextChunkId))
+          .toString();
+    } else {
+      return toStringHelper(this).add("status", status).add("error", error).toString();
+    }
+  }
+
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
 
+    private ByteBuffer nextChunkId;
+
+    /**
+     * Sets the ID of the next chunk the receiver expects.
+     *
+     * @param nextChunkId the ID of the next expected chunk, or null to follow the request
+     * @return The install response builder.
+     */
+    public Builder withNextChunkId(final ByteBuffer nextChunkId) {
+      this.nextChunkId = nextChunkId;
+      return this;
+    }
+
     @Override
     public InstallResponse build() {
       validate();
-      return new InstallResponse(status, error);
+      return new InstallResponse(status, error, nextChunkId);
     }
   }
 }
@@ -209,6 +209,14 @@ abstract class AbstractAppender implements AutoCloseable {
   /** Handles an append failure. */
   protected void handleAppendResponseFailure(
       final RaftMemberContext member, final AppendRequest request, final Throwable error) {
+    // The entries of the failed request didn't reach the member, which means that the requests
+    // pipelined after it will be rejected. Stop pipelining until all in-flight requests completed,
+    // and rewind the reader to send the entries again, unless a later request already succeeded.
+    member.appendFailed();
+    if (!request.entries().isEmpty() && request.prevLogIndex() >= member.getMatchIndex()) {
+      resetNextIndex(member, request.prevLogIndex() + 1);
+    }
+
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
   }
@@ -300,8 +308,11 @@ abstract class AbstractAppender implements AutoCloseable {
 
   /** Updates the match index when a response is received. */
   protected void updateMatchIndex(final RaftMemberContext member, final AppendResponse response) {
-    // If the replica returned a valid match index then update the existing match index.
-    member.setMatchIndex(response.lastLogIndex());
+    // If the replica returned a valid match index then update the existing match index. The
+    // responses to pipelined requests can arrive out of order, so the match index only increases.
+    if (response.lastLogIndex() > member.getMatchIndex()) {
+      member.setMatchIndex(response.lastLogIndex());
+    }
   }
 
   /** Resets the match index when a response fails. */
@@ -542,7 +553,6 @@ abstract class AbstractAppender implements AutoCloseable {
   }
 
   /** Handles an OK install response. */
-  @SuppressWarnings("unused")
   protected void handleInstallResponseOk(
       final RaftMemberContext member,
       final InstallRequest request,
@@ -558,8 +568,11 @@ abstract class AbstractAppender implements AutoCloseable {
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
-    // If more install requests remain, increment the member's snapshot offset.
-    else {
+    // If more install requests remain, continue with the chunk the member expects next, which
+    // skips the chunks it already has.
+    else if (response.nextChunkId() != null) {
+      member.setNextSnapshotChunk(response.nextChunkId());
+    } else {
       member.setNextSnapshotChunk(request.nextChunkId());
     }
 
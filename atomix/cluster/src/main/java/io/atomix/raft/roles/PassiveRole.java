@@ -63,6 +63,7 @@ import io.atomix.storage.StorageException;
 import io.atomix.storage.journal.Indexed;
 import io.atomix.utils.time.WallClockTimestamp;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 
@@ -346,7 +347,16 @@ public class PassiveRole extends InactiveRole {
         raft.getLogWriter().reset(index + 1);
       }
     } else {
-      pendingSnapshot.setNextExpected(request.nextChunkId());
+      // the pending snapshot may already have some of the following chunks, in which case the
+      // leader is asked to continue with the next missing one
+      final ByteBuffer nextChunkId = pendingSnapshot.nextMissingChunk(request.nextChunkId());
+      pendingSnapshot.setNextExpected(nextChunkId);
+      return CompletableFuture.completedFuture(
+          logResponse(
+              InstallResponse.builder()
+                  .withStatus(RaftResponse.Status.OK)
+                  .withNextChunkId(nextChunkId)
+                  .build()));
     }
 
     return CompletableFuture.completedFuture(
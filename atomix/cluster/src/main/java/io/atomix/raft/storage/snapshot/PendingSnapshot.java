@@ -62,6 +62,18 @@ public interface PendingSnapshot {
    */
   void setNextExpected(ByteBuffer nextChunkId);
 
+  /**
+   * Returns the ID of the next chunk which is missing in this snapshot, starting at the given chunk
+   * ID. Implementations which can reuse data they already have, e.g. files of a previous snapshot,
+   * can use this to let the sender skip the chunks containing it.
+   *
+   * @param nextChunkId the ID of the next chunk in the order of the sender
+   * @return the ID of the next chunk to receive
+   */
+  default ByteBuffer nextMissingChunk(final ByteBuffer nextChunkId) {
+    return nextChunkId;
+  }
+
   /** Marks the snapshot as complete and valid. */
   void commit();
 
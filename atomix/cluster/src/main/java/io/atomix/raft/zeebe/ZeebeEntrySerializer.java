@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.zeebe;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryo.serializers.FieldSerializer;
+import java.nio.ByteBuffer;
+
+/**
+ * Serializes {@link ZeebeEntry} with a fixed binary layout:
+ *
+ * <ul>
+ *   <li>8-bit version
+ *   <li>64-bit term
+ *   <li>64-bit timestamp
+ *   <li>64-bit lowest position
+ *   <li>64-bit highest position
+ *   <li>32-bit data length
+ *   <li>n-bit data
+ * </ul>
+ *
+ * <p>This is not a zero-copy codec: the data is copied in bulk on write and on read. On write, the
+ * data has to be copied into the journal segment or the message anyway; heap buffers are copied
+ * once, while direct buffers are staged through a small array, since Kryo's {@link Output} only
+ * accepts arrays. On read, entries never reference the buffer they were read from, as a memory
+ * mapped journal segment may be unmapped, and the buffer of a file channel reader is reused, while
+ * the entry is still in use.
+ *
+ * <p>Entries written before the version byte was introduced were serialized by Kryo's {@link
+ * FieldSerializer}, which always starts with the class of the data. Kryo never writes {@link
+ * #VERSION} as the first byte of a class, so such entries are still read with the old layout.
+ */
+public final class ZeebeEntrySerializer extends Serializer<ZeebeEntry> {
+
+  static final byte VERSION = 1;
+
+  private static final int COPY_CHUNK_SIZE = 4 * 1024;
+
+  public ZeebeEntrySerializer() {
+    super(false, true);
+  }
+
+  @Override
+  public void write(final Kryo kryo, final Output output, final ZeebeEntry entry) {
+    final ByteBuffer data = entry.data();
+
+    output.writeByte(VERSION);
+    output.writeLong(entry.term());
+    output.writeLong(entry.timestamp());
+    output.writeLong(entry.lowestPosition());
+    output.writeLong(entry.highestPosition());
+    output.writeInt(data.remaining());
+    writeData(output, data);
+  }
+
+  @Override
+  public ZeebeEntry read(final Kryo kryo, final Input input, final Class<ZeebeEntry> type) {
+    final byte version = input.readByte();
+    if (version != VERSION) {
+      input.setPosition(input.position() - 1);
+      return readLegacy(kryo, input, type);
+    }
+
+    final long term = input.readLong();
+    final long timestamp = input.readLong();
+    final long lowestPosition = input.readLong();
+    final long highestPosition = input.readLong();
+    final int length = input.readInt();
+    final ByteBuffer data = ByteBuffer.wrap(input.readBytes(length));
+
+    return new ZeebeEntry(term, timestamp, lowestPosition, highestPosition, data);
+  }
+
+  private static ZeebeEntry readLegacy(
+      final Kryo kryo, final Input input, final Class<ZeebeEntry> type) {
+    // field serializers are bound to a Kryo instance, while this serializer is shared by the pool
+    return new FieldSerializer<ZeebeEntry>(kryo, type).read(kryo, input, type);
+  }
+
+  private static void writeData(final Output output, final ByteBuffer data) {
+    if (data.hasArray()) {
+      output.writeBytes(data.array(), data.arrayOffset() + data.position(), data.remaining());
+      return;
+    }
+
+    final ByteBuffer source = data.duplicate();
+    final byte[] chunk = new byte[Math.min(source.remaining(), COPY_CHUNK_SIZE)];
+    while (source.hasRemaining()) {
+      final int length = Math.min(source.remaining(), chunk.length);
+      source.get(chunk, 0, length);
+      output.writeBytes(chunk, 0, length);
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import java.time.Instant;
+import org.junit.Test;
+
+public class RaftMemberContextTest {
+
+  @Test
+  public void shouldNotPipelineAppendsBeforeFirstSuccess() {
+    // given
+    final RaftMemberContext member = newMemberContext(2);
+
+    // when
+    member.startAppend();
+
+    // then
+    assertFalse(member.canAppend());
+  }
+
+  @Test
+  public void shouldPipelineAppendsUpToMaxAppends() {
+    // given
+    final RaftMemberContext member = newMemberContext(3);
+    member.startAppend();
+    member.completeAppend(0);
+    member.appendSucceeded();
+
+    // when
+    member.startAppend();
+    final boolean canAppendSecond = member.canAppend();
+    member.startAppend();
+    final boolean canAppendThird = member.canAppend();
+    member.startAppend();
+
+    // then
+    assertTrue(canAppendSecond);
+    assertTrue(canAppendThird);
+    assertFalse(member.canAppend());
+  }
+
+  @Test
+  public void shouldAppendAgainWhenPipelinedAppendCompleted() {
+    // given
+    final RaftMemberContext member = newMemberContext(2);
+    member.startAppend();
+    member.completeAppend(0);
+    member.appendSucceeded();
+    member.startAppend();
+    member.startAppend();
+
+    // when
+    member.completeAppend(0);
+
+    // then
+    assertTrue(member.canAppend());
+  }
+
+  @Test
+  public void shouldStopPipeliningAfterFailedAppend() {
+    // given
+    final RaftMemberContext member = newMemberContext(2);
+    member.startAppend();
+    member.completeAppend(0);
+    member.appendSucceeded();
+    member.startAppend();
+
+    // when
+    member.appendFailed();
+
+    // then
+    assertFalse(member.canAppend());
+  }
+
+  static RaftMemberContext newMemberContext(final int maxAppends) {
+    final DefaultRaftMember member =
+        new DefaultRaftMember(MemberId.from("follower"), Type.ACTIVE, Instant.now());
+    return new RaftMemberContext(member, null, maxAppends);
+  }
+}
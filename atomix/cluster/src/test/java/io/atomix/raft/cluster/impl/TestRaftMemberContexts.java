@@ -0,0 +1,26 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.cluster.impl;
+
+/** Creates member contexts outside of a cluster, for tests of the Raft roles. */
+public final class TestRaftMemberContexts {
+
+  private TestRaftMemberContexts() {}
+
+  public static RaftMemberContext create(final DefaultRaftMember member, final int maxAppends) {
+    return new RaftMemberContext(member, null, maxAppends);
+  }
+}
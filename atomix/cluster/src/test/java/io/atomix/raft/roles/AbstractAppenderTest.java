@@ -0,0 +1,252 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.roles;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.cluster.impl.RaftMemberContext;
+import io.atomix.raft.cluster.impl.TestRaftMemberContexts;
+import io.atomix.raft.impl.RaftContext;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.protocol.AppendRequest;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.RaftServerProtocol;
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.snapshot.SnapshotStore;
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.utils.concurrent.ThreadContext;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AbstractAppenderTest {
+
+  private static final long TERM = 1;
+  // each entry fills a batch, so that every append request carries exactly one entry
+  private static final int ENTRY_SIZE = 32 * 1024;
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final List<AppendRequest> requests = new ArrayList<>();
+  private final List<CompletableFuture<AppendResponse>> responses = new ArrayList<>();
+
+  private RaftLog log;
+  private RaftMemberContext member;
+  private TestAppender appender;
+
+  @Before
+  public void setUp() throws IOException {
+    log =
+        RaftLog.builder()
+            .withName("test")
+            .withDirectory(temporaryFolder.newFolder("log"))
+            .withNamespace(RaftNamespaces.RAFT_STORAGE)
+            .build();
+    for (int i = 1; i <= 5; i++) {
+      log.writer().append(new ZeebeEntry(TERM, i, i, i, ByteBuffer.allocate(ENTRY_SIZE)));
+    }
+
+    final DefaultRaftMember leader =
+        new DefaultRaftMember(MemberId.from("leader"), Type.ACTIVE, Instant.now());
+    final DefaultRaftMember follower =
+        new DefaultRaftMember(MemberId.from("follower"), Type.ACTIVE, Instant.now());
+    member = TestRaftMemberContexts.create(follower, 2);
+    member.resetState(log);
+    member.getLogReader().reset(1);
+
+    final ThreadContext threadContext = mock(ThreadContext.class);
+    doAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(threadContext)
+        .execute(any());
+
+    final RaftServerProtocol protocol = mock(RaftServerProtocol.class);
+    when(protocol.append(any(), any()))
+        .then(
+            invocation -> {
+              final CompletableFuture<AppendResponse> response = new CompletableFuture<>();
+              requests.add(invocation.getArgument(1));
+              responses.add(response);
+              return response;
+            });
+
+    final RaftContext raft = mock(RaftContext.class);
+    when(raft.getName()).thenReturn("appender");
+    when(raft.getTerm()).thenReturn(TERM);
+    when(raft.getLeader()).thenReturn(leader);
+    when(raft.getProtocol()).thenReturn(protocol);
+    when(raft.getThreadContext()).thenReturn(threadContext);
+    when(raft.getSnapshotStore()).thenReturn(mock(SnapshotStore.class));
+
+    appender = new TestAppender(raft);
+  }
+
+  @After
+  public void tearDown() {
+    appender.close();
+    log.close();
+  }
+
+  @Test
+  public void shouldNotLowerMatchIndexOnOutOfOrderResponses() {
+    // given
+    appender.sendNext(member);
+    appender.sendNext(member);
+    appender.sendNext(member);
+
+    // when
+    responses.get(2).complete(succeeded(3));
+    responses.get(0).complete(succeeded(1));
+    responses.get(1).complete(succeeded(2));
+
+    // then
+    assertEquals(3, member.getMatchIndex());
+  }
+
+  @Test
+  public void shouldRewindToEntriesOfFailedRequest() {
+    // given
+    appender.sendNext(member);
+    appender.sendNext(member);
+    appender.sendNext(member);
+    responses.get(0).complete(succeeded(1));
+
+    // when
+    responses.get(1).completeExceptionally(new ConnectException("expected"));
+    final long nextIndexAfterFailure = member.getLogReader().getNextIndex();
+    responses.get(2).complete(rejected(1));
+    appender.sendNext(member);
+
+    // then
+    assertEquals(2, nextIndexAfterFailure);
+    assertEquals(1, member.getMatchIndex());
+    final AppendRequest resent = requests.get(3);
+    assertEquals(1, resent.prevLogIndex());
+    assertEquals(1, resent.entries().size());
+    assertEquals(2, ((ZeebeEntry) resent.entries().get(0)).lowestPosition());
+  }
+
+  @Test
+  public void shouldNotRewindIfLaterRequestSucceeded() {
+    // given
+    appender.sendNext(member);
+    appender.sendNext(member);
+    responses.get(1).complete(succeeded(2));
+
+    // when
+    responses.get(0).completeExceptionally(new ConnectException("expected"));
+
+    // then
+    assertEquals(2, member.getMatchIndex());
+    assertEquals(3, member.getLogReader().getNextIndex());
+  }
+
+  @Test
+  public void shouldHoldBackAppendsAtMaxAppends() {
+    // given
+    member.startAppend();
+    member.completeAppend(0);
+    member.appendSucceeded();
+    appender.autoAppend = true;
+
+    // when
+    appender.appendEntries(member);
+
+    // then
+    assertEquals(2, requests.size());
+    assertEquals(3, member.getLogReader().getNextIndex());
+  }
+
+  private static AppendResponse succeeded(final long lastLogIndex) {
+    return AppendResponse.builder()
+        .withStatus(Status.OK)
+        .withTerm(TERM)
+        .withSucceeded(true)
+        .withLastLogIndex(lastLogIndex)
+        .build();
+  }
+
+  private static AppendResponse rejected(final long lastLogIndex) {
+    return AppendResponse.builder()
+        .withStatus(Status.OK)
+        .withTerm(TERM)
+        .withSucceeded(false)
+        .withLastLogIndex(lastLogIndex)
+        .build();
+  }
+
+  /**
+   * Sends the requests only when asked to by the test, unless {@link #autoAppend} is set; then it
+   * appends like the leader does, within the limits of the member context.
+   */
+  private static final class TestAppender extends AbstractAppender {
+
+    private boolean autoAppend;
+
+    TestAppender(final RaftContext raft) {
+      super(raft);
+    }
+
+    void sendNext(final RaftMemberContext member) {
+      sendAppendRequest(member, buildAppendRequest(member, -1));
+    }
+
+    @Override
+    protected void handleAppendResponseOk(
+        final RaftMemberContext member,
+        final AppendRequest request,
+        final AppendResponse response) {
+      if (response.succeeded()) {
+        member.appendSucceeded();
+      } else {
+        member.appendFailed();
+      }
+      super.handleAppendResponseOk(member, request, response);
+    }
+
+    @Override
+    protected void appendEntries(final RaftMemberContext member) {
+      if (autoAppend && member.canAppend() && hasMoreEntries(member)) {
+        sendNext(member);
+      }
+    }
+
+    @Override
+    protected boolean hasMoreEntries(final RaftMemberContext member) {
+      return member.getLogReader().hasNext();
+    }
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.zeebe;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.utils.serializer.Namespace;
+import io.atomix.utils.serializer.Namespaces;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+public class ZeebeEntrySerializerTest {
+
+  private static final byte[] DATA = "records".getBytes(StandardCharsets.UTF_8);
+  private static final int HEADER_LENGTH = Byte.BYTES + 4 * Long.BYTES + Integer.BYTES;
+
+  @Test
+  public void shouldSerializeEntryForStorage() {
+    // given
+    final ZeebeEntry entry = new ZeebeEntry(1, 2, 3, 4, ByteBuffer.wrap(DATA));
+    final ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+    // when
+    RaftNamespaces.RAFT_STORAGE.serialize(entry, buffer);
+    buffer.flip();
+    final ZeebeEntry deserialized = RaftNamespaces.RAFT_STORAGE.deserialize(buffer);
+
+    // then
+    assertEntry(entry, deserialized);
+  }
+
+  @Test
+  public void shouldSerializeEntryForProtocol() {
+    // given
+    final ByteBuffer data = ByteBuffer.allocateDirect(DATA.length).put(DATA).flip();
+    final ZeebeEntry entry = new ZeebeEntry(1, 2, 3, 4, data);
+
+    // when
+    final byte[] bytes = RaftNamespaces.RAFT_PROTOCOL.serialize(entry);
+    final ZeebeEntry deserialized = RaftNamespaces.RAFT_PROTOCOL.deserialize(bytes);
+
+    // then
+    assertEntry(entry, deserialized);
+    assertEquals(DATA.length, data.remaining());
+  }
+
+  @Test
+  public void shouldWriteHeaderWithVersion() {
+    // given
+    final ZeebeEntry entry = new ZeebeEntry(1, 2, 3, 4, ByteBuffer.wrap(DATA));
+
+    // when
+    final byte[] bytes = RaftNamespaces.RAFT_PROTOCOL.serialize(entry);
+
+    // then
+    final ByteBuffer header = ByteBuffer.wrap(bytes, getHeaderOffset(bytes), HEADER_LENGTH);
+    assertEquals(ZeebeEntrySerializer.VERSION, header.get());
+    assertEquals(1, header.getLong());
+    assertEquals(2, header.getLong());
+    assertEquals(3, header.getLong());
+    assertEquals(4, header.getLong());
+    assertEquals(DATA.length, header.getInt());
+  }
+
+  @Test
+  public void shouldCopyDataFromDirectBuffer() {
+    // given
+    final ZeebeEntry entry = new ZeebeEntry(1, 2, 3, 4, ByteBuffer.wrap(DATA));
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+    buffer.position(16);
+    RaftNamespaces.RAFT_STORAGE.serialize(entry, buffer);
+    final int end = buffer.position();
+    buffer.position(16).limit(end);
+
+    // when
+    final ZeebeEntry deserialized = RaftNamespaces.RAFT_STORAGE.deserialize(buffer);
+    buffer.put(end - 1, (byte) 'S');
+
+    // then
+    assertEntry(entry, deserialized);
+  }
+
+  @Test
+  public void shouldCopyDataFromHeapBuffer() {
+    // given
+    final ZeebeEntry entry = new ZeebeEntry(1, 2, 3, 4, ByteBuffer.wrap(DATA));
+    final ByteBuffer buffer = ByteBuffer.allocate(1024);
+    RaftNamespaces.RAFT_STORAGE.serialize(entry, buffer);
+    buffer.flip();
+
+    // when
+    final ZeebeEntry deserialized = RaftNamespaces.RAFT_STORAGE.deserialize(buffer);
+    buffer.put(buffer.limit() - 1, (byte) 'S');
+
+    // then
+    assertFalse(deserialized.data().isDirect());
+    assertEquals(ByteBuffer.wrap(DATA), deserialized.data());
+  }
+
+  @Test
+  public void shouldReadEntryWrittenWithoutVersion() {
+    // given
+    final Namespace legacy =
+        Namespace.builder()
+            .register(Namespaces.BASIC)
+            .nextId(Namespaces.BEGIN_USER_CUSTOM_ID)
+            .register(ZeebeEntry.class)
+            .build("Legacy");
+    final Namespace current =
+        Namespace.builder()
+            .register(Namespaces.BASIC)
+            .nextId(Namespaces.BEGIN_USER_CUSTOM_ID)
+            .register(new ZeebeEntrySerializer(), ZeebeEntry.class)
+            .build("Current");
+    final ZeebeEntry entry = new ZeebeEntry(1, 2, 3, 4, ByteBuffer.wrap(DATA));
+
+    // when
+    final byte[] bytes = legacy.serialize(entry);
+    final ZeebeEntry deserialized = current.deserialize(bytes);
+
+    // then
+    // both namespaces write the same class prefix, after which the current layout has the version
+    final int headerOffset = getHeaderOffset(current.serialize(entry));
+    assertNotEquals(ZeebeEntrySerializer.VERSION, bytes[headerOffset]);
+    assertEntry(entry, deserialized);
+  }
+
+  /**
+   * Returns the offset of the header in an entry serialized with the current layout, which follows
+   * the class and reference information written by Kryo.
+   */
+  private static int getHeaderOffset(final byte[] bytes) {
+    return bytes.length - HEADER_LENGTH - DATA.length;
+  }
+
+  private static void assertEntry(final ZeebeEntry expected, final ZeebeEntry actual) {
+    assertEquals(expected.term(), actual.term());
+    assertEquals(expected.timestamp(), actual.timestamp());
+    assertEquals(expected.lowestPosition(), actual.lowestPosition());
+    assertEquals(expected.highestPosition(), actual.highestPosition());
+    assertEquals(expected.data(), actual.data());
+  }
+}
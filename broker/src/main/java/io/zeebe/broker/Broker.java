@@ -41,9 +41,13 @@ import io.zeebe.broker.system.partitions.ZeebePartition;
 import io.zeebe.broker.system.partitions.impl.AtomixPartitionMessagingService;
 import io.zeebe.broker.transport.backpressure.PartitionAwareRequestLimiter;
 import io.zeebe.broker.transport.commandapi.CommandApiService;
+import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.rocksdb.SharedRocksDbResources;
 import io.zeebe.engine.processor.ProcessingContext;
 import io.zeebe.engine.processor.workflow.EngineProcessors;
 import io.zeebe.engine.processor.workflow.message.command.SubscriptionCommandSender;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.storage.atomix.ZeebeIndexAdapter;
@@ -93,6 +97,7 @@ public final class Broker implements AutoCloseable {
   private ServerTransport serverTransport;
   private BrokerHealthCheckService healthCheckService;
   private Map<Integer, ZeebeIndexAdapter> partitionIndexes;
+  private ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory;
 
   public Broker(final SystemContext systemContext) {
     this.brokerContext = systemContext;
@@ -179,6 +184,7 @@ public final class Broker implements AutoCloseable {
     startContext.addStep("metric's server", () -> monitoringServerStep(networkCfg, localBroker));
     startContext.addStep(
         "leader management request handler", () -> managementRequestStep(localBroker));
+    startContext.addStep("zeebe db", () -> zeebeDbStep(brokerCfg));
     startContext.addStep(
         "zeebe partitions", () -> partitionsStep(brokerCfg, clusterCfg, localBroker));
 
@@ -300,6 +306,14 @@ public final class Broker implements AutoCloseable {
     return managementRequestHandler;
   }
 
+  private AutoCloseable zeebeDbStep(final BrokerCfg brokerCfg) {
+    // the databases of all partitions share the block cache and memtable memory
+    final SharedRocksDbResources sharedResources =
+        SharedRocksDbResources.allocate(brokerCfg.getData().getRocksdb().getMemoryLimitInBytes());
+    zeebeDbFactory = DefaultZeebeDbFactory.newFactory(sharedResources);
+    return sharedResources;
+  }
+
   private AutoCloseable partitionsStep(
       final BrokerCfg brokerCfg, final ClusterCfg clusterCfg, final BrokerInfo localBroker)
       throws Exception {
@@ -336,7 +350,8 @@ public final class Broker implements AutoCloseable {
                     brokerCfg,
                     commandHandler,
                     partitionIndexes.get(partitionId),
-                    createFactory(topologyManager, clusterCfg, atomix, managementRequestHandler));
+                    createFactory(topologyManager, clusterCfg, atomix, managementRequestHandler),
+                    zeebeDbFactory);
             scheduleActor(zeebePartition);
             healthCheckService.registerMonitoredPartition(
                 owningPartition.id().id(), zeebePartition);
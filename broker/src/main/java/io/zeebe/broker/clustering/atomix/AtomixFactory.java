@@ -97,6 +97,7 @@ public final class AtomixFactory {
                     new ZeebeRaftStateMachine(raftContext))
             .withSnapshotStoreFactory(new DbSnapshotStoreFactory())
             .withStorageLevel(dataCfg.getAtomixStorageLevel())
+            .withMaxAppendsPerFollower(clusterCfg.getMaxAppendsPerFollower())
             .withFlushOnCommit();
 
     // by default, the Atomix max entry size is 1 MB
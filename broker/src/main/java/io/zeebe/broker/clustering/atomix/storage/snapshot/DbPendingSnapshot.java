@@ -14,11 +14,13 @@ import io.zeebe.util.ZbLogger;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import org.agrona.concurrent.UnsafeBuffer;
+import java.util.HashSet;
+import java.util.Set;
 import org.slf4j.Logger;
 
 /**
@@ -34,8 +36,11 @@ public final class DbPendingSnapshot implements PendingSnapshot {
 
   private final Path directory;
   private final DbSnapshotStore snapshotStore;
+  // the files which were linked from the latest local snapshot, and don't need to be received
+  private final Set<String> reusedFiles = new HashSet<>();
 
   private ByteBuffer expectedId;
+  private DbSnapshotManifest manifest;
 
   /**
    * @param index the snapshot's index
@@ -74,7 +79,22 @@ public final class DbPendingSnapshot implements PendingSnapshot {
 
   @Override
   public boolean containsChunk(final ByteBuffer chunkId) {
-    return Files.exists(directory.resolve(getFile(chunkId)));
+    if (DbSnapshotChunkReader.isManifestId(chunkId)) {
+      return manifest != null;
+    }
+
+    final var path = directory.resolve(DbSnapshotChunkReader.decodeFileName(chunkId));
+    if (!Files.exists(path)) {
+      return false;
+    }
+
+    // the chunks of a file are written in order
+    final long offset = DbSnapshotChunkReader.decodeOffset(chunkId);
+    try {
+      return offset == 0 || offset < Files.size(path);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   @Override
@@ -88,9 +108,6 @@ public final class DbPendingSnapshot implements PendingSnapshot {
 
   @Override
   public void write(final ByteBuffer chunkId, final ByteBuffer chunkData) {
-    final var filename = getFile(chunkId);
-    final var path = directory.resolve(filename);
-
     try {
       FileUtil.ensureDirectoryExists(directory);
     } catch (final IOException e) {
@@ -98,29 +115,34 @@ public final class DbPendingSnapshot implements PendingSnapshot {
       throw new UncheckedIOException(e);
     }
 
-    try (final var channel =
-        Files.newByteChannel(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
-      final var expectedToWrite = chunkData.remaining();
-      long actualWrittenBytes = 0L;
-      while (chunkData.hasRemaining()) {
-        actualWrittenBytes += channel.write(chunkData);
-      }
+    if (DbSnapshotChunkReader.isManifestId(chunkId)) {
+      manifest = DbSnapshotManifest.decode(chunkData);
+      reuseFilesOfLatestSnapshot();
+    } else {
+      writeChunk(chunkId, chunkData);
+    }
+  }
 
-      if (actualWrittenBytes != expectedToWrite) {
-        throw new IllegalStateException(
-            "Expected to write "
-                + expectedToWrite
-                + " bytes of the given snapshot chunk with id "
-                + chunkId
-                + ", but only "
-                + actualWrittenBytes
-                + " bytes were written");
-      }
-    } catch (final FileAlreadyExistsException e) {
-      LOGGER.debug("Chunk {} of pending snapshot {} already exists at {}", filename, this, path, e);
-    } catch (final IOException e) {
-      throw new UncheckedIOException(e);
+  @Override
+  public ByteBuffer nextMissingChunk(final ByteBuffer nextChunkId) {
+    if (manifest == null
+        || nextChunkId == null
+        || DbSnapshotChunkReader.decodeOffset(nextChunkId) != 0
+        || !reusedFiles.contains(DbSnapshotChunkReader.decodeFileName(nextChunkId))) {
+      return nextChunkId;
+    }
+
+    final var files = manifest.getFiles();
+    int index = manifest.indexOf(DbSnapshotChunkReader.decodeFileName(nextChunkId));
+    while (index < files.size() && reusedFiles.contains(files.get(index).getName())) {
+      index++;
+    }
+
+    if (index == files.size()) {
+      return nextChunkId;
     }
+
+    return DbSnapshotChunkReader.encodeChunkId(files.get(index).getName(), 0);
   }
 
   @Override
@@ -161,8 +183,90 @@ public final class DbPendingSnapshot implements PendingSnapshot {
         + '}';
   }
 
-  private String getFile(final ByteBuffer chunkId) {
-    final var view = new UnsafeBuffer(chunkId);
-    return view.getStringWithoutLengthAscii(0, chunkId.remaining());
+  private void writeChunk(final ByteBuffer chunkId, final ByteBuffer chunkData) {
+    final var filename = DbSnapshotChunkReader.decodeFileName(chunkId);
+    final var path = directory.resolve(filename);
+    final long offset = DbSnapshotChunkReader.decodeOffset(chunkId);
+
+    // the first chunk creates the file, the following chunks are appended to it
+    final var createOption =
+        offset == 0 ? StandardOpenOption.CREATE_NEW : StandardOpenOption.CREATE;
+    try (final var channel = FileChannel.open(path, createOption, StandardOpenOption.WRITE)) {
+      final var expectedToWrite = chunkData.remaining();
+      long actualWrittenBytes = 0L;
+      while (chunkData.hasRemaining()) {
+        actualWrittenBytes += channel.write(chunkData, offset + actualWrittenBytes);
+      }
+
+      if (actualWrittenBytes != expectedToWrite) {
+        throw new IllegalStateException(
+            "Expected to write "
+                + expectedToWrite
+                + " bytes of the given snapshot chunk with id "
+                + chunkId
+                + ", but only "
+                + actualWrittenBytes
+                + " bytes were written");
+      }
+    } catch (final FileAlreadyExistsException e) {
+      LOGGER.debug("Chunk {} of pending snapshot {} already exists at {}", filename, this, path, e);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Links the SST files of the received manifest, which are equal to the ones of the latest local
+   * snapshot, into this snapshot. The last file is always received, since it completes the
+   * snapshot.
+   */
+  private void reuseFilesOfLatestSnapshot() {
+    final var latestSnapshot = snapshotStore.getLatestSnapshot();
+    if (latestSnapshot.isEmpty()) {
+      return;
+    }
+
+    final var latestDirectory = latestSnapshot.get().getDirectory();
+    final var latestManifest = latestSnapshot.get().getManifest();
+    final var files = manifest.getFiles();
+
+    for (int i = 0; i < files.size() - 1; i++) {
+      final var file = files.get(i);
+      final int latestIndex = latestManifest.indexOf(file.getName());
+      if (!file.isImmutable() || latestIndex < 0) {
+        continue;
+      }
+
+      final var latestFile = latestManifest.getFiles().get(latestIndex);
+      if (latestFile.getSize() == file.getSize() && hasChecksum(latestFile, file.getChecksum())) {
+        tryLink(latestDirectory.resolve(file.getName()), directory.resolve(file.getName()));
+      }
+    }
+
+    LOGGER.debug(
+        "Reuse {} of {} files of snapshot {} for pending snapshot {}",
+        reusedFiles.size(),
+        files.size(),
+        latestSnapshot.get(),
+        this);
+  }
+
+  private boolean hasChecksum(final DbSnapshotManifest.FileEntry file, final long checksum) {
+    try {
+      return file.getChecksum() == checksum;
+    } catch (final UncheckedIOException e) {
+      // the snapshot may be deleted concurrently, in which case the file is simply received
+      LOGGER.debug("Failed to compute the checksum of {}, receive it instead", file, e);
+      return false;
+    }
+  }
+
+  private void tryLink(final Path source, final Path target) {
+    try {
+      Files.createLink(target, source);
+      reusedFiles.add(target.getFileName().toString());
+    } catch (final IOException | UnsupportedOperationException e) {
+      LOGGER.debug("Failed to link {} to {}, receive it instead", source, target, e);
+    }
   }
 }
@@ -18,9 +18,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.NavigableSet;
 import java.util.Objects;
-import java.util.TreeSet;
 import org.slf4j.Logger;
 
 public final class DbSnapshot implements Snapshot {
@@ -31,6 +29,8 @@ public final class DbSnapshot implements Snapshot {
   private final Path directory;
   private final DbSnapshotMetadata metadata;
 
+  private DbSnapshotManifest manifest;
+
   DbSnapshot(final Path directory, final DbSnapshotMetadata metadata) {
     this.directory = directory;
     this.metadata = metadata;
@@ -66,11 +66,7 @@ public final class DbSnapshot implements Snapshot {
 
   @Override
   public SnapshotChunkReader newChunkReader() {
-    try {
-      return new DbSnapshotChunkReader(directory, collectChunks(directory));
-    } catch (final IOException e) {
-      throw new UncheckedIOException(e);
-    }
+    return new DbSnapshotChunkReader(directory, getManifest());
   }
 
   @Override
@@ -154,11 +150,19 @@ public final class DbSnapshot implements Snapshot {
     return "DbSnapshot{" + "directory=" + directory + ", metadata=" + metadata + '}';
   }
 
-  private NavigableSet<CharSequence> collectChunks(final Path directory) throws IOException {
-    final var set = new TreeSet<>(CharSequence::compare);
-    try (final var stream = Files.list(directory)) {
-      stream.map(directory::relativize).map(Path::toString).forEach(set::add);
+  /**
+   * Returns the manifest of this snapshot. It is created once, as a new chunk reader is opened for
+   * every replicated chunk, and it keeps the checksums of the files once they are computed.
+   */
+  synchronized DbSnapshotManifest getManifest() {
+    if (manifest == null) {
+      try {
+        manifest = DbSnapshotManifest.of(directory);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
     }
-    return set;
+
+    return manifest;
   }
 }
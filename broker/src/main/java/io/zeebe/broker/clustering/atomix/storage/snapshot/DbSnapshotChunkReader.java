@@ -13,34 +13,45 @@ import io.zeebe.protocol.Protocol;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.NavigableSet;
+import java.nio.file.StandardOpenOption;
 import java.util.NoSuchElementException;
-import org.agrona.AsciiSequenceView;
-import org.agrona.DirectBuffer;
-import org.agrona.concurrent.UnsafeBuffer;
 
 /**
- * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
- * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
- * the directory once this is created.
+ * Implements a chunk reader over the files of a snapshot directory. The first chunk is the {@link
+ * DbSnapshotManifest} of the snapshot, followed by the files ordered lexicographically, each split
+ * into chunks of at most {@link #DEFAULT_MAX_CHUNK_SIZE} bytes. The files are assumed to be
+ * immutable, i.e. no more are added to the directory once this is created.
+ *
+ * <p>A chunk ID consists of the offset of the chunk in its file, followed by the file name. The
+ * manifest is identified by an empty file name.
  */
 public final class DbSnapshotChunkReader implements SnapshotChunkReader {
   static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
+  static final int DEFAULT_MAX_CHUNK_SIZE = 1024 * 1024;
+
+  private static final String MANIFEST_NAME = "";
+  private static final int MANIFEST_INDEX = -1;
+
   private final Path directory;
-  private final NavigableSet<CharSequence> chunks;
-  private final CharSequenceView chunkIdView;
+  private final DbSnapshotManifest manifest;
+  private final int maxChunkSize;
 
-  private NavigableSet<CharSequence> chunksView;
+  private int fileIndex = MANIFEST_INDEX;
+  private long offset;
+
+  DbSnapshotChunkReader(final Path directory, final DbSnapshotManifest manifest) {
+    this(directory, manifest, DEFAULT_MAX_CHUNK_SIZE);
+  }
 
-  DbSnapshotChunkReader(final Path directory, final NavigableSet<CharSequence> chunks) {
+  DbSnapshotChunkReader(
+      final Path directory, final DbSnapshotManifest manifest, final int maxChunkSize) {
     this.directory = directory;
-    this.chunks = chunks;
-    this.chunksView = this.chunks;
-    this.chunkIdView = new CharSequenceView();
+    this.manifest = manifest;
+    this.maxChunkSize = maxChunkSize;
   }
 
   @Override
@@ -49,17 +60,31 @@ public final class DbSnapshotChunkReader implements SnapshotChunkReader {
       return;
     }
 
-    final var path = decodeChunkId(id);
-    chunksView = chunks.tailSet(path, true);
+    final var fileName = decodeFileName(id);
+    if (fileName.equals(MANIFEST_NAME)) {
+      fileIndex = MANIFEST_INDEX;
+      offset = 0;
+      return;
+    }
+
+    final int index = manifest.indexOf(fileName);
+    if (index < 0) {
+      fileIndex = -index - 1;
+      offset = 0;
+    } else {
+      fileIndex = index;
+      offset = decodeOffset(id);
+      skipCompletedFile();
+    }
   }
 
   @Override
   public ByteBuffer nextId() {
-    if (chunksView.isEmpty()) {
+    if (!hasNext()) {
       return null;
     }
 
-    return encodeChunkId(chunksView.first());
+    return currentId();
   }
 
   @Override
@@ -69,41 +94,92 @@ public final class DbSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public boolean hasNext() {
-    return !chunksView.isEmpty();
+    return fileIndex < manifest.getFiles().size();
   }
 
   @Override
   public SnapshotChunk next() {
-    final var id = chunksView.pollFirst();
-    if (id == null) {
+    if (!hasNext()) {
       throw new NoSuchElementException();
     }
 
-    final var path = directory.resolve(id.toString());
-
-    try {
-      final var data = ByteBuffer.wrap(Files.readAllBytes(path)).order(Protocol.ENDIANNESS);
-      return new DbSnapshotChunk(encodeChunkId(id), data);
-    } catch (final IOException e) {
-      throw new UncheckedIOException(e);
+    final var id = currentId();
+    final ByteBuffer data;
+    if (fileIndex == MANIFEST_INDEX) {
+      data = manifest.encode();
+      fileIndex = 0;
+    } else {
+      final var file = manifest.getFiles().get(fileIndex);
+      data = readChunk(file);
+      offset += data.remaining();
+
+      // an empty file is still sent as a single empty chunk
+      if (offset >= file.getSize()) {
+        fileIndex++;
+        offset = 0;
+      }
     }
+
+    return new DbSnapshotChunk(id, data);
+  }
+
+  static ByteBuffer encodeChunkId(final String fileName, final long offset) {
+    final var name = fileName.getBytes(ID_CHARSET);
+    final var id = ByteBuffer.allocate(Long.BYTES + name.length).order(Protocol.ENDIANNESS);
+    return id.putLong(offset).put(name).flip();
+  }
+
+  static ByteBuffer encodeManifestId() {
+    return encodeChunkId(MANIFEST_NAME, 0);
+  }
+
+  static String decodeFileName(final ByteBuffer id) {
+    final var name = new byte[id.remaining() - Long.BYTES];
+    id.duplicate().position(id.position() + Long.BYTES).get(name);
+    return new String(name, ID_CHARSET);
+  }
+
+  static long decodeOffset(final ByteBuffer id) {
+    return id.duplicate().order(Protocol.ENDIANNESS).getLong(id.position());
   }
 
-  private ByteBuffer encodeChunkId(final CharSequence path) {
-    return ByteBuffer.wrap(path.toString().getBytes(ID_CHARSET)).order(Protocol.ENDIANNESS);
+  static boolean isManifestId(final ByteBuffer id) {
+    return id.remaining() == Long.BYTES;
   }
 
-  private CharSequence decodeChunkId(final ByteBuffer id) {
-    return chunkIdView.wrap(id);
+  private ByteBuffer currentId() {
+    if (fileIndex == MANIFEST_INDEX) {
+      return encodeManifestId();
+    }
+
+    return encodeChunkId(manifest.getFiles().get(fileIndex).getName(), offset);
   }
 
-  private static final class CharSequenceView {
-    private final DirectBuffer wrapper = new UnsafeBuffer();
-    private final AsciiSequenceView view = new AsciiSequenceView();
+  private void skipCompletedFile() {
+    if (offset > 0 && offset >= manifest.getFiles().get(fileIndex).getSize()) {
+      fileIndex++;
+      offset = 0;
+    }
+  }
 
-    private CharSequence wrap(final ByteBuffer buffer) {
-      wrapper.wrap(buffer);
-      return view.wrap(wrapper, 0, wrapper.capacity());
+  private ByteBuffer readChunk(final DbSnapshotManifest.FileEntry file) {
+    final int length = (int) Math.min(maxChunkSize, file.getSize() - offset);
+    final var data = ByteBuffer.allocate(length).order(Protocol.ENDIANNESS);
+    final var path = directory.resolve(file.getName());
+
+    try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      while (data.hasRemaining()) {
+        if (channel.read(data, offset + data.position()) < 0) {
+          throw new IllegalStateException(
+              String.format(
+                  "Expected to read %d bytes of snapshot file %s at offset %d, but reached the end of the file",
+                  length, path, offset));
+        }
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
     }
+
+    return data.flip();
   }
 }
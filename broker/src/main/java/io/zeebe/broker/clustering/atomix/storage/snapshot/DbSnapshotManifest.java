@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.clustering.atomix.storage.snapshot;
+
+import io.zeebe.protocol.Protocol;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
+
+/**
+ * Lists the files of a snapshot, ordered by name, with their sizes and the checksums of the
+ * immutable RocksDB SST files. It is sent as the first chunk when a snapshot is replicated, which
+ * allows the receiver to reuse the SST files it already has in its latest snapshot instead of
+ * receiving them again.
+ */
+final class DbSnapshotManifest {
+  private static final String SST_FILE_EXTENSION = ".sst";
+  private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+  private static final long UNKNOWN_CHECKSUM = -1;
+
+  private final List<FileEntry> files;
+
+  private DbSnapshotManifest(final List<FileEntry> files) {
+    this.files = files;
+  }
+
+  /**
+   * Creates the manifest of the given snapshot directory. The checksums are only computed on
+   * demand, as this requires to read the whole file.
+   */
+  static DbSnapshotManifest of(final Path directory) throws IOException {
+    final List<FileEntry> files = new ArrayList<>();
+    try (final var stream = Files.list(directory)) {
+      for (final var path : stream.sorted().collect(Collectors.toList())) {
+        final var name = directory.relativize(path).toString();
+        files.add(new FileEntry(name, Files.size(path), UNKNOWN_CHECKSUM, path));
+      }
+    }
+
+    return new DbSnapshotManifest(Collections.unmodifiableList(files));
+  }
+
+  static DbSnapshotManifest decode(final ByteBuffer buffer) {
+    final var view = buffer.duplicate().order(Protocol.ENDIANNESS);
+    final int count = view.getInt();
+    final List<FileEntry> files = new ArrayList<>(count);
+
+    for (int i = 0; i < count; i++) {
+      final var nameBytes = new byte[view.getInt()];
+      view.get(nameBytes);
+      final long size = view.getLong();
+      final long checksum = view.getLong();
+      files.add(
+          new FileEntry(new String(nameBytes, DbSnapshotChunkReader.ID_CHARSET), size, checksum));
+    }
+
+    return new DbSnapshotManifest(Collections.unmodifiableList(files));
+  }
+
+  ByteBuffer encode() {
+    final List<byte[]> names = new ArrayList<>(files.size());
+    int length = Integer.BYTES;
+    for (final var file : files) {
+      final var name = file.getName().getBytes(DbSnapshotChunkReader.ID_CHARSET);
+      names.add(name);
+      length += Integer.BYTES + name.length + Long.BYTES + Long.BYTES;
+    }
+
+    final var buffer = ByteBuffer.allocate(length).order(Protocol.ENDIANNESS);
+    buffer.putInt(files.size());
+    for (int i = 0; i < files.size(); i++) {
+      final var file = files.get(i);
+      final var name = names.get(i);
+      buffer.putInt(name.length).put(name).putLong(file.getSize());
+      // only the SST files can be reused, so the other checksums are never compared
+      buffer.putLong(file.isImmutable() ? file.getChecksum() : 0L);
+    }
+
+    return buffer.flip();
+  }
+
+  List<FileEntry> getFiles() {
+    return files;
+  }
+
+  /**
+   * @return the index of the file with the given name, or {@code -(insertion point) - 1} if there
+   *     is no such file, see {@link Collections#binarySearch(List, Object)}
+   */
+  int indexOf(final String name) {
+    int low = 0;
+    int high = files.size() - 1;
+
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final int comparison = files.get(middle).getName().compareTo(name);
+      if (comparison < 0) {
+        low = middle + 1;
+      } else if (comparison > 0) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+
+    return -(low + 1);
+  }
+
+  @Override
+  public String toString() {
+    return "DbSnapshotManifest{" + "files=" + files + '}';
+  }
+
+  static final class FileEntry {
+    private final String name;
+    private final long size;
+    private final Path path;
+    private long checksum;
+
+    private FileEntry(final String name, final long size, final long checksum) {
+      this(name, size, checksum, null);
+    }
+
+    private FileEntry(final String name, final long size, final long checksum, final Path path) {
+      this.name = name;
+      this.size = size;
+      this.checksum = checksum;
+      this.path = path;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    long getSize() {
+      return size;
+    }
+
+    /** @return true if the file is never modified by RocksDB, i.e. it is an SST file */
+    boolean isImmutable() {
+      return name.endsWith(SST_FILE_EXTENSION);
+    }
+
+    long getChecksum() {
+      if (checksum == UNKNOWN_CHECKSUM) {
+        checksum = computeChecksum();
+      }
+
+      return checksum;
+    }
+
+    private long computeChecksum() {
+      final var crc = new CRC32C();
+      final var buffer = ByteBuffer.allocate(CHECKSUM_BUFFER_SIZE);
+
+      try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        while (channel.read(buffer) >= 0) {
+          crc.update(buffer.flip());
+          buffer.clear();
+        }
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+
+      return crc.getValue();
+    }
+
+    @Override
+    public String toString() {
+      return "FileEntry{" + "name='" + name + '\'' + ", size=" + size + '}';
+    }
+  }
+}
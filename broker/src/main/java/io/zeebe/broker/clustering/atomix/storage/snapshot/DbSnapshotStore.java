@@ -224,7 +224,7 @@ public final class DbSnapshotStore implements SnapshotStore {
     }
   }
 
-  private Optional<DbSnapshot> getLatestSnapshot() {
+  Optional<DbSnapshot> getLatestSnapshot() {
     return Optional.ofNullable(snapshots.lastEntry()).map(Entry::getValue);
   }
 
@@ -12,40 +12,81 @@ import io.atomix.core.Atomix;
 import io.zeebe.broker.clustering.topology.TopologyManager;
 import io.zeebe.broker.clustering.topology.TopologyPartitionListenerImpl;
 import io.zeebe.engine.processor.workflow.message.command.PartitionCommandSender;
+import io.zeebe.engine.processor.workflow.message.command.SubscriptionCommandBatch;
 import io.zeebe.util.buffer.BufferWriter;
 import io.zeebe.util.sched.ActorControl;
-import org.agrona.MutableDirectBuffer;
+import io.zeebe.util.sched.ScheduledTimer;
+import java.time.Duration;
 import org.agrona.collections.Int2IntHashMap;
-import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
 
+/**
+ * Sends subscription commands to the leaders of other partitions. Commands for the same partition
+ * which are sent within {@link #FLUSH_WINDOW} are coalesced into one message, so the receiver can
+ * write them to its log as one batch.
+ *
+ * <p>The commands are sent fire-and-forget, the same as before coalescing: a command which is lost,
+ * e.g. because the leader changed before the batch was flushed, is sent again by the pending
+ * subscription checkers.
+ */
 public final class PartitionCommandSenderImpl implements PartitionCommandSender {
 
+  static final Duration FLUSH_WINDOW = Duration.ofMillis(1);
+  static final int MAX_BATCH_LENGTH = 32 * 1024;
+
+  private final Int2ObjectHashMap<SubscriptionCommandBatch> batches = new Int2ObjectHashMap<>();
   private final Atomix atomix;
+  private final ActorControl actor;
 
   private final TopologyPartitionListenerImpl partitionListener;
+  private ScheduledTimer flushTimer;
 
   public PartitionCommandSenderImpl(
       final Atomix atomix, final TopologyManager topologyManager, final ActorControl actor) {
     this.atomix = atomix;
+    this.actor = actor;
     this.partitionListener = new TopologyPartitionListenerImpl(actor);
     topologyManager.addTopologyPartitionListener(partitionListener);
   }
 
+  @Override
   public boolean sendCommand(final int receiverPartitionId, final BufferWriter command) {
+    final SubscriptionCommandBatch batch =
+        batches.computeIfAbsent(receiverPartitionId, id -> new SubscriptionCommandBatch());
+    batch.add(command);
 
-    final Int2IntHashMap partitionLeaders = partitionListener.getPartitionLeaders();
-    if (!partitionLeaders.containsKey(receiverPartitionId)) {
-      return true;
+    if (batch.getLength() >= MAX_BATCH_LENGTH) {
+      flush(receiverPartitionId, batch);
+    } else if (flushTimer == null) {
+      flushTimer = actor.runDelayed(FLUSH_WINDOW, this::flushAll);
     }
-    final int partitionLeader = partitionLeaders.get(receiverPartitionId);
-
-    final byte bytes[] = new byte[command.getLength()];
-    final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
-    command.write(buffer, 0);
 
-    atomix
-        .getCommunicationService()
-        .send("subscription", bytes, MemberId.from("" + partitionLeader));
     return true;
   }
+
+  private void flushAll() {
+    flushTimer = null;
+    batches.forEach(this::flush);
+  }
+
+  private void flush(final int receiverPartitionId, final SubscriptionCommandBatch batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    final Int2IntHashMap partitionLeaders = partitionListener.getPartitionLeaders();
+    if (partitionLeaders.containsKey(receiverPartitionId)) {
+      final int partitionLeader = partitionLeaders.get(receiverPartitionId);
+      final String subject =
+          batch.getCommandCount() == 1
+              ? SubscriptionApiCommandMessageHandlerService.SUBSCRIPTION_SUBJECT
+              : SubscriptionApiCommandMessageHandlerService.SUBSCRIPTION_BATCH_SUBJECT;
+
+      atomix
+          .getCommunicationService()
+          .send(subject, batch.toByteArray(), MemberId.from("" + partitionLeader));
+    }
+
+    batch.reset();
+  }
 }
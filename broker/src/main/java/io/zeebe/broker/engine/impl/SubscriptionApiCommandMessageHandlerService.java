@@ -12,7 +12,7 @@ import io.zeebe.broker.Loggers;
 import io.zeebe.broker.PartitionListener;
 import io.zeebe.engine.processor.workflow.message.command.SubscriptionCommandMessageHandler;
 import io.zeebe.logstreams.log.LogStream;
-import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.future.ActorFuture;
@@ -22,7 +22,10 @@ import org.agrona.collections.Int2ObjectHashMap;
 public final class SubscriptionApiCommandMessageHandlerService extends Actor
     implements PartitionListener {
 
-  private final Int2ObjectHashMap<LogStreamRecordWriter> leaderPartitions =
+  static final String SUBSCRIPTION_SUBJECT = "subscription";
+  static final String SUBSCRIPTION_BATCH_SUBJECT = "subscription-batch";
+
+  private final Int2ObjectHashMap<LogStreamBatchWriter> leaderPartitions =
       new Int2ObjectHashMap<>();
   private final Atomix atomix;
   private final String actorName;
@@ -42,7 +45,10 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
   protected void onActorStarting() {
     final SubscriptionCommandMessageHandler messageHandler =
         new SubscriptionCommandMessageHandler(actor::call, leaderPartitions::get);
-    atomix.getCommunicationService().subscribe("subscription", messageHandler);
+    atomix.getCommunicationService().subscribe(SUBSCRIPTION_SUBJECT, messageHandler);
+    atomix
+        .getCommunicationService()
+        .subscribe(SUBSCRIPTION_BATCH_SUBJECT, messageHandler::applyBatch);
   }
 
   @Override
@@ -62,11 +68,11 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
     actor.submit(
         () ->
             logStream
-                .newLogStreamRecordWriter()
+                .newLogStreamBatchWriter()
                 .onComplete(
-                    (recordWriter, error) -> {
+                    (batchWriter, error) -> {
                       if (error == null) {
-                        leaderPartitions.put(partitionId, recordWriter);
+                        leaderPartitions.put(partitionId, batchWriter);
                         future.complete(null);
                       } else {
                         Loggers.SYSTEM_LOGGER.error(
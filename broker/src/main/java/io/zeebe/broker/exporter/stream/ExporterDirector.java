@@ -14,19 +14,21 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.engine.processor.EventFilter;
 import io.zeebe.engine.processor.RecordValues;
 import io.zeebe.engine.processor.TypedEventImpl;
+import io.zeebe.exporter.api.BatchExporter;
 import io.zeebe.exporter.api.Exporter;
 import io.zeebe.exporter.api.context.Context;
 import io.zeebe.exporter.api.context.Controller;
+import io.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.protocol.impl.record.RecordMetadata;
 import io.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.zeebe.protocol.record.Record;
 import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.util.LangUtil;
 import io.zeebe.util.retry.BackOffRetryStrategy;
-import io.zeebe.util.retry.EndlessRetryStrategy;
 import io.zeebe.util.retry.RetryStrategy;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ActorCondition;
@@ -34,38 +36,50 @@ import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.SchedulingHints;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.slf4j.Logger;
 
 public final class ExporterDirector extends Actor {
 
+  // upper bound of the bytes of the records which are read ahead; a single record is always read
+  static final int READ_AHEAD_MAX_BYTES = 4 * 1024 * 1024;
+
   private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
-      "Expected to export record '{}' successfully, but exception was thrown.";
+      "Expected to export records with exporter '{}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  // upper bound of records which are read ahead, i.e. how far exporters can drift apart; a fast
+  // exporter is at most this many records ahead of the slowest exporter, and waits for it otherwise
+  private static final int READ_AHEAD_CAPACITY = 256;
+  // the buffer of a ring slot which grew larger, for a large record, is dropped once it is released
+  private static final int RETAINED_BUFFER_CAPACITY = 16 * 1024;
+
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
   private final List<ExporterContainer> containers;
   private final LogStream logStream;
-  private final RecordExporter recordExporter;
+  private final RecordRing recordRing;
   private final ZeebeDb zeebeDb;
   private final ExporterMetrics metrics;
   private final String name;
-  private final RetryStrategy exportingRetryStrategy;
-  private final RetryStrategy recordWrapStrategy;
+  private final RecordMetadata skippedMetadata = new RecordMetadata();
   private LogStreamReader logStreamReader;
   private EventFilter eventFilter;
   private ExportersState state;
 
   private ActorCondition onCommitPositionUpdatedCondition;
-  private boolean inExportingPhase;
 
   public ExporterDirector(final ExporterDirectorContext context) {
     this.name = context.getName();
@@ -74,9 +88,7 @@ public final class ExporterDirector extends Actor {
 
     this.logStream = Objects.requireNonNull(context.getLogStream());
     final int partitionId = logStream.getPartitionId();
-    this.recordExporter = new RecordExporter(containers, partitionId);
-    this.exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
-    this.recordWrapStrategy = new EndlessRetryStrategy(actor);
+    this.recordRing = new RecordRing(READ_AHEAD_CAPACITY, READ_AHEAD_MAX_BYTES, partitionId);
 
     this.zeebeDb = context.getZeebeDb();
 
@@ -212,7 +224,7 @@ public final class ExporterDirector extends Actor {
   private void onSnapshotRecovered() {
     onCommitPositionUpdatedCondition =
         actor.onCondition(
-            getName() + "-on-commit-lastExportedPosition-updated", this::readNextEvent);
+            getName() + "-on-commit-lastExportedPosition-updated", this::exportAvailableRecords);
     logStream.registerOnCommitPositionUpdatedCondition(onCommitPositionUpdatedCondition);
 
     // start reading
@@ -227,57 +239,68 @@ public final class ExporterDirector extends Actor {
 
     clearExporterState();
 
-    actor.submit(this::readNextEvent);
+    actor.submit(this::exportAvailableRecords);
   }
 
   private void skipRecord(final LoggedEvent currentEvent) {
-    final RecordMetadata metadata = new RecordMetadata();
-    currentEvent.readMetadata(metadata);
-    metrics.eventSkipped(metadata.getValueType());
-    actor.submit(this::readNextEvent);
+    currentEvent.readMetadata(skippedMetadata);
+    metrics.eventSkipped(skippedMetadata.getValueType());
+  }
+
+  private void exportAvailableRecords() {
+    if (isOpened.get()) {
+      readAhead();
+
+      // every exporter continues from its own cursor, independent of the other exporters
+      final long head = recordRing.getHead();
+      for (final ExporterContainer container : containers) {
+        if (!container.isExporting && container.cursor < head) {
+          exportRecords(container, head);
+        }
+      }
+    }
   }
 
-  private void readNextEvent() {
-    if (isOpened.get() && logStreamReader.hasNext() && !inExportingPhase) {
+  private void readAhead() {
+    releaseExportedRecords();
+
+    while (!recordRing.isFull() && logStreamReader.hasNext()) {
       final LoggedEvent currentEvent = logStreamReader.next();
       if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
+        recordRing.add(currentEvent);
       } else {
         skipRecord(currentEvent);
       }
     }
   }
 
-  private void exportEvent(final LoggedEvent event) {
-    final ActorFuture<Boolean> wrapRetryFuture =
-        recordWrapStrategy.runWithRetry(
-            () -> {
-              recordExporter.wrap(event);
-              return true;
-            },
-            this::isClosed);
+  private void releaseExportedRecords() {
+    long lowestCursor = recordRing.getHead();
+    for (final ExporterContainer container : containers) {
+      lowestCursor = Math.min(lowestCursor, container.cursor);
+    }
+
+    recordRing.release(
+        lowestCursor, typedEvent -> metrics.eventExported(typedEvent.getValueType()));
+  }
+
+  private void exportRecords(final ExporterContainer container, final long head) {
+    container.isExporting = true;
+
+    final ActorFuture<Boolean> retryFuture =
+        container.exportingRetryStrategy.runWithRetry(
+            () -> container.exportUntil(head), this::isClosed);
 
     actor.runOnCompletion(
-        wrapRetryFuture,
-        (b, t) -> {
-          assert t == null : "Throwable must be null";
-
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
-
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, container.getId(), throwable);
+            onFailure();
+          } else {
+            container.isExporting = false;
+            actor.submit(this::exportAvailableRecords);
+          }
         });
   }
 
@@ -304,67 +327,113 @@ public final class ExporterDirector extends Actor {
     return !isOpened.get();
   }
 
-  private static class RecordExporter {
+  /**
+   * Read-ahead buffer of decoded records which is shared by all exporters. Every record is decoded
+   * only once, and every exporter consumes the records with its own cursor. Each slot holds a copy
+   * of its record; a slot is reused only after all exporters passed it.
+   *
+   * <p>The ring is bounded by the count and by the total length of its records, so the exporters
+   * can drift apart by at most {@link #READ_AHEAD_CAPACITY} records or {@link
+   * #READ_AHEAD_MAX_BYTES}, whichever is reached first. A slot which grew for a large record
+   * shrinks again once the record is released, so the heap usage stays in the order of the length
+   * limit.
+   */
+  private static final class RecordRing {
+
+    private final RingRecord[] records;
+    private final int mask;
+    private final int maxBytes;
+    private final int partitionId;
+
+    // sequence of the next record to add
+    private long head;
+    // sequence of the oldest record which was not yet passed by all exporters
+    private long tail;
+    // total length of the records between tail and head
+    private long bytes;
+
+    RecordRing(final int capacity, final int maxBytes, final int partitionId) {
+      records = new RingRecord[capacity];
+      mask = capacity - 1;
+      this.maxBytes = maxBytes;
+      this.partitionId = partitionId;
+    }
+
+    boolean isFull() {
+      return head - tail == records.length || (head > tail && bytes >= maxBytes);
+    }
+
+    long getHead() {
+      return head;
+    }
+
+    RingRecord get(final long sequence) {
+      return records[(int) (sequence & mask)];
+    }
+
+    void add(final LoggedEvent rawEvent) {
+      final int index = (int) (head & mask);
+      if (records[index] == null) {
+        records[index] = new RingRecord(partitionId);
+      }
+
+      bytes += records[index].wrap(rawEvent);
+      head++;
+    }
+
+    void release(final long sequence, final Consumer<TypedEventImpl> onExported) {
+      while (tail < sequence) {
+        final RingRecord record = get(tail);
+        if (record.shouldExport) {
+          onExported.accept(record.typedEvent);
+        }
+        bytes -= record.length;
+        record.release();
+        tail++;
+      }
+    }
+  }
+
+  private static final class RingRecord {
 
+    private final LoggedEventImpl rawEvent = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
     private final RecordValues recordValues = new RecordValues();
-    private final RecordMetadata rawMetadata = new RecordMetadata();
-    private final List<ExporterContainer> containers;
     private final TypedEventImpl typedEvent;
 
+    private MutableDirectBuffer eventBuffer = new ExpandableArrayBuffer();
+    private int length;
     private boolean shouldExport;
-    private int exporterIndex;
 
-    RecordExporter(final List<ExporterContainer> containers, final int partitionId) {
-      this.containers = containers;
+    RingRecord(final int partitionId) {
       typedEvent = new TypedEventImpl(partitionId);
     }
 
-    void wrap(final LoggedEvent rawEvent) {
-      rawEvent.readMetadata(rawMetadata);
+    /** @return the length of the copied record */
+    int wrap(final LoggedEvent event) {
+      // the record stays in the ring across later reads, while the reader's buffer may be reused
+      // or even unmapped in the meantime, so we copy the fragment into the slot's own buffer
+      final LoggedEventImpl fragment = (LoggedEventImpl) event;
+      length = fragment.getFragmentLength();
+      eventBuffer.putBytes(0, fragment.getBuffer(), fragment.getFragmentOffset(), length);
+      rawEvent.wrap(eventBuffer, 0);
+      rawEvent.readMetadata(metadata);
 
       final UnifiedRecordValue recordValue =
-          recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+          recordValues.readRecordValue(rawEvent, metadata.getValueType());
 
       shouldExport = recordValue != null;
       if (shouldExport) {
-        typedEvent.wrap(rawEvent, rawMetadata, recordValue);
-        exporterIndex = 0;
+        typedEvent.wrap(rawEvent, metadata, recordValue);
       }
+      return length;
     }
 
-    public boolean export() {
-      if (!shouldExport) {
-        return true;
+    void release() {
+      length = 0;
+      if (eventBuffer.capacity() > RETAINED_BUFFER_CAPACITY) {
+        eventBuffer = new ExpandableArrayBuffer();
       }
-
-      final int exportersCount = containers.size();
-
-      // current error handling strategy is simply to repeat forever until the record can be
-      // successfully exported.
-      while (exporterIndex < exportersCount) {
-        final ExporterContainer container = containers.get(exporterIndex);
-
-        try {
-          if (container.position < typedEvent.getPosition()
-              && container.acceptRecord(rawMetadata)) {
-            container.exporter.export(typedEvent);
-          }
-
-          exporterIndex++;
-        } catch (final Exception ex) {
-          container
-              .context
-              .getLogger()
-              .error("Error on exporting record with key {}", typedEvent.getKey(), ex);
-          return false;
-        }
-      }
-
-      return true;
-    }
-
-    TypedEventImpl getTypedEvent() {
-      return typedEvent;
     }
   }
 
@@ -405,7 +474,14 @@ public final class ExporterDirector extends Actor {
   private class ExporterContainer implements Controller {
     private final ExporterContext context;
     private final Exporter exporter;
+    private final BatchExporter batchExporter;
+    private final RetryStrategy exportingRetryStrategy;
+    private final List<Record<?>> batch = new ArrayList<>();
+    private final List<Record<?>> batchView = Collections.unmodifiableList(batch);
     private long position;
+    // sequence of the next record in the record ring which is exported by this exporter
+    private long cursor;
+    private boolean isExporting;
 
     ExporterContainer(final ExporterDescriptor descriptor) {
       context =
@@ -413,6 +489,8 @@ public final class ExporterDirector extends Actor {
               Loggers.getExporterLogger(descriptor.getId()), descriptor.getConfiguration());
 
       exporter = descriptor.newInstance();
+      batchExporter = exporter instanceof BatchExporter ? (BatchExporter) exporter : null;
+      exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
     }
 
     @Override
@@ -429,10 +507,63 @@ public final class ExporterDirector extends Actor {
       actor.runDelayed(delay, task);
     }
 
+    private boolean exportUntil(final long sequence) {
+      // current error handling strategy is simply to repeat forever until the records can be
+      // successfully exported.
+      try {
+        if (batchExporter != null) {
+          exportBatch(sequence);
+        } else {
+          exportRecords(sequence);
+        }
+        return true;
+      } catch (final Exception ex) {
+        context
+            .getLogger()
+            .error(
+                "Error on exporting record with key {}",
+                recordRing.get(cursor).typedEvent.getKey(),
+                ex);
+        return false;
+      }
+    }
+
+    private void exportRecords(final long sequence) {
+      while (cursor < sequence) {
+        final RingRecord record = recordRing.get(cursor);
+        if (shouldExport(record)) {
+          exporter.export(record.typedEvent);
+        }
+
+        cursor++;
+      }
+    }
+
+    private void exportBatch(final long sequence) {
+      batch.clear();
+      for (long i = cursor; i < sequence; i++) {
+        final RingRecord record = recordRing.get(i);
+        if (shouldExport(record)) {
+          batch.add(record.typedEvent);
+        }
+      }
+
+      if (!batch.isEmpty()) {
+        batchExporter.exportBatch(batchView);
+      }
+      cursor = sequence;
+    }
+
     private String getId() {
       return context.getConfiguration().getId();
     }
 
+    private boolean shouldExport(final RingRecord record) {
+      return record.shouldExport
+          && position < record.rawEvent.getPosition()
+          && acceptRecord(record.metadata);
+    }
+
     private boolean acceptRecord(final RecordMetadata metadata) {
       final Context.RecordFilter filter = context.getFilter();
       return filter.acceptType(metadata.getRecordType())
@@ -105,6 +105,8 @@ public final class SystemContext {
         .setActorClock(clock)
         .setCpuBoundActorThreadCount(cpuThreads)
         .setIoBoundActorThreadCount(ioThreads)
+        .setThreadAffinityEnabled(cfg.isPartitionAffinityEnabled())
+        .setActorMetricsEnabled(cfg.isActorMetricsEnabled())
         .setSchedulerName(brokerId)
         .build();
   }
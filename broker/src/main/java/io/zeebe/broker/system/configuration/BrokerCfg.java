@@ -33,6 +33,7 @@ public final class BrokerCfg {
   private Map<String, ExporterCfg> exporters = new HashMap<>();
   private EmbeddedGatewayCfg gateway = new EmbeddedGatewayCfg();
   private BackpressureCfg backpressure = new BackpressureCfg();
+  private ProcessingCfg processing = new ProcessingCfg();
 
   private Duration stepTimeout = Duration.ofMinutes(5);
   private boolean executionMetricsExporterEnabled;
@@ -55,6 +56,7 @@ public final class BrokerCfg {
     exporters.values().forEach(e -> e.init(this, brokerBase));
     gateway.init(this, brokerBase);
     backpressure.init(this, brokerBase);
+    processing.init(this, brokerBase);
   }
 
   private void applyEnvironment(final Environment environment) {
@@ -125,6 +127,15 @@ public final class BrokerCfg {
     return this;
   }
 
+  public ProcessingCfg getProcessing() {
+    return processing;
+  }
+
+  public BrokerCfg setProcessing(final ProcessingCfg processing) {
+    this.processing = processing;
+    return this;
+  }
+
   public Duration getStepTimeout() {
     return stepTimeout;
   }
@@ -158,6 +169,8 @@ public final class BrokerCfg {
         + gateway
         + ", backpressure="
         + backpressure
+        + ", processing="
+        + processing
         + ", stepTimeout="
         + stepTimeout
         + ", executionMetricsExporter="
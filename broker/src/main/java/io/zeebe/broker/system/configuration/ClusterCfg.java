@@ -21,6 +21,7 @@ public final class ClusterCfg implements ConfigurationEntry {
   public static final int DEFAULT_REPLICATION_FACTOR = 1;
   public static final int DEFAULT_CLUSTER_SIZE = 1;
   public static final String DEFAULT_CLUSTER_NAME = "zeebe-cluster";
+  public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
 
   // the following values are from atomix per default
   private static final long DEFAULT_GOSSIP_FAILURE_TIMEOUT = 10_000;
@@ -35,6 +36,7 @@ public final class ClusterCfg implements ConfigurationEntry {
   private int replicationFactor = DEFAULT_REPLICATION_FACTOR;
   private int clusterSize = DEFAULT_CLUSTER_SIZE;
   private String clusterName = DEFAULT_CLUSTER_NAME;
+  private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
 
   // We do not add this to the toString or env - to hide it from the config
   private long gossipFailureTimeout = DEFAULT_GOSSIP_FAILURE_TIMEOUT;
@@ -108,6 +110,14 @@ public final class ClusterCfg implements ConfigurationEntry {
     this.clusterName = clusterName;
   }
 
+  public int getMaxAppendsPerFollower() {
+    return maxAppendsPerFollower;
+  }
+
+  public void setMaxAppendsPerFollower(final int maxAppendsPerFollower) {
+    this.maxAppendsPerFollower = maxAppendsPerFollower;
+  }
+
   public long getGossipFailureTimeout() {
     return gossipFailureTimeout;
   }
@@ -146,6 +156,8 @@ public final class ClusterCfg implements ConfigurationEntry {
         + clusterSize
         + ", initialContactPoints="
         + initialContactPoints
+        + ", maxAppendsPerFollower="
+        + maxAppendsPerFollower
         + '}';
   }
 }
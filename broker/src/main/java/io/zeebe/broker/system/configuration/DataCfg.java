@@ -31,10 +31,13 @@ public final class DataCfg implements ConfigurationEntry {
 
   private boolean useMmap = false;
 
+  private RocksdbCfg rocksdb = new RocksdbCfg();
+
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
 
     directories.replaceAll(d -> ConfigurationUtil.toAbsolutePath(d, brokerBase));
+    rocksdb.init(globalConfig, brokerBase);
   }
 
   public List<String> getDirectories() {
@@ -81,6 +84,14 @@ public final class DataCfg implements ConfigurationEntry {
     this.useMmap = useMmap;
   }
 
+  public RocksdbCfg getRocksdb() {
+    return rocksdb;
+  }
+
+  public void setRocksdb(final RocksdbCfg rocksdb) {
+    this.rocksdb = rocksdb;
+  }
+
   public StorageLevel getAtomixStorageLevel() {
     return useMmap() ? StorageLevel.MAPPED : StorageLevel.DISK;
   }
@@ -100,6 +111,8 @@ public final class DataCfg implements ConfigurationEntry {
         + logIndexDensity
         + ", useMmap="
         + useMmap
+        + ", rocksdb="
+        + rocksdb
         + '}';
   }
 }
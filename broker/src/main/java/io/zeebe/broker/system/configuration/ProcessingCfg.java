@@ -0,0 +1,29 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+public final class ProcessingCfg implements ConfigurationEntry {
+
+  private static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 1;
+
+  private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+
+  public int getMaxCommandsInBatch() {
+    return maxCommandsInBatch;
+  }
+
+  public ProcessingCfg setMaxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "ProcessingCfg{" + "maxCommandsInBatch=" + maxCommandsInBatch + '}';
+  }
+}
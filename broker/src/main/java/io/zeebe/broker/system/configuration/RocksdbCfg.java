@@ -0,0 +1,34 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import java.util.Optional;
+import org.springframework.util.unit.DataSize;
+
+public final class RocksdbCfg implements ConfigurationEntry {
+  private static final DataSize DEFAULT_MEMORY_LIMIT = DataSize.ofMegabytes(512);
+
+  private DataSize memoryLimit = DEFAULT_MEMORY_LIMIT;
+
+  public long getMemoryLimitInBytes() {
+    return Optional.ofNullable(memoryLimit).orElse(DEFAULT_MEMORY_LIMIT).toBytes();
+  }
+
+  public DataSize getMemoryLimit() {
+    return memoryLimit;
+  }
+
+  public void setMemoryLimit(final DataSize memoryLimit) {
+    this.memoryLimit = memoryLimit;
+  }
+
+  @Override
+  public String toString() {
+    return "RocksdbCfg{" + "memoryLimit=" + memoryLimit + '}';
+  }
+}
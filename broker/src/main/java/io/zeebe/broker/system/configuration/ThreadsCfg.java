@@ -10,6 +10,8 @@ package io.zeebe.broker.system.configuration;
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private boolean partitionAffinityEnabled = false;
+  private boolean actorMetricsEnabled = false;
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +29,22 @@ public final class ThreadsCfg implements ConfigurationEntry {
     this.ioThreadCount = ioThreads;
   }
 
+  public boolean isPartitionAffinityEnabled() {
+    return partitionAffinityEnabled;
+  }
+
+  public void setPartitionAffinityEnabled(final boolean partitionAffinityEnabled) {
+    this.partitionAffinityEnabled = partitionAffinityEnabled;
+  }
+
+  public boolean isActorMetricsEnabled() {
+    return actorMetricsEnabled;
+  }
+
+  public void setActorMetricsEnabled(final boolean actorMetricsEnabled) {
+    this.actorMetricsEnabled = actorMetricsEnabled;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +52,10 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", partitionAffinityEnabled="
+        + partitionAffinityEnabled
+        + ", actorMetricsEnabled="
+        + actorMetricsEnabled
         + '}';
   }
 }
@@ -34,9 +34,10 @@ import io.zeebe.broker.system.configuration.DataCfg;
 import io.zeebe.broker.system.monitoring.HealthMetrics;
 import io.zeebe.broker.transport.commandapi.CommandApiService;
 import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.engine.processor.AsyncSnapshotDirector;
 import io.zeebe.engine.processor.StreamProcessor;
-import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.state.NoneSnapshotReplication;
@@ -83,6 +84,7 @@ public final class ZeebePartition extends Actor
 
   private final ActorScheduler scheduler;
   private final TypedRecordProcessorsFactory typedRecordProcessorsFactory;
+  private final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory;
   private final CommandApiService commandApiService;
   private final List<PartitionListener> partitionListeners;
   private final List<Actor> closeables = new ArrayList<>();
@@ -116,12 +118,14 @@ public final class ZeebePartition extends Actor
       final BrokerCfg brokerCfg,
       final CommandApiService commandApiService,
       final ZeebeIndexMapping zeebeIndexMapping,
-      final TypedRecordProcessorsFactory typedRecordProcessorsFactory) {
+      final TypedRecordProcessorsFactory typedRecordProcessorsFactory,
+      final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory) {
     this.localBroker = localBroker;
     this.atomixRaftPartition = atomixRaftPartition;
     this.messagingService = messagingService;
     this.brokerCfg = brokerCfg;
     this.typedRecordProcessorsFactory = typedRecordProcessorsFactory;
+    this.zeebeDbFactory = zeebeDbFactory;
     this.commandApiService = commandApiService;
     this.partitionListeners = Collections.unmodifiableList(partitionListeners);
     this.partitionId = atomixRaftPartition.id().id();
@@ -424,7 +428,7 @@ public final class ZeebePartition extends Actor
             : new NoneSnapshotReplication();
 
     return new StateSnapshotController(
-        DefaultZeebeDbFactory.DEFAULT_DB_FACTORY,
+        zeebeDbFactory,
         snapshotStorage,
         stateReplication,
         StatePositionSupplier::getHighestExportedPosition);
@@ -485,6 +489,7 @@ public final class ZeebePartition extends Actor
         .actorScheduler(scheduler)
         .zeebeDb(zeebeDb)
         .nodeId(localBroker.getNodeId())
+        .maxCommandsInBatch(brokerCfg.getProcessing().getMaxCommandsInBatch())
         .commandResponseWriter(commandApiService.newCommandResponseWriter())
         .onProcessedListener(commandApiService.getOnProcessedListener(partitionId))
         .streamProcessorFactory(
@@ -672,6 +677,11 @@ public final class ZeebePartition extends Actor
     return actorName;
   }
 
+  @Override
+  public int getAffinityKey() {
+    return partitionId;
+  }
+
   @Override
   public void onActorStarting() {
     atomixLogStorage = AtomixLogStorage.ofPartition(zeebeIndexMapping, atomixRaftPartition);
@@ -12,18 +12,15 @@ import io.zeebe.broker.Loggers;
 import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.protocol.record.intent.JobIntent;
 import java.util.EnumSet;
-import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 public final class CommandRateLimiter extends AbstractLimiter<Intent>
     implements RequestLimiter<Intent> {
 
   private static final Set<? extends Intent> WHITE_LISTED_COMMANDS =
       EnumSet.of(JobIntent.COMPLETE, JobIntent.FAIL);
-  private final Map<ListenerId, Listener> responseListeners = new ConcurrentHashMap<>();
+  private final InflightListeners responseListeners = new InflightListeners();
   private final int partitionId;
   private final BackpressureMetrics metrics = new BackpressureMetrics();
 
@@ -36,34 +33,34 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
 
   @Override
   public Optional<Listener> acquire(final Intent intent) {
-    if (getInflight() >= getLimit() && !WHITE_LISTED_COMMANDS.contains(intent)) {
+    if (isLimitExceeded(intent)) {
       return createRejectedListener();
     }
     final Listener listener = createListener();
     return Optional.of(listener);
   }
 
-  private void registerListener(final int streamId, final long requestId, final Listener listener) {
-    // assumes the pair <streamId, requestId> is unique.
-    responseListeners.put(new ListenerId(streamId, requestId), listener);
+  private boolean isLimitExceeded(final Intent intent) {
+    return getInflight() >= getLimit() && !WHITE_LISTED_COMMANDS.contains(intent);
   }
 
   @Override
   public boolean tryAcquire(final int streamId, final long requestId, final Intent context) {
-    final Optional<Listener> acquired = acquire(context);
-    return acquired
-        .map(
-            listener -> {
-              registerListener(streamId, requestId, listener);
-              metrics.incInflight(partitionId);
-              return true;
-            })
-        .orElse(false);
+    // same as acquire, but without wrapping the listener, as this is called for every command
+    if (isLimitExceeded(context)) {
+      createRejectedListener();
+      return false;
+    }
+
+    // assumes the pair <streamId, requestId> is unique.
+    responseListeners.put(streamId, requestId, createListener());
+    metrics.incInflight(partitionId);
+    return true;
   }
 
   @Override
   public void onResponse(final int streamId, final long requestId) {
-    final Listener listener = responseListeners.remove(new ListenerId(streamId, requestId));
+    final Listener listener = responseListeners.remove(streamId, requestId);
     if (listener != null) {
       listener.onSuccess();
       metrics.decInflight(partitionId);
@@ -79,7 +76,7 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
 
   @Override
   public void onIgnore(final int streamId, final long requestId) {
-    final Listener listener = responseListeners.remove(new ListenerId(streamId, requestId));
+    final Listener listener = responseListeners.remove(streamId, requestId);
     if (listener != null) {
       listener.onIgnore();
       metrics.decInflight(partitionId);
@@ -113,31 +110,4 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
       return new CommandRateLimiter(this, partitionId);
     }
   }
-
-  static class ListenerId {
-    private final int streamId;
-    private final long requestId;
-
-    ListenerId(final int streamId, final long requestId) {
-      this.streamId = streamId;
-      this.requestId = requestId;
-    }
-
-    @Override
-    public int hashCode() {
-      return Objects.hash(streamId, requestId);
-    }
-
-    @Override
-    public boolean equals(final Object o) {
-      if (this == o) {
-        return true;
-      }
-      if (o == null || getClass() != o.getClass()) {
-        return false;
-      }
-      final ListenerId that = (ListenerId) o;
-      return streamId == that.streamId && requestId == that.requestId;
-    }
-  }
 }
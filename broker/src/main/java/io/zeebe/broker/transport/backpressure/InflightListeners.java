@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.transport.backpressure;
+
+import com.netflix.concurrency.limits.Limiter.Listener;
+import org.agrona.BitUtil;
+import org.agrona.collections.Hashing;
+
+/**
+ * The listeners of the requests in flight, keyed by the pair (streamId, requestId). It is an open
+ * addressing hash map with linear probing over primitive arrays, so that adding and removing a
+ * listener doesn't allocate, except when the map has to grow.
+ *
+ * <p>The listeners are added by the command API and removed by the stream processor, so all
+ * accesses are synchronized.
+ */
+final class InflightListeners {
+  private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private int[] streamIds;
+  private long[] requestIds;
+  private Listener[] listeners;
+  private int mask;
+  private int resizeThreshold;
+  private int size;
+
+  InflightListeners() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  InflightListeners(final int initialCapacity) {
+    allocate(BitUtil.findNextPositivePowerOfTwo(Math.max(initialCapacity, 2)));
+  }
+
+  /** Adds the listener of the request, or replaces the previous listener of the same request. */
+  synchronized void put(final int streamId, final long requestId, final Listener listener) {
+    int index = index(streamId, requestId);
+    while (listeners[index] != null) {
+      if (streamIds[index] == streamId && requestIds[index] == requestId) {
+        listeners[index] = listener;
+        return;
+      }
+      index = (index + 1) & mask;
+    }
+
+    streamIds[index] = streamId;
+    requestIds[index] = requestId;
+    listeners[index] = listener;
+
+    if (++size > resizeThreshold) {
+      rehash(listeners.length << 1);
+    }
+  }
+
+  /** @return the removed listener of the request, or null if there is none */
+  synchronized Listener remove(final int streamId, final long requestId) {
+    int index = index(streamId, requestId);
+    while (listeners[index] != null) {
+      if (streamIds[index] == streamId && requestIds[index] == requestId) {
+        final Listener listener = listeners[index];
+        listeners[index] = null;
+        size--;
+        compactChain(index);
+        return listener;
+      }
+      index = (index + 1) & mask;
+    }
+
+    return null;
+  }
+
+  synchronized int size() {
+    return size;
+  }
+
+  private int index(final int streamId, final long requestId) {
+    return Hashing.hash(31L * streamId + requestId, mask);
+  }
+
+  /** Moves the following entries of the probe sequence into the gap of the removed entry. */
+  private void compactChain(int deleteIndex) {
+    int index = deleteIndex;
+    while (true) {
+      index = (index + 1) & mask;
+      if (listeners[index] == null) {
+        return;
+      }
+
+      final int hash = index(streamIds[index], requestIds[index]);
+      if ((index < hash && (hash <= deleteIndex || deleteIndex <= index))
+          || (hash <= deleteIndex && deleteIndex <= index)) {
+        streamIds[deleteIndex] = streamIds[index];
+        requestIds[deleteIndex] = requestIds[index];
+        listeners[deleteIndex] = listeners[index];
+        listeners[index] = null;
+        deleteIndex = index;
+      }
+    }
+  }
+
+  private void rehash(final int capacity) {
+    final int[] oldStreamIds = streamIds;
+    final long[] oldRequestIds = requestIds;
+    final Listener[] oldListeners = listeners;
+
+    allocate(capacity);
+
+    for (int i = 0; i < oldListeners.length; i++) {
+      final Listener listener = oldListeners[i];
+      if (listener != null) {
+        int index = index(oldStreamIds[i], oldRequestIds[i]);
+        while (listeners[index] != null) {
+          index = (index + 1) & mask;
+        }
+        streamIds[index] = oldStreamIds[i];
+        requestIds[index] = oldRequestIds[i];
+        listeners[index] = listener;
+      }
+    }
+  }
+
+  private void allocate(final int capacity) {
+    streamIds = new int[capacity];
+    requestIds = new long[capacity];
+    listeners = new Listener[capacity];
+    mask = capacity - 1;
+    resizeThreshold = (int) (capacity * LOAD_FACTOR);
+  }
+}
@@ -14,17 +14,18 @@ import com.netflix.concurrency.limits.limit.VegasLimit;
 import com.netflix.concurrency.limits.limit.WindowedLimit;
 import io.zeebe.broker.system.configuration.BackpressureCfg.LimitAlgorithm;
 import io.zeebe.protocol.record.intent.Intent;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
+import org.agrona.collections.Int2ObjectHashMap;
 
 /** A request limiter that manages the limits for each partition independently. */
 public final class PartitionAwareRequestLimiter {
 
-  private final Map<Integer, RequestLimiter<Intent>> partitionLimiters = new ConcurrentHashMap<>();
+  // copy on write, as partitions are rarely added or removed but the limiters are read concurrently
+  private volatile Int2ObjectHashMap<RequestLimiter<Intent>> partitionLimiters =
+      new Int2ObjectHashMap<>();
 
-  private final Function<Integer, RequestLimiter<Intent>> limiterSupplier;
+  private final IntFunction<RequestLimiter<Intent>> limiterSupplier;
 
   private PartitionAwareRequestLimiter() {
     this.limiterSupplier = i -> new NoopRequestLimiter<>();
@@ -73,8 +74,12 @@ public final class PartitionAwareRequestLimiter {
     getOrCreateLimiter(partitionId);
   }
 
-  public void removePartition(final int partitionId) {
-    partitionLimiters.remove(partitionId);
+  public synchronized void removePartition(final int partitionId) {
+    if (partitionLimiters.containsKey(partitionId)) {
+      final var newLimiters = new Int2ObjectHashMap<>(partitionLimiters);
+      newLimiters.remove(partitionId);
+      partitionLimiters = newLimiters;
+    }
   }
 
   public RequestLimiter<Intent> getLimiter(final int partitionId) {
@@ -82,6 +87,24 @@ public final class PartitionAwareRequestLimiter {
   }
 
   private RequestLimiter<Intent> getOrCreateLimiter(final int partitionId) {
-    return partitionLimiters.computeIfAbsent(partitionId, limiterSupplier::apply);
+    final RequestLimiter<Intent> limiter = partitionLimiters.get(partitionId);
+    if (limiter != null) {
+      return limiter;
+    }
+
+    return createLimiter(partitionId);
+  }
+
+  private synchronized RequestLimiter<Intent> createLimiter(final int partitionId) {
+    final RequestLimiter<Intent> limiter = partitionLimiters.get(partitionId);
+    if (limiter != null) {
+      return limiter;
+    }
+
+    final var newLimiters = new Int2ObjectHashMap<>(partitionLimiters);
+    final RequestLimiter<Intent> newLimiter = limiterSupplier.apply(partitionId);
+    newLimiters.put(partitionId, newLimiter);
+    partitionLimiters = newLimiters;
+    return newLimiter;
   }
 }
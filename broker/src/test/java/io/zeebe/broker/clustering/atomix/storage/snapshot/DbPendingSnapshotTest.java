@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.clustering.atomix.storage.snapshot;
+
+import static io.zeebe.broker.clustering.atomix.storage.snapshot.DbSnapshotChunkReader.encodeChunkId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.utils.time.WallClockTimestamp;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class DbPendingSnapshotTest {
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private Path leaderSnapshot;
+  private DbSnapshotStore store;
+
+  @Before
+  public void setUp() throws Exception {
+    leaderSnapshot = temporaryFolder.newFolder("leader").toPath();
+    store =
+        new DbSnapshotStore(
+            temporaryFolder.newFolder("snapshots").toPath(),
+            temporaryFolder.newFolder("pending").toPath(),
+            new ConcurrentSkipListMap<>());
+  }
+
+  @Test
+  public void shouldReceiveFilesInChunks() throws IOException {
+    // given
+    writeFile(leaderSnapshot, "000001.sst", "first-sst-file");
+    writeFile(leaderSnapshot, "CURRENT", "MANIFEST-000002");
+
+    // when
+    final var snapshot = replicate(2);
+
+    // then
+    assertThat(snapshot.getDirectory().resolve("000001.sst")).hasContent("first-sst-file");
+    assertThat(snapshot.getDirectory().resolve("CURRENT")).hasContent("MANIFEST-000002");
+  }
+
+  @Test
+  public void shouldReuseEqualFilesOfLatestSnapshot() throws IOException {
+    // given
+    final var localSnapshot = temporaryFolder.newFolder("local").toPath();
+    writeFile(localSnapshot, "000001.sst", "unchanged");
+    writeFile(localSnapshot, "000002.sst", "other-one");
+    writeFile(localSnapshot, "CURRENT", "MANIFEST-000001");
+    final var latest =
+        (DbSnapshot) store.newSnapshot(1, 1, WallClockTimestamp.from(1), localSnapshot);
+
+    writeFile(leaderSnapshot, "000001.sst", "unchanged");
+    writeFile(leaderSnapshot, "000002.sst", "different");
+    writeFile(leaderSnapshot, "000003.sst", "new");
+    writeFile(leaderSnapshot, "CURRENT", "MANIFEST-000003");
+
+    final var pendingSnapshot =
+        (DbPendingSnapshot) store.newPendingSnapshot(2, 1, WallClockTimestamp.from(2));
+    final var reader =
+        new DbSnapshotChunkReader(leaderSnapshot, DbSnapshotManifest.of(leaderSnapshot));
+
+    // when
+    final var manifest = reader.next();
+    pendingSnapshot.write(manifest.id(), manifest.data());
+
+    // then
+    assertThat(pendingSnapshot.nextMissingChunk(reader.nextId()))
+        .isEqualTo(encodeChunkId("000002.sst", 0));
+    assertThat(
+            Files.isSameFile(
+                latest.getDirectory().resolve("000001.sst"),
+                pendingSnapshot.getPath().resolve("000001.sst")))
+        .isTrue();
+    assertThat(pendingSnapshot.getPath().resolve("000002.sst")).doesNotExist();
+  }
+
+  @Test
+  public void shouldCompleteSnapshotWithReusedFiles() throws IOException {
+    // given
+    final var localSnapshot = temporaryFolder.newFolder("local").toPath();
+    writeFile(localSnapshot, "000001.sst", "unchanged");
+    writeFile(localSnapshot, "CURRENT", "MANIFEST-000001");
+    store.newSnapshot(1, 1, WallClockTimestamp.from(1), localSnapshot);
+
+    writeFile(leaderSnapshot, "000001.sst", "unchanged");
+    writeFile(leaderSnapshot, "000002.sst", "new");
+    writeFile(leaderSnapshot, "CURRENT", "MANIFEST-000002");
+
+    // when
+    final var snapshot = replicate(4);
+
+    // then
+    assertThat(snapshot.getDirectory().resolve("000001.sst")).hasContent("unchanged");
+    assertThat(snapshot.getDirectory().resolve("000002.sst")).hasContent("new");
+    assertThat(snapshot.getDirectory().resolve("CURRENT")).hasContent("MANIFEST-000002");
+  }
+
+  /** Mimics the install requests of the leader, which follows the chunks the receiver expects. */
+  private DbSnapshot replicate(final int maxChunkSize) throws IOException {
+    final var pendingSnapshot = store.newPendingSnapshot(2, 1, WallClockTimestamp.from(2));
+    final var reader =
+        new DbSnapshotChunkReader(
+            leaderSnapshot, DbSnapshotManifest.of(leaderSnapshot), maxChunkSize);
+
+    while (reader.hasNext()) {
+      final var chunk = reader.next();
+      assertThat(pendingSnapshot.containsChunk(chunk.id())).isFalse();
+      pendingSnapshot.write(chunk.id(), chunk.data());
+      reader.seek(pendingSnapshot.nextMissingChunk(reader.nextId()));
+    }
+
+    pendingSnapshot.commit();
+    return store.getLatestSnapshot().orElseThrow();
+  }
+
+  private void writeFile(final Path directory, final String name, final String content)
+      throws IOException {
+    Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+  }
+}
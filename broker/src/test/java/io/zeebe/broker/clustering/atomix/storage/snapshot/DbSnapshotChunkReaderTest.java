@@ -7,7 +7,10 @@
  */
 package io.zeebe.broker.clustering.atomix.storage.snapshot;
 
+import static io.zeebe.broker.clustering.atomix.storage.snapshot.DbSnapshotChunkReader.encodeChunkId;
+import static io.zeebe.broker.clustering.atomix.storage.snapshot.DbSnapshotChunkReader.encodeManifestId;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.atomix.raft.storage.snapshot.SnapshotChunk;
 import java.io.IOException;
@@ -15,9 +18,6 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.NavigableSet;
-import java.util.TreeSet;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -28,71 +28,124 @@ public final class DbSnapshotChunkReaderTest {
   @Test
   public void shouldDoNothingIfSeekNull() {
     // given
-    final var reader = newReader(chunksOf("foo", "bar"));
+    final var reader = newReader(4, "foo", "bar");
 
     // when
     reader.seek(null);
 
     // then
     assertThat(reader).hasNext();
-    assertThat(reader.next().id()).isEqualTo(asBuffer("bar"));
-    assertThat(reader.nextId()).isEqualTo(asBuffer("foo"));
+    assertThat(reader.next().id()).isEqualTo(encodeManifestId());
+    assertThat(reader.nextId()).isEqualTo(encodeChunkId("bar", 0));
+  }
+
+  @Test
+  public void shouldReadManifestAsFirstChunk() {
+    // given
+    final var reader = newReader(4, "foo", "bar");
+
+    // when
+    final var chunk = reader.next();
+
+    // then
+    final var manifest = DbSnapshotManifest.decode(chunk.data());
+    assertThat(manifest.getFiles())
+        .extracting(DbSnapshotManifest.FileEntry::getName, DbSnapshotManifest.FileEntry::getSize)
+        .containsExactly(tuple("bar", 3L), tuple("foo", 3L));
   }
 
   @Test
   public void shouldSeekToChunk() {
     // given
-    final var reader = newReader(chunksOf("foo", "bar"));
+    final var reader = newReader(4, "foo", "bar");
 
     // when
-    reader.seek(asBuffer("foo"));
+    reader.seek(encodeChunkId("foo", 0));
 
     // then
     assertThat(reader).hasNext();
-    assertThat(reader.next().id()).isEqualTo(asBuffer("foo"));
+    assertThat(reader.next().id()).isEqualTo(encodeChunkId("foo", 0));
     assertThat(reader.nextId()).isEqualTo(null);
   }
 
+  @Test
+  public void shouldSeekToNextFileIfOffsetIsAtEndOfFile() {
+    // given
+    final var reader = newReader(4, "foo", "bar");
+
+    // when
+    reader.seek(encodeChunkId("bar", 3));
+
+    // then
+    assertThat(reader.next().id()).isEqualTo(encodeChunkId("foo", 0));
+  }
+
+  @Test
+  public void shouldSplitFilesIntoBoundedChunks() {
+    // given
+    final var reader = newReader(4, "abcdefghij");
+
+    // when
+    reader.next();
+    final var chunks = readAll(reader);
+
+    // then
+    assertThat(chunks)
+        .extracting(SnapshotChunk::id)
+        .containsExactly(
+            encodeChunkId("abcdefghij", 0),
+            encodeChunkId("abcdefghij", 4),
+            encodeChunkId("abcdefghij", 8));
+    assertThat(chunks)
+        .extracting(chunk -> asString(chunk.data()))
+        .containsExactly("abcd", "efgh", "ij");
+  }
+
   @Test
   public void shouldGetNextChunkInOrder() {
     // given
-    final var reader = newReader(chunksOf("c", "a", "b"));
+    final var reader = newReader(4, "c", "a", "b");
 
-    // when - then
-    final var chunks = new ArrayList<SnapshotChunk>();
-    while (reader.hasNext()) {
-      chunks.add(reader.next());
-    }
+    // when
+    final var chunks = readAll(reader);
 
     // then
     assertThat(chunks)
         .extracting(SnapshotChunk::id)
-        .containsExactly(asBuffer("a"), asBuffer("b"), asBuffer("c"));
+        .containsExactly(
+            encodeManifestId(),
+            encodeChunkId("a", 0),
+            encodeChunkId("b", 0),
+            encodeChunkId("c", 0));
     assertThat(reader.nextId()).isEqualTo(null);
     assertThat(reader.hasNext()).isFalse();
   }
 
-  private ByteBuffer asBuffer(final CharSequence chunk) {
-    return ByteBuffer.wrap(chunk.toString().getBytes(DbSnapshotChunkReader.ID_CHARSET));
+  private ArrayList<SnapshotChunk> readAll(final DbSnapshotChunkReader reader) {
+    final var chunks = new ArrayList<SnapshotChunk>();
+    while (reader.hasNext()) {
+      chunks.add(reader.next());
+    }
+    return chunks;
   }
 
-  private NavigableSet<CharSequence> chunksOf(final CharSequence... chunks) {
-    final var set = new TreeSet<>(CharSequence::compare);
-    set.addAll(Arrays.asList(chunks));
-    return set;
+  private String asString(final ByteBuffer buffer) {
+    final var bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return new String(bytes, DbSnapshotChunkReader.ID_CHARSET);
   }
 
-  private DbSnapshotChunkReader newReader(final NavigableSet<CharSequence> chunks) {
+  /** Creates a file per name, which contains its own name. */
+  private DbSnapshotChunkReader newReader(final int maxChunkSize, final String... files) {
     final var directory = temporaryFolder.getRoot().toPath();
-    for (final var chunk : chunks) {
-      final var path = directory.resolve(chunk.toString());
-      try {
-        Files.createFile(path);
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
+    try {
+      for (final var file : files) {
+        Files.write(directory.resolve(file), file.getBytes(DbSnapshotChunkReader.ID_CHARSET));
       }
-    }
 
-    return new DbSnapshotChunkReader(directory, chunks);
+      return new DbSnapshotChunkReader(directory, DbSnapshotManifest.of(directory), maxChunkSize);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 }
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 import io.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.zeebe.broker.exporter.util.ControlledTestBatchExporter;
 import io.zeebe.broker.exporter.util.ControlledTestExporter;
 import io.zeebe.broker.exporter.util.PojoConfigurationExporter;
 import io.zeebe.broker.exporter.util.PojoConfigurationExporter.PojoExporterConfiguration;
@@ -40,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import org.junit.Before;
@@ -80,6 +82,17 @@ public final class ExporterDirectorTest {
     exporterDescriptors.add(descriptor);
   }
 
+  private ControlledTestBatchExporter createBatchExporter(final String exporterId) {
+    final ControlledTestBatchExporter exporter = new ControlledTestBatchExporter();
+
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Collections.emptyMap()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+
+    exporterDescriptors.add(descriptor);
+    return exporter;
+  }
+
   private void startExporterDirector(final List<ExporterDescriptor> exporterDescriptors) {
     rule.startExporterDirector(exporterDescriptors);
   }
@@ -230,6 +243,74 @@ public final class ExporterDirectorTest {
         .containsExactly(eventPosition1, eventPosition2);
   }
 
+  @Test
+  public void shouldContinueExportingWithOtherExportersWhileRetrying() {
+    // given
+    final AtomicLong failCount = new AtomicLong(3);
+    exporters
+        .get(0)
+        .onExport(
+            e -> {
+              if (failCount.getAndDecrement() > 0) {
+                throw new RuntimeException("Export failed (expected)");
+              }
+            });
+
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+
+    // then
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 2);
+    assertThat(exporters.get(0).getExportedRecords()).isEmpty();
+    assertThat(exporters.get(1).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until((r) -> exporters.get(0).getExportedRecords().size() == 2);
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+  }
+
+  @Test
+  public void shouldLimitReadAheadOfOtherExportersByLength() {
+    // given
+    final AtomicBoolean shouldFail = new AtomicBoolean(true);
+    exporters
+        .get(0)
+        .onExport(
+            e -> {
+              if (shouldFail.get()) {
+                throw new RuntimeException("Export failed (expected)");
+              }
+            });
+
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final int recordLength = ExporterDirector.READ_AHEAD_MAX_BYTES / 3;
+    for (int i = 0; i < 5; i++) {
+      writeLargeEvent(recordLength);
+    }
+
+    // then
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 3);
+    rule.getClock().addTime(Duration.ofSeconds(1));
+    assertThat(exporters.get(1).getExportedRecords()).hasSize(3);
+
+    // when
+    shouldFail.set(false);
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until((r) -> exporters.get(0).getExportedRecords().size() == 5);
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 5);
+  }
+
   @Test
   public void shouldExecuteScheduledTask() throws Exception {
     // given
@@ -374,11 +455,72 @@ public final class ExporterDirectorTest {
     assertThat(exporters.get(1).getExportedRecords()).isEmpty();
   }
 
+  @Test
+  public void shouldExportAvailableRecordsAsOneBatch() {
+    // given
+    exporterDescriptors.clear();
+    final ControlledTestBatchExporter batchExporter = createBatchExporter("batch-exporter");
+
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+    final long eventPosition3 = writeEvent();
+    waitUntil(() -> rule.getCommitPosition() >= eventPosition3);
+
+    // when
+    startExporterDirector(exporterDescriptors);
+
+    // then
+    waitUntil(() -> batchExporter.getExportedRecords().size() == 3);
+    assertThat(batchExporter.getExportedBatches()).hasSize(1);
+    assertThat(batchExporter.getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2, eventPosition3);
+    waitUntil(() -> rule.getExportersState().getPosition("batch-exporter") == eventPosition3);
+  }
+
+  @Test
+  public void shouldRetryOnlyFailedBatchExporter() {
+    // given
+    final ControlledTestBatchExporter batchExporter = createBatchExporter("batch-exporter");
+    final AtomicLong failCount = new AtomicLong(2);
+    batchExporter.onExport(
+        records -> {
+          if (failCount.getAndDecrement() > 0) {
+            throw new RuntimeException("Export failed (expected)");
+          }
+        });
+
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+    waitUntil(() -> rule.getCommitPosition() >= eventPosition2);
+
+    // when
+    startExporterDirector(exporterDescriptors);
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until((r) -> failCount.get() <= -1);
+    assertThat(batchExporter.getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+    assertThat(exporters.get(1).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2);
+  }
+
   private long writeEvent() {
     final DeploymentRecord event = new DeploymentRecord();
     return rule.writeEvent(DeploymentIntent.CREATED, event);
   }
 
+  private long writeLargeEvent(final int length) {
+    final JobRecord event = new JobRecord().setErrorMessage("x".repeat(length));
+    return rule.writeEvent(JobIntent.CREATED, event);
+  }
+
   private Consumer<Context> withFilter(
       final List<RecordType> acceptedTypes, final List<ValueType> valueTypes) {
     return context -> {
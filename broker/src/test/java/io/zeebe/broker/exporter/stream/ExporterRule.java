@@ -103,6 +103,10 @@ public final class ExporterRule implements TestRule {
     return new ExportersState(capturedZeebeDb, capturedZeebeDb.createContext());
   }
 
+  public long getCommitPosition() {
+    return streams.getLogStream(STREAM_NAME).getCommitPosition();
+  }
+
   public long writeEvent(final Intent intent, final UnpackedObject value) {
     return writeRecord(RecordType.EVENT, intent, value);
   }
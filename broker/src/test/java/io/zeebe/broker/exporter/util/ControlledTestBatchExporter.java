@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.exporter.util;
+
+import io.zeebe.exporter.api.BatchExporter;
+import io.zeebe.exporter.api.context.Controller;
+import io.zeebe.protocol.record.Record;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public class ControlledTestBatchExporter implements BatchExporter {
+  private final List<List<Record>> exportedBatches = new ArrayList<>();
+
+  private Consumer<List<Record>> onExport;
+  private Controller controller;
+
+  public ControlledTestBatchExporter onExport(final Consumer<List<Record>> callback) {
+    onExport = callback;
+    return this;
+  }
+
+  public List<List<Record>> getExportedBatches() {
+    return exportedBatches;
+  }
+
+  public List<Record> getExportedRecords() {
+    return exportedBatches.stream().flatMap(List::stream).collect(Collectors.toList());
+  }
+
+  @Override
+  public void open(final Controller controller) {
+    this.controller = controller;
+  }
+
+  @Override
+  public void exportBatch(final List<Record<?>> records) {
+    final List<Record> copiedRecords =
+        records.stream().map(Record::clone).collect(Collectors.toList());
+    if (onExport != null) {
+      onExport.accept(copiedRecords);
+    }
+
+    exportedBatches.add(copiedRecords);
+    controller.updateLastExportedRecordPosition(
+        copiedRecords.get(copiedRecords.size() - 1).getPosition());
+  }
+}
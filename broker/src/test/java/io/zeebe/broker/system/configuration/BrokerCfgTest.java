@@ -40,6 +40,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.util.unit.DataSize;
 
 public final class BrokerCfgTest {
 
@@ -376,6 +377,7 @@ public final class BrokerCfgTest {
     assertThat(cfgCluster.getPartitionsCount()).isEqualTo(3);
     assertThat(cfgCluster.getReplicationFactor()).isEqualTo(4);
     assertThat(cfgCluster.getClusterSize()).isEqualTo(5);
+    assertThat(cfgCluster.getMaxAppendsPerFollower()).isEqualTo(8);
   }
 
   @Test
@@ -479,6 +481,50 @@ public final class BrokerCfgTest {
     assertThat(backpressure.getAlgorithm()).isEqualTo(LimitAlgorithm.GRADIENT);
   }
 
+  @Test
+  public void shouldSetProcessingConfig() {
+    // when
+    final BrokerCfg cfg = readConfig("processing-cfg");
+    final ProcessingCfg processing = cfg.getProcessing();
+
+    // then
+    assertThat(processing.getMaxCommandsInBatch()).isEqualTo(100);
+  }
+
+  @Test
+  public void shouldSetRocksdbConfig() {
+    // when
+    final BrokerCfg cfg = readConfig("rocksdb-cfg");
+    final RocksdbCfg rocksdb = cfg.getData().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getMemoryLimit()).isEqualTo(DataSize.ofMegabytes(64));
+  }
+
+  @Test
+  public void shouldSetThreadsConfig() {
+    // when
+    final BrokerCfg cfg = readConfig("threads-cfg");
+    final ThreadsCfg threads = cfg.getThreads();
+
+    // then
+    assertThat(threads.getCpuThreadCount()).isEqualTo(4);
+    assertThat(threads.getIoThreadCount()).isEqualTo(3);
+    assertThat(threads.isPartitionAffinityEnabled()).isTrue();
+    assertThat(threads.isActorMetricsEnabled()).isTrue();
+  }
+
+  @Test
+  public void shouldDisablePartitionAffinityAndActorMetricsByDefault() {
+    // when
+    final BrokerCfg cfg = readConfig("default");
+    final ThreadsCfg threads = cfg.getThreads();
+
+    // then
+    assertThat(threads.isPartitionAffinityEnabled()).isFalse();
+    assertThat(threads.isActorMetricsEnabled()).isFalse();
+  }
+
   @Test
   public void shouldUseDefaultAdvertisedHost() {
     // when - then
@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.transport.backpressure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.netflix.concurrency.limits.Limiter.Listener;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class InflightListenersTest {
+
+  private final InflightListeners inflightListeners = new InflightListeners(4);
+
+  @Test
+  public void shouldRemoveAddedListener() {
+    // given
+    final Listener listener = mock(Listener.class);
+    inflightListeners.put(1, 2, listener);
+
+    // when
+    final Listener removed = inflightListeners.remove(1, 2);
+
+    // then
+    assertThat(removed).isSameAs(listener);
+    assertThat(inflightListeners.size()).isZero();
+    assertThat(inflightListeners.remove(1, 2)).isNull();
+  }
+
+  @Test
+  public void shouldDistinguishStreamAndRequestId() {
+    // given
+    final Listener listener = mock(Listener.class);
+    final Listener otherStreamListener = mock(Listener.class);
+    inflightListeners.put(1, 2, listener);
+    inflightListeners.put(2, 2, otherStreamListener);
+
+    // when - then
+    assertThat(inflightListeners.remove(1, 3)).isNull();
+    assertThat(inflightListeners.remove(2, 2)).isSameAs(otherStreamListener);
+    assertThat(inflightListeners.remove(1, 2)).isSameAs(listener);
+  }
+
+  @Test
+  public void shouldGrowAndFindAllListeners() {
+    // given
+    final List<Listener> listeners = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      final Listener listener = mock(Listener.class);
+      listeners.add(listener);
+      inflightListeners.put(0, i, listener);
+    }
+
+    // when - then
+    assertThat(inflightListeners.size()).isEqualTo(100);
+    for (int i = 0; i < 100; i++) {
+      assertThat(inflightListeners.remove(0, i)).isSameAs(listeners.get(i));
+    }
+    assertThat(inflightListeners.size()).isZero();
+  }
+
+  @Test
+  public void shouldFindListenersAfterRemovingOthers() {
+    // given
+    final List<Listener> listeners = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      final Listener listener = mock(Listener.class);
+      listeners.add(listener);
+      inflightListeners.put(0, i, listener);
+    }
+
+    // when
+    for (int i = 0; i < 64; i += 2) {
+      inflightListeners.remove(0, i);
+    }
+
+    // then
+    for (int i = 1; i < 64; i += 2) {
+      assertThat(inflightListeners.remove(0, i)).isSameAs(listeners.get(i));
+    }
+    assertThat(inflightListeners.size()).isZero();
+  }
+}
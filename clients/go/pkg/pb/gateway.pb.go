@@ -51,7 +51,7 @@ func (x WorkflowRequestObject_ResourceType) String() string {
 }
 
 func (WorkflowRequestObject_ResourceType) EnumDescriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{12, 0}
+	return fileDescriptor_f1a937782ebbded5, []int{18, 0}
 }
 
 // Describes the Raft role of the broker for a given partition
@@ -77,7 +77,7 @@ func (x Partition_PartitionBrokerRole) String() string {
 }
 
 func (Partition_PartitionBrokerRole) EnumDescriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{26, 0}
+	return fileDescriptor_f1a937782ebbded5, []int{35, 0}
 }
 
 type ActivateJobsRequest struct {
@@ -513,6 +513,166 @@ func (m *CompleteJobResponse) XXX_DiscardUnknown() {
 
 var xxx_messageInfo_CompleteJobResponse proto.InternalMessageInfo
 
+type CompleteJobsRequest struct {
+	// the jobs to complete; the jobs are completed independently of each other
+	Requests             []*CompleteJobRequest `protobuf:"bytes,1,rep,name=requests,proto3" json:"requests,omitempty"`
+	XXX_NoUnkeyedLiteral struct{}              `json:"-"`
+	XXX_unrecognized     []byte                `json:"-"`
+	XXX_sizecache        int32                 `json:"-"`
+}
+
+func (m *CompleteJobsRequest) Reset()         { *m = CompleteJobsRequest{} }
+func (m *CompleteJobsRequest) String() string { return proto.CompactTextString(m) }
+func (*CompleteJobsRequest) ProtoMessage()    {}
+func (*CompleteJobsRequest) Descriptor() ([]byte, []int) {
+	return fileDescriptor_f1a937782ebbded5, []int{7}
+}
+
+func (m *CompleteJobsRequest) XXX_Unmarshal(b []byte) error {
+	return xxx_messageInfo_CompleteJobsRequest.Unmarshal(m, b)
+}
+func (m *CompleteJobsRequest) XXX_Marshal(b []byte, deterministic bool) ([]byte, error) {
+	return xxx_messageInfo_CompleteJobsRequest.Marshal(b, m, deterministic)
+}
+func (m *CompleteJobsRequest) XXX_Merge(src proto.Message) {
+	xxx_messageInfo_CompleteJobsRequest.Merge(m, src)
+}
+func (m *CompleteJobsRequest) XXX_Size() int {
+	return xxx_messageInfo_CompleteJobsRequest.Size(m)
+}
+func (m *CompleteJobsRequest) XXX_DiscardUnknown() {
+	xxx_messageInfo_CompleteJobsRequest.DiscardUnknown(m)
+}
+
+var xxx_messageInfo_CompleteJobsRequest proto.InternalMessageInfo
+
+func (m *CompleteJobsRequest) GetRequests() []*CompleteJobRequest {
+	if m != nil {
+		return m.Requests
+	}
+	return nil
+}
+
+type CompleteJobsResponse struct {
+	// the result of each request, in the same order as the requests
+	Results              []*CompleteJobResult `protobuf:"bytes,1,rep,name=results,proto3" json:"results,omitempty"`
+	XXX_NoUnkeyedLiteral struct{}             `json:"-"`
+	XXX_unrecognized     []byte               `json:"-"`
+	XXX_sizecache        int32                `json:"-"`
+}
+
+func (m *CompleteJobsResponse) Reset()         { *m = CompleteJobsResponse{} }
+func (m *CompleteJobsResponse) String() string { return proto.CompactTextString(m) }
+func (*CompleteJobsResponse) ProtoMessage()    {}
+func (*CompleteJobsResponse) Descriptor() ([]byte, []int) {
+	return fileDescriptor_f1a937782ebbded5, []int{8}
+}
+
+func (m *CompleteJobsResponse) XXX_Unmarshal(b []byte) error {
+	return xxx_messageInfo_CompleteJobsResponse.Unmarshal(m, b)
+}
+func (m *CompleteJobsResponse) XXX_Marshal(b []byte, deterministic bool) ([]byte, error) {
+	return xxx_messageInfo_CompleteJobsResponse.Marshal(b, m, deterministic)
+}
+func (m *CompleteJobsResponse) XXX_Merge(src proto.Message) {
+	xxx_messageInfo_CompleteJobsResponse.Merge(m, src)
+}
+func (m *CompleteJobsResponse) XXX_Size() int {
+	return xxx_messageInfo_CompleteJobsResponse.Size(m)
+}
+func (m *CompleteJobsResponse) XXX_DiscardUnknown() {
+	xxx_messageInfo_CompleteJobsResponse.DiscardUnknown(m)
+}
+
+var xxx_messageInfo_CompleteJobsResponse proto.InternalMessageInfo
+
+func (m *CompleteJobsResponse) GetResults() []*CompleteJobResult {
+	if m != nil {
+		return m.Results
+	}
+	return nil
+}
+
+type CompleteJobResult struct {
+	// Types that are valid to be assigned to Result:
+	//	*CompleteJobResult_Response
+	//	*CompleteJobResult_Error
+	Result               isCompleteJobResult_Result `protobuf_oneof:"result"`
+	XXX_NoUnkeyedLiteral struct{}                   `json:"-"`
+	XXX_unrecognized     []byte                     `json:"-"`
+	XXX_sizecache        int32                      `json:"-"`
+}
+
+func (m *CompleteJobResult) Reset()         { *m = CompleteJobResult{} }
+func (m *CompleteJobResult) String() string { return proto.CompactTextString(m) }
+func (*CompleteJobResult) ProtoMessage()    {}
+func (*CompleteJobResult) Descriptor() ([]byte, []int) {
+	return fileDescriptor_f1a937782ebbded5, []int{9}
+}
+
+func (m *CompleteJobResult) XXX_Unmarshal(b []byte) error {
+	return xxx_messageInfo_CompleteJobResult.Unmarshal(m, b)
+}
+func (m *CompleteJobResult) XXX_Marshal(b []byte, deterministic bool) ([]byte, error) {
+	return xxx_messageInfo_CompleteJobResult.Marshal(b, m, deterministic)
+}
+func (m *CompleteJobResult) XXX_Merge(src proto.Message) {
+	xxx_messageInfo_CompleteJobResult.Merge(m, src)
+}
+func (m *CompleteJobResult) XXX_Size() int {
+	return xxx_messageInfo_CompleteJobResult.Size(m)
+}
+func (m *CompleteJobResult) XXX_DiscardUnknown() {
+	xxx_messageInfo_CompleteJobResult.DiscardUnknown(m)
+}
+
+var xxx_messageInfo_CompleteJobResult proto.InternalMessageInfo
+
+type isCompleteJobResult_Result interface {
+	isCompleteJobResult_Result()
+}
+
+type CompleteJobResult_Response struct {
+	Response *CompleteJobResponse `protobuf:"bytes,1,opt,name=response,proto3,oneof"`
+}
+
+type CompleteJobResult_Error struct {
+	Error *BundleItemError `protobuf:"bytes,2,opt,name=error,proto3,oneof"`
+}
+
+func (*CompleteJobResult_Response) isCompleteJobResult_Result() {}
+
+func (*CompleteJobResult_Error) isCompleteJobResult_Result() {}
+
+func (m *CompleteJobResult) GetResult() isCompleteJobResult_Result {
+	if m != nil {
+		return m.Result
+	}
+	return nil
+}
+
+func (m *CompleteJobResult) GetResponse() *CompleteJobResponse {
+	if x, ok := m.GetResult().(*CompleteJobResult_Response); ok {
+		return x.Response
+	}
+	return nil
+}
+
+func (m *CompleteJobResult) GetError() *BundleItemError {
+	if x, ok := m.GetResult().(*CompleteJobResult_Error); ok {
+		return x.Error
+	}
+	return nil
+}
+
+// XXX_OneofWrappers is for the internal use of the proto package.
+func (*CompleteJobResult) XXX_OneofWrappers() []interface{} {
+	return []interface{}{
+		(*CompleteJobResult_Response)(nil),
+		(*CompleteJobResult_Error)(nil),
+	}
+}
+
 type CreateWorkflowInstanceRequest struct {
 	// the unique key identifying the workflow definition (e.g. returned from a workflow
 	// in the DeployWorkflowResponse message)
@@ -536,7 +696,7 @@ func (m *CreateWorkflowInstanceRequest) Reset()         { *m = CreateWorkflowIns
 func (m *CreateWorkflowInstanceRequest) String() string { return proto.CompactTextString(m) }
 func (*CreateWorkflowInstanceRequest) ProtoMessage()    {}
 func (*CreateWorkflowInstanceRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{7}
+	return fileDescriptor_f1a937782ebbded5, []int{10}
 }
 
 func (m *CreateWorkflowInstanceRequest) XXX_Unmarshal(b []byte) error {
@@ -605,7 +765,7 @@ func (m *CreateWorkflowInstanceResponse) Reset()         { *m = CreateWorkflowIn
 func (m *CreateWorkflowInstanceResponse) String() string { return proto.CompactTextString(m) }
 func (*CreateWorkflowInstanceResponse) ProtoMessage()    {}
 func (*CreateWorkflowInstanceResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{8}
+	return fileDescriptor_f1a937782ebbded5, []int{11}
 }
 
 func (m *CreateWorkflowInstanceResponse) XXX_Unmarshal(b []byte) error {
@@ -654,6 +814,166 @@ func (m *CreateWorkflowInstanceResponse) GetWorkflowInstanceKey() int64 {
 	return 0
 }
 
+type CreateWorkflowInstancesRequest struct {
+	// the workflow instances to create; the instances are created independently of each other
+	Requests             []*CreateWorkflowInstanceRequest `protobuf:"bytes,1,rep,name=requests,proto3" json:"requests,omitempty"`
+	XXX_NoUnkeyedLiteral struct{}                         `json:"-"`
+	XXX_unrecognized     []byte                           `json:"-"`
+	XXX_sizecache        int32                            `json:"-"`
+}
+
+func (m *CreateWorkflowInstancesRequest) Reset()         { *m = CreateWorkflowInstancesRequest{} }
+func (m *CreateWorkflowInstancesRequest) String() string { return proto.CompactTextString(m) }
+func (*CreateWorkflowInstancesRequest) ProtoMessage()    {}
+func (*CreateWorkflowInstancesRequest) Descriptor() ([]byte, []int) {
+	return fileDescriptor_f1a937782ebbded5, []int{12}
+}
+
+func (m *CreateWorkflowInstancesRequest) XXX_Unmarshal(b []byte) error {
+	return xxx_messageInfo_CreateWorkflowInstancesRequest.Unmarshal(m, b)
+}
+func (m *CreateWorkflowInstancesRequest) XXX_Marshal(b []byte, deterministic bool) ([]byte, error) {
+	return xxx_messageInfo_CreateWorkflowInstancesRequest.Marshal(b, m, deterministic)
+}
+func (m *CreateWorkflowInstancesRequest) XXX_Merge(src proto.Message) {
+	xxx_messageInfo_CreateWorkflowInstancesRequest.Merge(m, src)
+}
+func (m *CreateWorkflowInstancesRequest) XXX_Size() int {
+	return xxx_messageInfo_CreateWorkflowInstancesRequest.Size(m)
+}
+func (m *CreateWorkflowInstancesRequest) XXX_DiscardUnknown() {
+	xxx_messageInfo_CreateWorkflowInstancesRequest.DiscardUnknown(m)
+}
+
+var xxx_messageInfo_CreateWorkflowInstancesRequest proto.InternalMessageInfo
+
+func (m *CreateWorkflowInstancesRequest) GetRequests() []*CreateWorkflowInstanceRequest {
+	if m != nil {
+		return m.Requests
+	}
+	return nil
+}
+
+type CreateWorkflowInstancesResponse struct {
+	// the result of each request, in the same order as the requests
+	Results              []*CreateWorkflowInstanceResult `protobuf:"bytes,1,rep,name=results,proto3" json:"results,omitempty"`
+	XXX_NoUnkeyedLiteral struct{}                        `json:"-"`
+	XXX_unrecognized     []byte                          `json:"-"`
+	XXX_sizecache        int32                           `json:"-"`
+}
+
+func (m *CreateWorkflowInstancesResponse) Reset()         { *m = CreateWorkflowInstancesResponse{} }
+func (m *CreateWorkflowInstancesResponse) String() string { return proto.CompactTextString(m) }
+func (*CreateWorkflowInstancesResponse) ProtoMessage()    {}
+func (*CreateWorkflowInstancesResponse) Descriptor() ([]byte, []int) {
+	return fileDescriptor_f1a937782ebbded5, []int{13}
+}
+
+func (m *CreateWorkflowInstancesResponse) XXX_Unmarshal(b []byte) error {
+	return xxx_messageInfo_CreateWorkflowInstancesResponse.Unmarshal(m, b)
+}
+func (m *CreateWorkflowInstancesResponse) XXX_Marshal(b []byte, deterministic bool) ([]byte, error) {
+	return xxx_messageInfo_CreateWorkflowInstancesResponse.Marshal(b, m, deterministic)
+}
+func (m *CreateWorkflowInstancesResponse) XXX_Merge(src proto.Message) {
+	xxx_messageInfo_CreateWorkflowInstancesResponse.Merge(m, src)
+}
+func (m *CreateWorkflowInstancesResponse) XXX_Size() int {
+	return xxx_messageInfo_CreateWorkflowInstancesResponse.Size(m)
+}
+func (m *CreateWorkflowInstancesResponse) XXX_DiscardUnknown() {
+	xxx_messageInfo_CreateWorkflowInstancesResponse.DiscardUnknown(m)
+}
+
+var xxx_messageInfo_CreateWorkflowInstancesResponse proto.InternalMessageInfo
+
+func (m *CreateWorkflowInstancesResponse) GetResults() []*CreateWorkflowInstanceResult {
+	if m != nil {
+		return m.Results
+	}
+	return nil
+}
+
+type CreateWorkflowInstanceResult struct {
+	// Types that are valid to be assigned to Result:
+	//	*CreateWorkflowInstanceResult_Response
+	//	*CreateWorkflowInstanceResult_Error
+	Result               isCreateWorkflowInstanceResult_Result `protobuf_oneof:"result"`
+	XXX_NoUnkeyedLiteral struct{}                              `json:"-"`
+	XXX_unrecognized     []byte                                `json:"-"`
+	XXX_sizecache        int32                                 `json:"-"`
+}
+
+func (m *CreateWorkflowInstanceResult) Reset()         { *m = CreateWorkflowInstanceResult{} }
+func (m *CreateWorkflowInstanceResult) String() string { return proto.CompactTextString(m) }
+func (*CreateWorkflowInstanceResult) ProtoMessage()    {}
+func (*CreateWorkflowInstanceResult) Descriptor() ([]byte, []int) {
+	return fileDescriptor_f1a937782ebbded5, []int{14}
+}
+
+func (m *CreateWorkflowInstanceResult) XXX_Unmarshal(b []byte) error {
+	return xxx_messageInfo_CreateWorkflowInstanceResult.Unmarshal(m, b)
+}
+func (m *CreateWorkflowInstanceResult) XXX_Marshal(b []byte, deterministic bool) ([]byte, error) {
+	return xxx_messageInfo_CreateWorkflowInstanceResult.Marshal(b, m, deterministic)
+}
+func (m *CreateWorkflowInstanceResult) XXX_Merge(src proto.Message) {
+	xxx_messageInfo_CreateWorkflowInstanceResult.Merge(m, src)
+}
+func (m *CreateWorkflowInstanceResult) XXX_Size() int {
+	return xxx_messageInfo_CreateWorkflowInstanceResult.Size(m)
+}
+func (m *CreateWorkflowInstanceResult) XXX_DiscardUnknown() {
+	xxx_messageInfo_CreateWorkflowInstanceResult.DiscardUnknown(m)
+}
+
+var xxx_messageInfo_CreateWorkflowInstanceResult proto.InternalMessageInfo
+
+type isCreateWorkflowInstanceResult_Result interface {
+	isCreateWorkflowInstanceResult_Result()
+}
+
+type CreateWorkflowInstanceResult_Response struct {
+	Response *CreateWorkflowInstanceResponse `protobuf:"bytes,1,opt,name=response,proto3,oneof"`
+}
+
+type CreateWorkflowInstanceResult_Error struct {
+	Error *BundleItemError `protobuf:"bytes,2,opt,name=error,proto3,oneof"`
+}
+
+func (*CreateWorkflowInstanceResult_Response) isCreateWorkflowInstanceResult_Result() {}
+
+func (*CreateWorkflowInstanceResult_Error) isCreateWorkflowInstanceResult_Result() {}
+
+func (m *CreateWorkflowInstanceResult) GetResult() isCreateWorkflowInstanceResult_Result {
+	if m != nil {
+		return m.Result
+	}
+	return nil
+}
+
+func (m *CreateWorkflowInstanceResult) GetResponse() *CreateWorkflowInstanceResponse {
+	if x, ok := m.GetResult().(*CreateWorkflowInstanceResult_Response); ok {
+		return x.Response
+	}
+	return nil
+}
+
+func (m *CreateWorkflowInstanceResult) GetError() *BundleItemError {
+	if x, ok := m.GetResult().(*CreateWorkflowInstanceResult_Error); ok {
+		return x.Error
+	}
+	return nil
+}
+
+// XXX_OneofWrappers is for the internal use of the proto package.
+func (*CreateWorkflowInstanceResult) XXX_OneofWrappers() []interface{} {
+	return []interface{}{
+		(*CreateWorkflowInstanceResult_Response)(nil),
+		(*CreateWorkflowInstanceResult_Error)(nil),
+	}
+}
+
 type CreateWorkflowInstanceWithResultRequest struct {
 	Request *CreateWorkflowInstanceRequest `protobuf:"bytes,1,opt,name=request,proto3" json:"request,omitempty"`
 	// timeout in milliseconds. the request will be closed if the workflow is not completed
@@ -674,7 +994,7 @@ func (m *CreateWorkflowInstanceWithResultRequest) Reset() {
 func (m *CreateWorkflowInstanceWithResultRequest) String() string { return proto.CompactTextString(m) }
 func (*CreateWorkflowInstanceWithResultRequest) ProtoMessage()    {}
 func (*CreateWorkflowInstanceWithResultRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{9}
+	return fileDescriptor_f1a937782ebbded5, []int{15}
 }
 
 func (m *CreateWorkflowInstanceWithResultRequest) XXX_Unmarshal(b []byte) error {
@@ -741,7 +1061,7 @@ func (m *CreateWorkflowInstanceWithResultResponse) Reset() {
 func (m *CreateWorkflowInstanceWithResultResponse) String() string { return proto.CompactTextString(m) }
 func (*CreateWorkflowInstanceWithResultResponse) ProtoMessage()    {}
 func (*CreateWorkflowInstanceWithResultResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{10}
+	return fileDescriptor_f1a937782ebbded5, []int{16}
 }
 
 func (m *CreateWorkflowInstanceWithResultResponse) XXX_Unmarshal(b []byte) error {
@@ -809,7 +1129,7 @@ func (m *DeployWorkflowRequest) Reset()         { *m = DeployWorkflowRequest{} }
 func (m *DeployWorkflowRequest) String() string { return proto.CompactTextString(m) }
 func (*DeployWorkflowRequest) ProtoMessage()    {}
 func (*DeployWorkflowRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{11}
+	return fileDescriptor_f1a937782ebbded5, []int{17}
 }
 
 func (m *DeployWorkflowRequest) XXX_Unmarshal(b []byte) error {
@@ -854,7 +1174,7 @@ func (m *WorkflowRequestObject) Reset()         { *m = WorkflowRequestObject{} }
 func (m *WorkflowRequestObject) String() string { return proto.CompactTextString(m) }
 func (*WorkflowRequestObject) ProtoMessage()    {}
 func (*WorkflowRequestObject) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{12}
+	return fileDescriptor_f1a937782ebbded5, []int{18}
 }
 
 func (m *WorkflowRequestObject) XXX_Unmarshal(b []byte) error {
@@ -910,7 +1230,7 @@ func (m *DeployWorkflowResponse) Reset()         { *m = DeployWorkflowResponse{}
 func (m *DeployWorkflowResponse) String() string { return proto.CompactTextString(m) }
 func (*DeployWorkflowResponse) ProtoMessage()    {}
 func (*DeployWorkflowResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{13}
+	return fileDescriptor_f1a937782ebbded5, []int{19}
 }
 
 func (m *DeployWorkflowResponse) XXX_Unmarshal(b []byte) error {
@@ -965,7 +1285,7 @@ func (m *WorkflowMetadata) Reset()         { *m = WorkflowMetadata{} }
 func (m *WorkflowMetadata) String() string { return proto.CompactTextString(m) }
 func (*WorkflowMetadata) ProtoMessage()    {}
 func (*WorkflowMetadata) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{14}
+	return fileDescriptor_f1a937782ebbded5, []int{20}
 }
 
 func (m *WorkflowMetadata) XXX_Unmarshal(b []byte) error {
@@ -1032,7 +1352,7 @@ func (m *FailJobRequest) Reset()         { *m = FailJobRequest{} }
 func (m *FailJobRequest) String() string { return proto.CompactTextString(m) }
 func (*FailJobRequest) ProtoMessage()    {}
 func (*FailJobRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{15}
+	return fileDescriptor_f1a937782ebbded5, []int{21}
 }
 
 func (m *FailJobRequest) XXX_Unmarshal(b []byte) error {
@@ -1084,7 +1404,7 @@ func (m *FailJobResponse) Reset()         { *m = FailJobResponse{} }
 func (m *FailJobResponse) String() string { return proto.CompactTextString(m) }
 func (*FailJobResponse) ProtoMessage()    {}
 func (*FailJobResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{16}
+	return fileDescriptor_f1a937782ebbded5, []int{22}
 }
 
 func (m *FailJobResponse) XXX_Unmarshal(b []byte) error {
@@ -1121,7 +1441,7 @@ func (m *ThrowErrorRequest) Reset()         { *m = ThrowErrorRequest{} }
 func (m *ThrowErrorRequest) String() string { return proto.CompactTextString(m) }
 func (*ThrowErrorRequest) ProtoMessage()    {}
 func (*ThrowErrorRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{17}
+	return fileDescriptor_f1a937782ebbded5, []int{23}
 }
 
 func (m *ThrowErrorRequest) XXX_Unmarshal(b []byte) error {
@@ -1173,7 +1493,7 @@ func (m *ThrowErrorResponse) Reset()         { *m = ThrowErrorResponse{} }
 func (m *ThrowErrorResponse) String() string { return proto.CompactTextString(m) }
 func (*ThrowErrorResponse) ProtoMessage()    {}
 func (*ThrowErrorResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{18}
+	return fileDescriptor_f1a937782ebbded5, []int{24}
 }
 
 func (m *ThrowErrorResponse) XXX_Unmarshal(b []byte) error {
@@ -1216,7 +1536,7 @@ func (m *PublishMessageRequest) Reset()         { *m = PublishMessageRequest{} }
 func (m *PublishMessageRequest) String() string { return proto.CompactTextString(m) }
 func (*PublishMessageRequest) ProtoMessage()    {}
 func (*PublishMessageRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{19}
+	return fileDescriptor_f1a937782ebbded5, []int{25}
 }
 
 func (m *PublishMessageRequest) XXX_Unmarshal(b []byte) error {
@@ -1282,7 +1602,7 @@ func (m *PublishMessageResponse) Reset()         { *m = PublishMessageResponse{}
 func (m *PublishMessageResponse) String() string { return proto.CompactTextString(m) }
 func (*PublishMessageResponse) ProtoMessage()    {}
 func (*PublishMessageResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{20}
+	return fileDescriptor_f1a937782ebbded5, []int{26}
 }
 
 func (m *PublishMessageResponse) XXX_Unmarshal(b []byte) error {
@@ -1303,6 +1623,166 @@ func (m *PublishMessageResponse) XXX_DiscardUnknown() {
 
 var xxx_messageInfo_PublishMessageResponse proto.InternalMessageInfo
 
+type PublishMessagesRequest struct {
+	// the messages to publish; the messages are published independently of each other
+	Requests             []*PublishMessageRequest `protobuf:"bytes,1,rep,name=requests,proto3" json:"requests,omitempty"`
+	XXX_NoUnkeyedLiteral struct{}                 `json:"-"`
+	XXX_unrecognized     []byte                   `json:"-"`
+	XXX_sizecache        int32                    `json:"-"`
+}
+
+func (m *PublishMessagesRequest) Reset()         { *m = PublishMessagesRequest{} }
+func (m *PublishMessagesRequest) String() string { return proto.CompactTextString(m) }
+func (*PublishMessagesRequest) ProtoMessage()    {}
+func (*PublishMessagesRequest) Descriptor() ([]byte, []int) {
+	return fileDescriptor_f1a937782ebbded5, []int{27}
+}
+
+func (m *PublishMessagesRequest) XXX_Unmarshal(b []byte) error {
+	return xxx_messageInfo_PublishMessagesRequest.Unmarshal(m, b)
+}
+func (m *PublishMessagesRequest) XXX_Marshal(b []byte, deterministic bool) ([]byte, error) {
+	return xxx_messageInfo_PublishMessagesRequest.Marshal(b, m, deterministic)
+}
+func (m *PublishMessagesRequest) XXX_Merge(src proto.Message) {
+	xxx_messageInfo_PublishMessagesRequest.Merge(m, src)
+}
+func (m *PublishMessagesRequest) XXX_Size() int {
+	return xxx_messageInfo_PublishMessagesRequest.Size(m)
+}
+func (m *PublishMessagesRequest) XXX_DiscardUnknown() {
+	xxx_messageInfo_PublishMessagesRequest.DiscardUnknown(m)
+}
+
+var xxx_messageInfo_PublishMessagesRequest proto.InternalMessageInfo
+
+func (m *PublishMessagesRequest) GetRequests() []*PublishMessageRequest {
+	if m != nil {
+		return m.Requests
+	}
+	return nil
+}
+
+type PublishMessagesResponse struct {
+	// the result of each request, in the same order as the requests
+	Results              []*PublishMessageResult `protobuf:"bytes,1,rep,name=results,proto3" json:"results,omitempty"`
+	XXX_NoUnkeyedLiteral struct{}                `json:"-"`
+	XXX_unrecognized     []byte                  `json:"-"`
+	XXX_sizecache        int32                   `json:"-"`
+}
+
+func (m *PublishMessagesResponse) Reset()         { *m = PublishMessagesResponse{} }
+func (m *PublishMessagesResponse) String() string { return proto.CompactTextString(m) }
+func (*PublishMessagesResponse) ProtoMessage()    {}
+func (*PublishMessagesResponse) Descriptor() ([]byte, []int) {
+	return fileDescriptor_f1a937782ebbded5, []int{28}
+}
+
+func (m *PublishMessagesResponse) XXX_Unmarshal(b []byte) error {
+	return xxx_messageInfo_PublishMessagesResponse.Unmarshal(m, b)
+}
+func (m *PublishMessagesResponse) XXX_Marshal(b []byte, deterministic bool) ([]byte, error) {
+	return xxx_messageInfo_PublishMessagesResponse.Marshal(b, m, deterministic)
+}
+func (m *PublishMessagesResponse) XXX_Merge(src proto.Message) {
+	xxx_messageInfo_PublishMessagesResponse.Merge(m, src)
+}
+func (m *PublishMessagesResponse) XXX_Size() int {
+	return xxx_messageInfo_PublishMessagesResponse.Size(m)
+}
+func (m *PublishMessagesResponse) XXX_DiscardUnknown() {
+	xxx_messageInfo_PublishMessagesResponse.DiscardUnknown(m)
+}
+
+var xxx_messageInfo_PublishMessagesResponse proto.InternalMessageInfo
+
+func (m *PublishMessagesResponse) GetResults() []*PublishMessageResult {
+	if m != nil {
+		return m.Results
+	}
+	return nil
+}
+
+type PublishMessageResult struct {
+	// Types that are valid to be assigned to Result:
+	//	*PublishMessageResult_Response
+	//	*PublishMessageResult_Error
+	Result               isPublishMessageResult_Result `protobuf_oneof:"result"`
+	XXX_NoUnkeyedLiteral struct{}                      `json:"-"`
+	XXX_unrecognized     []byte                        `json:"-"`
+	XXX_sizecache        int32                         `json:"-"`
+}
+
+func (m *PublishMessageResult) Reset()         { *m = PublishMessageResult{} }
+func (m *PublishMessageResult) String() string { return proto.CompactTextString(m) }
+func (*PublishMessageResult) ProtoMessage()    {}
+func (*PublishMessageResult) Descriptor() ([]byte, []int) {
+	return fileDescriptor_f1a937782ebbded5, []int{29}
+}
+
+func (m *PublishMessageResult) XXX_Unmarshal(b []byte) error {
+	return xxx_messageInfo_PublishMessageResult.Unmarshal(m, b)
+}
+func (m *PublishMessageResult) XXX_Marshal(b []byte, deterministic bool) ([]byte, error) {
+	return xxx_messageInfo_PublishMessageResult.Marshal(b, m, deterministic)
+}
+func (m *PublishMessageResult) XXX_Merge(src proto.Message) {
+	xxx_messageInfo_PublishMessageResult.Merge(m, src)
+}
+func (m *PublishMessageResult) XXX_Size() int {
+	return xxx_messageInfo_PublishMessageResult.Size(m)
+}
+func (m *PublishMessageResult) XXX_DiscardUnknown() {
+	xxx_messageInfo_PublishMessageResult.DiscardUnknown(m)
+}
+
+var xxx_messageInfo_PublishMessageResult proto.InternalMessageInfo
+
+type isPublishMessageResult_Result interface {
+	isPublishMessageResult_Result()
+}
+
+type PublishMessageResult_Response struct {
+	Response *PublishMessageResponse `protobuf:"bytes,1,opt,name=response,proto3,oneof"`
+}
+
+type PublishMessageResult_Error struct {
+	Error *BundleItemError `protobuf:"bytes,2,opt,name=error,proto3,oneof"`
+}
+
+func (*PublishMessageResult_Response) isPublishMessageResult_Result() {}
+
+func (*PublishMessageResult_Error) isPublishMessageResult_Result() {}
+
+func (m *PublishMessageResult) GetResult() isPublishMessageResult_Result {
+	if m != nil {
+		return m.Result
+	}
+	return nil
+}
+
+func (m *PublishMessageResult) GetResponse() *PublishMessageResponse {
+	if x, ok := m.GetResult().(*PublishMessageResult_Response); ok {
+		return x.Response
+	}
+	return nil
+}
+
+func (m *PublishMessageResult) GetError() *BundleItemError {
+	if x, ok := m.GetResult().(*PublishMessageResult_Error); ok {
+		return x.Error
+	}
+	return nil
+}
+
+// XXX_OneofWrappers is for the internal use of the proto package.
+func (*PublishMessageResult) XXX_OneofWrappers() []interface{} {
+	return []interface{}{
+		(*PublishMessageResult_Response)(nil),
+		(*PublishMessageResult_Error)(nil),
+	}
+}
+
 type ResolveIncidentRequest struct {
 	// the unique ID of the incident to resolve
 	IncidentKey          int64    `protobuf:"varint,1,opt,name=incidentKey,proto3" json:"incidentKey,omitempty"`
@@ -1315,7 +1795,7 @@ func (m *ResolveIncidentRequest) Reset()         { *m = ResolveIncidentRequest{}
 func (m *ResolveIncidentRequest) String() string { return proto.CompactTextString(m) }
 func (*ResolveIncidentRequest) ProtoMessage()    {}
 func (*ResolveIncidentRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{21}
+	return fileDescriptor_f1a937782ebbded5, []int{30}
 }
 
 func (m *ResolveIncidentRequest) XXX_Unmarshal(b []byte) error {
@@ -1353,7 +1833,7 @@ func (m *ResolveIncidentResponse) Reset()         { *m = ResolveIncidentResponse
 func (m *ResolveIncidentResponse) String() string { return proto.CompactTextString(m) }
 func (*ResolveIncidentResponse) ProtoMessage()    {}
 func (*ResolveIncidentResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{22}
+	return fileDescriptor_f1a937782ebbded5, []int{31}
 }
 
 func (m *ResolveIncidentResponse) XXX_Unmarshal(b []byte) error {
@@ -1384,7 +1864,7 @@ func (m *TopologyRequest) Reset()         { *m = TopologyRequest{} }
 func (m *TopologyRequest) String() string { return proto.CompactTextString(m) }
 func (*TopologyRequest) ProtoMessage()    {}
 func (*TopologyRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{23}
+	return fileDescriptor_f1a937782ebbded5, []int{32}
 }
 
 func (m *TopologyRequest) XXX_Unmarshal(b []byte) error {
@@ -1425,7 +1905,7 @@ func (m *TopologyResponse) Reset()         { *m = TopologyResponse{} }
 func (m *TopologyResponse) String() string { return proto.CompactTextString(m) }
 func (*TopologyResponse) ProtoMessage()    {}
 func (*TopologyResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{24}
+	return fileDescriptor_f1a937782ebbded5, []int{33}
 }
 
 func (m *TopologyResponse) XXX_Unmarshal(b []byte) error {
@@ -1501,7 +1981,7 @@ func (m *BrokerInfo) Reset()         { *m = BrokerInfo{} }
 func (m *BrokerInfo) String() string { return proto.CompactTextString(m) }
 func (*BrokerInfo) ProtoMessage()    {}
 func (*BrokerInfo) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{25}
+	return fileDescriptor_f1a937782ebbded5, []int{34}
 }
 
 func (m *BrokerInfo) XXX_Unmarshal(b []byte) error {
@@ -1571,7 +2051,7 @@ func (m *Partition) Reset()         { *m = Partition{} }
 func (m *Partition) String() string { return proto.CompactTextString(m) }
 func (*Partition) ProtoMessage()    {}
 func (*Partition) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{26}
+	return fileDescriptor_f1a937782ebbded5, []int{35}
 }
 
 func (m *Partition) XXX_Unmarshal(b []byte) error {
@@ -1620,7 +2100,7 @@ func (m *UpdateJobRetriesRequest) Reset()         { *m = UpdateJobRetriesRequest
 func (m *UpdateJobRetriesRequest) String() string { return proto.CompactTextString(m) }
 func (*UpdateJobRetriesRequest) ProtoMessage()    {}
 func (*UpdateJobRetriesRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{27}
+	return fileDescriptor_f1a937782ebbded5, []int{36}
 }
 
 func (m *UpdateJobRetriesRequest) XXX_Unmarshal(b []byte) error {
@@ -1665,7 +2145,7 @@ func (m *UpdateJobRetriesResponse) Reset()         { *m = UpdateJobRetriesRespon
 func (m *UpdateJobRetriesResponse) String() string { return proto.CompactTextString(m) }
 func (*UpdateJobRetriesResponse) ProtoMessage()    {}
 func (*UpdateJobRetriesResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{28}
+	return fileDescriptor_f1a937782ebbded5, []int{37}
 }
 
 func (m *UpdateJobRetriesResponse) XXX_Unmarshal(b []byte) error {
@@ -1711,7 +2191,7 @@ func (m *SetVariablesRequest) Reset()         { *m = SetVariablesRequest{} }
 func (m *SetVariablesRequest) String() string { return proto.CompactTextString(m) }
 func (*SetVariablesRequest) ProtoMessage()    {}
 func (*SetVariablesRequest) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{29}
+	return fileDescriptor_f1a937782ebbded5, []int{38}
 }
 
 func (m *SetVariablesRequest) XXX_Unmarshal(b []byte) error {
@@ -1765,7 +2245,7 @@ func (m *SetVariablesResponse) Reset()         { *m = SetVariablesResponse{} }
 func (m *SetVariablesResponse) String() string { return proto.CompactTextString(m) }
 func (*SetVariablesResponse) ProtoMessage()    {}
 func (*SetVariablesResponse) Descriptor() ([]byte, []int) {
-	return fileDescriptor_f1a937782ebbded5, []int{30}
+	return fileDescriptor_f1a937782ebbded5, []int{39}
 }
 
 func (m *SetVariablesResponse) XXX_Unmarshal(b []byte) error {
@@ -1793,6 +2273,138 @@ func (m *SetVariablesResponse) GetKey() int64 {
 	return 0
 }
 
+type BundleItemError struct {
+	// the gRPC status code of the error, e.g. 5 (NOT_FOUND); the codes are the same as the ones
+	// of the corresponding single request
+	Code int32 `protobuf:"varint,1,opt,name=code,proto3" json:"code,omitempty"`
+	// describes the error
+	Message              string   `protobuf:"bytes,2,opt,name=message,proto3" json:"message,omitempty"`
+	XXX_NoUnkeyedLiteral struct{} `json:"-"`
+	XXX_unrecognized     []byte   `json:"-"`
+	XXX_sizecache        int32    `json:"-"`
+}
+
+func (m *BundleItemError) Reset()         { *m = BundleItemError{} }
+func (m *BundleItemError) String() string { return proto.CompactTextString(m) }
+func (*BundleItemError) ProtoMessage()    {}
+func (*BundleItemError) Descriptor() ([]byte, []int) {
+	return fileDescriptor_f1a937782ebbded5, []int{40}
+}
+
+func (m *BundleItemError) XXX_Unmarshal(b []byte) error {
+	return xxx_messageInfo_BundleItemError.Unmarshal(m, b)
+}
+func (m *BundleItemError) XXX_Marshal(b []byte, deterministic bool) ([]byte, error) {
+	return xxx_messageInfo_BundleItemError.Marshal(b, m, deterministic)
+}
+func (m *BundleItemError) XXX_Merge(src proto.Message) {
+	xxx_messageInfo_BundleItemError.Merge(m, src)
+}
+func (m *BundleItemError) XXX_Size() int {
+	return xxx_messageInfo_BundleItemError.Size(m)
+}
+func (m *BundleItemError) XXX_DiscardUnknown() {
+	xxx_messageInfo_BundleItemError.DiscardUnknown(m)
+}
+
+var xxx_messageInfo_BundleItemError proto.InternalMessageInfo
+
+func (m *BundleItemError) GetCode() int32 {
+	if m != nil {
+		return m.Code
+	}
+	return 0
+}
+
+func (m *BundleItemError) GetMessage() string {
+	if m != nil {
+		return m.Message
+	}
+	return ""
+}
+
+type StreamActivatedJobsRequest struct {
+	// the job type, as defined in the BPMN process (e.g. <zeebe:taskDefinition
+	// type="payment-service" />); only read from the first request of the stream
+	Type string `protobuf:"bytes,1,opt,name=type,proto3" json:"type,omitempty"`
+	// the name of the worker activating the jobs, mostly used for logging purposes; only read
+	// from the first request of the stream
+	Worker string `protobuf:"bytes,2,opt,name=worker,proto3" json:"worker,omitempty"`
+	// a job pushed on this stream will not be activated by another call until the timeout has
+	// been reached; only read from the first request of the stream
+	Timeout int64 `protobuf:"varint,3,opt,name=timeout,proto3" json:"timeout,omitempty"`
+	// a list of variables to fetch as the job variables; if empty, all visible variables at
+	// the time of activation for the scope of the job will be returned; only read from the
+	// first request of the stream
+	FetchVariable []string `protobuf:"bytes,4,rep,name=fetchVariable,proto3" json:"fetchVariable,omitempty"`
+	// the amount of jobs which the worker can additionally handle; every pushed job uses one
+	// credit, and no jobs are pushed while the worker has no credits left
+	Credits              int32    `protobuf:"varint,5,opt,name=credits,proto3" json:"credits,omitempty"`
+	XXX_NoUnkeyedLiteral struct{} `json:"-"`
+	XXX_unrecognized     []byte   `json:"-"`
+	XXX_sizecache        int32    `json:"-"`
+}
+
+func (m *StreamActivatedJobsRequest) Reset()         { *m = StreamActivatedJobsRequest{} }
+func (m *StreamActivatedJobsRequest) String() string { return proto.CompactTextString(m) }
+func (*StreamActivatedJobsRequest) ProtoMessage()    {}
+func (*StreamActivatedJobsRequest) Descriptor() ([]byte, []int) {
+	return fileDescriptor_f1a937782ebbded5, []int{41}
+}
+
+func (m *StreamActivatedJobsRequest) XXX_Unmarshal(b []byte) error {
+	return xxx_messageInfo_StreamActivatedJobsRequest.Unmarshal(m, b)
+}
+func (m *StreamActivatedJobsRequest) XXX_Marshal(b []byte, deterministic bool) ([]byte, error) {
+	return xxx_messageInfo_StreamActivatedJobsRequest.Marshal(b, m, deterministic)
+}
+func (m *StreamActivatedJobsRequest) XXX_Merge(src proto.Message) {
+	xxx_messageInfo_StreamActivatedJobsRequest.Merge(m, src)
+}
+func (m *StreamActivatedJobsRequest) XXX_Size() int {
+	return xxx_messageInfo_StreamActivatedJobsRequest.Size(m)
+}
+func (m *StreamActivatedJobsRequest) XXX_DiscardUnknown() {
+	xxx_messageInfo_StreamActivatedJobsRequest.DiscardUnknown(m)
+}
+
+var xxx_messageInfo_StreamActivatedJobsRequest proto.InternalMessageInfo
+
+func (m *StreamActivatedJobsRequest) GetType() string {
+	if m != nil {
+		return m.Type
+	}
+	return ""
+}
+
+func (m *StreamActivatedJobsRequest) GetWorker() string {
+	if m != nil {
+		return m.Worker
+	}
+	return ""
+}
+
+func (m *StreamActivatedJobsRequest) GetTimeout() int64 {
+	if m != nil {
+		return m.Timeout
+	}
+	return 0
+}
+
+func (m *StreamActivatedJobsRequest) GetFetchVariable() []string {
+	if m != nil {
+		return m.FetchVariable
+	}
+	return nil
+}
+
+func (m *StreamActivatedJobsRequest) GetCredits() int32 {
+	if m != nil {
+		return m.Credits
+	}
+	return 0
+}
+
 func init() {
 	proto.RegisterEnum("gateway_protocol.WorkflowRequestObject_ResourceType", WorkflowRequestObject_ResourceType_name, WorkflowRequestObject_ResourceType_value)
 	proto.RegisterEnum("gateway_protocol.Partition_PartitionBrokerRole", Partition_PartitionBrokerRole_name, Partition_PartitionBrokerRole_value)
@@ -1803,8 +2415,14 @@ func init() {
 	proto.RegisterType((*CancelWorkflowInstanceResponse)(nil), "gateway_protocol.CancelWorkflowInstanceResponse")
 	proto.RegisterType((*CompleteJobRequest)(nil), "gateway_protocol.CompleteJobRequest")
 	proto.RegisterType((*CompleteJobResponse)(nil), "gateway_protocol.CompleteJobResponse")
+	proto.RegisterType((*CompleteJobsRequest)(nil), "gateway_protocol.CompleteJobsRequest")
+	proto.RegisterType((*CompleteJobsResponse)(nil), "gateway_protocol.CompleteJobsResponse")
+	proto.RegisterType((*CompleteJobResult)(nil), "gateway_protocol.CompleteJobResult")
 	proto.RegisterType((*CreateWorkflowInstanceRequest)(nil), "gateway_protocol.CreateWorkflowInstanceRequest")
 	proto.RegisterType((*CreateWorkflowInstanceResponse)(nil), "gateway_protocol.CreateWorkflowInstanceResponse")
+	proto.RegisterType((*CreateWorkflowInstancesRequest)(nil), "gateway_protocol.CreateWorkflowInstancesRequest")
+	proto.RegisterType((*CreateWorkflowInstancesResponse)(nil), "gateway_protocol.CreateWorkflowInstancesResponse")
+	proto.RegisterType((*CreateWorkflowInstanceResult)(nil), "gateway_protocol.CreateWorkflowInstanceResult")
 	proto.RegisterType((*CreateWorkflowInstanceWithResultRequest)(nil), "gateway_protocol.CreateWorkflowInstanceWithResultRequest")
 	proto.RegisterType((*CreateWorkflowInstanceWithResultResponse)(nil), "gateway_protocol.CreateWorkflowInstanceWithResultResponse")
 	proto.RegisterType((*DeployWorkflowRequest)(nil), "gateway_protocol.DeployWorkflowRequest")
@@ -1817,6 +2435,9 @@ func init() {
 	proto.RegisterType((*ThrowErrorResponse)(nil), "gateway_protocol.ThrowErrorResponse")
 	proto.RegisterType((*PublishMessageRequest)(nil), "gateway_protocol.PublishMessageRequest")
 	proto.RegisterType((*PublishMessageResponse)(nil), "gateway_protocol.PublishMessageResponse")
+	proto.RegisterType((*PublishMessagesRequest)(nil), "gateway_protocol.PublishMessagesRequest")
+	proto.RegisterType((*PublishMessagesResponse)(nil), "gateway_protocol.PublishMessagesResponse")
+	proto.RegisterType((*PublishMessageResult)(nil), "gateway_protocol.PublishMessageResult")
 	proto.RegisterType((*ResolveIncidentRequest)(nil), "gateway_protocol.ResolveIncidentRequest")
 	proto.RegisterType((*ResolveIncidentResponse)(nil), "gateway_protocol.ResolveIncidentResponse")
 	proto.RegisterType((*TopologyRequest)(nil), "gateway_protocol.TopologyRequest")
@@ -1827,106 +2448,127 @@ func init() {
 	proto.RegisterType((*UpdateJobRetriesResponse)(nil), "gateway_protocol.UpdateJobRetriesResponse")
 	proto.RegisterType((*SetVariablesRequest)(nil), "gateway_protocol.SetVariablesRequest")
 	proto.RegisterType((*SetVariablesResponse)(nil), "gateway_protocol.SetVariablesResponse")
+	proto.RegisterType((*BundleItemError)(nil), "gateway_protocol.BundleItemError")
+	proto.RegisterType((*StreamActivatedJobsRequest)(nil), "gateway_protocol.StreamActivatedJobsRequest")
 }
 
 func init() { proto.RegisterFile("gateway.proto", fileDescriptor_f1a937782ebbded5) }
 
 var fileDescriptor_f1a937782ebbded5 = []byte{
-	// 1497 bytes of a gzipped FileDescriptorProto
-	0x1f, 0x8b, 0x08, 0x00, 0x00, 0x00, 0x00, 0x00, 0x02, 0xff, 0xcc, 0x58, 0xdd, 0x6e, 0x1b, 0xc5,
-	0x17, 0xcf, 0xda, 0xce, 0x87, 0x4f, 0xdc, 0xc4, 0x99, 0x7c, 0x74, 0xeb, 0x7f, 0x1b, 0xb9, 0xfb,
-	0xef, 0x87, 0x41, 0x95, 0x5b, 0x05, 0x84, 0x44, 0xe1, 0x82, 0x36, 0x4d, 0xa8, 0xd3, 0xa4, 0x0d,
-	0xdb, 0xd0, 0xaa, 0x08, 0x51, 0xad, 0xd7, 0x93, 0x66, 0x9b, 0xf5, 0xce, 0xb2, 0x3b, 0x4e, 0x70,
-	0x25, 0xde, 0x03, 0x89, 0x0b, 0x2e, 0x78, 0x00, 0x6e, 0x78, 0x03, 0xb8, 0xe4, 0x9e, 0x1b, 0x1e,
-	0x01, 0xf1, 0x0c, 0x68, 0x66, 0x67, 0xd6, 0xfb, 0x31, 0x6b, 0x9b, 0x4a, 0x48, 0xdc, 0xcd, 0x9c,
-	0x3d, 0xdf, 0xe7, 0xcc, 0x39, 0x3f, 0x1b, 0x2e, 0xbc, 0xb2, 0x28, 0x3e, 0xb7, 0x86, 0x6d, 0x3f,
-	0x20, 0x94, 0xa0, 0xba, 0xb8, 0xbe, 0xe4, 0x57, 0x9b, 0xb8, 0xc6, 0xef, 0x1a, 0xac, 0xde, 0xb3,
-	0xa9, 0x73, 0x66, 0x51, 0xbc, 0x47, 0xba, 0xa1, 0x89, 0xbf, 0x1e, 0xe0, 0x90, 0x22, 0x04, 0x15,
-	0x3a, 0xf4, 0xb1, 0xae, 0x35, 0xb5, 0x56, 0xd5, 0xe4, 0x67, 0xb4, 0x01, 0x73, 0xe7, 0x24, 0x38,
-	0xc5, 0x81, 0x5e, 0xe2, 0x54, 0x71, 0x43, 0x3a, 0xcc, 0x53, 0xa7, 0x8f, 0xc9, 0x80, 0xea, 0xe5,
-	0xa6, 0xd6, 0x2a, 0x9b, 0xf2, 0x8a, 0x6e, 0xc1, 0x4a, 0xdf, 0xfa, 0x86, 0xe9, 0x3d, 0x22, 0xd2,
-	0x8a, 0x5e, 0x69, 0x6a, 0xad, 0x59, 0x33, 0xff, 0x01, 0x5d, 0x83, 0x0b, 0xc7, 0x98, 0xda, 0x27,
-	0xcf, 0xac, 0xc0, 0xb1, 0xba, 0x2e, 0xd6, 0x67, 0x9b, 0xe5, 0x56, 0xd5, 0x4c, 0x13, 0xd1, 0x0d,
-	0x58, 0x0a, 0x22, 0x27, 0x8f, 0x84, 0xd1, 0x39, 0x6e, 0x34, 0x43, 0x35, 0xf6, 0x60, 0x2d, 0x1d,
-	0x58, 0xe8, 0x13, 0x2f, 0xc4, 0x68, 0x0b, 0x2a, 0xaf, 0x49, 0x37, 0xd4, 0xb5, 0x66, 0xb9, 0xb5,
-	0xb8, 0xb5, 0xd9, 0xce, 0xa6, 0xa4, 0x2d, 0xa5, 0x7a, 0x7b, 0xa4, 0x6b, 0x72, 0x5e, 0xe3, 0xb7,
-	0x32, 0xd4, 0x92, 0x64, 0x54, 0x87, 0xf2, 0x29, 0x1e, 0xf2, 0xec, 0x94, 0x4d, 0x76, 0x8c, 0x13,
-	0x56, 0x4a, 0x24, 0xec, 0x0e, 0xac, 0xb2, 0x14, 0x1d, 0xbb, 0xe4, 0xbc, 0xe3, 0x85, 0xd4, 0xf2,
-	0x6c, 0xfc, 0x08, 0x0f, 0x45, 0x92, 0x54, 0x9f, 0x58, 0x0a, 0xba, 0x7e, 0xdf, 0x3b, 0x0c, 0x88,
-	0x8d, 0xc3, 0xb0, 0xd3, 0xe3, 0xc9, 0xaa, 0x9a, 0x69, 0x22, 0xfa, 0x18, 0x2e, 0x49, 0xe1, 0x07,
-	0xf8, 0xd8, 0xf1, 0x1c, 0xea, 0x10, 0xef, 0x19, 0x0e, 0x42, 0x87, 0x78, 0xfa, 0x2c, 0x4f, 0x6f,
-	0x31, 0x03, 0x6a, 0xc2, 0xa2, 0xfc, 0xc8, 0xbc, 0x89, 0xb2, 0x97, 0x24, 0xa1, 0xcb, 0x50, 0xc5,
-	0x2e, 0xee, 0x63, 0x8f, 0x76, 0x7a, 0xfa, 0x3c, 0xf7, 0x60, 0x44, 0x40, 0x6d, 0x40, 0xf2, 0x92,
-	0x08, 0x6a, 0x81, 0xab, 0x51, 0x7c, 0x61, 0x31, 0xd9, 0x83, 0x90, 0x92, 0xfe, 0x43, 0x6c, 0xf5,
-	0x70, 0x10, 0xea, 0xd5, 0x28, 0xa6, 0x14, 0x31, 0xd1, 0x5c, 0x90, 0x6d, 0xae, 0x00, 0xd3, 0xc0,
-	0xc1, 0xa1, 0xbe, 0xc8, 0x23, 0x93, 0x57, 0xd4, 0x80, 0x85, 0x1e, 0xb6, 0x7a, 0xae, 0xe3, 0x61,
-	0xbd, 0xc6, 0xad, 0xc7, 0x77, 0x16, 0xc1, 0x99, 0x68, 0x98, 0x50, 0xbf, 0x10, 0x45, 0x10, 0x13,
-	0x8c, 0xcf, 0xe0, 0xca, 0x36, 0xf3, 0xce, 0x7d, 0x9e, 0x29, 0x81, 0xec, 0xfe, 0x82, 0xc2, 0x69,
-	0x85, 0x85, 0x33, 0x9a, 0xb0, 0x59, 0xa4, 0x32, 0xea, 0x3b, 0x63, 0x0f, 0xd0, 0x36, 0xe9, 0xfb,
-	0x2e, 0xe6, 0xfd, 0x28, 0x2d, 0x6d, 0xc0, 0xdc, 0x6b, 0xd2, 0x1d, 0x29, 0x17, 0xb7, 0x74, 0x00,
-	0xa5, 0x6c, 0x00, 0xeb, 0xb0, 0x9a, 0xd2, 0x25, 0x4c, 0xfc, 0xa0, 0xc1, 0x95, 0xed, 0x00, 0x5b,
-	0x14, 0x17, 0x05, 0x96, 0xa9, 0xbd, 0x96, 0xaf, 0x7d, 0xae, 0x03, 0x4b, 0xaa, 0x0e, 0xd4, 0x61,
-	0xfe, 0x4c, 0xf4, 0x5b, 0x39, 0xaa, 0x8a, 0xb8, 0xa6, 0x1d, 0xaf, 0x64, 0x1d, 0xff, 0x59, 0x83,
-	0xcd, 0x22, 0x0f, 0xc5, 0xfb, 0xfc, 0xf7, 0x5d, 0x2c, 0xa8, 0x6e, 0xa5, 0xb8, 0xba, 0xbf, 0x6a,
-	0x70, 0x53, 0xed, 0xf6, 0x73, 0x87, 0x9e, 0x98, 0x38, 0x1c, 0xb8, 0x54, 0xa6, 0xb8, 0xc3, 0x1a,
-	0x96, 0x1f, 0xb9, 0xef, 0x8b, 0x5b, 0xb7, 0xf3, 0x23, 0x66, 0x6c, 0x91, 0x4c, 0x29, 0xaf, 0x18,
-	0x75, 0x25, 0xd5, 0xa8, 0x63, 0x7c, 0xa9, 0x19, 0x19, 0xea, 0x65, 0x3e, 0x39, 0x33, 0x54, 0xe3,
-	0x0f, 0x0d, 0x5a, 0x93, 0xc3, 0xf8, 0xef, 0xd6, 0x21, 0xdd, 0x5c, 0xb3, 0xd9, 0xe6, 0xfa, 0x0a,
-	0xd6, 0x1f, 0x60, 0xdf, 0x25, 0x43, 0x19, 0x9d, 0x2c, 0xc9, 0x0e, 0x54, 0xa5, 0x36, 0x39, 0xf7,
-	0x6f, 0xe6, 0x8b, 0x92, 0x91, 0x7a, 0xd2, 0x7d, 0x8d, 0x6d, 0x6a, 0x8e, 0x24, 0x8d, 0x5f, 0x34,
-	0x58, 0x57, 0x32, 0xb1, 0xe1, 0xef, 0x59, 0xfd, 0x78, 0x5b, 0xb2, 0x33, 0x7a, 0x98, 0x58, 0x08,
-	0x4b, 0x5b, 0xef, 0x4f, 0x69, 0xaf, 0x6d, 0xe2, 0x90, 0x0c, 0x02, 0x1b, 0x1f, 0x0d, 0x7d, 0x2c,
-	0xd6, 0xc8, 0x26, 0x40, 0x2f, 0x9e, 0xe2, 0x3c, 0x89, 0x35, 0x33, 0x41, 0x31, 0x6e, 0x41, 0x2d,
-	0x29, 0x85, 0x16, 0xa0, 0xb2, 0xdb, 0xd9, 0xdf, 0xa9, 0xcf, 0xb0, 0xd3, 0xfd, 0xc3, 0x83, 0xc7,
-	0x75, 0x8d, 0x9d, 0x5e, 0xdc, 0x3b, 0xd8, 0xaf, 0x97, 0x0c, 0x17, 0x36, 0xb2, 0x59, 0x12, 0x15,
-	0xcf, 0x2f, 0xb5, 0x4f, 0x92, 0x89, 0x2b, 0xf1, 0xc4, 0x19, 0xc5, 0x81, 0x1c, 0x60, 0x6a, 0xf5,
-	0x2c, 0x6a, 0x25, 0x73, 0xf6, 0x9d, 0x06, 0xf5, 0xec, 0xf7, 0x7c, 0xe3, 0x68, 0x13, 0x1a, 0xa7,
-	0x94, 0x6e, 0x9c, 0x4c, 0x6b, 0x96, 0xf3, 0xad, 0x69, 0x40, 0x2d, 0x10, 0x29, 0x79, 0xcc, 0x0a,
-	0x13, 0x0d, 0xa2, 0x14, 0xcd, 0x38, 0x86, 0xa5, 0x5d, 0xcb, 0x71, 0xa7, 0x18, 0xc6, 0x89, 0x1d,
-	0x54, 0x4a, 0xef, 0x20, 0x03, 0x6a, 0x38, 0x08, 0x48, 0x70, 0x80, 0xc3, 0xd0, 0x7a, 0x85, 0xb9,
-	0x2b, 0x55, 0x33, 0x45, 0x33, 0x56, 0x60, 0x39, 0xb6, 0x23, 0x06, 0x75, 0x1f, 0x56, 0x8e, 0x4e,
-	0x02, 0x72, 0xbe, 0xc3, 0xf8, 0xa6, 0x58, 0x05, 0x5c, 0xdf, 0x36, 0xe9, 0x49, 0x78, 0x31, 0x22,
-	0x4c, 0xe5, 0xc1, 0x1a, 0xa0, 0xa4, 0x39, 0xe1, 0xc4, 0x4f, 0x1a, 0xac, 0x1f, 0x0e, 0xba, 0xae,
-	0x13, 0x9e, 0x08, 0xc6, 0x04, 0xf8, 0xcb, 0xb5, 0xf3, 0x0d, 0x58, 0xb2, 0x49, 0x10, 0x60, 0xd7,
-	0x62, 0x3d, 0xc7, 0xbc, 0x8c, 0x5c, 0xc9, 0x50, 0x59, 0xb3, 0x32, 0xf4, 0x77, 0x44, 0xf6, 0x9d,
-	0x33, 0x2c, 0x4a, 0x93, 0xa0, 0xb0, 0x68, 0xfa, 0x91, 0xb5, 0x18, 0xdd, 0x8c, 0x08, 0x13, 0x1e,
-	0xb8, 0x0e, 0x1b, 0x59, 0x87, 0x45, 0x2c, 0x77, 0x61, 0x83, 0x3d, 0x01, 0xf7, 0x0c, 0x77, 0x3c,
-	0xdb, 0xe9, 0x61, 0x8f, 0x26, 0x36, 0x9e, 0x23, 0x48, 0x89, 0x31, 0x96, 0x20, 0x19, 0x97, 0xe0,
-	0x62, 0x4e, 0x56, 0xa8, 0x5d, 0x81, 0xe5, 0x23, 0xe2, 0x13, 0x97, 0xbc, 0x1a, 0x0a, 0x7d, 0xc6,
-	0x9f, 0x1a, 0xd4, 0x47, 0x34, 0xf1, 0x72, 0x3e, 0x80, 0xf9, 0x6e, 0x40, 0x4e, 0x19, 0xb8, 0x89,
-	0xc6, 0xcb, 0xe5, 0xfc, 0x2b, 0xb9, 0xcf, 0x19, 0x3a, 0xde, 0x31, 0x31, 0x25, 0x33, 0x73, 0xce,
-	0x76, 0x07, 0x21, 0xc5, 0xc1, 0x53, 0xe7, 0x0d, 0x16, 0xcd, 0x95, 0x24, 0xa1, 0x16, 0x2c, 0xfb,
-	0x56, 0x40, 0xf9, 0x43, 0x0f, 0xb7, 0xc9, 0xc0, 0xa3, 0x62, 0x8a, 0x66, 0xc9, 0x0c, 0x6b, 0x07,
-	0xd8, 0x77, 0x1d, 0x9b, 0x97, 0x62, 0xd7, 0xb2, 0x29, 0x09, 0x24, 0xd6, 0xce, 0x7d, 0x60, 0xe5,
-	0x14, 0x1e, 0x26, 0x71, 0x63, 0xd5, 0xcc, 0x50, 0x8d, 0x1f, 0x35, 0x80, 0x91, 0xe7, 0xac, 0x47,
-	0x3d, 0xd2, 0xc3, 0xe2, 0xc9, 0xce, 0x9a, 0xe2, 0xc6, 0x3a, 0xe6, 0x84, 0x84, 0x54, 0xa2, 0x5f,
-	0x76, 0x66, 0x34, 0x9f, 0x04, 0xd2, 0x5f, 0x7e, 0x46, 0x1f, 0x01, 0x8c, 0xfc, 0xd6, 0x2b, 0x3c,
-	0x57, 0xff, 0xcb, 0xe7, 0xea, 0x50, 0xf2, 0x98, 0x09, 0xf6, 0xe4, 0x40, 0x88, 0x9c, 0x95, 0x57,
-	0xe6, 0x65, 0x35, 0x96, 0x61, 0x59, 0x8d, 0xa5, 0x62, 0x4f, 0x93, 0x24, 0xb4, 0x0d, 0x95, 0x80,
-	0xb8, 0x72, 0x36, 0xdf, 0x1e, 0xe3, 0xc0, 0xe8, 0x14, 0x65, 0xc1, 0x24, 0x2e, 0x36, 0xb9, 0xb0,
-	0x71, 0x1b, 0x56, 0x15, 0x1f, 0x11, 0xc0, 0xdc, 0xfe, 0xce, 0xbd, 0x07, 0x3b, 0x66, 0x7d, 0x06,
-	0xd5, 0x60, 0x61, 0xf7, 0xc9, 0xfe, 0xfe, 0x93, 0xe7, 0x3b, 0x66, 0x5d, 0x33, 0x1e, 0xc1, 0xc5,
-	0xcf, 0xfd, 0x9e, 0x25, 0x30, 0x1b, 0x1f, 0x20, 0x6f, 0x3d, 0x79, 0x8c, 0x06, 0xe8, 0x79, 0x65,
-	0xa2, 0x6d, 0x87, 0xb0, 0xfa, 0x14, 0xd3, 0x78, 0xef, 0x4b, 0x23, 0x6a, 0xe0, 0xae, 0x15, 0x02,
-	0xf7, 0xb1, 0x18, 0x14, 0xad, 0xc1, 0xac, 0x4b, 0x6c, 0xcb, 0xe5, 0xf5, 0x5d, 0x30, 0xa3, 0x8b,
-	0xd1, 0x82, 0xb5, 0xb4, 0xe9, 0xa2, 0xdd, 0xb2, 0xf5, 0x17, 0xc0, 0xfc, 0xa7, 0x51, 0xde, 0x91,
-	0x35, 0xfa, 0x79, 0xc5, 0x7e, 0xab, 0xa1, 0xeb, 0xc5, 0xbf, 0xca, 0x12, 0x3f, 0x52, 0x1b, 0x37,
-	0x26, 0xb1, 0x89, 0x7c, 0xcc, 0xdc, 0xd1, 0xd0, 0xb7, 0xb0, 0xa1, 0x06, 0xe8, 0x48, 0x85, 0xcf,
-	0xc6, 0xfd, 0x3a, 0x68, 0xdc, 0x99, 0x5e, 0x40, 0x3a, 0x80, 0xbe, 0x84, 0xc5, 0x04, 0x62, 0x47,
-	0xd7, 0x14, 0x2a, 0x72, 0x3f, 0x0e, 0x1a, 0xd7, 0x27, 0x70, 0xc5, 0xda, 0x59, 0x70, 0x4a, 0x5c,
-	0x87, 0xfe, 0x29, 0xf8, 0x54, 0x06, 0x37, 0x16, 0xb0, 0x1b, 0x33, 0xe8, 0x7b, 0x0d, 0x9a, 0x93,
-	0x70, 0x25, 0xfa, 0x70, 0x5a, 0xc5, 0x39, 0x48, 0xdd, 0xb8, 0xfb, 0x36, 0xa2, 0xb1, 0x77, 0x18,
-	0x96, 0xd2, 0x80, 0x07, 0x29, 0xc0, 0x9f, 0x12, 0x38, 0x36, 0x5a, 0x93, 0x19, 0x63, 0x33, 0x87,
-	0x30, 0x2f, 0xd6, 0x3c, 0x6a, 0xe6, 0xc5, 0xd2, 0x48, 0xa3, 0x71, 0x75, 0x0c, 0x47, 0xac, 0xf1,
-	0x05, 0xc0, 0x68, 0x6d, 0xa3, 0xff, 0xe7, 0x45, 0x72, 0x18, 0xa2, 0x71, 0x6d, 0x3c, 0x53, 0x32,
-	0x27, 0xe9, 0x4d, 0xaa, 0xca, 0x89, 0x12, 0x1c, 0xa8, 0x72, 0x52, 0xb0, 0x94, 0x67, 0xd0, 0x09,
-	0x2c, 0x67, 0x56, 0x2b, 0x52, 0x88, 0xab, 0x37, 0x77, 0xe3, 0x9d, 0x29, 0x38, 0x63, 0x4b, 0x2f,
-	0xa1, 0x96, 0x9c, 0x3b, 0xaa, 0x09, 0xa2, 0x18, 0x89, 0xaa, 0x09, 0xa2, 0x1a, 0x5f, 0xc6, 0x0c,
-	0x7a, 0x0a, 0x0b, 0x72, 0xed, 0x23, 0x45, 0xf5, 0x32, 0x30, 0xa1, 0x61, 0x8c, 0x63, 0x89, 0x95,
-	0x9e, 0x42, 0x3d, 0x3b, 0xc4, 0x91, 0x22, 0xec, 0x82, 0xad, 0xd1, 0x78, 0x77, 0x1a, 0x56, 0x69,
-	0xec, 0xfe, 0x55, 0xb8, 0xe4, 0x90, 0xf6, 0x1b, 0x8c, 0xbb, 0xb8, 0x9d, 0xfa, 0x5b, 0xd0, 0x26,
-	0xee, 0xe1, 0xcc, 0x17, 0x25, 0xbf, 0xdb, 0x9d, 0xe3, 0xf7, 0xf7, 0xfe, 0x0e, 0x00, 0x00, 0xff,
-	0xff, 0xc4, 0xca, 0x2d, 0x2f, 0x37, 0x14, 0x00, 0x00,
+	// 1798 bytes of a gzipped FileDescriptorProto
+	0x1f, 0x8b, 0x08, 0x00, 0x00, 0x00, 0x00, 0x00, 0x02, 0xff, 0xcd, 0x19, 0xdb, 0x6e, 0xdc, 0x44,
+	0x34, 0xde, 0xdd, 0x24, 0x9b, 0x93, 0x34, 0x97, 0x49, 0x9a, 0x6c, 0x97, 0x52, 0x52, 0xd3, 0xcb,
+	0x82, 0xaa, 0x6d, 0x08, 0x08, 0xa9, 0x05, 0x44, 0xdb, 0x34, 0xa1, 0x69, 0x93, 0x36, 0x38, 0x69,
+	0xa3, 0x72, 0xab, 0xbc, 0xde, 0x49, 0xe3, 0xc6, 0xbb, 0xb3, 0xb5, 0xbd, 0x09, 0xa9, 0x84, 0xc4,
+	0x67, 0x20, 0x21, 0x84, 0x04, 0x1f, 0xc0, 0x03, 0xfc, 0x01, 0x3c, 0xf2, 0xce, 0x0b, 0x9f, 0xc0,
+	0x47, 0x30, 0x33, 0x1e, 0x7b, 0xc7, 0xf6, 0x78, 0xd7, 0xa9, 0xa8, 0xc4, 0xd3, 0x7a, 0xce, 0x9c,
+	0xfb, 0x9c, 0x33, 0xe7, 0x9c, 0x59, 0x38, 0xf5, 0xd4, 0xf4, 0xf1, 0x91, 0x79, 0x5c, 0xef, 0xb8,
+	0xc4, 0x27, 0x68, 0x5a, 0x2c, 0x9f, 0xf0, 0xa5, 0x45, 0x1c, 0xfd, 0x2f, 0x0d, 0x66, 0x6f, 0x5a,
+	0xbe, 0x7d, 0x48, 0x37, 0xee, 0x92, 0x86, 0x67, 0xe0, 0xe7, 0x5d, 0xec, 0xf9, 0x08, 0x41, 0xc9,
+	0x3f, 0xee, 0xe0, 0x8a, 0xb6, 0xa8, 0xd5, 0xc6, 0x0c, 0xfe, 0x8d, 0xe6, 0x61, 0xe4, 0x88, 0xb8,
+	0x07, 0xd8, 0xad, 0x14, 0x38, 0x54, 0xac, 0x50, 0x05, 0x46, 0x7d, 0xbb, 0x85, 0x49, 0xd7, 0xaf,
+	0x14, 0xe9, 0x46, 0xd1, 0x08, 0x97, 0xe8, 0x0a, 0xcc, 0xb4, 0xcc, 0xaf, 0x19, 0xdf, 0x1d, 0x12,
+	0x4a, 0xa9, 0x94, 0x28, 0xce, 0xb0, 0x91, 0xde, 0x40, 0x17, 0xe0, 0xd4, 0x1e, 0xf6, 0xad, 0xfd,
+	0x47, 0xa6, 0x6b, 0x9b, 0x0d, 0x07, 0x57, 0x86, 0x17, 0x8b, 0x54, 0x4c, 0x1c, 0x88, 0x2e, 0xc1,
+	0xa4, 0x1b, 0x28, 0xb9, 0x23, 0x84, 0x8e, 0x70, 0xa1, 0x09, 0xa8, 0x7e, 0x17, 0xe6, 0xe2, 0x86,
+	0x79, 0x1d, 0xd2, 0xf6, 0x30, 0x5a, 0x86, 0xd2, 0x33, 0xba, 0xa6, 0x96, 0x15, 0x6b, 0xe3, 0xcb,
+	0xe7, 0xea, 0x49, 0x97, 0xd4, 0x43, 0xaa, 0x26, 0x25, 0x33, 0x38, 0xae, 0xfe, 0x67, 0x11, 0x26,
+	0x64, 0x30, 0x9a, 0x86, 0xe2, 0x01, 0x3e, 0xe6, 0xde, 0x29, 0x1a, 0xec, 0x33, 0x72, 0x58, 0x41,
+	0x72, 0xd8, 0x12, 0xcc, 0x32, 0x17, 0xed, 0x39, 0xe4, 0x68, 0xbd, 0xed, 0xf9, 0x66, 0xdb, 0xc2,
+	0xf7, 0x28, 0x55, 0xe0, 0x24, 0xd5, 0x16, 0x73, 0x41, 0xa3, 0xd3, 0x6a, 0x6f, 0xb9, 0xc4, 0xc2,
+	0x9e, 0xb7, 0xde, 0xe4, 0xce, 0xa2, 0x2e, 0x88, 0x01, 0xd1, 0x87, 0x70, 0x26, 0x24, 0xbe, 0x8d,
+	0xf7, 0xec, 0xb6, 0xed, 0xdb, 0xa4, 0xfd, 0x08, 0xbb, 0x1e, 0xfd, 0xa1, 0x4e, 0x63, 0xee, 0xcd,
+	0x46, 0x40, 0x8b, 0x30, 0x1e, 0x6e, 0x32, 0x6d, 0x02, 0xef, 0xc9, 0x20, 0x74, 0x16, 0xc6, 0xb0,
+	0x83, 0x5b, 0xb8, 0xed, 0x53, 0x0d, 0x46, 0xb9, 0x06, 0x3d, 0x00, 0xaa, 0x03, 0x0a, 0x17, 0x92,
+	0x51, 0x65, 0xce, 0x46, 0xb1, 0xc3, 0x6c, 0xb2, 0xba, 0x9e, 0x4f, 0x5a, 0x77, 0xb0, 0xd9, 0xa4,
+	0x3a, 0x54, 0xc6, 0x02, 0x9b, 0x62, 0x40, 0x29, 0xb8, 0x20, 0x19, 0x5c, 0x2e, 0xf6, 0x5d, 0x1b,
+	0x7b, 0x95, 0x71, 0x6e, 0x59, 0xb8, 0x44, 0x55, 0x28, 0x37, 0x29, 0xb1, 0x63, 0xb7, 0x71, 0x65,
+	0x82, 0x4b, 0x8f, 0xd6, 0xcc, 0x82, 0x43, 0x11, 0x30, 0x5e, 0xe5, 0x54, 0x60, 0x41, 0x04, 0xd0,
+	0x3f, 0x85, 0xd7, 0x57, 0x98, 0x76, 0xce, 0x6e, 0xe2, 0x08, 0xc2, 0xe8, 0xcf, 0x38, 0x38, 0x2d,
+	0xf3, 0xe0, 0xf4, 0x45, 0x38, 0x97, 0xc5, 0x32, 0x88, 0x3b, 0x1a, 0x8f, 0x68, 0x85, 0xb4, 0x3a,
+	0x0e, 0xe6, 0xf1, 0x18, 0x4a, 0xa2, 0x66, 0xd3, 0x08, 0xeb, 0x31, 0x17, 0xab, 0xb8, 0x01, 0x85,
+	0xa4, 0x01, 0xa7, 0x61, 0x36, 0xc6, 0x4b, 0x88, 0xd8, 0x8d, 0x81, 0xa3, 0x5c, 0xbe, 0x01, 0x65,
+	0x91, 0x1b, 0x61, 0xd4, 0x5f, 0x48, 0x47, 0x7d, 0x5a, 0x37, 0x23, 0xa2, 0xd2, 0x1f, 0xc2, 0x5c,
+	0x9c, 0xb1, 0xc8, 0xa5, 0x8f, 0xd8, 0xe1, 0x78, 0x5d, 0x27, 0x62, 0xfc, 0xe6, 0x00, 0xc6, 0x0c,
+	0xd7, 0x08, 0x69, 0xf4, 0x1f, 0x34, 0x98, 0x49, 0x6d, 0xa3, 0x15, 0xa6, 0x6e, 0x20, 0x80, 0x3b,
+	0x65, 0x7c, 0xf9, 0xe2, 0x20, 0xae, 0x1c, 0xf9, 0xce, 0x90, 0x11, 0x11, 0xa2, 0x6b, 0x30, 0x8c,
+	0x5d, 0x97, 0x04, 0x57, 0xd5, 0xf8, 0xf2, 0xf9, 0x34, 0x87, 0x5b, 0xdd, 0x76, 0xd3, 0xc1, 0xeb,
+	0x3e, 0x6e, 0xad, 0x32, 0x44, 0x4a, 0x1d, 0x50, 0xdc, 0x2a, 0xc3, 0x48, 0xa0, 0xa0, 0xfe, 0xa3,
+	0x46, 0x03, 0xc5, 0xc5, 0x94, 0x32, 0x2b, 0x50, 0x12, 0xb9, 0xa4, 0xa5, 0x73, 0x29, 0x95, 0xd1,
+	0x05, 0x55, 0x46, 0xd3, 0x28, 0x3f, 0x14, 0xf9, 0x5b, 0x0c, 0xa2, 0x5c, 0x2c, 0xe3, 0x81, 0x50,
+	0x4a, 0x06, 0xc2, 0x6f, 0x1a, 0x8d, 0xbb, 0x0c, 0x0d, 0x85, 0x27, 0x5e, 0xbd, 0x8a, 0x19, 0xd9,
+	0x52, 0xca, 0xce, 0x96, 0x56, 0x96, 0xd6, 0x51, 0xcc, 0xde, 0x4b, 0xc5, 0xec, 0x55, 0x45, 0x10,
+	0xf4, 0x3b, 0x1b, 0x29, 0x7c, 0x0f, 0xe0, 0x8d, 0x4c, 0x71, 0xc2, 0x4b, 0x77, 0x92, 0x91, 0x5c,
+	0xcf, 0x2f, 0x2e, 0x1e, 0xd4, 0xbf, 0x6a, 0x70, 0xb6, 0x1f, 0x26, 0xba, 0x9f, 0x8a, 0xef, 0xa5,
+	0x13, 0xc8, 0x7a, 0x45, 0xa1, 0xfe, 0x87, 0x06, 0x97, 0xd5, 0x32, 0x77, 0x6d, 0x7f, 0x5f, 0xd8,
+	0x28, 0xce, 0x66, 0x9d, 0xf9, 0x8a, 0x7f, 0x0a, 0xfd, 0x4f, 0x7c, 0x34, 0x21, 0xbd, 0xa2, 0x98,
+	0x17, 0x54, 0xc5, 0x9c, 0xe1, 0xc5, 0xba, 0x00, 0x8f, 0xc6, 0x20, 0xeb, 0x0d, 0x12, 0x50, 0xfd,
+	0x6f, 0x0d, 0x6a, 0x83, 0xcd, 0xf8, 0xff, 0x66, 0x46, 0x3c, 0xdd, 0x87, 0x93, 0xe9, 0xfe, 0x15,
+	0x9c, 0xbe, 0x8d, 0x3b, 0x0e, 0x39, 0x0e, 0xad, 0x0b, 0x8f, 0x64, 0x15, 0xc6, 0x42, 0x6e, 0x61,
+	0x00, 0x5f, 0x4e, 0x1f, 0x4a, 0x82, 0xea, 0x41, 0xe3, 0x19, 0xb6, 0x7c, 0xa3, 0x47, 0xa9, 0xff,
+	0xae, 0xc1, 0x69, 0x25, 0x12, 0x6b, 0x6f, 0xda, 0x66, 0x2b, 0xea, 0x07, 0xd9, 0x37, 0xcd, 0x99,
+	0x5e, 0xcb, 0x33, 0xb9, 0xfc, 0x5e, 0x4e, 0x79, 0x75, 0xea, 0x7f, 0xd2, 0x75, 0x2d, 0xbc, 0x43,
+	0x69, 0x45, 0xa3, 0x74, 0x0e, 0xa0, 0x19, 0xf5, 0x29, 0xdc, 0x89, 0x13, 0x86, 0x04, 0xd1, 0xaf,
+	0xc0, 0x84, 0x4c, 0x85, 0xca, 0x50, 0x5a, 0x5b, 0xdf, 0x58, 0x9d, 0x1e, 0x62, 0x5f, 0xb7, 0xb6,
+	0x36, 0xef, 0x4f, 0x6b, 0xec, 0xeb, 0xf1, 0xcd, 0xcd, 0x8d, 0xe9, 0x82, 0xee, 0xc0, 0x7c, 0xd2,
+	0x4b, 0xe2, 0xc4, 0xd3, 0x6d, 0xdb, 0x0d, 0xd9, 0x71, 0x05, 0xee, 0x38, 0x3d, 0xdb, 0x90, 0x4d,
+	0xec, 0x9b, 0x4d, 0xd3, 0x37, 0x65, 0x9f, 0x7d, 0xa7, 0xc1, 0x74, 0x72, 0x3f, 0x1d, 0x38, 0xda,
+	0x80, 0xc0, 0x29, 0xc4, 0x03, 0x27, 0x11, 0x9a, 0xc5, 0x74, 0x68, 0xea, 0x30, 0xe1, 0x0a, 0x97,
+	0xdc, 0x67, 0x07, 0x13, 0x94, 0x86, 0x18, 0x4c, 0xdf, 0x83, 0xc9, 0x35, 0xd3, 0x76, 0x72, 0xb4,
+	0x1b, 0x52, 0x97, 0x55, 0x88, 0x77, 0x59, 0x54, 0x0e, 0xbf, 0x2b, 0x36, 0xa9, 0xca, 0xe6, 0x53,
+	0xcc, 0x55, 0xa1, 0x72, 0x64, 0x98, 0x3e, 0x03, 0x53, 0x91, 0x1c, 0xd1, 0x8a, 0xb4, 0x60, 0x66,
+	0x67, 0xdf, 0x25, 0x47, 0xfc, 0xc2, 0xc9, 0xd1, 0xec, 0x70, 0x7e, 0x2b, 0xa4, 0x19, 0x36, 0xd0,
+	0x3d, 0x40, 0x2e, 0x0d, 0xe6, 0x00, 0xc9, 0xe2, 0x84, 0x12, 0xbf, 0xd0, 0x70, 0xde, 0xea, 0x36,
+	0x1c, 0xdb, 0xdb, 0x17, 0x88, 0xd2, 0x78, 0x93, 0x0a, 0x67, 0x7a, 0xc7, 0x58, 0xc4, 0x75, 0xb1,
+	0x63, 0xb2, 0x98, 0x63, 0x5a, 0x06, 0xaa, 0x24, 0xa0, 0x2c, 0x58, 0xd9, 0x7c, 0xb3, 0x43, 0x36,
+	0xec, 0x43, 0x2c, 0x8e, 0x46, 0x82, 0x30, 0x6b, 0x5a, 0x81, 0xb4, 0xa8, 0x7f, 0xef, 0x01, 0x06,
+	0x24, 0x78, 0x05, 0xe6, 0x93, 0x0a, 0x0b, 0x5b, 0xbe, 0x4c, 0xee, 0x44, 0xa5, 0x72, 0x25, 0x55,
+	0x2a, 0x15, 0xa9, 0xaf, 0x74, 0x83, 0x54, 0x22, 0x3f, 0x87, 0x85, 0x14, 0x7b, 0x91, 0x34, 0x37,
+	0x92, 0xa5, 0xf1, 0xd2, 0x60, 0xf6, 0xf1, 0x92, 0xf8, 0xb3, 0x06, 0x73, 0x2a, 0x0c, 0xb4, 0x96,
+	0x2a, 0x85, 0xb5, 0x1c, 0xbc, 0x5f, 0x51, 0x09, 0xbc, 0x0e, 0xf3, 0xec, 0x92, 0x71, 0x0e, 0xf1,
+	0x7a, 0xdb, 0xb2, 0x9b, 0x74, 0x8a, 0x91, 0xba, 0x3c, 0x5b, 0x80, 0xa4, 0x42, 0x21, 0x81, 0xf4,
+	0x33, 0xb0, 0x90, 0xa2, 0x15, 0x07, 0x47, 0x93, 0x63, 0x87, 0x74, 0x88, 0x43, 0x9e, 0x1e, 0x0b,
+	0x7e, 0xfa, 0x3f, 0xf4, 0xca, 0xe8, 0xc1, 0x84, 0x0d, 0xef, 0xc3, 0x68, 0xc3, 0x25, 0x07, 0x6c,
+	0x40, 0x0a, 0xdc, 0x7c, 0x56, 0x61, 0x05, 0x47, 0x58, 0x6f, 0xef, 0x11, 0x23, 0x44, 0x66, 0xca,
+	0x59, 0x0e, 0x1d, 0xa5, 0xb0, 0xbb, 0x6d, 0xbf, 0xc0, 0x22, 0x7d, 0x65, 0x10, 0xaa, 0xc1, 0x54,
+	0xc7, 0x74, 0x7d, 0x7e, 0x95, 0x7a, 0x2b, 0xa4, 0xdb, 0xf6, 0x45, 0x9d, 0x4a, 0x82, 0xd9, 0xbc,
+	0xee, 0xd2, 0x9b, 0xd3, 0xb6, 0x78, 0xb0, 0xaf, 0x99, 0x96, 0x4f, 0x7d, 0x2a, 0xe6, 0xf5, 0xd4,
+	0x06, 0x4b, 0x18, 0xa1, 0xa1, 0x3c, 0x7b, 0xd2, 0x84, 0x89, 0x43, 0xd9, 0xf1, 0x43, 0x4f, 0x73,
+	0x76, 0x0b, 0xb4, 0x69, 0x5e, 0x8b, 0x4b, 0x71, 0xd8, 0x10, 0x2b, 0x96, 0x93, 0xfb, 0xc4, 0xf3,
+	0xc3, 0x09, 0x9a, 0x7d, 0x33, 0x58, 0x87, 0xb8, 0xa1, 0xbe, 0xfc, 0x1b, 0x7d, 0x00, 0xd0, 0xd3,
+	0x9b, 0x6a, 0xc7, 0x7c, 0xf5, 0x9a, 0x22, 0x6c, 0x42, 0x1c, 0x43, 0x42, 0x97, 0xaf, 0xdc, 0x40,
+	0xd9, 0x70, 0xc9, 0xb4, 0x1c, 0x8b, 0x68, 0x98, 0x57, 0x23, 0xaa, 0x48, 0x53, 0x19, 0x44, 0xd3,
+	0xae, 0xe4, 0x12, 0x27, 0xac, 0x7e, 0x57, 0xfb, 0x28, 0xd0, 0xfb, 0x0a, 0xbc, 0x60, 0x50, 0x32,
+	0x83, 0x13, 0xeb, 0x57, 0x61, 0x56, 0xb1, 0x89, 0x00, 0x46, 0x36, 0x56, 0x6f, 0xde, 0x5e, 0x35,
+	0x68, 0x85, 0x9b, 0x80, 0xf2, 0xda, 0x83, 0x8d, 0x8d, 0x07, 0xbb, 0x74, 0xa5, 0xe9, 0xf7, 0x60,
+	0xe1, 0x61, 0xa7, 0x69, 0x8a, 0xc1, 0x87, 0x5f, 0xd1, 0x2f, 0x7d, 0xb7, 0xeb, 0x55, 0xa8, 0xa4,
+	0x99, 0x89, 0xb0, 0x3d, 0x86, 0xd9, 0x6d, 0xec, 0x47, 0x9d, 0x55, 0x28, 0x44, 0x3d, 0xfc, 0x6b,
+	0x99, 0xc3, 0x7f, 0xdf, 0x39, 0x16, 0xcd, 0xc1, 0xb0, 0x43, 0x2c, 0xd3, 0xe1, 0xe7, 0x5b, 0x36,
+	0x82, 0x85, 0x5e, 0x83, 0xb9, 0xb8, 0xe8, 0xac, 0xea, 0xad, 0x7f, 0x0c, 0x53, 0x89, 0xc4, 0x66,
+	0x11, 0x63, 0xb1, 0x32, 0x12, 0x9c, 0x18, 0xff, 0x66, 0x1e, 0x10, 0x17, 0xb0, 0x50, 0x21, 0x5c,
+	0xea, 0x3f, 0x69, 0x50, 0xdd, 0xf6, 0x69, 0xc3, 0xd8, 0x92, 0x9f, 0x77, 0xfe, 0xe3, 0x57, 0xb0,
+	0xd4, 0xbb, 0x56, 0x49, 0xf5, 0xae, 0x45, 0xe9, 0x2d, 0x17, 0x37, 0x6d, 0xdf, 0x13, 0x4f, 0x38,
+	0xe1, 0x72, 0xf9, 0x97, 0x49, 0x18, 0xfd, 0x24, 0x88, 0x2e, 0x64, 0xf6, 0x1e, 0xa2, 0x98, 0xa2,
+	0xe8, 0x62, 0xf6, 0xfb, 0x95, 0x64, 0x48, 0xf5, 0xd2, 0x20, 0x34, 0x71, 0xea, 0x43, 0x4b, 0x1a,
+	0xfa, 0x06, 0xe6, 0xd5, 0x4f, 0x19, 0x48, 0xd5, 0xe7, 0xf7, 0x7b, 0x47, 0xa9, 0x2e, 0xe5, 0x27,
+	0x08, 0x15, 0x40, 0x5f, 0xc0, 0xb8, 0x34, 0xdc, 0xa3, 0x5c, 0x4f, 0x15, 0xd5, 0x7c, 0x2f, 0x04,
+	0x94, 0xfb, 0x13, 0x98, 0x90, 0x5f, 0x32, 0x50, 0x7f, 0xc2, 0x7e, 0xfe, 0x53, 0x3d, 0x88, 0x50,
+	0x01, 0xcc, 0x7b, 0xca, 0x01, 0x04, 0x9d, 0x74, 0x4a, 0xaa, 0x9e, 0x78, 0x2c, 0xa4, 0xe2, 0xbf,
+	0xd7, 0x60, 0x71, 0xd0, 0x00, 0x84, 0xae, 0xe5, 0x65, 0x9c, 0x9a, 0xfd, 0xaa, 0xd7, 0x5f, 0x86,
+	0x34, 0xd2, 0xee, 0x5b, 0x0d, 0x16, 0x32, 0x26, 0x71, 0x94, 0xdb, 0xda, 0xe8, 0x50, 0xde, 0x39,
+	0x01, 0x45, 0xa4, 0x02, 0x86, 0xc9, 0xf8, 0x70, 0x80, 0x14, 0xdd, 0x92, 0x72, 0xc8, 0xaa, 0xd6,
+	0x06, 0x23, 0x46, 0x62, 0xb6, 0x60, 0x54, 0xb4, 0xc4, 0x68, 0x31, 0x4d, 0x16, 0xef, 0xca, 0xab,
+	0xe7, 0xfb, 0x60, 0x44, 0x1c, 0x1f, 0x03, 0xf4, 0x5a, 0x5c, 0xa4, 0x78, 0x68, 0x4b, 0xf5, 0xdb,
+	0xd5, 0x0b, 0xfd, 0x91, 0x64, 0x9f, 0xc4, 0x9b, 0x2c, 0x94, 0xb7, 0x83, 0xac, 0xe6, 0xee, 0xd7,
+	0xa8, 0x98, 0x7d, 0x98, 0x4a, 0xf4, 0x98, 0x68, 0x20, 0x79, 0x74, 0xd8, 0x6f, 0xe5, 0xc0, 0x94,
+	0x25, 0x25, 0xda, 0x31, 0x95, 0x24, 0x75, 0xb7, 0xa7, 0x92, 0x94, 0xd5, 0xdb, 0xf1, 0xfb, 0x44,
+	0xae, 0x55, 0xaa, 0xfb, 0x44, 0x51, 0x46, 0x55, 0xf7, 0x89, 0xaa, 0xe4, 0x51, 0x01, 0xcf, 0x69,
+	0x1d, 0x4e, 0x17, 0x28, 0x74, 0x45, 0xc1, 0x20, 0xb3, 0x8e, 0xe5, 0xbf, 0xfe, 0x6b, 0x1a, 0x2d,
+	0x00, 0xdb, 0x50, 0x0e, 0xbb, 0x53, 0xa4, 0x08, 0xcd, 0x44, 0x37, 0x5b, 0xd5, 0xfb, 0xa1, 0x44,
+	0x76, 0x1c, 0xc0, 0x74, 0xb2, 0xd7, 0x40, 0x0a, 0x4f, 0x67, 0x34, 0x37, 0xd5, 0xb7, 0xf3, 0xa0,
+	0x86, 0xc2, 0x6e, 0x9d, 0x87, 0x33, 0x36, 0xa9, 0xbf, 0xc0, 0xb8, 0x81, 0xeb, 0xb1, 0x7f, 0xc0,
+	0x28, 0xdd, 0xd6, 0xd0, 0x67, 0x85, 0x4e, 0xa3, 0x31, 0xc2, 0xd7, 0xef, 0xfe, 0x0b, 0xb6, 0x57,
+	0x41, 0x49, 0x22, 0x1b, 0x00, 0x00,
 }
 
 // Reference imports to suppress errors if they are not otherwise used.
@@ -1972,6 +2614,19 @@ type GatewayClient interface {
 	//the job can be activated again and completed.
 	CompleteJob(ctx context.Context, in *CompleteJobRequest, opts ...grpc.CallOption) (*CompleteJobResponse, error)
 	//
+	//Completes several jobs with a single call. Each job is completed independently, like with
+	//`rpc CompleteJob`, and the response contains the result of each job in the order of the
+	//requests. A failed job does not fail the call; its result contains the error instead. The
+	//jobs may be completed in any order, even if they belong to the same partition.
+	//The requests are only bundled between the client and the gateway, which still sends each of
+	//them to the broker as a separate request; this saves client round trips, but has no
+	//throughput benefit on the broker.
+	//
+	//Errors:
+	//INVALID_ARGUMENT:
+	//- more than 1000 requests given
+	CompleteJobs(ctx context.Context, in *CompleteJobsRequest, opts ...grpc.CallOption) (*CompleteJobsResponse, error)
+	//
 	//Creates and starts an instance of the specified workflow. The workflow definition to use to
 	//create the instance can be specified either using its unique key (as returned by
 	//DeployWorkflow), or using the BPMN process ID and a version. Pass -1 as the version to use the
@@ -1996,6 +2651,20 @@ type GatewayClient interface {
 	//Behaves similarly to `rpc CreateWorkflowInstance`, except that a successful response is received when the workflow completes successfully.
 	CreateWorkflowInstanceWithResult(ctx context.Context, in *CreateWorkflowInstanceWithResultRequest, opts ...grpc.CallOption) (*CreateWorkflowInstanceWithResultResponse, error)
 	//
+	//Creates several workflow instances with a single call. Each instance is created
+	//independently, like with `rpc CreateWorkflowInstance`, and the response contains the result
+	//of each instance in the order of the requests. A failed instance does not fail the call; its
+	//result contains the error instead. The instances may be created in any order, even if they
+	//belong to the same partition.
+	//The requests are only bundled between the client and the gateway, which still sends each of
+	//them to the broker as a separate request; this saves client round trips, but has no
+	//throughput benefit on the broker.
+	//
+	//Errors:
+	//INVALID_ARGUMENT:
+	//- more than 1000 requests given
+	CreateWorkflowInstances(ctx context.Context, in *CreateWorkflowInstancesRequest, opts ...grpc.CallOption) (*CreateWorkflowInstancesResponse, error)
+	//
 	//Deploys one or more workflows to Zeebe. Note that this is an atomic call,
 	//i.e. either all workflows are deployed, or none of them are.
 	//
@@ -2040,6 +2709,20 @@ type GatewayClient interface {
 	//- a message with the same ID was previously published (and is still alive)
 	PublishMessage(ctx context.Context, in *PublishMessageRequest, opts ...grpc.CallOption) (*PublishMessageResponse, error)
 	//
+	//Publishes several messages with a single call. Each message is published independently,
+	//like with `rpc PublishMessage`, and the response contains the result of each message in the
+	//order of the requests. A failed message does not fail the call; its result contains the
+	//error instead. The messages may be published in any order, even if they belong to the same
+	//partition.
+	//The requests are only bundled between the client and the gateway, which still sends each of
+	//them to the broker as a separate request; this saves client round trips, but has no
+	//throughput benefit on the broker.
+	//
+	//Errors:
+	//INVALID_ARGUMENT:
+	//- more than 1000 requests given
+	PublishMessages(ctx context.Context, in *PublishMessagesRequest, opts ...grpc.CallOption) (*PublishMessagesResponse, error)
+	//
 	//Resolves a given incident. This simply marks the incident as resolved; most likely a call to
 	//UpdateJobRetries or SetVariables will be necessary to actually resolve the
 	//problem, following by this call.
@@ -2060,6 +2743,20 @@ type GatewayClient interface {
 	//be JSON documents where the root node is an object.
 	SetVariables(ctx context.Context, in *SetVariablesRequest, opts ...grpc.CallOption) (*SetVariablesResponse, error)
 	//
+	//Opens a stream on which the jobs of the given type are pushed to the worker as soon as
+	//they are activated. The first request registers the worker and its initial credits; the
+	//following requests return credits for the jobs which the worker has handled. Jobs are only
+	//pushed while the worker has credits left. The stream is open until one of the sides
+	//completes it.
+	//
+	//Errors:
+	//INVALID_ARGUMENT:
+	//- type is blank (empty string, null)
+	//- worker is blank (empty string, null)
+	//- timeout less than 1
+	//- credits is less than 0
+	StreamActivatedJobs(ctx context.Context, opts ...grpc.CallOption) (Gateway_StreamActivatedJobsClient, error)
+	//
 	//Obtains the current topology of the cluster the gateway is part of.
 	Topology(ctx context.Context, in *TopologyRequest, opts ...grpc.CallOption) (*TopologyResponse, error)
 	//
@@ -2133,6 +2830,15 @@ func (c *gatewayClient) CompleteJob(ctx context.Context, in *CompleteJobRequest,
 	return out, nil
 }
 
+func (c *gatewayClient) CompleteJobs(ctx context.Context, in *CompleteJobsRequest, opts ...grpc.CallOption) (*CompleteJobsResponse, error) {
+	out := new(CompleteJobsResponse)
+	err := c.cc.Invoke(ctx, "/gateway_protocol.Gateway/CompleteJobs", in, out, opts...)
+	if err != nil {
+		return nil, err
+	}
+	return out, nil
+}
+
 func (c *gatewayClient) CreateWorkflowInstance(ctx context.Context, in *CreateWorkflowInstanceRequest, opts ...grpc.CallOption) (*CreateWorkflowInstanceResponse, error) {
 	out := new(CreateWorkflowInstanceResponse)
 	err := c.cc.Invoke(ctx, "/gateway_protocol.Gateway/CreateWorkflowInstance", in, out, opts...)
@@ -2151,6 +2857,15 @@ func (c *gatewayClient) CreateWorkflowInstanceWithResult(ctx context.Context, in
 	return out, nil
 }
 
+func (c *gatewayClient) CreateWorkflowInstances(ctx context.Context, in *CreateWorkflowInstancesRequest, opts ...grpc.CallOption) (*CreateWorkflowInstancesResponse, error) {
+	out := new(CreateWorkflowInstancesResponse)
+	err := c.cc.Invoke(ctx, "/gateway_protocol.Gateway/CreateWorkflowInstances", in, out, opts...)
+	if err != nil {
+		return nil, err
+	}
+	return out, nil
+}
+
 func (c *gatewayClient) DeployWorkflow(ctx context.Context, in *DeployWorkflowRequest, opts ...grpc.CallOption) (*DeployWorkflowResponse, error) {
 	out := new(DeployWorkflowResponse)
 	err := c.cc.Invoke(ctx, "/gateway_protocol.Gateway/DeployWorkflow", in, out, opts...)
@@ -2187,6 +2902,15 @@ func (c *gatewayClient) PublishMessage(ctx context.Context, in *PublishMessageRe
 	return out, nil
 }
 
+func (c *gatewayClient) PublishMessages(ctx context.Context, in *PublishMessagesRequest, opts ...grpc.CallOption) (*PublishMessagesResponse, error) {
+	out := new(PublishMessagesResponse)
+	err := c.cc.Invoke(ctx, "/gateway_protocol.Gateway/PublishMessages", in, out, opts...)
+	if err != nil {
+		return nil, err
+	}
+	return out, nil
+}
+
 func (c *gatewayClient) ResolveIncident(ctx context.Context, in *ResolveIncidentRequest, opts ...grpc.CallOption) (*ResolveIncidentResponse, error) {
 	out := new(ResolveIncidentResponse)
 	err := c.cc.Invoke(ctx, "/gateway_protocol.Gateway/ResolveIncident", in, out, opts...)
@@ -2205,6 +2929,37 @@ func (c *gatewayClient) SetVariables(ctx context.Context, in *SetVariablesReques
 	return out, nil
 }
 
+func (c *gatewayClient) StreamActivatedJobs(ctx context.Context, opts ...grpc.CallOption) (Gateway_StreamActivatedJobsClient, error) {
+	stream, err := c.cc.NewStream(ctx, &_Gateway_serviceDesc.Streams[1], "/gateway_protocol.Gateway/StreamActivatedJobs", opts...)
+	if err != nil {
+		return nil, err
+	}
+	x := &gatewayStreamActivatedJobsClient{stream}
+	return x, nil
+}
+
+type Gateway_StreamActivatedJobsClient interface {
+	Send(*StreamActivatedJobsRequest) error
+	Recv() (*ActivateJobsResponse, error)
+	grpc.ClientStream
+}
+
+type gatewayStreamActivatedJobsClient struct {
+	grpc.ClientStream
+}
+
+func (x *gatewayStreamActivatedJobsClient) Send(m *StreamActivatedJobsRequest) error {
+	return x.ClientStream.SendMsg(m)
+}
+
+func (x *gatewayStreamActivatedJobsClient) Recv() (*ActivateJobsResponse, error) {
+	m := new(ActivateJobsResponse)
+	if err := x.ClientStream.RecvMsg(m); err != nil {
+		return nil, err
+	}
+	return m, nil
+}
+
 func (c *gatewayClient) Topology(ctx context.Context, in *TopologyRequest, opts ...grpc.CallOption) (*TopologyResponse, error) {
 	out := new(TopologyResponse)
 	err := c.cc.Invoke(ctx, "/gateway_protocol.Gateway/Topology", in, out, opts...)
@@ -2256,6 +3011,19 @@ type GatewayServer interface {
 	//the job can be activated again and completed.
 	CompleteJob(context.Context, *CompleteJobRequest) (*CompleteJobResponse, error)
 	//
+	//Completes several jobs with a single call. Each job is completed independently, like with
+	//`rpc CompleteJob`, and the response contains the result of each job in the order of the
+	//requests. A failed job does not fail the call; its result contains the error instead. The
+	//jobs may be completed in any order, even if they belong to the same partition.
+	//The requests are only bundled between the client and the gateway, which still sends each of
+	//them to the broker as a separate request; this saves client round trips, but has no
+	//throughput benefit on the broker.
+	//
+	//Errors:
+	//INVALID_ARGUMENT:
+	//- more than 1000 requests given
+	CompleteJobs(context.Context, *CompleteJobsRequest) (*CompleteJobsResponse, error)
+	//
 	//Creates and starts an instance of the specified workflow. The workflow definition to use to
 	//create the instance can be specified either using its unique key (as returned by
 	//DeployWorkflow), or using the BPMN process ID and a version. Pass -1 as the version to use the
@@ -2280,6 +3048,20 @@ type GatewayServer interface {
 	//Behaves similarly to `rpc CreateWorkflowInstance`, except that a successful response is received when the workflow completes successfully.
 	CreateWorkflowInstanceWithResult(context.Context, *CreateWorkflowInstanceWithResultRequest) (*CreateWorkflowInstanceWithResultResponse, error)
 	//
+	//Creates several workflow instances with a single call. Each instance is created
+	//independently, like with `rpc CreateWorkflowInstance`, and the response contains the result
+	//of each instance in the order of the requests. A failed instance does not fail the call; its
+	//result contains the error instead. The instances may be created in any order, even if they
+	//belong to the same partition.
+	//The requests are only bundled between the client and the gateway, which still sends each of
+	//them to the broker as a separate request; this saves client round trips, but has no
+	//throughput benefit on the broker.
+	//
+	//Errors:
+	//INVALID_ARGUMENT:
+	//- more than 1000 requests given
+	CreateWorkflowInstances(context.Context, *CreateWorkflowInstancesRequest) (*CreateWorkflowInstancesResponse, error)
+	//
 	//Deploys one or more workflows to Zeebe. Note that this is an atomic call,
 	//i.e. either all workflows are deployed, or none of them are.
 	//
@@ -2324,6 +3106,20 @@ type GatewayServer interface {
 	//- a message with the same ID was previously published (and is still alive)
 	PublishMessage(context.Context, *PublishMessageRequest) (*PublishMessageResponse, error)
 	//
+	//Publishes several messages with a single call. Each message is published independently,
+	//like with `rpc PublishMessage`, and the response contains the result of each message in the
+	//order of the requests. A failed message does not fail the call; its result contains the
+	//error instead. The messages may be published in any order, even if they belong to the same
+	//partition.
+	//The requests are only bundled between the client and the gateway, which still sends each of
+	//them to the broker as a separate request; this saves client round trips, but has no
+	//throughput benefit on the broker.
+	//
+	//Errors:
+	//INVALID_ARGUMENT:
+	//- more than 1000 requests given
+	PublishMessages(context.Context, *PublishMessagesRequest) (*PublishMessagesResponse, error)
+	//
 	//Resolves a given incident. This simply marks the incident as resolved; most likely a call to
 	//UpdateJobRetries or SetVariables will be necessary to actually resolve the
 	//problem, following by this call.
@@ -2344,6 +3140,20 @@ type GatewayServer interface {
 	//be JSON documents where the root node is an object.
 	SetVariables(context.Context, *SetVariablesRequest) (*SetVariablesResponse, error)
 	//
+	//Opens a stream on which the jobs of the given type are pushed to the worker as soon as
+	//they are activated. The first request registers the worker and its initial credits; the
+	//following requests return credits for the jobs which the worker has handled. Jobs are only
+	//pushed while the worker has credits left. The stream is open until one of the sides
+	//completes it.
+	//
+	//Errors:
+	//INVALID_ARGUMENT:
+	//- type is blank (empty string, null)
+	//- worker is blank (empty string, null)
+	//- timeout less than 1
+	//- credits is less than 0
+	StreamActivatedJobs(Gateway_StreamActivatedJobsServer) error
+	//
 	//Obtains the current topology of the cluster the gateway is part of.
 	Topology(context.Context, *TopologyRequest) (*TopologyResponse, error)
 	//
@@ -2372,12 +3182,18 @@ func (*UnimplementedGatewayServer) CancelWorkflowInstance(ctx context.Context, r
 func (*UnimplementedGatewayServer) CompleteJob(ctx context.Context, req *CompleteJobRequest) (*CompleteJobResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method CompleteJob not implemented")
 }
+func (*UnimplementedGatewayServer) CompleteJobs(ctx context.Context, req *CompleteJobsRequest) (*CompleteJobsResponse, error) {
+	return nil, status.Errorf(codes.Unimplemented, "method CompleteJobs not implemented")
+}
 func (*UnimplementedGatewayServer) CreateWorkflowInstance(ctx context.Context, req *CreateWorkflowInstanceRequest) (*CreateWorkflowInstanceResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method CreateWorkflowInstance not implemented")
 }
 func (*UnimplementedGatewayServer) CreateWorkflowInstanceWithResult(ctx context.Context, req *CreateWorkflowInstanceWithResultRequest) (*CreateWorkflowInstanceWithResultResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method CreateWorkflowInstanceWithResult not implemented")
 }
+func (*UnimplementedGatewayServer) CreateWorkflowInstances(ctx context.Context, req *CreateWorkflowInstancesRequest) (*CreateWorkflowInstancesResponse, error) {
+	return nil, status.Errorf(codes.Unimplemented, "method CreateWorkflowInstances not implemented")
+}
 func (*UnimplementedGatewayServer) DeployWorkflow(ctx context.Context, req *DeployWorkflowRequest) (*DeployWorkflowResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method DeployWorkflow not implemented")
 }
@@ -2390,12 +3206,18 @@ func (*UnimplementedGatewayServer) ThrowError(ctx context.Context, req *ThrowErr
 func (*UnimplementedGatewayServer) PublishMessage(ctx context.Context, req *PublishMessageRequest) (*PublishMessageResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method PublishMessage not implemented")
 }
+func (*UnimplementedGatewayServer) PublishMessages(ctx context.Context, req *PublishMessagesRequest) (*PublishMessagesResponse, error) {
+	return nil, status.Errorf(codes.Unimplemented, "method PublishMessages not implemented")
+}
 func (*UnimplementedGatewayServer) ResolveIncident(ctx context.Context, req *ResolveIncidentRequest) (*ResolveIncidentResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method ResolveIncident not implemented")
 }
 func (*UnimplementedGatewayServer) SetVariables(ctx context.Context, req *SetVariablesRequest) (*SetVariablesResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method SetVariables not implemented")
 }
+func (*UnimplementedGatewayServer) StreamActivatedJobs(srv Gateway_StreamActivatedJobsServer) error {
+	return status.Errorf(codes.Unimplemented, "method StreamActivatedJobs not implemented")
+}
 func (*UnimplementedGatewayServer) Topology(ctx context.Context, req *TopologyRequest) (*TopologyResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method Topology not implemented")
 }
@@ -2464,6 +3286,24 @@ func _Gateway_CompleteJob_Handler(srv interface{}, ctx context.Context, dec func
 	return interceptor(ctx, in, info, handler)
 }
 
+func _Gateway_CompleteJobs_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+	in := new(CompleteJobsRequest)
+	if err := dec(in); err != nil {
+		return nil, err
+	}
+	if interceptor == nil {
+		return srv.(GatewayServer).CompleteJobs(ctx, in)
+	}
+	info := &grpc.UnaryServerInfo{
+		Server:     srv,
+		FullMethod: "/gateway_protocol.Gateway/CompleteJobs",
+	}
+	handler := func(ctx context.Context, req interface{}) (interface{}, error) {
+		return srv.(GatewayServer).CompleteJobs(ctx, req.(*CompleteJobsRequest))
+	}
+	return interceptor(ctx, in, info, handler)
+}
+
 func _Gateway_CreateWorkflowInstance_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
 	in := new(CreateWorkflowInstanceRequest)
 	if err := dec(in); err != nil {
@@ -2500,6 +3340,24 @@ func _Gateway_CreateWorkflowInstanceWithResult_Handler(srv interface{}, ctx cont
 	return interceptor(ctx, in, info, handler)
 }
 
+func _Gateway_CreateWorkflowInstances_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+	in := new(CreateWorkflowInstancesRequest)
+	if err := dec(in); err != nil {
+		return nil, err
+	}
+	if interceptor == nil {
+		return srv.(GatewayServer).CreateWorkflowInstances(ctx, in)
+	}
+	info := &grpc.UnaryServerInfo{
+		Server:     srv,
+		FullMethod: "/gateway_protocol.Gateway/CreateWorkflowInstances",
+	}
+	handler := func(ctx context.Context, req interface{}) (interface{}, error) {
+		return srv.(GatewayServer).CreateWorkflowInstances(ctx, req.(*CreateWorkflowInstancesRequest))
+	}
+	return interceptor(ctx, in, info, handler)
+}
+
 func _Gateway_DeployWorkflow_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
 	in := new(DeployWorkflowRequest)
 	if err := dec(in); err != nil {
@@ -2572,6 +3430,24 @@ func _Gateway_PublishMessage_Handler(srv interface{}, ctx context.Context, dec f
 	return interceptor(ctx, in, info, handler)
 }
 
+func _Gateway_PublishMessages_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+	in := new(PublishMessagesRequest)
+	if err := dec(in); err != nil {
+		return nil, err
+	}
+	if interceptor == nil {
+		return srv.(GatewayServer).PublishMessages(ctx, in)
+	}
+	info := &grpc.UnaryServerInfo{
+		Server:     srv,
+		FullMethod: "/gateway_protocol.Gateway/PublishMessages",
+	}
+	handler := func(ctx context.Context, req interface{}) (interface{}, error) {
+		return srv.(GatewayServer).PublishMessages(ctx, req.(*PublishMessagesRequest))
+	}
+	return interceptor(ctx, in, info, handler)
+}
+
 func _Gateway_ResolveIncident_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
 	in := new(ResolveIncidentRequest)
 	if err := dec(in); err != nil {
@@ -2608,6 +3484,32 @@ func _Gateway_SetVariables_Handler(srv interface{}, ctx context.Context, dec fun
 	return interceptor(ctx, in, info, handler)
 }
 
+func _Gateway_StreamActivatedJobs_Handler(srv interface{}, stream grpc.ServerStream) error {
+	return srv.(GatewayServer).StreamActivatedJobs(&gatewayStreamActivatedJobsServer{stream})
+}
+
+type Gateway_StreamActivatedJobsServer interface {
+	Send(*ActivateJobsResponse) error
+	Recv() (*StreamActivatedJobsRequest, error)
+	grpc.ServerStream
+}
+
+type gatewayStreamActivatedJobsServer struct {
+	grpc.ServerStream
+}
+
+func (x *gatewayStreamActivatedJobsServer) Send(m *ActivateJobsResponse) error {
+	return x.ServerStream.SendMsg(m)
+}
+
+func (x *gatewayStreamActivatedJobsServer) Recv() (*StreamActivatedJobsRequest, error) {
+	m := new(StreamActivatedJobsRequest)
+	if err := x.ServerStream.RecvMsg(m); err != nil {
+		return nil, err
+	}
+	return m, nil
+}
+
 func _Gateway_Topology_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
 	in := new(TopologyRequest)
 	if err := dec(in); err != nil {
@@ -2656,6 +3558,10 @@ var _Gateway_serviceDesc = grpc.ServiceDesc{
 			MethodName: "CompleteJob",
 			Handler:    _Gateway_CompleteJob_Handler,
 		},
+		{
+			MethodName: "CompleteJobs",
+			Handler:    _Gateway_CompleteJobs_Handler,
+		},
 		{
 			MethodName: "CreateWorkflowInstance",
 			Handler:    _Gateway_CreateWorkflowInstance_Handler,
@@ -2664,6 +3570,10 @@ var _Gateway_serviceDesc = grpc.ServiceDesc{
 			MethodName: "CreateWorkflowInstanceWithResult",
 			Handler:    _Gateway_CreateWorkflowInstanceWithResult_Handler,
 		},
+		{
+			MethodName: "CreateWorkflowInstances",
+			Handler:    _Gateway_CreateWorkflowInstances_Handler,
+		},
 		{
 			MethodName: "DeployWorkflow",
 			Handler:    _Gateway_DeployWorkflow_Handler,
@@ -2680,6 +3590,10 @@ var _Gateway_serviceDesc = grpc.ServiceDesc{
 			MethodName: "PublishMessage",
 			Handler:    _Gateway_PublishMessage_Handler,
 		},
+		{
+			MethodName: "PublishMessages",
+			Handler:    _Gateway_PublishMessages_Handler,
+		},
 		{
 			MethodName: "ResolveIncident",
 			Handler:    _Gateway_ResolveIncident_Handler,
@@ -2703,6 +3617,12 @@ var _Gateway_serviceDesc = grpc.ServiceDesc{
 			Handler:       _Gateway_ActivateJobs_Handler,
 			ServerStreams: true,
 		},
+		{
+			StreamName:    "StreamActivatedJobs",
+			Handler:       _Gateway_StreamActivatedJobs_Handler,
+			ServerStreams: true,
+			ClientStreams: true,
+		},
 	},
 	Metadata: "gateway.proto",
 }
@@ -16,14 +16,21 @@
 package io.zeebe.client;
 
 import io.zeebe.client.api.command.ActivateJobsCommandStep1;
+import io.zeebe.client.api.command.BundleCommandStep1;
 import io.zeebe.client.api.command.CancelWorkflowInstanceCommandStep1;
+import io.zeebe.client.api.command.CompleteJobCommandStep1;
 import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1;
+import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1.CreateWorkflowInstanceCommandStep3;
 import io.zeebe.client.api.command.DeployWorkflowCommandStep1;
 import io.zeebe.client.api.command.PublishMessageCommandStep1;
+import io.zeebe.client.api.command.PublishMessageCommandStep1.PublishMessageCommandStep3;
 import io.zeebe.client.api.command.ResolveIncidentCommandStep1;
 import io.zeebe.client.api.command.SetVariablesCommandStep1;
 import io.zeebe.client.api.command.TopologyRequestStep1;
 import io.zeebe.client.api.command.UpdateRetriesJobCommandStep1;
+import io.zeebe.client.api.response.CompleteJobResponse;
+import io.zeebe.client.api.response.PublishMessageResponse;
+import io.zeebe.client.api.response.WorkflowInstanceEvent;
 import io.zeebe.client.api.worker.JobClient;
 import io.zeebe.client.api.worker.JobWorkerBuilderStep1;
 import io.zeebe.client.impl.ZeebeClientBuilderImpl;
@@ -109,6 +116,24 @@ public interface ZeebeClient extends AutoCloseable, JobClient {
    */
   CreateWorkflowInstanceCommandStep1 newCreateInstanceCommand();
 
+  /**
+   * Command to create/start several workflow instances at once. The commands of the bundle are sent
+   * to the gateway in a single request, but the gateway forwards them to the broker one by one, and
+   * each of them succeeds or fails on its own.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newCreateInstancesCommand()
+   *  .add(zeebeClient.newCreateInstanceCommand().bpmnProcessId("order").latestVersion())
+   *  .add(zeebeClient.newCreateInstanceCommand().bpmnProcessId("payment").latestVersion())
+   *  .send();
+   * </pre>
+   *
+   * @return a builder for the command
+   */
+  BundleCommandStep1<CreateWorkflowInstanceCommandStep3, WorkflowInstanceEvent>
+      newCreateInstancesCommand();
+
   /**
    * Command to cancel a workflow instance.
    *
@@ -155,6 +180,24 @@ public interface ZeebeClient extends AutoCloseable, JobClient {
    */
   PublishMessageCommandStep1 newPublishMessageCommand();
 
+  /**
+   * Command to publish several messages at once. The commands of the bundle are sent to the gateway
+   * in a single request, but the gateway forwards them to the broker one by one, and each of them
+   * succeeds or fails on its own.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newPublishMessagesCommand()
+   *  .add(zeebeClient.newPublishMessageCommand().messageName("order canceled").correlationKey("1"))
+   *  .add(zeebeClient.newPublishMessageCommand().messageName("order canceled").correlationKey("2"))
+   *  .send();
+   * </pre>
+   *
+   * @return a builder for the command
+   */
+  BundleCommandStep1<PublishMessageCommandStep3, PublishMessageResponse>
+      newPublishMessagesCommand();
+
   /**
    * Command to resolve an existing incident.
    *
@@ -252,4 +295,21 @@ public interface ZeebeClient extends AutoCloseable, JobClient {
    * @return a builder for the command
    */
   ActivateJobsCommandStep1 newActivateJobsCommand();
+
+  /**
+   * Command to complete several jobs at once. The commands of the bundle are sent to the gateway in
+   * a single request, but the gateway forwards them to the broker one by one, and each of them
+   * succeeds or fails on its own.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newCompleteJobsCommand()
+   *  .add(zeebeClient.newCompleteCommand(jobKey1).variables(json1))
+   *  .add(zeebeClient.newCompleteCommand(jobKey2).variables(json2))
+   *  .send();
+   * </pre>
+   *
+   * @return a builder for the command
+   */
+  BundleCommandStep1<CompleteJobCommandStep1, CompleteJobResponse> newCompleteJobsCommand();
 }
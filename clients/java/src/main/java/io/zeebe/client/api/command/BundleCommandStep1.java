@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.command;
+
+import io.zeebe.client.api.response.BundleResponse;
+
+/**
+ * Bundles several commands of the same kind into a single request to the gateway. This saves round
+ * trips between the client and the gateway, but the gateway still sends each command to the broker
+ * as a separate request, so a bundle is not processed faster by the broker than the same commands
+ * sent concurrently on their own.
+ */
+public interface BundleCommandStep1<CommandT, ResponseT>
+    extends FinalCommandStep<BundleResponse<ResponseT>> {
+
+  /**
+   * Adds a command to the bundle. The command is sent as part of the bundle and must not be sent on
+   * its own afterwards.
+   *
+   * @param command the command to add, created by the same client
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  BundleCommandStep1<CommandT, ResponseT> add(CommandT command);
+}
@@ -152,6 +152,21 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 requestTimeout(Duration requestTimeout);
 
+    /**
+     * Set whether the worker receives its jobs over a stream instead of polling for them.
+     *
+     * <p>If enabled, the worker opens a single stream to the gateway, on which the jobs are pushed
+     * as soon as they are activated. The worker receives at most {@link #maxJobsActive(int)} jobs
+     * at the same time. If the stream is closed, it is opened again after the {@link
+     * #pollInterval(Duration)}.
+     *
+     * <p>By default, the worker polls for jobs.
+     *
+     * @param streamEnabled true to receive the jobs over a stream
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 streamEnabled(boolean streamEnabled);
+
     /**
      * Set a list of variable names which should be fetch on job activation.
      *
@@ -26,26 +26,35 @@ import io.zeebe.client.CredentialsProvider;
 import io.zeebe.client.ZeebeClient;
 import io.zeebe.client.ZeebeClientConfiguration;
 import io.zeebe.client.api.command.ActivateJobsCommandStep1;
+import io.zeebe.client.api.command.BundleCommandStep1;
 import io.zeebe.client.api.command.CancelWorkflowInstanceCommandStep1;
 import io.zeebe.client.api.command.ClientException;
 import io.zeebe.client.api.command.CompleteJobCommandStep1;
 import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1;
+import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1.CreateWorkflowInstanceCommandStep3;
 import io.zeebe.client.api.command.DeployWorkflowCommandStep1;
 import io.zeebe.client.api.command.FailJobCommandStep1;
 import io.zeebe.client.api.command.PublishMessageCommandStep1;
+import io.zeebe.client.api.command.PublishMessageCommandStep1.PublishMessageCommandStep3;
 import io.zeebe.client.api.command.ResolveIncidentCommandStep1;
 import io.zeebe.client.api.command.SetVariablesCommandStep1;
 import io.zeebe.client.api.command.ThrowErrorCommandStep1;
 import io.zeebe.client.api.command.TopologyRequestStep1;
 import io.zeebe.client.api.command.UpdateRetriesJobCommandStep1;
+import io.zeebe.client.api.response.CompleteJobResponse;
+import io.zeebe.client.api.response.PublishMessageResponse;
+import io.zeebe.client.api.response.WorkflowInstanceEvent;
 import io.zeebe.client.api.worker.JobClient;
 import io.zeebe.client.api.worker.JobWorkerBuilderStep1;
 import io.zeebe.client.impl.command.ActivateJobsCommandImpl;
 import io.zeebe.client.impl.command.CancelWorkflowInstanceCommandImpl;
+import io.zeebe.client.impl.command.CompleteJobsCommandImpl;
 import io.zeebe.client.impl.command.CreateWorkflowInstanceCommandImpl;
+import io.zeebe.client.impl.command.CreateWorkflowInstancesCommandImpl;
 import io.zeebe.client.impl.command.DeployWorkflowCommandImpl;
 import io.zeebe.client.impl.command.JobUpdateRetriesCommandImpl;
 import io.zeebe.client.impl.command.PublishMessageCommandImpl;
+import io.zeebe.client.impl.command.PublishMessagesCommandImpl;
 import io.zeebe.client.impl.command.ResolveIncidentCommandImpl;
 import io.zeebe.client.impl.command.SetVariablesCommandImpl;
 import io.zeebe.client.impl.command.TopologyRequestImpl;
@@ -241,6 +250,13 @@ public final class ZeebeClientImpl implements ZeebeClient {
         credentialsProvider::shouldRetryRequest);
   }
 
+  @Override
+  public BundleCommandStep1<CreateWorkflowInstanceCommandStep3, WorkflowInstanceEvent>
+      newCreateInstancesCommand() {
+    return new CreateWorkflowInstancesCommandImpl(
+        asyncStub, config.getDefaultRequestTimeout(), credentialsProvider::shouldRetryRequest);
+  }
+
   @Override
   public CancelWorkflowInstanceCommandStep1 newCancelInstanceCommand(
       final long workflowInstanceKey) {
@@ -267,6 +283,13 @@ public final class ZeebeClientImpl implements ZeebeClient {
         asyncStub, config, objectMapper, credentialsProvider::shouldRetryRequest);
   }
 
+  @Override
+  public BundleCommandStep1<PublishMessageCommandStep3, PublishMessageResponse>
+      newPublishMessagesCommand() {
+    return new PublishMessagesCommandImpl(
+        asyncStub, config.getDefaultRequestTimeout(), credentialsProvider::shouldRetryRequest);
+  }
+
   @Override
   public ResolveIncidentCommandStep1 newResolveIncidentCommand(final long incidentKey) {
     return new ResolveIncidentCommandImpl(
@@ -303,6 +326,12 @@ public final class ZeebeClientImpl implements ZeebeClient {
         asyncStub, config, objectMapper, credentialsProvider::shouldRetryRequest);
   }
 
+  @Override
+  public BundleCommandStep1<CompleteJobCommandStep1, CompleteJobResponse> newCompleteJobsCommand() {
+    return new CompleteJobsCommandImpl(
+        asyncStub, config.getDefaultRequestTimeout(), credentialsProvider::shouldRetryRequest);
+  }
+
   private JobClient newJobClient() {
     return new JobClientImpl(
         asyncStub, config, objectMapper, credentialsProvider::shouldRetryRequest);
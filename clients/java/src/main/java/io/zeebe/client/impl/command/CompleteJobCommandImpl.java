@@ -58,6 +58,10 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
     return this;
   }
 
+  CompleteJobRequest toRequest() {
+    return builder.build();
+  }
+
   @Override
   public ZeebeFuture<CompleteJobResponse> send() {
     final CompleteJobRequest request = builder.build();
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.command;
+
+import io.grpc.stub.StreamObserver;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.BundleCommandStep1;
+import io.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.zeebe.client.api.command.FinalCommandStep;
+import io.zeebe.client.api.response.BundleItemResult;
+import io.zeebe.client.api.response.BundleResponse;
+import io.zeebe.client.api.response.CompleteJobResponse;
+import io.zeebe.client.impl.RetriableClientFutureImpl;
+import io.zeebe.client.impl.response.BundleItemResultImpl;
+import io.zeebe.client.impl.response.BundleResponseImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public final class CompleteJobsCommandImpl
+    implements BundleCommandStep1<CompleteJobCommandStep1, CompleteJobResponse> {
+
+  private final GatewayStub asyncStub;
+  private final CompleteJobsRequest.Builder builder;
+  private final Predicate<Throwable> retryPredicate;
+  private Duration requestTimeout;
+
+  public CompleteJobsCommandImpl(
+      final GatewayStub asyncStub,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.requestTimeout = requestTimeout;
+    this.retryPredicate = retryPredicate;
+    builder = CompleteJobsRequest.newBuilder();
+  }
+
+  @Override
+  public BundleCommandStep1<CompleteJobCommandStep1, CompleteJobResponse> add(
+      final CompleteJobCommandStep1 command) {
+    ArgumentUtil.ensureNotNull("command", command);
+    builder.addRequests(((CompleteJobCommandImpl) command).toRequest());
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<BundleResponse<CompleteJobResponse>> requestTimeout(
+      final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<BundleResponse<CompleteJobResponse>> send() {
+    final CompleteJobsRequest request = builder.build();
+
+    final RetriableClientFutureImpl<BundleResponse<CompleteJobResponse>, CompleteJobsResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                CompleteJobsCommandImpl::toResponse,
+                retryPredicate,
+                streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private void send(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJobs(request, streamObserver);
+  }
+
+  private static BundleResponse<CompleteJobResponse> toResponse(
+      final CompleteJobsResponse response) {
+    final List<BundleItemResult<CompleteJobResponse>> results =
+        response.getResultsList().stream()
+            .map(CompleteJobsCommandImpl::toResult)
+            .collect(Collectors.toList());
+    return new BundleResponseImpl<>(results);
+  }
+
+  private static BundleItemResult<CompleteJobResponse> toResult(final CompleteJobResult result) {
+    if (result.hasError()) {
+      return BundleItemResultImpl.failure(result.getError());
+    }
+
+    return BundleItemResultImpl.success(null);
+  }
+}
@@ -117,6 +117,10 @@ public final class CreateWorkflowInstanceCommandImpl
     return this;
   }
 
+  CreateWorkflowInstanceRequest toRequest() {
+    return builder.build();
+  }
+
   @Override
   public ZeebeFuture<WorkflowInstanceEvent> send() {
     final CreateWorkflowInstanceRequest request = builder.build();
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.command;
+
+import io.grpc.stub.StreamObserver;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.BundleCommandStep1;
+import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1.CreateWorkflowInstanceCommandStep3;
+import io.zeebe.client.api.command.FinalCommandStep;
+import io.zeebe.client.api.response.BundleItemResult;
+import io.zeebe.client.api.response.BundleResponse;
+import io.zeebe.client.api.response.WorkflowInstanceEvent;
+import io.zeebe.client.impl.RetriableClientFutureImpl;
+import io.zeebe.client.impl.response.BundleItemResultImpl;
+import io.zeebe.client.impl.response.BundleResponseImpl;
+import io.zeebe.client.impl.response.CreateWorkflowInstanceResponseImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public final class CreateWorkflowInstancesCommandImpl
+    implements BundleCommandStep1<CreateWorkflowInstanceCommandStep3, WorkflowInstanceEvent> {
+
+  private final GatewayStub asyncStub;
+  private final CreateWorkflowInstancesRequest.Builder builder;
+  private final Predicate<Throwable> retryPredicate;
+  private Duration requestTimeout;
+
+  public CreateWorkflowInstancesCommandImpl(
+      final GatewayStub asyncStub,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.requestTimeout = requestTimeout;
+    this.retryPredicate = retryPredicate;
+    builder = CreateWorkflowInstancesRequest.newBuilder();
+  }
+
+  @Override
+  public BundleCommandStep1<CreateWorkflowInstanceCommandStep3, WorkflowInstanceEvent> add(
+      final CreateWorkflowInstanceCommandStep3 command) {
+    ArgumentUtil.ensureNotNull("command", command);
+    builder.addRequests(((CreateWorkflowInstanceCommandImpl) command).toRequest());
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<BundleResponse<WorkflowInstanceEvent>> requestTimeout(
+      final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<BundleResponse<WorkflowInstanceEvent>> send() {
+    final CreateWorkflowInstancesRequest request = builder.build();
+
+    final RetriableClientFutureImpl<
+            BundleResponse<WorkflowInstanceEvent>, CreateWorkflowInstancesResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                CreateWorkflowInstancesCommandImpl::toResponse,
+                retryPredicate,
+                streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private void send(
+      final CreateWorkflowInstancesRequest request,
+      final StreamObserver<CreateWorkflowInstancesResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .createWorkflowInstances(request, streamObserver);
+  }
+
+  private static BundleResponse<WorkflowInstanceEvent> toResponse(
+      final CreateWorkflowInstancesResponse response) {
+    final List<BundleItemResult<WorkflowInstanceEvent>> results =
+        response.getResultsList().stream()
+            .map(CreateWorkflowInstancesCommandImpl::toResult)
+            .collect(Collectors.toList());
+    return new BundleResponseImpl<>(results);
+  }
+
+  private static BundleItemResult<WorkflowInstanceEvent> toResult(
+      final CreateWorkflowInstanceResult result) {
+    if (result.hasError()) {
+      return BundleItemResultImpl.failure(result.getError());
+    }
+
+    return BundleItemResultImpl.success(
+        new CreateWorkflowInstanceResponseImpl(result.getResponse()));
+  }
+}
@@ -89,6 +89,10 @@ public final class PublishMessageCommandImpl extends CommandWithVariables<Publis
     return this;
   }
 
+  PublishMessageRequest toRequest() {
+    return builder.build();
+  }
+
   @Override
   public ZeebeFuture<PublishMessageResponse> send() {
     final PublishMessageRequest request = builder.build();
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.command;
+
+import io.grpc.stub.StreamObserver;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.BundleCommandStep1;
+import io.zeebe.client.api.command.FinalCommandStep;
+import io.zeebe.client.api.command.PublishMessageCommandStep1.PublishMessageCommandStep3;
+import io.zeebe.client.api.response.BundleItemResult;
+import io.zeebe.client.api.response.BundleResponse;
+import io.zeebe.client.api.response.PublishMessageResponse;
+import io.zeebe.client.impl.RetriableClientFutureImpl;
+import io.zeebe.client.impl.response.BundleItemResultImpl;
+import io.zeebe.client.impl.response.BundleResponseImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public final class PublishMessagesCommandImpl
+    implements BundleCommandStep1<PublishMessageCommandStep3, PublishMessageResponse> {
+
+  private final GatewayStub asyncStub;
+  private final PublishMessagesRequest.Builder builder;
+  private final Predicate<Throwable> retryPredicate;
+  private Duration requestTimeout;
+
+  public PublishMessagesCommandImpl(
+      final GatewayStub asyncStub,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate) {
+    this.asyncStub = asyncStub;
+    this.requestTimeout = requestTimeout;
+    this.retryPredicate = retryPredicate;
+    builder = PublishMessagesRequest.newBuilder();
+  }
+
+  @Override
+  public BundleCommandStep1<PublishMessageCommandStep3, PublishMessageResponse> add(
+      final PublishMessageCommandStep3 command) {
+    ArgumentUtil.ensureNotNull("command", command);
+    builder.addRequests(((PublishMessageCommandImpl) command).toRequest());
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<BundleResponse<PublishMessageResponse>> requestTimeout(
+      final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<BundleResponse<PublishMessageResponse>> send() {
+    final PublishMessagesRequest request = builder.build();
+
+    final RetriableClientFutureImpl<BundleResponse<PublishMessageResponse>, PublishMessagesResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                PublishMessagesCommandImpl::toResponse,
+                retryPredicate,
+                streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private void send(
+      final PublishMessagesRequest request,
+      final StreamObserver<PublishMessagesResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .publishMessages(request, streamObserver);
+  }
+
+  private static BundleResponse<PublishMessageResponse> toResponse(
+      final PublishMessagesResponse response) {
+    final List<BundleItemResult<PublishMessageResponse>> results =
+        response.getResultsList().stream()
+            .map(PublishMessagesCommandImpl::toResult)
+            .collect(Collectors.toList());
+    return new BundleResponseImpl<>(results);
+  }
+
+  private static BundleItemResult<PublishMessageResponse> toResult(
+      final PublishMessageResult result) {
+    if (result.hasError()) {
+      return BundleItemResultImpl.failure(result.getError());
+    }
+
+    return BundleItemResultImpl.success(null);
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.response;
+
+import io.zeebe.client.api.response.BundleItemResult;
+import io.zeebe.client.api.response.BundleResponse;
+import java.util.List;
+
+public final class BundleResponseImpl<T> implements BundleResponse<T> {
+
+  private final List<BundleItemResult<T>> results;
+
+  public BundleResponseImpl(final List<BundleItemResult<T>> results) {
+    this.results = results;
+  }
+
+  @Override
+  public List<BundleItemResult<T>> getResults() {
+    return results;
+  }
+
+  @Override
+  public String toString() {
+    return "BundleResponseImpl{" + "results=" + results + '}';
+  }
+}
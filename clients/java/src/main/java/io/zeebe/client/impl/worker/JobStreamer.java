@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.worker;
+
+import io.grpc.stub.StreamObserver;
+import io.zeebe.client.api.response.ActivatedJob;
+import io.zeebe.client.impl.Loggers;
+import io.zeebe.client.impl.ZeebeObjectMapper;
+import io.zeebe.client.impl.response.ActivatedJobImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+
+/**
+ * Receives the jobs of a worker over a single stream, instead of polling for them. The gateway
+ * pushes jobs as long as the worker has credits left; every pushed job uses one credit, which is
+ * returned to the gateway after the job is handled. Credits are returned in batches to reduce the
+ * number of messages.
+ */
+public final class JobStreamer {
+
+  private static final Logger LOG = Loggers.JOB_WORKER_LOGGER;
+
+  private final GatewayStub gatewayStub;
+  private final StreamActivatedJobsRequest registration;
+  private final ZeebeObjectMapper objectMapper;
+  private final int maxJobsActive;
+  private final int creditsThreshold;
+
+  private Consumer<ActivatedJob> jobConsumer;
+  private JobStream currentStream;
+  private int activeJobs;
+  private int pendingCredits;
+
+  public JobStreamer(
+      final GatewayStub gatewayStub,
+      final StreamActivatedJobsRequest registration,
+      final ZeebeObjectMapper objectMapper,
+      final int maxJobsActive,
+      final int creditsThreshold) {
+    this.gatewayStub = gatewayStub;
+    this.registration = registration;
+    this.objectMapper = objectMapper;
+    this.maxJobsActive = maxJobsActive;
+    this.creditsThreshold = Math.max(1, creditsThreshold);
+  }
+
+  public synchronized boolean isOpen() {
+    return currentStream != null;
+  }
+
+  /**
+   * Opens a new stream if none is open. The initial credits are the jobs which the worker can
+   * handle in addition to the ones it is still working on.
+   *
+   * @param jobConsumer consumes the pushed jobs
+   */
+  public synchronized void open(final Consumer<ActivatedJob> jobConsumer) {
+    if (currentStream != null) {
+      return;
+    }
+
+    this.jobConsumer = jobConsumer;
+    pendingCredits = 0;
+
+    final int credits = maxJobsActive - activeJobs;
+    LOG.trace(
+        "Open job stream with {} credits for worker {} and job type {}",
+        credits,
+        registration.getWorker(),
+        registration.getType());
+
+    final JobStream stream = new JobStream();
+    currentStream = stream;
+    stream.requestObserver = gatewayStub.streamActivatedJobs(stream);
+    stream.requestObserver.onNext(registration.toBuilder().setCredits(credits).build());
+  }
+
+  /** Returns the credit of a handled job to the gateway. */
+  public synchronized void jobHandled() {
+    activeJobs -= 1;
+
+    if (currentStream != null) {
+      pendingCredits += 1;
+      if (pendingCredits >= creditsThreshold) {
+        currentStream.requestObserver.onNext(
+            StreamActivatedJobsRequest.newBuilder().setCredits(pendingCredits).build());
+        pendingCredits = 0;
+      }
+    }
+  }
+
+  public synchronized void close() {
+    if (currentStream != null) {
+      currentStream.requestObserver.onCompleted();
+      currentStream = null;
+    }
+  }
+
+  private synchronized void onJobs(final ActivateJobsResponse response) {
+    activeJobs += response.getJobsCount();
+    response.getJobsList().stream()
+        .map(job -> new ActivatedJobImpl(objectMapper, job))
+        .forEach(jobConsumer);
+  }
+
+  private synchronized void onStreamClosed(final JobStream stream, final Throwable error) {
+    if (currentStream == stream) {
+      currentStream = null;
+
+      if (error != null) {
+        LOG.warn(
+            "Job stream of worker {} and job type {} failed",
+            registration.getWorker(),
+            registration.getType(),
+            error);
+      }
+    }
+  }
+
+  private final class JobStream implements StreamObserver<ActivateJobsResponse> {
+
+    private StreamObserver<StreamActivatedJobsRequest> requestObserver;
+
+    @Override
+    public void onNext(final ActivateJobsResponse response) {
+      onJobs(response);
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      onStreamClosed(this, error);
+    }
+
+    @Override
+    public void onCompleted() {
+      onStreamClosed(this, null);
+    }
+  }
+}
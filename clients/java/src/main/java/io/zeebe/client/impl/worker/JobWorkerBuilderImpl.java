@@ -30,6 +30,7 @@ import io.zeebe.client.impl.ZeebeObjectMapper;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest.Builder;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import java.io.Closeable;
 import java.time.Duration;
 import java.util.Arrays;
@@ -56,6 +57,7 @@ public final class JobWorkerBuilderImpl
   private Duration pollInterval;
   private Duration requestTimeout;
   private List<String> fetchVariables;
+  private boolean streamEnabled;
 
   public JobWorkerBuilderImpl(
       final ZeebeClientConfiguration configuration,
@@ -125,6 +127,12 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 streamEnabled(final boolean streamEnabled) {
+    this.streamEnabled = streamEnabled;
+    return this;
+  }
+
   @Override
   public JobWorkerBuilderStep3 fetchVariables(final List<String> fetchVariables) {
     this.fetchVariables = fetchVariables;
@@ -144,6 +152,11 @@ public final class JobWorkerBuilderImpl
     ensureNotNullNorEmpty("workerName", workerName);
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
 
+    final JobRunnableFactory jobRunnableFactory = new JobRunnableFactory(jobClient, handler);
+    if (streamEnabled) {
+      return openStreamingWorker(jobRunnableFactory);
+    }
+
     final Builder requestBuilder =
         ActivateJobsRequest.newBuilder()
             .setType(jobType)
@@ -158,7 +171,6 @@ public final class JobWorkerBuilderImpl
 
     final Duration deadline = requestTimeout.plus(DEADLINE_OFFSET);
 
-    final JobRunnableFactory jobRunnableFactory = new JobRunnableFactory(jobClient, handler);
     final JobPoller jobPoller =
         new JobPoller(gatewayStub, requestBuilder, objectMapper, deadline, retryPredicate);
 
@@ -168,4 +180,30 @@ public final class JobWorkerBuilderImpl
     closeables.add(jobWorker);
     return jobWorker;
   }
+
+  private JobWorker openStreamingWorker(final JobRunnableFactory jobRunnableFactory) {
+    final StreamActivatedJobsRequest.Builder registration =
+        StreamActivatedJobsRequest.newBuilder()
+            .setType(jobType)
+            .setTimeout(timeout)
+            .setWorker(workerName);
+
+    if (fetchVariables != null) {
+      registration.addAllFetchVariable(fetchVariables);
+    }
+
+    final JobStreamer jobStreamer =
+        new JobStreamer(
+            gatewayStub,
+            registration.build(),
+            objectMapper,
+            maxJobsActive,
+            Math.round(maxJobsActive * 0.3f));
+
+    final JobWorkerImpl jobWorker =
+        new JobWorkerImpl(
+            maxJobsActive, executorService, pollInterval, jobRunnableFactory, jobStreamer);
+    closeables.add(jobWorker);
+    return jobWorker;
+  }
 }
@@ -44,6 +44,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   // state synchronization
   private final AtomicBoolean acquiringJobs = new AtomicBoolean(true);
   private final AtomicReference<JobPoller> jobPoller;
+  private final JobStreamer jobStreamer;
 
   public JobWorkerImpl(
       final int maxJobsActive,
@@ -51,6 +52,34 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       final Duration pollInterval,
       final JobRunnableFactory jobRunnableFactory,
       final JobPoller jobPoller) {
+    this(maxJobsActive, executor, jobRunnableFactory, jobPoller, null);
+
+    executor.scheduleWithFixedDelay(
+        this::tryActivateJobs, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Creates a worker which receives its jobs over a stream. If the stream is closed, e.g. because
+   * the gateway is restarted, it is opened again after the poll interval.
+   */
+  public JobWorkerImpl(
+      final int maxJobsActive,
+      final ScheduledExecutorService executor,
+      final Duration pollInterval,
+      final JobRunnableFactory jobRunnableFactory,
+      final JobStreamer jobStreamer) {
+    this(maxJobsActive, executor, jobRunnableFactory, null, jobStreamer);
+
+    executor.scheduleWithFixedDelay(
+        this::tryOpenStream, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private JobWorkerImpl(
+      final int maxJobsActive,
+      final ScheduledExecutorService executor,
+      final JobRunnableFactory jobRunnableFactory,
+      final JobPoller jobPoller,
+      final JobStreamer jobStreamer) {
 
     this.maxJobsActive = maxJobsActive;
     this.activationThreshold = Math.round(maxJobsActive * 0.3f);
@@ -60,9 +89,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
     this.jobRunnableFactory = jobRunnableFactory;
 
     this.jobPoller = new AtomicReference<>(jobPoller);
-
-    executor.scheduleWithFixedDelay(
-        this::tryActivateJobs, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    this.jobStreamer = jobStreamer;
   }
 
   @Override
@@ -72,12 +99,28 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
 
   @Override
   public boolean isClosed() {
-    return !isOpen() && jobPoller.get() != null && remainingJobs.get() <= 0;
+    final boolean isActivating =
+        jobStreamer != null ? jobStreamer.isOpen() : jobPoller.get() == null;
+    return !isOpen() && !isActivating && remainingJobs.get() <= 0;
   }
 
   @Override
   public void close() {
     acquiringJobs.set(false);
+
+    if (jobStreamer != null) {
+      jobStreamer.close();
+    }
+  }
+
+  private void tryOpenStream() {
+    if (acquiringJobs.get() && !jobStreamer.isOpen()) {
+      try {
+        jobStreamer.open(this::submitStreamedJob);
+      } catch (final Exception e) {
+        LOG.warn("Failed to open job stream", e);
+      }
+    }
   }
 
   private void tryActivateJobs() {
@@ -122,10 +165,20 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
     executor.execute(jobRunnableFactory.create(job, this::jobHandlerFinished));
   }
 
+  private void submitStreamedJob(final ActivatedJob job) {
+    remainingJobs.incrementAndGet();
+    executor.execute(jobRunnableFactory.create(job, this::streamedJobHandlerFinished));
+  }
+
   private void jobHandlerFinished() {
     final int remainingJobs = this.remainingJobs.decrementAndGet();
     if (shouldActivateJobs(remainingJobs)) {
       activateJobs();
     }
   }
+
+  private void streamedJobHandlerFinished() {
+    remainingJobs.decrementAndGet();
+    jobStreamer.jobHandled();
+  }
 }
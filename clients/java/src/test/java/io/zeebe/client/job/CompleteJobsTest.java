@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.grpc.Status.Code;
+import io.zeebe.client.api.response.BundleItemResult;
+import io.zeebe.client.api.response.BundleResponse;
+import io.zeebe.client.api.response.CompleteJobResponse;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.client.util.JsonUtil;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import io.zeebe.gateway.protocol.GatewayOuterClass.BundleItemError;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends ClientTest {
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    final String json = JsonUtil.toJson(Collections.singletonMap("key", "val"));
+
+    // when
+    final BundleResponse<CompleteJobResponse> response =
+        client
+            .newCompleteJobsCommand()
+            .add(client.newCompleteCommand(12))
+            .add(client.newCompleteCommand(13).variables(json))
+            .send()
+            .join();
+
+    // then
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getRequestsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(12L, 13L);
+    assertThat(request.getRequests(0).getVariables()).isEmpty();
+    JsonUtil.assertEquality(request.getRequests(1).getVariables(), json);
+
+    assertThat(response.getResults()).hasSize(2).allMatch(BundleItemResult::isSuccess);
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldReturnErrorOfFailedJob() {
+    // given
+    gatewayService.onCompleteJobsRequest(
+        CompleteJobsResponse.newBuilder()
+            .addResults(
+                CompleteJobResult.newBuilder()
+                    .setResponse(GatewayOuterClass.CompleteJobResponse.getDefaultInstance()))
+            .addResults(
+                CompleteJobResult.newBuilder()
+                    .setError(
+                        BundleItemError.newBuilder()
+                            .setCode(Code.NOT_FOUND.value())
+                            .setMessage("no such job")))
+            .build());
+
+    // when
+    final BundleResponse<CompleteJobResponse> response =
+        client
+            .newCompleteJobsCommand()
+            .add(client.newCompleteCommand(12))
+            .add(client.newCompleteCommand(13))
+            .send()
+            .join();
+
+    // then
+    final BundleItemResult<CompleteJobResponse> completed = response.getResults().get(0);
+    assertThat(completed.isSuccess()).isTrue();
+    assertThat(completed.getError()).isNull();
+
+    final BundleItemResult<CompleteJobResponse> failed = response.getResults().get(1);
+    assertThat(failed.isSuccess()).isFalse();
+    assertThat(failed.getError().getStatusCode()).isEqualTo(Code.NOT_FOUND);
+    assertThat(failed.getError()).hasMessage("no such job");
+  }
+
+  @Test
+  public void shouldSetRequestTimeout() {
+    // given
+    final Duration requestTimeout = Duration.ofHours(124);
+
+    // when
+    client
+        .newCompleteJobsCommand()
+        .add(client.newCompleteCommand(12))
+        .requestTimeout(requestTimeout)
+        .send()
+        .join();
+
+    // then
+    rule.verifyRequestTimeout(requestTimeout);
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.zeebe.client.api.response.ActivatedJob;
+import io.zeebe.client.impl.ZeebeObjectMapper;
+import io.zeebe.client.impl.worker.JobStreamer;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class JobStreamerTest extends ClientTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+  private static final int MAX_JOBS_ACTIVE = 10;
+  private static final int CREDITS_THRESHOLD = 2;
+
+  private final StreamActivatedJobsRequest registration =
+      StreamActivatedJobsRequest.newBuilder()
+          .setType("foo")
+          .setWorker("worker")
+          .setTimeout(1000)
+          .addFetchVariable("bar")
+          .build();
+
+  @SuppressWarnings("unchecked")
+  private final Consumer<ActivatedJob> jobConsumer = mock(Consumer.class);
+
+  private JobStreamer jobStreamer;
+
+  @Before
+  public void setup() {
+    jobStreamer =
+        new JobStreamer(
+            rule.getGatewayStub(),
+            registration,
+            new ZeebeObjectMapper(),
+            MAX_JOBS_ACTIVE,
+            CREDITS_THRESHOLD);
+  }
+
+  @After
+  public void tearDown() {
+    jobStreamer.close();
+  }
+
+  @Test
+  public void shouldRegisterWorkerWithCredits() {
+    // when
+    jobStreamer.open(jobConsumer);
+
+    // then
+    waitUntil(() -> getStreamRequests().size() == 1);
+    assertThat(getStreamRequests().get(0))
+        .isEqualTo(registration.toBuilder().setCredits(MAX_JOBS_ACTIVE).build());
+    assertThat(jobStreamer.isOpen()).isTrue();
+  }
+
+  @Test
+  public void shouldConsumePushedJobs() {
+    // given
+    gatewayService.onStreamActivatedJobsRequest(job(1), job(2));
+
+    // when
+    jobStreamer.open(jobConsumer);
+
+    // then
+    verify(jobConsumer, timeout(TIMEOUT.toMillis()).times(2)).accept(any());
+  }
+
+  @Test
+  public void shouldReturnCreditsOfHandledJobs() {
+    // given
+    gatewayService.onStreamActivatedJobsRequest(job(1), job(2), job(3));
+    jobStreamer.open(jobConsumer);
+    verify(jobConsumer, timeout(TIMEOUT.toMillis()).times(3)).accept(any());
+
+    // when
+    jobStreamer.jobHandled();
+    jobStreamer.jobHandled();
+    jobStreamer.jobHandled();
+
+    // then
+    waitUntil(() -> getStreamRequests().size() == 2);
+    assertThat(getStreamRequests().get(1).getCredits()).isEqualTo(CREDITS_THRESHOLD);
+  }
+
+  @Test
+  public void shouldReopenWithCreditsOfUnhandledJobs() {
+    // given
+    gatewayService.onStreamActivatedJobsRequest(job(1), job(2), job(3));
+    jobStreamer.open(jobConsumer);
+    verify(jobConsumer, timeout(TIMEOUT.toMillis()).times(3)).accept(any());
+    jobStreamer.jobHandled();
+
+    // when
+    jobStreamer.close();
+    jobStreamer.open(jobConsumer);
+
+    // then
+    waitUntil(() -> getStreamRequests().size() == 2);
+    assertThat(getStreamRequests().get(1).getCredits()).isEqualTo(MAX_JOBS_ACTIVE - 2);
+    verify(jobConsumer, timeout(TIMEOUT.toMillis()).times(6)).accept(any());
+  }
+
+  @Test
+  public void shouldCloseStream() {
+    // given
+    jobStreamer.open(jobConsumer);
+
+    // when
+    jobStreamer.close();
+
+    // then
+    assertThat(jobStreamer.isOpen()).isFalse();
+    verify(jobConsumer, times(0)).accept(any());
+  }
+
+  private List<StreamActivatedJobsRequest> getStreamRequests() {
+    synchronized (gatewayService.getRequests()) {
+      return gatewayService.getRequests().stream()
+          .filter(StreamActivatedJobsRequest.class::isInstance)
+          .map(StreamActivatedJobsRequest.class::cast)
+          .collect(Collectors.toList());
+    }
+  }
+
+  private static GatewayOuterClass.ActivatedJob job(final long key) {
+    return GatewayOuterClass.ActivatedJob.newBuilder()
+        .setKey(key)
+        .setType("foo")
+        .setCustomHeaders("{}")
+        .setVariables("{}")
+        .build();
+  }
+
+  private static void waitUntil(final BooleanSupplier condition) {
+    final long deadline = System.currentTimeMillis() + TIMEOUT.toMillis();
+    while (!condition.getAsBoolean()) {
+      assertThat(System.currentTimeMillis()).describedAs("condition not met").isLessThan(deadline);
+      Thread.yield();
+    }
+  }
+}
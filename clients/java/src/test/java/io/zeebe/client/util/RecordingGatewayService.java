@@ -28,10 +28,16 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResult;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
@@ -40,10 +46,14 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.Partition;
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyRequest;
@@ -53,6 +63,7 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.WorkflowMetadata;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -61,7 +72,7 @@ import java.util.function.Supplier;
 
 public final class RecordingGatewayService extends GatewayImplBase {
 
-  private final List<GeneratedMessageV3> requests = new ArrayList<>();
+  private final List<GeneratedMessageV3> requests = Collections.synchronizedList(new ArrayList<>());
 
   private final Map<Class<? extends GeneratedMessageV3>, RequestHandler> requestHandlers =
       new HashMap<>();
@@ -87,7 +98,42 @@ public final class RecordingGatewayService extends GatewayImplBase {
     addRequestHandler(FailJobRequest.class, r -> FailJobResponse.getDefaultInstance());
     addRequestHandler(ThrowErrorRequest.class, r -> ThrowErrorResponse.getDefaultInstance());
     addRequestHandler(CompleteJobRequest.class, r -> CompleteJobResponse.getDefaultInstance());
+    addRequestHandler(
+        CompleteJobsRequest.class,
+        r ->
+            CompleteJobsResponse.newBuilder()
+                .addAllResults(
+                    Collections.nCopies(
+                        ((CompleteJobsRequest) r).getRequestsCount(),
+                        CompleteJobResult.newBuilder()
+                            .setResponse(CompleteJobResponse.getDefaultInstance())
+                            .build()))
+                .build());
+    addRequestHandler(
+        PublishMessagesRequest.class,
+        r ->
+            PublishMessagesResponse.newBuilder()
+                .addAllResults(
+                    Collections.nCopies(
+                        ((PublishMessagesRequest) r).getRequestsCount(),
+                        PublishMessageResult.newBuilder()
+                            .setResponse(PublishMessageResponse.getDefaultInstance())
+                            .build()))
+                .build());
+    addRequestHandler(
+        CreateWorkflowInstancesRequest.class,
+        r ->
+            CreateWorkflowInstancesResponse.newBuilder()
+                .addAllResults(
+                    Collections.nCopies(
+                        ((CreateWorkflowInstancesRequest) r).getRequestsCount(),
+                        CreateWorkflowInstanceResult.newBuilder()
+                            .setResponse(CreateWorkflowInstanceResponse.getDefaultInstance())
+                            .build()))
+                .build());
     addRequestHandler(ActivateJobsRequest.class, r -> ActivateJobsResponse.getDefaultInstance());
+    addRequestHandler(
+        StreamActivatedJobsRequest.class, r -> ActivateJobsResponse.getDefaultInstance());
     addRequestHandler(
         ResolveIncidentRequest.class, r -> ResolveIncidentResponse.getDefaultInstance());
   }
@@ -157,6 +203,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
@@ -164,6 +217,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void createWorkflowInstances(
+      final CreateWorkflowInstancesRequest request,
+      final StreamObserver<CreateWorkflowInstancesResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void createWorkflowInstanceWithResult(
       final CreateWorkflowInstanceWithResultRequest request,
@@ -197,6 +257,13 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final StreamObserver<PublishMessagesResponse> responseObserver) {
+    handle(request, responseObserver);
+  }
+
   @Override
   public void resolveIncident(
       final ResolveIncidentRequest request,
@@ -224,6 +291,32 @@ public final class RecordingGatewayService extends GatewayImplBase {
     handle(request, responseObserver);
   }
 
+  @Override
+  public StreamObserver<StreamActivatedJobsRequest> streamActivatedJobs(
+      final StreamObserver<ActivateJobsResponse> responseObserver) {
+    return new StreamObserver<StreamActivatedJobsRequest>() {
+      @Override
+      public void onNext(final StreamActivatedJobsRequest request) {
+        requests.add(request);
+        try {
+          final ActivateJobsResponse response =
+              (ActivateJobsResponse) getRequestHandler(request).handle(request);
+          responseObserver.onNext(response);
+        } catch (final Exception e) {
+          responseObserver.onError(convertThrowable(e));
+        }
+      }
+
+      @Override
+      public void onError(final Throwable t) {}
+
+      @Override
+      public void onCompleted() {
+        responseObserver.onCompleted();
+      }
+    };
+  }
+
   public void onTopologyRequest(
       final int clusterSize,
       final int partitionsCount,
@@ -293,6 +386,22 @@ public final class RecordingGatewayService extends GatewayImplBase {
             ActivateJobsResponse.newBuilder().addAllJobs(Arrays.asList(activatedJobs)).build());
   }
 
+  public void onStreamActivatedJobsRequest(final ActivatedJob... activatedJobs) {
+    // only the first request of a stream has a type, the following ones return credits
+    addRequestHandler(
+        StreamActivatedJobsRequest.class,
+        request ->
+            ((StreamActivatedJobsRequest) request).getType().isEmpty()
+                ? ActivateJobsResponse.getDefaultInstance()
+                : ActivateJobsResponse.newBuilder()
+                    .addAllJobs(Arrays.asList(activatedJobs))
+                    .build());
+  }
+
+  public void onCompleteJobsRequest(final CompleteJobsResponse response) {
+    addRequestHandler(CompleteJobsRequest.class, request -> response);
+  }
+
   public void onSetVariablesRequest(final long key) {
     addRequestHandler(
         SetVariablesRequest.class,
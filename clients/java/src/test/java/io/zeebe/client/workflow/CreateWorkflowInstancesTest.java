@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.client.api.response.BundleItemResult;
+import io.zeebe.client.api.response.BundleResponse;
+import io.zeebe.client.api.response.WorkflowInstanceEvent;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesRequest;
+import org.junit.Test;
+
+public final class CreateWorkflowInstancesTest extends ClientTest {
+
+  @Test
+  public void shouldCreateWorkflowInstances() {
+    // when
+    final BundleResponse<WorkflowInstanceEvent> response =
+        client
+            .newCreateInstancesCommand()
+            .add(client.newCreateInstanceCommand().workflowKey(123))
+            .add(client.newCreateInstanceCommand().bpmnProcessId("testProcess").version(2))
+            .send()
+            .join();
+
+    // then
+    final CreateWorkflowInstancesRequest request = gatewayService.getLastRequest();
+    assertThat(request.getRequestsList())
+        .extracting(CreateWorkflowInstanceRequest::getWorkflowKey)
+        .containsExactly(123L, 0L);
+    assertThat(request.getRequests(1).getBpmnProcessId()).isEqualTo("testProcess");
+    assertThat(request.getRequests(1).getVersion()).isEqualTo(2);
+
+    assertThat(response.getResults()).hasSize(2).allMatch(BundleItemResult::isSuccess);
+    assertThat(response.getResults())
+        .extracting(BundleItemResult::getResponse)
+        .doesNotContainNull();
+
+    rule.verifyDefaultRequestTimeout();
+  }
+}
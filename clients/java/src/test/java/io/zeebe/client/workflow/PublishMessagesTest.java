@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.client.api.response.BundleItemResult;
+import io.zeebe.client.api.response.BundleResponse;
+import io.zeebe.client.api.response.PublishMessageResponse;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import org.junit.Test;
+
+public final class PublishMessagesTest extends ClientTest {
+
+  @Test
+  public void shouldPublishMessages() {
+    // when
+    final BundleResponse<PublishMessageResponse> response =
+        client
+            .newPublishMessagesCommand()
+            .add(client.newPublishMessageCommand().messageName("name").correlationKey("key-1"))
+            .add(client.newPublishMessageCommand().messageName("name").correlationKey("key-2"))
+            .send()
+            .join();
+
+    // then
+    final PublishMessagesRequest request = gatewayService.getLastRequest();
+    assertThat(request.getRequestsList())
+        .extracting(PublishMessageRequest::getCorrelationKey)
+        .containsExactly("key-1", "key-2");
+    assertThat(request.getRequestsList())
+        .extracting(PublishMessageRequest::getTimeToLive)
+        .containsOnly(client.getConfiguration().getDefaultMessageTimeToLive().toMillis());
+
+    assertThat(response.getResults()).hasSize(2).allMatch(BundleItemResult::isSuccess);
+
+    rule.verifyDefaultRequestTimeout();
+  }
+}
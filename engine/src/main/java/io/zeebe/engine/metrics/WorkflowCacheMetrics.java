@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class WorkflowCacheMetrics {
+
+  private static final Counter REQUESTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("workflow_cache_requests_total")
+          .help("Number of workflow lookups in the cache, by result (hit or miss)")
+          .labelNames("result", "partition")
+          .register();
+
+  private static final Counter EVICTIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("workflow_cache_evictions_total")
+          .help("Number of workflows which were evicted from the cache")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge CACHED_WORKFLOWS =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("workflow_cache_size")
+          .help("Number of workflows in the cache")
+          .labelNames("partition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public WorkflowCacheMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void cacheHit() {
+    REQUESTS.labels("hit", partitionIdLabel).inc();
+  }
+
+  public void cacheMiss() {
+    REQUESTS.labels("miss", partitionIdLabel).inc();
+  }
+
+  public void workflowEvicted() {
+    EVICTIONS.labels(partitionIdLabel).inc();
+  }
+
+  public void setCachedWorkflows(final int count) {
+    CACHED_WORKFLOWS.labels(partitionIdLabel).set(count);
+  }
+}
@@ -32,6 +32,8 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   private BooleanSupplier abortCondition;
   private Consumer<TypedRecord> onProcessedListener = record -> {};
   private int maxFragmentSize;
+  private int maxCommandsInBatch = 1;
+  private Runnable batchCommitter = () -> {};
 
   public ProcessingContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -99,6 +101,16 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext maxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+    return this;
+  }
+
+  public ProcessingContext batchCommitter(final Runnable batchCommitter) {
+    this.batchCommitter = batchCommitter;
+    return this;
+  }
+
   @Override
   public ActorControl getActor() {
     return actor;
@@ -124,6 +136,16 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return maxFragmentSize;
   }
 
+  @Override
+  public int getMaxCommandsInBatch() {
+    return maxCommandsInBatch;
+  }
+
+  @Override
+  public Runnable getBatchCommitter() {
+    return batchCommitter;
+  }
+
   @Override
   public TypedStreamWriter getLogStreamWriter() {
     return logStreamWriter;
@@ -91,6 +91,8 @@ public final class ProcessingStateMachine {
       "Expected to process event '{}' successfully on stream processor, but caught recoverable exception. Retry processing.";
   private static final String PROCESSING_ERROR_MESSAGE =
       "Expected to process event '%s' without errors, but exception occurred with message '%s' .";
+  private static final String ERROR_MESSAGE_COMMIT_BATCH_FAILED =
+      "Expected to commit the processed records up to position '{}' successfully, but caught an exception. Retry.";
   private static final String NOTIFY_LISTENER_ERROR_MESSAGE =
       "Expected to invoke processed listener for event {} successfully, but exception was thrown.";
 
@@ -120,6 +122,7 @@ public final class ProcessingStateMachine {
   private final TypedEventImpl typedEvent;
   private final StreamProcessorMetrics metrics;
   private final Consumer<TypedRecord> onProcessed;
+  private final int maxCommandsInBatch;
 
   // current iteration
   private SideEffectProducer sideEffectProducer;
@@ -133,6 +136,12 @@ public final class ProcessingStateMachine {
   private long errorRecordPosition = StreamProcessor.UNSET_POSITION;
   private volatile boolean onErrorHandlingLoop;
   private int onErrorRetries;
+  private boolean hasSavepoint;
+
+  // current batch
+  private int processedCommandsInBatch;
+  private long processedEventPositionInBatch = StreamProcessor.UNSET_POSITION;
+  private long writtenEventPositionInBatch = StreamProcessor.UNSET_POSITION;
 
   public ProcessingStateMachine(
       final ProcessingContext context, final BooleanSupplier shouldProcessNext) {
@@ -160,6 +169,7 @@ public final class ProcessingStateMachine {
 
     this.metrics = new StreamProcessorMetrics(partitionId);
     this.onProcessed = context.getOnProcessedListener();
+    this.maxCommandsInBatch = context.getMaxCommandsInBatch();
   }
 
   private void skipRecord() {
@@ -202,6 +212,9 @@ public final class ProcessingStateMachine {
       } else {
         skipRecord();
       }
+    } else if (currentProcessor == null) {
+      // no further record is processed right away
+      commitOpenBatch();
     }
   }
 
@@ -253,6 +266,7 @@ public final class ProcessingStateMachine {
 
   private void processInTransaction(final TypedEventImpl typedRecord) throws Exception {
     zeebeDbTransaction = dbContext.getCurrentTransaction();
+    setSavepointIfBatching();
     zeebeDbTransaction.run(
         () -> {
           final long position = typedRecord.getPosition();
@@ -274,6 +288,79 @@ public final class ProcessingStateMachine {
         });
   }
 
+  private boolean isBatchingEnabled() {
+    return maxCommandsInBatch > 1;
+  }
+
+  /**
+   * Sets one savepoint per record, which is reused if the processing of the record is retried. The
+   * savepoints of the successfully processed records can't be removed, they are released together
+   * on the commit of the batch.
+   */
+  private void setSavepointIfBatching() throws Exception {
+    if (isBatchingEnabled() && !hasSavepoint) {
+      // the transaction may already contain changes of previous records of the current batch,
+      // which should survive if the processing of the current record fails
+      zeebeDbTransaction.setSavepoint();
+      hasSavepoint = true;
+    }
+  }
+
+  private void rollbackCurrentRecord() throws Exception {
+    if (isBatchingEnabled()) {
+      // removes the savepoint of the current record
+      zeebeDbTransaction.rollbackToSavepoint();
+      hasSavepoint = false;
+    } else {
+      zeebeDbTransaction.rollback();
+    }
+    zeebeState.onRollback();
+  }
+
+  /**
+   * The transaction is kept open for the next record as long as the batch is not full, there is no
+   * error handling in progress and the next record can be processed right away. Otherwise the
+   * transaction is committed, which means that a batch never waits for new records.
+   */
+  private boolean shouldCommitBatch() {
+    return processedCommandsInBatch >= maxCommandsInBatch
+        || onErrorHandling
+        || !shouldProcessNext.getAsBoolean()
+        || !logStreamReader.hasNext();
+  }
+
+  /**
+   * Commits the state changes of the records which are processed in the current batch but not yet
+   * committed. Does nothing if no batch is open or a record is currently processed, since the
+   * changes of a record are only committed together with its follow up events.
+   *
+   * <p>It is called when no further record is processed right away, e.g. because there is no next
+   * record, the next records are skipped or processing is paused, and it should be called before
+   * the state is accessed outside of the processing, e.g. by timer checkers, which run on the same
+   * actor.
+   */
+  public void commitOpenBatch() {
+    if (currentProcessor != null || processedCommandsInBatch == 0) {
+      return;
+    }
+
+    try {
+      zeebeDbTransaction.commit();
+      onBatchCommitted();
+    } catch (final Exception e) {
+      LOG.error(ERROR_MESSAGE_COMMIT_BATCH_FAILED, processedEventPositionInBatch, e);
+      actor.runDelayed(PROCESSING_RETRY_DELAY, this::commitOpenBatch);
+    }
+  }
+
+  private void onBatchCommitted() {
+    lastSuccessfulProcessedEventPosition = processedEventPositionInBatch;
+    lastWrittenEventPosition = writtenEventPositionInBatch;
+    processedCommandsInBatch = 0;
+    processedEventPositionInBatch = StreamProcessor.UNSET_POSITION;
+    writtenEventPositionInBatch = StreamProcessor.UNSET_POSITION;
+  }
+
   private void resetOutput(final long sourceRecordPosition) {
     responseWriter.reset();
     logStreamWriter.reset();
@@ -292,7 +379,7 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
-              zeebeDbTransaction.rollback();
+              rollbackCurrentRecord();
               return true;
             },
             abortCondition);
@@ -316,6 +403,7 @@ public final class ProcessingStateMachine {
 
   private void errorHandlingInTransaction(final Throwable processingException) throws Exception {
     zeebeDbTransaction = dbContext.getCurrentTransaction();
+    setSavepointIfBatching();
     zeebeDbTransaction.run(
         () -> {
           final long position = typedEvent.getPosition();
@@ -359,6 +447,10 @@ public final class ProcessingStateMachine {
             LOG.error(ERROR_MESSAGE_WRITE_EVENT_ABORTED, currentEvent, t);
             onError(t, this::writeEvent);
           } else {
+            processedCommandsInBatch++;
+            processedEventPositionInBatch = currentEvent.getPosition();
+            writtenEventPositionInBatch =
+                Math.max(writtenEventPositionInBatch, writtenEventPosition);
             updateState();
             metrics.eventWritten();
           }
@@ -366,6 +458,14 @@ public final class ProcessingStateMachine {
   }
 
   private void updateState() {
+    if (!shouldCommitBatch()) {
+      // the follow up events are already written, the state changes are committed with the batch;
+      // the side effects, e.g. the responses, are executed right away and don't wait for the commit
+      // since the state of the batch can be restored by reprocessing the written records
+      executeSideEffects();
+      return;
+    }
+
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
@@ -384,8 +484,7 @@ public final class ProcessingStateMachine {
                           }
                         });
               }
-              lastSuccessfulProcessedEventPosition = currentEvent.getPosition();
-              lastWrittenEventPosition = writtenEventPosition;
+              onBatchCommitted();
               return true;
             },
             abortCondition);
@@ -425,6 +524,7 @@ public final class ProcessingStateMachine {
 
           // continue with next event
           currentProcessor = null;
+          hasSavepoint = false;
           actor.submit(this::readNextEvent);
         });
   }
@@ -34,6 +34,19 @@ public interface ReadonlyProcessingContext {
    */
   int getMaxFragmentSize();
 
+  /**
+   * @return the maximum count of records which are processed in one database transaction, before
+   *     the transaction is committed
+   */
+  int getMaxCommandsInBatch();
+
+  /**
+   * @return the action which commits the state changes of the records, which are processed in the
+   *     current batch but not committed yet; should be run before the state is accessed outside of
+   *     the processing, e.g. by a scheduled check on the actor
+   */
+  Runnable getBatchCommitter();
+
   /** @return the writer, which is used by the processor to write follow up events */
   TypedStreamWriter getLogStreamWriter();
 
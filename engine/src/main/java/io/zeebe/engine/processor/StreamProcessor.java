@@ -86,6 +86,11 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
     return actorName;
   }
 
+  @Override
+  public int getAffinityKey() {
+    return partitionId;
+  }
+
   @Override
   protected void onActorStarting() {
     actor.runOnCompletionBlockingCurrentPhase(
@@ -106,6 +111,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
 
     try {
       processingStateMachine = new ProcessingStateMachine(processingContext, this::isOpened);
+      processingContext.batchCommitter(processingStateMachine::commitOpenBatch);
       openFuture.complete(null);
 
       final ReProcessingStateMachine reProcessingStateMachine =
@@ -133,6 +139,9 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
 
   @Override
   protected void onActorClosing() {
+    if (processingStateMachine != null) {
+      processingStateMachine.commitOpenBatch();
+    }
     tearDown();
   }
 
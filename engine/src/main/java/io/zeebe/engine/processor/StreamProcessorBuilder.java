@@ -63,6 +63,11 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
+    processingContext.maxCommandsInBatch(maxCommandsInBatch);
+    return this;
+  }
+
   public StreamProcessorBuilder zeebeDb(final ZeebeDb zeebeDb) {
     this.zeebeDb = zeebeDb;
     return this;
@@ -109,6 +114,12 @@ public final class StreamProcessorBuilder {
     Objects.requireNonNull(
         processingContext.getCommandResponseWriter(), "No command response writer provided.");
     Objects.requireNonNull(zeebeDb, "No database provided.");
+    if (processingContext.getMaxCommandsInBatch() < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected max commands in batch to be at least 1, but was %d.",
+              processingContext.getMaxCommandsInBatch()));
+    }
   }
 
   private static class MetadataEventFilter implements EventFilter {
@@ -18,6 +18,8 @@ import io.zeebe.protocol.record.RejectionType;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.util.StringUtil;
+import java.io.IOException;
+import java.io.OutputStream;
 
 public final class TypedEventImpl implements TypedRecord {
   private final int partitionId;
@@ -114,6 +116,11 @@ public final class TypedEventImpl implements TypedRecord {
     return MsgPackConverter.convertJsonSerializableObjectToJson(this);
   }
 
+  @Override
+  public void writeJson(final OutputStream outputStream) throws IOException {
+    MsgPackConverter.writeJsonSerializableObject(this, outputStream);
+  }
+
   @Override
   public Record clone() {
     return CopiedRecords.createCopiedRecord(getPartitionId(), rawEvent);
@@ -8,6 +8,7 @@
 package io.zeebe.engine.processor.workflow.job;
 
 import io.zeebe.engine.processor.KeyGenerator;
+import io.zeebe.engine.processor.SideEffectProducer;
 import io.zeebe.engine.processor.TypedRecord;
 import io.zeebe.engine.processor.TypedRecordProcessor;
 import io.zeebe.engine.processor.TypedResponseWriter;
@@ -26,6 +27,7 @@ import io.zeebe.protocol.record.intent.JobIntent;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -37,19 +39,23 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
   private final JobState jobState;
   private final VariablesState variablesState;
   private final KeyGenerator keyGenerator;
+  private final JobTimeoutTrigger jobTimeoutTrigger;
   private final long maxJobBatchLength;
 
   private final ObjectHashSet<DirectBuffer> variableNames = new ObjectHashSet<>();
+  private long deadline;
 
   public JobBatchActivateProcessor(
       final JobState jobState,
       final VariablesState variablesState,
       final KeyGenerator keyGenerator,
+      final JobTimeoutTrigger jobTimeoutTrigger,
       final long maxRecordLength) {
 
     this.jobState = jobState;
     this.variablesState = variablesState;
     this.keyGenerator = keyGenerator;
+    this.jobTimeoutTrigger = jobTimeoutTrigger;
 
     // we can only add the half of the max record length to the job batch
     // because the jobs itself are also written to the same batch
@@ -60,10 +66,11 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
   public void processRecord(
       final TypedRecord<JobBatchRecord> record,
       final TypedResponseWriter responseWriter,
-      final TypedStreamWriter streamWriter) {
+      final TypedStreamWriter streamWriter,
+      final Consumer<SideEffectProducer> sideEffect) {
     final JobBatchRecord value = record.getValue();
     if (isValid(value)) {
-      activateJobs(record, responseWriter, streamWriter);
+      activateJobs(record, responseWriter, streamWriter, sideEffect);
     } else {
       rejectCommand(record, responseWriter, streamWriter);
     }
@@ -79,7 +86,8 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
   private void activateJobs(
       final TypedRecord<JobBatchRecord> record,
       final TypedResponseWriter responseWriter,
-      final TypedStreamWriter streamWriter) {
+      final TypedStreamWriter streamWriter,
+      final Consumer<SideEffectProducer> sideEffect) {
     final JobBatchRecord value = record.getValue();
 
     final long jobBatchKey = keyGenerator.nextKey();
@@ -94,6 +102,12 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
     // set/use this object for writing the new job state
     activateJobs(streamWriter, value);
 
+    if (amount.get() < value.getMaxJobsToActivate()) {
+      // all jobs of the batch have the same deadline
+      deadline = record.getTimestamp() + value.getTimeout();
+      sideEffect.accept(this::scheduleTimeout);
+    }
+
     streamWriter.appendFollowUpEvent(jobBatchKey, JobBatchIntent.ACTIVATED, value);
     responseWriter.writeEventOnCommand(jobBatchKey, JobBatchIntent.ACTIVATED, value, record);
   }
@@ -172,6 +186,12 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
     }
   }
 
+  private boolean scheduleTimeout() {
+    jobTimeoutTrigger.scheduleTimeout(deadline);
+
+    return true;
+  }
+
   private DirectBuffer collectVariables(
       final Collection<DirectBuffer> variableNames, final long elementInstanceKey) {
     final DirectBuffer variables;
@@ -28,6 +28,7 @@ public final class JobEventProcessors {
     final var jobState = zeebeState.getJobState();
     final var keyGenerator = zeebeState.getKeyGenerator();
 
+    final var jobTimeoutTrigger = new JobTimeoutTrigger(jobState, maxRecordSize / 2);
     final var jobErrorThrownProcessor =
         new JobErrorThrownProcessor(workflowState, keyGenerator, jobState);
 
@@ -50,8 +51,9 @@ public final class JobEventProcessors {
                 jobState,
                 workflowState.getElementInstanceState().getVariablesState(),
                 keyGenerator,
+                jobTimeoutTrigger,
                 maxRecordSize))
-        .withListener(new JobTimeoutTrigger(jobState))
+        .withListener(jobTimeoutTrigger)
         .withListener(
             new StreamProcessorLifecycleAware() {
               @Override
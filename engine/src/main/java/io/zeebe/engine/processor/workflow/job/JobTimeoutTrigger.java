@@ -7,66 +7,170 @@
  */
 package io.zeebe.engine.processor.workflow.job;
 
-import static io.zeebe.util.sched.clock.ActorClock.currentTimeMillis;
-
 import io.zeebe.engine.processor.ReadonlyProcessingContext;
 import io.zeebe.engine.processor.StreamProcessorLifecycleAware;
 import io.zeebe.engine.processor.TypedCommandWriter;
 import io.zeebe.engine.state.instance.JobState;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.ScheduledTimer;
+import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
 
+/**
+ * Writes a {@link JobIntent#TIME_OUT} command for each activated job when its deadline is reached.
+ *
+ * <p>Only one timer is scheduled, for the earliest deadline of all activated jobs. The commands are
+ * written in batches, and at most one batch per run, so that a large number of jobs timing out at
+ * once doesn't block the processing of other records.
+ */
 public final class JobTimeoutTrigger implements StreamProcessorLifecycleAware {
-  public static final Duration TIME_OUT_POLLING_INTERVAL = Duration.ofSeconds(30);
+
+  static final int MAX_JOBS_PER_BATCH = 100;
+  static final Duration RETRY_DELAY = Duration.ofMillis(100);
+
+  private static final long DEADLINE_RESOLUTION = Duration.ofMillis(100).toMillis();
+
   private final JobState state;
+  private final int maxBatchLength;
 
-  private ScheduledTimer timer;
+  private ActorControl actor;
   private TypedCommandWriter writer;
+  private Runnable batchCommitter;
 
-  public JobTimeoutTrigger(final JobState state) {
+  private ScheduledTimer timer;
+  private long nextDeadline = -1L;
+
+  // the last job for which a command was written; the jobs before it are skipped on the next run,
+  // until their commands are processed, to avoid writing the same command again
+  private long lastDeadline = -1L;
+  private long lastJobKey = -1L;
+
+  private int batchCount;
+  private int batchLength;
+  private long batchLastDeadline;
+  private long batchLastJobKey;
+
+  /**
+   * @param state the state of the jobs
+   * @param maxBatchLength the maximum length of the job records which are written in one batch; a
+   *     single job is always written, even if it is larger
+   */
+  public JobTimeoutTrigger(final JobState state, final int maxBatchLength) {
     this.state = state;
+    this.maxBatchLength = maxBatchLength;
   }
 
   @Override
   public void onRecovered(final ReadonlyProcessingContext processingContext) {
-    timer =
-        processingContext
-            .getActor()
-            .runAtFixedRate(TIME_OUT_POLLING_INTERVAL, this::deactivateTimedOutJobs);
+    actor = processingContext.getActor();
     writer = processingContext.getLogStreamWriter();
+    batchCommitter = processingContext.getBatchCommitter();
+
+    // check if jobs timed out after restart
+    deactivateTimedOutJobs();
   }
 
   @Override
   public void onClose() {
-    if (timer != null) {
-      timer.cancel();
-      timer = null;
-    }
+    cancelTimer();
   }
 
   @Override
   public void onFailed() {
-    if (timer != null) {
+    cancelTimer();
+  }
+
+  /**
+   * Ensures that the jobs are checked at the given deadline. Must be called after a job was
+   * activated.
+   */
+  public void scheduleTimeout(final long deadline) {
+    if (deadline <= lastDeadline) {
+      // the job would be skipped on the next run
+      lastDeadline = -1L;
+      lastJobKey = -1L;
+    }
+
+    if (timer == null) {
+      schedule(deadline);
+
+    } else if (nextDeadline - deadline > DEADLINE_RESOLUTION) {
       timer.cancel();
-      timer = null;
+      schedule(deadline);
     }
   }
 
   void deactivateTimedOutJobs() {
-    final long now = currentTimeMillis();
-    state.forEachTimedOutEntry(
-        now,
-        (key, record) -> {
-          writer.appendFollowUpCommand(
-              key, JobIntent.TIME_OUT, record, (m) -> m.valueType(ValueType.JOB));
-
-          final boolean flushed = writer.flush() >= 0;
-          if (!flushed) {
-            writer.reset();
-          }
-          return flushed;
-        });
+    batchCommitter.run();
+
+    timer = null;
+    batchCount = 0;
+    batchLength = 0;
+    writer.reset();
+
+    final long deadline =
+        state.findTimedOutJobs(ActorClock.currentTimeMillis(), this::appendTimeOut);
+
+    if (batchCount > 0) {
+      final boolean flushed = writer.flush() >= 0;
+      if (!flushed) {
+        writer.reset();
+        retry();
+        return;
+      }
+
+      lastDeadline = batchLastDeadline;
+      lastJobKey = batchLastJobKey;
+    }
+
+    if (deadline > 0) {
+      schedule(deadline);
+    }
+  }
+
+  private boolean appendTimeOut(final long jobKey, final JobRecord record) {
+    final long deadline = record.getDeadline();
+    if (deadline < lastDeadline || (deadline == lastDeadline && jobKey <= lastJobKey)) {
+      // the command was already written
+      return true;
+    }
+
+    final int length = record.getLength();
+    if (batchCount > 0
+        && (batchCount >= MAX_JOBS_PER_BATCH || batchLength + length > maxBatchLength)) {
+      // write the remaining jobs on the next run
+      return false;
+    }
+
+    writer.appendFollowUpCommand(
+        jobKey, JobIntent.TIME_OUT, record, (m) -> m.valueType(ValueType.JOB));
+
+    batchCount += 1;
+    batchLength += length;
+    batchLastDeadline = deadline;
+    batchLastJobKey = jobKey;
+    return true;
+  }
+
+  private void schedule(final long deadline) {
+    final Duration delay =
+        Duration.ofMillis(Math.max(0, deadline - ActorClock.currentTimeMillis()));
+    timer = actor.runDelayed(delay, this::deactivateTimedOutJobs);
+    nextDeadline = deadline;
+  }
+
+  private void retry() {
+    timer = actor.runDelayed(RETRY_DELAY, this::deactivateTimedOutJobs);
+    nextDeadline = ActorClock.currentTimeMillis() + RETRY_DELAY.toMillis();
+  }
+
+  private void cancelTimer() {
+    if (timer != null) {
+      timer.cancel();
+      timer = null;
+    }
   }
 }
@@ -76,8 +76,12 @@ public final class CorrelateWorkflowInstanceSubscription
 
     final PendingWorkflowInstanceSubscriptionChecker pendingSubscriptionChecker =
         new PendingWorkflowInstanceSubscriptionChecker(
-            subscriptionCommandSender, subscriptionState, SUBSCRIPTION_TIMEOUT.toMillis());
-    actor.runAtFixedRate(SUBSCRIPTION_CHECK_INTERVAL, pendingSubscriptionChecker);
+            subscriptionCommandSender,
+            subscriptionState,
+            SUBSCRIPTION_TIMEOUT.toMillis(),
+            actor,
+            SUBSCRIPTION_CHECK_INTERVAL);
+    pendingSubscriptionChecker.start();
   }
 
   @Override
@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor.workflow.message;
+
+import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
+
+/**
+ * Schedules a check of entries which are ordered by a deadline, e.g. messages by their
+ * time-to-live. Instead of running at a fixed rate, the next check is scheduled at the earliest
+ * deadline of the remaining entries, but at least every {@code maxInterval} to pick up entries
+ * which were added in the meantime.
+ *
+ * <p>A single check may visit at most {@link #MAX_ENTRIES_PER_CHECK} entries. If more entries are
+ * due, the next check is submitted right away, so the stream processor can process other records in
+ * between.
+ *
+ * <p>Must only be used from the actor of the stream processor.
+ */
+final class DeadlineCheckScheduler {
+
+  static final int MAX_ENTRIES_PER_CHECK = 1_000;
+  static final long MIN_DELAY = Duration.ofMillis(100).toMillis();
+
+  private final ActorControl actor;
+  private final long maxInterval;
+  private final Runnable check;
+
+  private int remainingEntries;
+
+  DeadlineCheckScheduler(
+      final ActorControl actor, final Duration maxInterval, final Runnable check) {
+    this.actor = actor;
+    this.maxInterval = maxInterval.toMillis();
+    this.check = check;
+  }
+
+  /** Runs the first check right away, e.g. to handle the entries which are due after a restart. */
+  void start() {
+    actor.submit(check);
+  }
+
+  void onCheckStarted() {
+    remainingEntries = MAX_ENTRIES_PER_CHECK;
+  }
+
+  /** @return true if the check may visit one more entry, false if it should stop */
+  boolean tryVisitEntry() {
+    if (remainingEntries <= 0) {
+      return false;
+    }
+
+    remainingEntries -= 1;
+    return true;
+  }
+
+  /**
+   * @param nextDeadline the deadline of the first entry which was not handled by the check, or a
+   *     negative value if no entries are left
+   */
+  void onCheckFinished(final long nextDeadline) {
+    if (remainingEntries <= 0) {
+      actor.submit(check);
+      return;
+    }
+
+    final long delay;
+    if (nextDeadline < 0) {
+      delay = maxInterval;
+    } else {
+      final long timeUntilDeadline = nextDeadline - ActorClock.currentTimeMillis();
+      delay = Math.min(Math.max(timeUntilDeadline, MIN_DELAY), maxInterval);
+    }
+
+    actor.runDelayed(Duration.ofMillis(delay), check);
+  }
+}
@@ -40,12 +40,17 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
     final ActorControl actor = context.getActor();
     // it is safe to reuse the write because we running in the same actor/thread
     final MessageTimeToLiveChecker timeToLiveChecker =
-        new MessageTimeToLiveChecker(context.getLogStreamWriter(), messageState);
-    context.getActor().runAtFixedRate(MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL, timeToLiveChecker);
+        new MessageTimeToLiveChecker(
+            context.getLogStreamWriter(), messageState, actor, MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL);
+    timeToLiveChecker.start();
 
     final PendingMessageSubscriptionChecker pendingSubscriptionChecker =
         new PendingMessageSubscriptionChecker(
-            subscriptionCommandSender, subscriptionState, SUBSCRIPTION_TIMEOUT.toMillis());
-    actor.runAtFixedRate(SUBSCRIPTION_CHECK_INTERVAL, pendingSubscriptionChecker);
+            subscriptionCommandSender,
+            subscriptionState,
+            SUBSCRIPTION_TIMEOUT.toMillis(),
+            actor,
+            SUBSCRIPTION_CHECK_INTERVAL);
+    pendingSubscriptionChecker.start();
   }
 }
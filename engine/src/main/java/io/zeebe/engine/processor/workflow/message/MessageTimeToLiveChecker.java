@@ -12,28 +12,61 @@ import io.zeebe.engine.state.message.Message;
 import io.zeebe.engine.state.message.MessageState;
 import io.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.zeebe.protocol.record.intent.MessageIntent;
+import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
 
 public final class MessageTimeToLiveChecker implements Runnable {
 
   private final TypedCommandWriter writer;
   private final MessageState messageState;
 
+  private final DeadlineCheckScheduler scheduler;
+
   private final MessageRecord deleteMessageCommand = new MessageRecord();
 
+  // the last message for which a delete command was written; the messages before it are skipped on
+  // the next checks, until their commands are processed, to avoid writing the same command again
+  private long lastDeadline = -1L;
+  private long lastMessageKey = -1L;
+
   public MessageTimeToLiveChecker(
-      final TypedCommandWriter writer, final MessageState messageState) {
+      final TypedCommandWriter writer,
+      final MessageState messageState,
+      final ActorControl actor,
+      final Duration checkInterval) {
     this.writer = writer;
     this.messageState = messageState;
+    scheduler = new DeadlineCheckScheduler(actor, checkInterval, this);
+  }
+
+  public void start() {
+    scheduler.start();
   }
 
   @Override
   public void run() {
-    messageState.visitMessagesWithDeadlineBefore(
-        ActorClock.currentTimeMillis(), this::writeDeleteMessageCommand);
+    scheduler.onCheckStarted();
+
+    final long nextDeadline =
+        messageState.visitMessagesWithDeadlineBefore(
+            ActorClock.currentTimeMillis(), this::writeDeleteMessageCommand);
+
+    scheduler.onCheckFinished(nextDeadline);
   }
 
   private boolean writeDeleteMessageCommand(final Message message) {
+    final long deadline = message.getDeadline();
+    final long messageKey = message.getKey();
+    if (deadline < lastDeadline || (deadline == lastDeadline && messageKey <= lastMessageKey)) {
+      // the command was already written
+      return true;
+    }
+
+    if (!scheduler.tryVisitEntry()) {
+      return false;
+    }
+
     deleteMessageCommand.reset();
     deleteMessageCommand
         .setName(message.getName())
@@ -46,9 +79,15 @@ public final class MessageTimeToLiveChecker implements Runnable {
     }
 
     writer.reset();
-    writer.appendFollowUpCommand(message.getKey(), MessageIntent.DELETE, deleteMessageCommand);
+    writer.appendFollowUpCommand(messageKey, MessageIntent.DELETE, deleteMessageCommand);
 
     final long position = writer.flush();
-    return position > 0;
+    if (position <= 0) {
+      return false;
+    }
+
+    lastDeadline = deadline;
+    lastMessageKey = messageKey;
+    return true;
   }
 }
@@ -10,30 +10,50 @@ package io.zeebe.engine.processor.workflow.message;
 import io.zeebe.engine.processor.workflow.message.command.SubscriptionCommandSender;
 import io.zeebe.engine.state.message.MessageSubscription;
 import io.zeebe.engine.state.message.MessageSubscriptionState;
+import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
 
 public final class PendingMessageSubscriptionChecker implements Runnable {
   private final SubscriptionCommandSender commandSender;
   private final MessageSubscriptionState subscriptionState;
 
+  private final DeadlineCheckScheduler scheduler;
+
   private final long subscriptionTimeout;
 
   public PendingMessageSubscriptionChecker(
       final SubscriptionCommandSender commandSender,
       final MessageSubscriptionState subscriptionState,
-      final long subscriptionTimeout) {
+      final long subscriptionTimeout,
+      final ActorControl actor,
+      final Duration checkInterval) {
     this.commandSender = commandSender;
     this.subscriptionState = subscriptionState;
     this.subscriptionTimeout = subscriptionTimeout;
+    scheduler = new DeadlineCheckScheduler(actor, checkInterval, this);
+  }
+
+  public void start() {
+    scheduler.start();
   }
 
   @Override
   public void run() {
-    subscriptionState.visitSubscriptionBefore(
-        ActorClock.currentTimeMillis() - subscriptionTimeout, this::sendCommand);
+    scheduler.onCheckStarted();
+
+    final long nextSentTime =
+        subscriptionState.visitSubscriptionBefore(
+            ActorClock.currentTimeMillis() - subscriptionTimeout, this::sendCommand);
+
+    scheduler.onCheckFinished(nextSentTime < 0 ? -1L : nextSentTime + subscriptionTimeout);
   }
 
   private boolean sendCommand(final MessageSubscription subscription) {
+    if (!scheduler.tryVisitEntry()) {
+      return false;
+    }
+
     final boolean success =
         commandSender.correlateWorkflowInstanceSubscription(
             subscription.getWorkflowInstanceKey(),
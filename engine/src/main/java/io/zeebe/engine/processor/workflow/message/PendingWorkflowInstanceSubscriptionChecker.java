@@ -10,32 +10,51 @@ package io.zeebe.engine.processor.workflow.message;
 import io.zeebe.engine.processor.workflow.message.command.SubscriptionCommandSender;
 import io.zeebe.engine.state.message.WorkflowInstanceSubscription;
 import io.zeebe.engine.state.message.WorkflowInstanceSubscriptionState;
+import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
 
 public final class PendingWorkflowInstanceSubscriptionChecker implements Runnable {
 
   private final SubscriptionCommandSender commandSender;
   private final WorkflowInstanceSubscriptionState subscriptionState;
 
+  private final DeadlineCheckScheduler scheduler;
+
   private final long subscriptionTimeout;
 
   public PendingWorkflowInstanceSubscriptionChecker(
       final SubscriptionCommandSender commandSender,
       final WorkflowInstanceSubscriptionState subscriptionState,
-      final long subscriptionTimeout) {
+      final long subscriptionTimeout,
+      final ActorControl actor,
+      final Duration checkInterval) {
     this.commandSender = commandSender;
     this.subscriptionState = subscriptionState;
     this.subscriptionTimeout = subscriptionTimeout;
+    scheduler = new DeadlineCheckScheduler(actor, checkInterval, this);
+  }
+
+  public void start() {
+    scheduler.start();
   }
 
   @Override
   public void run() {
+    scheduler.onCheckStarted();
 
-    subscriptionState.visitSubscriptionBefore(
-        ActorClock.currentTimeMillis() - subscriptionTimeout, this::sendCommand);
+    final long nextSentTime =
+        subscriptionState.visitSubscriptionBefore(
+            ActorClock.currentTimeMillis() - subscriptionTimeout, this::sendCommand);
+
+    scheduler.onCheckFinished(nextSentTime < 0 ? -1L : nextSentTime + subscriptionTimeout);
   }
 
   private boolean sendCommand(final WorkflowInstanceSubscription subscription) {
+    if (!scheduler.tryVisitEntry()) {
+      return false;
+    }
+
     final boolean success;
 
     // can only be opening/closing as an opened subscription is not indexed in the sent time column
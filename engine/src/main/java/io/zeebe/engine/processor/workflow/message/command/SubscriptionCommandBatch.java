@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor.workflow.message.command;
+
+import static io.zeebe.protocol.Protocol.ENDIANNESS;
+
+import io.zeebe.util.buffer.BufferWriter;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * Coalesces subscription commands for the same receiver partition, so they can be sent as one
+ * message and written to the log as one batch.
+ *
+ * <p>Each command is prefixed by its length:
+ *
+ * <pre>
+ * | length (int32) | command (length bytes) | length (int32) | command (length bytes) | ...
+ * </pre>
+ */
+public final class SubscriptionCommandBatch {
+
+  private static final int LENGTH_FIELD_SIZE = BitUtil.SIZE_OF_INT;
+
+  private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+  private int length;
+  private int commandCount;
+
+  public void add(final BufferWriter command) {
+    final int commandLength = command.getLength();
+
+    buffer.putInt(length, commandLength, ENDIANNESS);
+    command.write(buffer, length + LENGTH_FIELD_SIZE);
+
+    length += LENGTH_FIELD_SIZE + commandLength;
+    commandCount += 1;
+  }
+
+  public boolean isEmpty() {
+    return commandCount == 0;
+  }
+
+  public int getCommandCount() {
+    return commandCount;
+  }
+
+  public int getLength() {
+    return length;
+  }
+
+  /**
+   * @return the framed commands of the batch or, if the batch contains a single command, only the
+   *     command itself, so it can be handled by a receiver which doesn't know about batches
+   */
+  public byte[] toByteArray() {
+    if (commandCount == 1) {
+      final byte[] bytes = new byte[length - LENGTH_FIELD_SIZE];
+      buffer.getBytes(LENGTH_FIELD_SIZE, bytes);
+      return bytes;
+    }
+
+    final byte[] bytes = new byte[length];
+    buffer.getBytes(0, bytes);
+    return bytes;
+  }
+
+  public void reset() {
+    length = 0;
+    commandCount = 0;
+  }
+
+  /** Invokes the consumer for each command of a batch which was created by {@link #add}. */
+  public static void forEachCommand(
+      final DirectBuffer batch,
+      final int offset,
+      final int length,
+      final CommandConsumer consumer) {
+    int commandOffset = offset;
+    final int limit = offset + length;
+
+    while (commandOffset + LENGTH_FIELD_SIZE <= limit) {
+      final int commandLength = batch.getInt(commandOffset, ENDIANNESS);
+      commandOffset += LENGTH_FIELD_SIZE;
+
+      consumer.accept(batch, commandOffset, commandLength);
+      commandOffset += commandLength;
+    }
+  }
+
+  @FunctionalInterface
+  public interface CommandConsumer {
+    void accept(DirectBuffer buffer, int offset, int length);
+  }
+}
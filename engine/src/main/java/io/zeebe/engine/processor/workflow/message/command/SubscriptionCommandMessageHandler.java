@@ -7,7 +7,7 @@
  */
 package io.zeebe.engine.processor.workflow.message.command;
 
-import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.Protocol;
 import io.zeebe.protocol.impl.record.RecordMetadata;
@@ -61,13 +61,16 @@ public final class SubscriptionCommandMessageHandler
       new WorkflowInstanceSubscriptionRecord();
 
   private final Consumer<Runnable> enviromentToRun;
-  private final IntFunction<LogStreamRecordWriter> logstreamRecordWriterSupplier;
+  private final IntFunction<LogStreamBatchWriter> logStreamBatchWriterSupplier;
+
+  private LogStreamBatchWriter batchWriter;
+  private int batchPartitionId;
 
   public SubscriptionCommandMessageHandler(
       final Consumer<Runnable> enviromentToRun,
-      final IntFunction<LogStreamRecordWriter> logstreamRecordWriterSupplier) {
+      final IntFunction<LogStreamBatchWriter> logStreamBatchWriterSupplier) {
     this.enviromentToRun = enviromentToRun;
-    this.logstreamRecordWriterSupplier = logstreamRecordWriterSupplier;
+    this.logStreamBatchWriterSupplier = logStreamBatchWriterSupplier;
   }
 
   @Override
@@ -76,43 +79,66 @@ public final class SubscriptionCommandMessageHandler
     enviromentToRun.accept(
         () -> {
           final DirectBuffer buffer = new UnsafeBuffer(bytes);
-          final int offset = 0;
-          final int length = buffer.capacity();
-          messageHeaderDecoder.wrap(buffer, offset);
-
-          if (messageHeaderDecoder.schemaId() == OpenMessageSubscriptionDecoder.SCHEMA_ID) {
-
-            switch (messageHeaderDecoder.templateId()) {
-              case OpenMessageSubscriptionDecoder.TEMPLATE_ID:
-                onOpenMessageSubscription(buffer, offset, length);
-                break;
-              case OpenWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onOpenWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case CorrelateWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onCorrelateWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case CorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
-                onCorrelateMessageSubscription(buffer, offset, length);
-                break;
-              case CloseMessageSubscriptionDecoder.TEMPLATE_ID:
-                onCloseMessageSubscription(buffer, offset, length);
-                break;
-              case CloseWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onCloseWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case RejectCorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
-                onRejectCorrelateMessageSubscription(buffer, offset, length);
-                break;
-              default:
-                break;
-            }
-          }
+          handleCommand(buffer, 0, buffer.capacity());
+          flushBatch();
+
+          future.complete(null);
+        });
+    return future;
+  }
+
+  /**
+   * Handles a message which contains several commands, as written by {@link
+   * SubscriptionCommandBatch}. The commands for the same partition are written to its log as one
+   * batch.
+   */
+  public CompletableFuture<Void> applyBatch(final byte[] bytes) {
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    enviromentToRun.accept(
+        () -> {
+          final DirectBuffer buffer = new UnsafeBuffer(bytes);
+          SubscriptionCommandBatch.forEachCommand(
+              buffer, 0, buffer.capacity(), this::handleCommand);
+          flushBatch();
+
           future.complete(null);
         });
     return future;
   }
 
+  private void handleCommand(final DirectBuffer buffer, final int offset, final int length) {
+    messageHeaderDecoder.wrap(buffer, offset);
+
+    if (messageHeaderDecoder.schemaId() == OpenMessageSubscriptionDecoder.SCHEMA_ID) {
+
+      switch (messageHeaderDecoder.templateId()) {
+        case OpenMessageSubscriptionDecoder.TEMPLATE_ID:
+          onOpenMessageSubscription(buffer, offset, length);
+          break;
+        case OpenWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+          onOpenWorkflowInstanceSubscription(buffer, offset, length);
+          break;
+        case CorrelateWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+          onCorrelateWorkflowInstanceSubscription(buffer, offset, length);
+          break;
+        case CorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
+          onCorrelateMessageSubscription(buffer, offset, length);
+          break;
+        case CloseMessageSubscriptionDecoder.TEMPLATE_ID:
+          onCloseMessageSubscription(buffer, offset, length);
+          break;
+        case CloseWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+          onCloseWorkflowInstanceSubscription(buffer, offset, length);
+          break;
+        case RejectCorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
+          onRejectCorrelateMessageSubscription(buffer, offset, length);
+          break;
+        default:
+          break;
+      }
+    }
+  }
+
   private boolean onOpenMessageSubscription(
       final DirectBuffer buffer, final int offset, final int length) {
     openMessageSubscriptionCommand.wrap(buffer, offset, length);
@@ -274,22 +300,36 @@ public final class SubscriptionCommandMessageHandler
       final Intent intent,
       final UnpackedObject command) {
 
-    final LogStreamRecordWriter logStreamRecordWriter =
-        logstreamRecordWriterSupplier.apply(partitionId);
-    if (logStreamRecordWriter == null) {
-      // ignore message if you are not the leader of the partition
-      return true;
+    if (batchWriter != null && batchPartitionId != partitionId) {
+      flushBatch();
+    }
+
+    if (batchWriter == null) {
+      final LogStreamBatchWriter logStreamBatchWriter =
+          logStreamBatchWriterSupplier.apply(partitionId);
+      if (logStreamBatchWriter == null) {
+        // ignore message if you are not the leader of the partition
+        return true;
+      }
+
+      logStreamBatchWriter.reset();
+      batchWriter = logStreamBatchWriter;
+      batchPartitionId = partitionId;
     }
 
-    logStreamRecordWriter.reset();
     recordMetadata.reset().recordType(RecordType.COMMAND).valueType(valueType).intent(intent);
 
-    final long position =
-        logStreamRecordWriter
-            .key(-1)
-            .metadataWriter(recordMetadata)
-            .valueWriter(command)
-            .tryWrite();
+    batchWriter.event().key(-1).metadataWriter(recordMetadata).valueWriter(command).done();
+    return true;
+  }
+
+  private boolean flushBatch() {
+    if (batchWriter == null) {
+      return true;
+    }
+
+    final long position = batchWriter.tryWrite();
+    batchWriter = null;
 
     return position > 0;
   }
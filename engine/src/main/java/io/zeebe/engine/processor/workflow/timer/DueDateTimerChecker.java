@@ -28,6 +28,7 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
   private final WorkflowState workflowState;
   private ActorControl actor;
   private TypedStreamWriter streamWriter;
+  private Runnable batchCommitter;
 
   private ScheduledTimer scheduledTimer;
   private long nextDueDate = -1L;
@@ -61,6 +62,8 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
   }
 
   private void triggerTimers() {
+    batchCommitter.run();
+
     nextDueDate =
         workflowState
             .getTimerState()
@@ -97,6 +100,7 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
   public void onRecovered(final ReadonlyProcessingContext processingContext) {
     this.actor = processingContext.getActor();
     streamWriter = processingContext.getLogStreamWriter();
+    batchCommitter = processingContext.getBatchCommitter();
     // check if timers are due after restart
     triggerTimers();
   }
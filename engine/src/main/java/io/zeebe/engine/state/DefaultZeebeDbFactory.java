@@ -8,16 +8,18 @@
 package io.zeebe.engine.state;
 
 import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.rocksdb.SharedRocksDbResources;
 import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
 
 public final class DefaultZeebeDbFactory {
 
   /**
    * The default zeebe database factory, which is used in most of the places except for the
-   * exporters.
+   * exporters. The column families are tuned by their {@link ZbColumnFamilies#getProfile()
+   * profile}, like in the broker, but each database has its own memory.
    */
   public static final ZeebeDbFactory<ZbColumnFamilies> DEFAULT_DB_FACTORY =
-      defaultFactory(ZbColumnFamilies.class);
+      ZeebeRocksDbFactory.newFactory(ZbColumnFamilies.class, ZbColumnFamilies::getProfile);
 
   /**
    * Returns the default zeebe database factory which is used in the broker.
@@ -32,4 +34,18 @@ public final class DefaultZeebeDbFactory {
     // one place to replace the zeebe database implementation
     return ZeebeRocksDbFactory.newFactory(columnFamilyNamesClass);
   }
+
+  /**
+   * Returns the zeebe database factory which is used for the partitions of the broker. The column
+   * families are tuned by their {@link ZbColumnFamilies#getProfile() profile}, and all created
+   * databases share the memory of the given resources.
+   *
+   * @param sharedResources the resources shared by the databases of all partitions
+   * @return the created zeebe database factory
+   */
+  public static ZeebeDbFactory<ZbColumnFamilies> newFactory(
+      final SharedRocksDbResources sharedResources) {
+    return ZeebeRocksDbFactory.newFactory(
+        ZbColumnFamilies.class, ZbColumnFamilies::getProfile, sharedResources);
+  }
 }
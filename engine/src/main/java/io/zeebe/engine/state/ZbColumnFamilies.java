@@ -7,79 +7,92 @@
  */
 package io.zeebe.engine.state;
 
+import io.zeebe.db.ColumnFamilyProfile;
+
 public enum ZbColumnFamilies {
-  DEFAULT,
+  DEFAULT(ColumnFamilyProfile.DEFAULT),
 
   // util
-  KEY,
+  KEY(ColumnFamilyProfile.POINT_LOOKUP),
 
   // workflow
-  WORKFLOW_VERSION,
+  WORKFLOW_VERSION(ColumnFamilyProfile.POINT_LOOKUP),
 
   // workflow cache
-  WORKFLOW_CACHE,
-  WORKFLOW_CACHE_BY_ID_AND_VERSION,
-  WORKFLOW_CACHE_LATEST_KEY,
-  WORKFLOW_CACHE_DIGEST_BY_ID,
+  WORKFLOW_CACHE(ColumnFamilyProfile.POINT_LOOKUP),
+  WORKFLOW_CACHE_BY_ID_AND_VERSION(ColumnFamilyProfile.POINT_LOOKUP),
+  WORKFLOW_CACHE_LATEST_KEY(ColumnFamilyProfile.POINT_LOOKUP),
+  WORKFLOW_CACHE_DIGEST_BY_ID(ColumnFamilyProfile.POINT_LOOKUP),
 
   // element instance
-  ELEMENT_INSTANCE_PARENT_CHILD,
-  ELEMENT_INSTANCE_KEY,
-  STORED_INSTANCE_EVENTS,
-  STORED_INSTANCE_EVENTS_PARENT_CHILD,
+  ELEMENT_INSTANCE_PARENT_CHILD(ColumnFamilyProfile.prefixScan(Long.BYTES)),
+  ELEMENT_INSTANCE_KEY(ColumnFamilyProfile.POINT_LOOKUP),
+  STORED_INSTANCE_EVENTS(ColumnFamilyProfile.POINT_LOOKUP),
+  STORED_INSTANCE_EVENTS_PARENT_CHILD(ColumnFamilyProfile.prefixScan(Long.BYTES)),
 
   // variable state
-  ELEMENT_INSTANCE_CHILD_PARENT,
-  VARIABLES,
-  TEMPORARY_VARIABLE_STORE,
+  ELEMENT_INSTANCE_CHILD_PARENT(ColumnFamilyProfile.POINT_LOOKUP),
+  VARIABLES(ColumnFamilyProfile.prefixScan(Long.BYTES)),
+  TEMPORARY_VARIABLE_STORE(ColumnFamilyProfile.POINT_LOOKUP),
 
   // timer state
-  TIMERS,
-  TIMER_DUE_DATES,
+  TIMERS(ColumnFamilyProfile.prefixScan(Long.BYTES)),
+  TIMER_DUE_DATES(ColumnFamilyProfile.DEFAULT),
 
   // pending deployments
-  PENDING_DEPLOYMENT,
+  PENDING_DEPLOYMENT(ColumnFamilyProfile.POINT_LOOKUP),
 
   // jobs
-  JOBS,
-  JOB_STATES,
-  JOB_DEADLINES,
-  JOB_ACTIVATABLE,
+  JOBS(ColumnFamilyProfile.POINT_LOOKUP),
+  JOB_STATES(ColumnFamilyProfile.POINT_LOOKUP),
+  JOB_DEADLINES(ColumnFamilyProfile.DEFAULT),
+  JOB_ACTIVATABLE(ColumnFamilyProfile.POINT_LOOKUP),
 
   // message
-  MESSAGE_KEY,
-  MESSAGES,
-  MESSAGE_DEADLINES,
-  MESSAGE_IDS,
-  MESSAGE_CORRELATED,
-  MESSAGE_WORKFLOWS_ACTIVE_BY_CORRELATION_KEY,
-  MESSAGE_WORKFLOW_INSTANCE_CORRELATION_KEYS,
+  MESSAGE_KEY(ColumnFamilyProfile.POINT_LOOKUP),
+  MESSAGES(ColumnFamilyProfile.POINT_LOOKUP),
+  MESSAGE_DEADLINES(ColumnFamilyProfile.DEFAULT),
+  MESSAGE_IDS(ColumnFamilyProfile.POINT_LOOKUP),
+  MESSAGE_CORRELATED(ColumnFamilyProfile.prefixScan(Long.BYTES)),
+  MESSAGE_WORKFLOWS_ACTIVE_BY_CORRELATION_KEY(ColumnFamilyProfile.POINT_LOOKUP),
+  MESSAGE_WORKFLOW_INSTANCE_CORRELATION_KEYS(ColumnFamilyProfile.POINT_LOOKUP),
 
   // message subscription
-  MESSAGE_SUBSCRIPTION_BY_KEY,
-  MESSAGE_SUBSCRIPTION_BY_SENT_TIME,
-  MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY,
+  MESSAGE_SUBSCRIPTION_BY_KEY(ColumnFamilyProfile.POINT_LOOKUP),
+  MESSAGE_SUBSCRIPTION_BY_SENT_TIME(ColumnFamilyProfile.DEFAULT),
+  MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY(ColumnFamilyProfile.POINT_LOOKUP),
 
   // message start event subscription
-  MESSAGE_START_EVENT_SUBSCRIPTION_BY_NAME_AND_KEY,
-  MESSAGE_START_EVENT_SUBSCRIPTION_BY_KEY_AND_NAME,
+  MESSAGE_START_EVENT_SUBSCRIPTION_BY_NAME_AND_KEY(ColumnFamilyProfile.POINT_LOOKUP),
+  MESSAGE_START_EVENT_SUBSCRIPTION_BY_KEY_AND_NAME(ColumnFamilyProfile.prefixScan(Long.BYTES)),
 
   // workflow instance subscription
-  WORKFLOW_SUBSCRIPTION_BY_KEY,
-  WORKFLOW_SUBSCRIPTION_BY_SENT_TIME,
+  WORKFLOW_SUBSCRIPTION_BY_KEY(ColumnFamilyProfile.prefixScan(Long.BYTES)),
+  WORKFLOW_SUBSCRIPTION_BY_SENT_TIME(ColumnFamilyProfile.DEFAULT),
 
   // incident
-  INCIDENTS,
-  INCIDENT_WORKFLOW_INSTANCES,
-  INCIDENT_JOBS,
+  INCIDENTS(ColumnFamilyProfile.POINT_LOOKUP),
+  INCIDENT_WORKFLOW_INSTANCES(ColumnFamilyProfile.POINT_LOOKUP),
+  INCIDENT_JOBS(ColumnFamilyProfile.POINT_LOOKUP),
 
   // event
-  EVENT_SCOPE,
-  EVENT_TRIGGER,
+  EVENT_SCOPE(ColumnFamilyProfile.POINT_LOOKUP),
+  EVENT_TRIGGER(ColumnFamilyProfile.prefixScan(Long.BYTES)),
+
+  BLACKLIST(ColumnFamilyProfile.POINT_LOOKUP),
+
+  EXPORTER(ColumnFamilyProfile.POINT_LOOKUP),
+
+  AWAIT_WORKLOW_RESULT(ColumnFamilyProfile.POINT_LOOKUP);
 
-  BLACKLIST,
+  private final ColumnFamilyProfile profile;
 
-  EXPORTER,
+  ZbColumnFamilies(final ColumnFamilyProfile profile) {
+    this.profile = profile;
+  }
 
-  AWAIT_WORKLOW_RESULT
+  /** @return how the keys of the column family are accessed */
+  public ColumnFamilyProfile getProfile() {
+    return profile;
+  }
 }
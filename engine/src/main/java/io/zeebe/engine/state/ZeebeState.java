@@ -57,7 +57,7 @@ public class ZeebeState {
       final int partitionId, final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
     this.partitionId = partitionId;
     keyState = new KeyState(partitionId, zeebeDb, dbContext);
-    workflowState = new WorkflowState(zeebeDb, dbContext, keyState);
+    workflowState = new WorkflowState(zeebeDb, dbContext, keyState, partitionId);
     deploymentState = new DeploymentsState(zeebeDb, dbContext);
     jobState = new JobState(zeebeDb, dbContext, partitionId);
     messageState = new MessageState(zeebeDb, dbContext);
@@ -153,6 +153,14 @@ public class ZeebeState {
     lastProcessedPositionState.setPosition(position);
   }
 
+  /**
+   * Discards the state which is cached in memory, because it may contain changes of the transaction
+   * which was rolled back.
+   */
+  public void onRollback() {
+    workflowState.getElementInstanceState().getVariablesState().clearCache();
+  }
+
   public long getLastSuccessfulProcessedRecordPosition() {
     return lastProcessedPositionState.getPosition();
   }
@@ -8,16 +8,23 @@
 package io.zeebe.engine.state.deployment;
 
 import io.zeebe.engine.processor.workflow.deployment.model.element.ExecutableWorkflow;
+import java.util.function.Function;
 import org.agrona.DirectBuffer;
 
 public final class DeployedWorkflow {
-  private final ExecutableWorkflow workflow;
   private final PersistedWorkflow persistedWorkflow;
+  private final Function<PersistedWorkflow, ExecutableWorkflow> transformer;
+  private ExecutableWorkflow workflow;
 
+  /**
+   * Creates a workflow which is transformed on the first call of {@link #getWorkflow()}, because
+   * the transformation of the BPMN resource is expensive and many workflows are never executed.
+   */
   public DeployedWorkflow(
-      final ExecutableWorkflow workflow, final PersistedWorkflow persistedWorkflow) {
-    this.workflow = workflow;
+      final PersistedWorkflow persistedWorkflow,
+      final Function<PersistedWorkflow, ExecutableWorkflow> transformer) {
     this.persistedWorkflow = persistedWorkflow;
+    this.transformer = transformer;
   }
 
   public DirectBuffer getResourceName() {
@@ -25,6 +32,9 @@ public final class DeployedWorkflow {
   }
 
   public ExecutableWorkflow getWorkflow() {
+    if (workflow == null) {
+      workflow = transformer.apply(persistedWorkflow);
+    }
     return workflow;
   }
 
@@ -13,6 +13,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbString;
+import io.zeebe.engine.metrics.WorkflowCacheMetrics;
 import io.zeebe.engine.processor.workflow.deployment.model.BpmnFactory;
 import io.zeebe.engine.processor.workflow.deployment.model.element.ExecutableWorkflow;
 import io.zeebe.engine.processor.workflow.deployment.model.transformation.BpmnTransformer;
@@ -23,26 +24,42 @@ import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
 import io.zeebe.protocol.impl.record.value.deployment.Workflow;
 import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.LongHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 
+/**
+ * Persists the deployed workflows and keeps the recently used ones in memory. The number of
+ * workflows in memory is bounded; when the bound is reached, the least recently used workflow is
+ * evicted and read again from the state when it is needed. A workflow is only transformed into an
+ * {@link ExecutableWorkflow} when it is executed.
+ */
 public final class WorkflowPersistenceCache {
 
+  public static final int DEFAULT_CAPACITY = 1_000;
+
+  private static final long NO_WORKFLOW_KEY = -1L;
+
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
 
-  private final Map<DirectBuffer, Long2ObjectHashMap<DeployedWorkflow>>
-      workflowsByProcessIdAndVersion = new HashMap<>();
+  private final Long2ObjectHashMap<CachedWorkflow> workflowsByKey = new Long2ObjectHashMap<>();
+  private final Map<DirectBuffer, Long2LongHashMap> workflowKeysByProcessIdAndVersion =
+      new HashMap<>();
+  // the cached workflows are linked from the most to the least recently used one
+  private final CachedWorkflow lruHead = new CachedWorkflow(null);
+  private final int capacity;
+  private final WorkflowCacheMetrics metrics;
+
   private final LongHashSet deployments;
-  private final Long2ObjectHashMap<DeployedWorkflow> workflowsByKey;
 
   // workflow
   private final ColumnFamily<DbLong, PersistedWorkflow> workflowColumnFamily;
@@ -61,7 +78,24 @@ public final class WorkflowPersistenceCache {
   private final Digest digest = new Digest();
 
   public WorkflowPersistenceCache(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext, final int partitionId) {
+    this(zeebeDb, dbContext, partitionId, DEFAULT_CAPACITY);
+  }
+
+  public WorkflowPersistenceCache(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final DbContext dbContext,
+      final int partitionId,
+      final int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(
+          "Expected capacity to be greater than 0, but was " + capacity);
+    }
+    this.capacity = capacity;
+    metrics = new WorkflowCacheMetrics(partitionId);
+    lruHead.previous = lruHead;
+    lruHead.next = lruHead;
+
     workflowKey = new DbLong();
     persistedWorkflow = new PersistedWorkflow();
     workflowColumnFamily =
@@ -87,7 +121,6 @@ public final class WorkflowPersistenceCache {
             ZbColumnFamilies.WORKFLOW_CACHE_DIGEST_BY_ID, dbContext, workflowId, digest);
 
     deployments = new LongHashSet();
-    workflowsByKey = new Long2ObjectHashMap<>();
   }
 
   boolean putDeployment(final long deploymentKey, final DeploymentRecord deploymentRecord) {
@@ -131,9 +164,7 @@ public final class WorkflowPersistenceCache {
     }
   }
 
-  // is called on getters, if workflow is not in memory
-  private DeployedWorkflow updateInMemoryState(final PersistedWorkflow persistedWorkflow) {
-
+  private DeployedWorkflow newDeployedWorkflow(final PersistedWorkflow persistedWorkflow) {
     // we have to copy to store this in cache
     final byte[] bytes = new byte[persistedWorkflow.getLength()];
     final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
@@ -142,22 +173,18 @@ public final class WorkflowPersistenceCache {
     final PersistedWorkflow copiedWorkflow = new PersistedWorkflow();
     copiedWorkflow.wrap(buffer, 0, persistedWorkflow.getLength());
 
+    return new DeployedWorkflow(copiedWorkflow, this::transformWorkflow);
+  }
+
+  private ExecutableWorkflow transformWorkflow(final PersistedWorkflow persistedWorkflow) {
     final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedWorkflow.getResource());
+        readModelInstanceFromBuffer(persistedWorkflow.getResource());
     final List<ExecutableWorkflow> definitions = transformer.transformDefinitions(modelInstance);
 
-    final ExecutableWorkflow executableWorkflow =
-        definitions.stream()
-            .filter((w) -> BufferUtil.equals(persistedWorkflow.getBpmnProcessId(), w.getId()))
-            .findFirst()
-            .get();
-
-    final DeployedWorkflow deployedWorkflow =
-        new DeployedWorkflow(executableWorkflow, copiedWorkflow);
-
-    addWorkflowToInMemoryState(deployedWorkflow);
-
-    return deployedWorkflow;
+    return definitions.stream()
+        .filter((w) -> BufferUtil.equals(persistedWorkflow.getBpmnProcessId(), w.getId()))
+        .findFirst()
+        .get();
   }
 
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
@@ -166,69 +193,92 @@ public final class WorkflowPersistenceCache {
     }
   }
 
-  private void addWorkflowToInMemoryState(final DeployedWorkflow deployedWorkflow) {
-    final DirectBuffer bpmnProcessId = deployedWorkflow.getBpmnProcessId();
-    workflowsByKey.put(deployedWorkflow.getKey(), deployedWorkflow);
+  // is called on getters, if workflow is not in memory
+  private DeployedWorkflow updateInMemoryState(final PersistedWorkflow persistedWorkflow) {
+    final DeployedWorkflow deployedWorkflow = newDeployedWorkflow(persistedWorkflow);
+    final CachedWorkflow cachedWorkflow = new CachedWorkflow(deployedWorkflow);
+
+    workflowsByKey.put(deployedWorkflow.getKey(), cachedWorkflow);
+    workflowKeysByProcessIdAndVersion
+        .computeIfAbsent(
+            deployedWorkflow.getBpmnProcessId(), id -> new Long2LongHashMap(NO_WORKFLOW_KEY))
+        .put(deployedWorkflow.getVersion(), deployedWorkflow.getKey());
+    linkAsMostRecentlyUsed(cachedWorkflow);
+
+    if (workflowsByKey.size() > capacity) {
+      evict(lruHead.previous);
+    }
+    metrics.setCachedWorkflows(workflowsByKey.size());
 
-    Long2ObjectHashMap<DeployedWorkflow> versionMap =
-        workflowsByProcessIdAndVersion.get(bpmnProcessId);
+    return deployedWorkflow;
+  }
 
-    if (versionMap == null) {
-      versionMap = new Long2ObjectHashMap<>();
-      workflowsByProcessIdAndVersion.put(bpmnProcessId, versionMap);
+  private void evict(final CachedWorkflow cachedWorkflow) {
+    final DeployedWorkflow deployedWorkflow = cachedWorkflow.workflow;
+    unlink(cachedWorkflow);
+    workflowsByKey.remove(deployedWorkflow.getKey());
+
+    final DirectBuffer bpmnProcessId = deployedWorkflow.getBpmnProcessId();
+    final Long2LongHashMap versions = workflowKeysByProcessIdAndVersion.get(bpmnProcessId);
+    versions.remove(deployedWorkflow.getVersion());
+    if (versions.isEmpty()) {
+      workflowKeysByProcessIdAndVersion.remove(bpmnProcessId);
     }
 
-    final int version = deployedWorkflow.getVersion();
-    versionMap.put(version, deployedWorkflow);
+    metrics.workflowEvicted();
   }
 
-  public DeployedWorkflow getLatestWorkflowVersionByProcessId(final DirectBuffer processId) {
-    final Long2ObjectHashMap<DeployedWorkflow> versionMap =
-        workflowsByProcessIdAndVersion.get(processId);
+  private DeployedWorkflow getCachedWorkflow(final long workflowKey) {
+    final CachedWorkflow cachedWorkflow = workflowsByKey.get(workflowKey);
+    if (cachedWorkflow == null) {
+      metrics.cacheMiss();
+      return null;
+    }
 
-    workflowId.wrapBuffer(processId);
-    final LatestWorkflowVersion latestVersion = latestWorkflowColumnFamily.get(workflowId);
+    metrics.cacheHit();
+    unlink(cachedWorkflow);
+    linkAsMostRecentlyUsed(cachedWorkflow);
+    return cachedWorkflow.workflow;
+  }
 
-    DeployedWorkflow deployedWorkflow;
-    if (versionMap == null) {
-      deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
-    } else {
-      deployedWorkflow = versionMap.get(latestVersion.get());
-      if (deployedWorkflow == null) {
-        deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
-      }
+  private DeployedWorkflow getCachedWorkflow(final DirectBuffer processId, final long version) {
+    final Long2LongHashMap versions = workflowKeysByProcessIdAndVersion.get(processId);
+    final long workflowKey = versions != null ? versions.get(version) : NO_WORKFLOW_KEY;
+
+    if (workflowKey == NO_WORKFLOW_KEY) {
+      metrics.cacheMiss();
+      return null;
     }
-    return deployedWorkflow;
+    return getCachedWorkflow(workflowKey);
   }
 
-  private DeployedWorkflow lookupWorkflowByIdAndPersistedVersion(
-      final LatestWorkflowVersion version) {
-    final long latestVersion = version != null ? version.get() : -1;
-    workflowVersion.wrapLong(latestVersion);
+  private void linkAsMostRecentlyUsed(final CachedWorkflow cachedWorkflow) {
+    cachedWorkflow.previous = lruHead;
+    cachedWorkflow.next = lruHead.next;
+    lruHead.next.previous = cachedWorkflow;
+    lruHead.next = cachedWorkflow;
+  }
 
-    final PersistedWorkflow persistedWorkflow =
-        workflowByIdAndVersionColumnFamily.get(idAndVersionKey);
+  private void unlink(final CachedWorkflow cachedWorkflow) {
+    cachedWorkflow.previous.next = cachedWorkflow.next;
+    cachedWorkflow.next.previous = cachedWorkflow.previous;
+  }
 
-    if (persistedWorkflow != null) {
-      final DeployedWorkflow deployedWorkflow = updateInMemoryState(persistedWorkflow);
-      return deployedWorkflow;
+  public DeployedWorkflow getLatestWorkflowVersionByProcessId(final DirectBuffer processId) {
+    workflowId.wrapBuffer(processId);
+    final LatestWorkflowVersion latestVersion = latestWorkflowColumnFamily.get(workflowId);
+
+    if (latestVersion == null) {
+      return null;
     }
-    return null;
+    return getWorkflowByProcessIdAndVersion(processId, (int) latestVersion.get());
   }
 
   public DeployedWorkflow getWorkflowByProcessIdAndVersion(
       final DirectBuffer processId, final int version) {
-    final Long2ObjectHashMap<DeployedWorkflow> versionMap =
-        workflowsByProcessIdAndVersion.get(processId);
-
-    if (versionMap != null) {
-      final DeployedWorkflow deployedWorkflow = versionMap.get(version);
-      return deployedWorkflow != null
-          ? deployedWorkflow
-          : lookupPersistenceState(processId, version);
-    } else {
-      return lookupPersistenceState(processId, version);
-    }
+    final DeployedWorkflow deployedWorkflow = getCachedWorkflow(processId, version);
+
+    return deployedWorkflow != null ? deployedWorkflow : lookupPersistenceState(processId, version);
   }
 
   private DeployedWorkflow lookupPersistenceState(final DirectBuffer processId, final int version) {
@@ -239,21 +289,14 @@ public final class WorkflowPersistenceCache {
         workflowByIdAndVersionColumnFamily.get(idAndVersionKey);
 
     if (persistedWorkflow != null) {
-      updateInMemoryState(persistedWorkflow);
-
-      final Long2ObjectHashMap<DeployedWorkflow> newVersionMap =
-          workflowsByProcessIdAndVersion.get(processId);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(persistedWorkflow);
     }
     // does not exist in persistence and in memory state
     return null;
   }
 
   public DeployedWorkflow getWorkflowByKey(final long key) {
-    final DeployedWorkflow deployedWorkflow = workflowsByKey.get(key);
+    final DeployedWorkflow deployedWorkflow = getCachedWorkflow(key);
 
     if (deployedWorkflow != null) {
       return deployedWorkflow;
@@ -267,35 +310,43 @@ public final class WorkflowPersistenceCache {
 
     final PersistedWorkflow persistedWorkflow = workflowColumnFamily.get(this.workflowKey);
     if (persistedWorkflow != null) {
-      updateInMemoryState(persistedWorkflow);
-
-      final DeployedWorkflow deployedWorkflow = workflowsByKey.get(workflowKey);
-      return deployedWorkflow;
+      return updateInMemoryState(persistedWorkflow);
     }
     // does not exist in persistence and in memory state
     return null;
   }
 
+  /**
+   * Returns all deployed workflows. The workflows which are not in memory are read from the state,
+   * but not added to the cache.
+   */
   public Collection<DeployedWorkflow> getWorkflows() {
-    updateCompleteInMemoryState();
-    return workflowsByKey.values();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
+    workflowColumnFamily.forEach(workflow -> workflows.add(getWorkflowWithoutCaching(workflow)));
+    return workflows;
   }
 
+  /**
+   * Returns all deployed versions of the workflow with the given BPMN process id. The workflows
+   * which are not in memory are read from the state, but not added to the cache.
+   */
   public Collection<DeployedWorkflow> getWorkflowsByBpmnProcessId(
       final DirectBuffer bpmnProcessId) {
-    updateCompleteInMemoryState();
-
-    final Long2ObjectHashMap<DeployedWorkflow> workflowsByVersions =
-        workflowsByProcessIdAndVersion.get(bpmnProcessId);
-
-    if (workflowsByVersions != null) {
-      return workflowsByVersions.values();
-    }
-    return Collections.emptyList();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
+    workflowId.wrapBuffer(bpmnProcessId);
+    workflowByIdAndVersionColumnFamily.whileEqualPrefix(
+        workflowId,
+        (key, workflow) -> {
+          workflows.add(getWorkflowWithoutCaching(workflow));
+        });
+    return workflows;
   }
 
-  private void updateCompleteInMemoryState() {
-    workflowColumnFamily.forEach((workflow) -> updateInMemoryState(persistedWorkflow));
+  private DeployedWorkflow getWorkflowWithoutCaching(final PersistedWorkflow persistedWorkflow) {
+    final CachedWorkflow cachedWorkflow = workflowsByKey.get(persistedWorkflow.getKey());
+    return cachedWorkflow != null
+        ? cachedWorkflow.workflow
+        : newDeployedWorkflow(persistedWorkflow);
   }
 
   public void putLatestVersionDigest(final DirectBuffer processId, final DirectBuffer digest) {
@@ -310,4 +361,14 @@ public final class WorkflowPersistenceCache {
     final Digest latestDigest = digestByIdColumnFamily.get(workflowId);
     return latestDigest == null || digest.get().byteArray() == null ? null : latestDigest.get();
   }
+
+  private static final class CachedWorkflow {
+    private final DeployedWorkflow workflow;
+    private CachedWorkflow previous;
+    private CachedWorkflow next;
+
+    private CachedWorkflow(final DeployedWorkflow workflow) {
+      this.workflow = workflow;
+    }
+  }
 }
@@ -55,6 +55,7 @@ public final class JobState {
   private final JobMetrics metrics;
 
   private Consumer<String> onJobsAvailableCallback;
+  private long nextDeadline;
 
   public JobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext, final int partitionId) {
@@ -210,6 +211,36 @@ public final class JobState {
         });
   }
 
+  /**
+   * Visits the jobs with a deadline before or at the given timestamp, ordered by their deadline,
+   * until the callback returns false.
+   *
+   * @return the deadline of the first job which was not visited or not consumed by the callback, or
+   *     -1 if there is no such job
+   */
+  public long findTimedOutJobs(
+      final long timestamp, final BiFunction<Long, JobRecord, Boolean> callback) {
+    nextDeadline = -1L;
+
+    deadlinesColumnFamily.whileTrue(
+        (compositeKey, zbNil) -> {
+          final long deadline = compositeKey.getFirst().getValue();
+
+          boolean consumed = false;
+          if (deadline <= timestamp) {
+            final long jobKey = compositeKey.getSecond().getValue();
+            consumed = visitJob(jobKey, callback, () -> deadlinesColumnFamily.delete(compositeKey));
+          }
+
+          if (!consumed) {
+            nextDeadline = deadline;
+          }
+          return consumed;
+        });
+
+    return nextDeadline;
+  }
+
   public boolean exists(final long jobKey) {
     this.jobKey.wrapLong(jobKey);
     return jobsColumnFamily.exists(this.jobKey);
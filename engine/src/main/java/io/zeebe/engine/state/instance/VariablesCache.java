@@ -0,0 +1,216 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.instance;
+
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Caches the parents of the variable scopes and the variables which were read or written recently,
+ * including the variables which don't exist in a scope. This avoids a lookup in the database for
+ * every scope when a variable is resolved by walking up the scope hierarchy.
+ *
+ * <p>The cache is written through by {@link VariablesState}, so it contains the changes of the
+ * current transaction, and must be cleared when the transaction is rolled back. It is bounded by
+ * the estimated size of its entries and is cleared completely when the size exceeds the limit.
+ */
+final class VariablesCache {
+
+  static final long UNKNOWN_PARENT = Long.MIN_VALUE;
+
+  // the estimated memory of an entry, besides the name and the value of a variable
+  private static final int ENTRY_OVERHEAD = 64;
+
+  private final long maxSize;
+
+  // (child scope key) => (parent scope key)
+  private final Long2LongHashMap parents = new Long2LongHashMap(UNKNOWN_PARENT);
+  // (scope key) => (variable name) => (variable)
+  private final Long2ObjectHashMap<Object2ObjectHashMap<DirectBuffer, CachedVariable>> scopes =
+      new Long2ObjectHashMap<>();
+
+  private final UnsafeBuffer nameView = new UnsafeBuffer(0, 0);
+  private long size;
+
+  VariablesCache(final long maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /** @return the key of the parent scope, or {@link #UNKNOWN_PARENT} if it is not cached */
+  long getParent(final long childKey) {
+    return parents.get(childKey);
+  }
+
+  void putParent(final long childKey, final long parentKey) {
+    ensureCapacity(ENTRY_OVERHEAD);
+
+    if (parents.put(childKey, parentKey) == UNKNOWN_PARENT) {
+      size += ENTRY_OVERHEAD;
+    }
+  }
+
+  /**
+   * @return the cached variable, which may be a variable that doesn't exist in the scope, or {@code
+   *     null} if it is not cached
+   */
+  CachedVariable getVariable(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final var variables = scopes.get(scopeKey);
+    if (variables == null) {
+      return null;
+    }
+
+    nameView.wrap(name, nameOffset, nameLength);
+    return variables.get(nameView);
+  }
+
+  void putVariable(
+      final long scopeKey,
+      final DirectBuffer name,
+      final int nameOffset,
+      final int nameLength,
+      final long key,
+      final DirectBuffer value,
+      final int valueOffset,
+      final int valueLength) {
+    final var variable = getOrCreateVariable(scopeKey, name, nameOffset, nameLength, valueLength);
+    if (variable != null) {
+      size += variable.set(key, value, valueOffset, valueLength);
+    }
+  }
+
+  void putMissingVariable(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final var variable = getOrCreateVariable(scopeKey, name, nameOffset, nameLength, 0);
+    if (variable != null) {
+      size += variable.setMissing();
+    }
+  }
+
+  void removeScope(final long scopeKey) {
+    if (parents.remove(scopeKey) != UNKNOWN_PARENT) {
+      size -= ENTRY_OVERHEAD;
+    }
+
+    removeVariables(scopeKey);
+  }
+
+  void removeVariables(final long scopeKey) {
+    final var variables = scopes.remove(scopeKey);
+    if (variables != null) {
+      for (final var variable : variables.values()) {
+        size -= variable.size();
+      }
+    }
+  }
+
+  void clear() {
+    parents.clear();
+    scopes.clear();
+    size = 0;
+  }
+
+  long size() {
+    return size;
+  }
+
+  private CachedVariable getOrCreateVariable(
+      final long scopeKey,
+      final DirectBuffer name,
+      final int nameOffset,
+      final int nameLength,
+      final int valueLength) {
+    final var cachedVariable = getVariable(scopeKey, name, nameOffset, nameLength);
+    if (cachedVariable != null) {
+      return cachedVariable;
+    }
+
+    final int variableSize = ENTRY_OVERHEAD + nameLength;
+    if (variableSize + valueLength > maxSize) {
+      // don't clear the cache for a single variable which doesn't fit anyway
+      return null;
+    }
+    ensureCapacity(variableSize + valueLength);
+
+    final var nameCopy = new UnsafeBuffer(new byte[nameLength]);
+    nameCopy.putBytes(0, name, nameOffset, nameLength);
+
+    final var variable = new CachedVariable(variableSize);
+    scopes.computeIfAbsent(scopeKey, k -> new Object2ObjectHashMap<>()).put(nameCopy, variable);
+    size += variableSize;
+    return variable;
+  }
+
+  private void ensureCapacity(final int entrySize) {
+    if (size + entrySize > maxSize) {
+      clear();
+    }
+  }
+
+  static final class CachedVariable {
+    private static final byte[] EMPTY_VALUE = new byte[0];
+
+    private final int entrySize;
+    private final UnsafeBuffer valueView = new UnsafeBuffer(0, 0);
+
+    private byte[] value = EMPTY_VALUE;
+    private long key = -1L;
+    private boolean exists;
+
+    private CachedVariable(final int entrySize) {
+      this.entrySize = entrySize;
+    }
+
+    /** @return false if the variable doesn't exist in the scope */
+    boolean exists() {
+      return exists;
+    }
+
+    long getKey() {
+      return key;
+    }
+
+    DirectBuffer getValue() {
+      return valueView;
+    }
+
+    /** @return the change of the size of the entry */
+    private int set(
+        final long key, final DirectBuffer value, final int valueOffset, final int valueLength) {
+      final int previousLength = this.value.length;
+
+      if (this.value.length != valueLength) {
+        this.value = new byte[valueLength];
+      }
+      value.getBytes(valueOffset, this.value, 0, valueLength);
+      valueView.wrap(this.value);
+
+      this.key = key;
+      exists = true;
+      return valueLength - previousLength;
+    }
+
+    /** @return the change of the size of the entry */
+    private int setMissing() {
+      final int previousLength = value.length;
+
+      value = EMPTY_VALUE;
+      valueView.wrap(value);
+      key = -1L;
+      exists = false;
+      return -previousLength;
+    }
+
+    private int size() {
+      return entrySize + value.length;
+    }
+  }
+}
@@ -36,6 +36,9 @@ public class VariablesState {
 
   public static final int NO_PARENT = -1;
 
+  // the estimated memory which can be used to cache variables and scopes
+  private static final long MAX_CACHE_SIZE = 8 * 1024 * 1024;
+
   private final MsgPackReader reader = new MsgPackReader();
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
@@ -58,6 +61,8 @@ public class VariablesState {
   private final TemporaryVariables temporaryVariables = new TemporaryVariables();
 
   private final VariableInstance newVariable = new VariableInstance();
+  private final VariableInstance cachedVariable = new VariableInstance();
+  private final VariablesCache cache = new VariablesCache(MAX_CACHE_SIZE);
   private final DirectBuffer variableNameView = new UnsafeBuffer(0, 0);
 
   // collecting variables
@@ -158,7 +163,7 @@ public class VariablesState {
 
     if (currentVariable == null) {
       newVariable.setKey(keyGenerator.nextKey());
-      variablesColumnFamily.put(scopeKeyVariableNameKey, newVariable);
+      putVariable(scopeKey, name, nameOffset, nameLength, value, valueOffset, valueLength);
 
       if (listener != null) {
         final long rootScopeKey = getRootScopeKey(scopeKey);
@@ -173,7 +178,7 @@ public class VariablesState {
 
     } else if (!BufferUtil.equals(currentVariable.getValue(), newVariable.getValue())) {
       newVariable.setKey(currentVariable.getKey());
-      variablesColumnFamily.put(scopeKeyVariableNameKey, newVariable);
+      putVariable(scopeKey, name, nameOffset, nameLength, value, valueOffset, valueLength);
 
       if (listener != null) {
         final long rootScopeKey = getRootScopeKey(scopeKey);
@@ -191,13 +196,31 @@ public class VariablesState {
     }
   }
 
+  private void putVariable(
+      final long scopeKey,
+      final DirectBuffer name,
+      final int nameOffset,
+      final int nameLength,
+      final DirectBuffer value,
+      final int valueOffset,
+      final int valueLength) {
+    // the key of the column family is still wrapped by the preceding lookup of the variable
+    variablesColumnFamily.put(scopeKeyVariableNameKey, newVariable);
+
+    cache.putVariable(
+        scopeKey,
+        name,
+        nameOffset,
+        nameLength,
+        newVariable.getKey(),
+        value,
+        valueOffset,
+        valueLength);
+  }
+
   private boolean hasVariableLocal(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
-    this.scopeKey.wrapLong(scopeKey);
-    variableNameView.wrap(name, nameOffset, nameLength);
-    variableName.wrapBuffer(variableNameView);
-
-    return variablesColumnFamily.exists(scopeKeyVariableNameKey);
+    return getVariableLocal(scopeKey, name, nameOffset, nameLength) != null;
   }
 
   public DirectBuffer getVariableLocal(final long scopeKey, final DirectBuffer name) {
@@ -216,7 +239,25 @@ public class VariablesState {
     variableNameView.wrap(name, nameOffset, nameLength);
     variableName.wrapBuffer(variableNameView);
 
-    return variablesColumnFamily.get(scopeKeyVariableNameKey);
+    final var cached = cache.getVariable(scopeKey, name, nameOffset, nameLength);
+    if (cached != null) {
+      if (!cached.exists()) {
+        return null;
+      }
+
+      final DirectBuffer value = cached.getValue();
+      return cachedVariable.setKey(cached.getKey()).setValue(value, 0, value.capacity());
+    }
+
+    final VariableInstance variable = variablesColumnFamily.get(scopeKeyVariableNameKey);
+    if (variable != null) {
+      final DirectBuffer value = variable.getValue();
+      cache.putVariable(
+          scopeKey, name, nameOffset, nameLength, variable.getKey(), value, 0, value.capacity());
+    } else {
+      cache.putMissingVariable(scopeKey, name, nameOffset, nameLength);
+    }
+    return variable;
   }
 
   /**
@@ -320,10 +361,17 @@ public class VariablesState {
   }
 
   private long getParent(final long childKey) {
+    final long cachedParentKey = cache.getParent(childKey);
+    if (cachedParentKey != VariablesCache.UNKNOWN_PARENT) {
+      return cachedParentKey;
+    }
+
     this.childKey.wrapLong(childKey);
 
     final ParentScopeKey parentKey = childParentColumnFamily.get(this.childKey);
-    return parentKey != null ? parentKey.get() : NO_PARENT;
+    final long parentScopeKey = parentKey != null ? parentKey.get() : NO_PARENT;
+    cache.putParent(childKey, parentScopeKey);
+    return parentScopeKey;
   }
 
   public DirectBuffer getVariablesAsDocument(final long scopeKey) {
@@ -462,6 +510,7 @@ public class VariablesState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.put(this.childKey, this.parentKey);
+    cache.putParent(childKey, parentKey);
   }
 
   public void removeScope(final long scopeKey) {
@@ -470,6 +519,7 @@ public class VariablesState {
     removeAllVariables(scopeKey);
 
     childParentColumnFamily.delete(this.scopeKey);
+    cache.removeScope(scopeKey);
   }
 
   public void removeAllVariables(final long scopeKey) {
@@ -478,6 +528,7 @@ public class VariablesState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.delete(scopeKeyVariableNameKey),
         () -> false);
+    cache.removeVariables(scopeKey);
   }
 
   public void setTemporaryVariables(final long scopeKey, final DirectBuffer variables) {
@@ -504,6 +555,14 @@ public class VariablesState {
         && temporaryVariableStoreColumnFamily.isEmpty();
   }
 
+  /**
+   * Clears the cached variables and scopes. Must be called when the transaction is rolled back,
+   * because the cache contains the changes of the current transaction.
+   */
+  public void clearCache() {
+    cache.clear();
+  }
+
   public void setListener(final VariableListener listener) {
     if (this.listener != null) {
       throw new IllegalStateException("variable listener is already set");
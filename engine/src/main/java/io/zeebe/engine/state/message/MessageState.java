@@ -90,6 +90,8 @@ public final class MessageState {
 
   private final ColumnFamily<DbLong, DbString> workflowInstanceCorrelationKeyColumnFamiliy;
 
+  private long nextDeadline;
+
   public MessageState(final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
     messageKey = new DbLong();
     message = new Message();
@@ -267,17 +269,34 @@ public final class MessageState {
     return messageColumnFamily.get(this.messageKey);
   }
 
-  public void visitMessagesWithDeadlineBefore(final long timestamp, final MessageVisitor visitor) {
+  /**
+   * Visits the messages with a deadline before or at the given timestamp, ordered by their
+   * deadline, until the visitor returns false.
+   *
+   * @return the deadline of the first message which was not visited or for which the visitor
+   *     returned false, or -1 if there is no such message
+   */
+  public long visitMessagesWithDeadlineBefore(final long timestamp, final MessageVisitor visitor) {
+    nextDeadline = -1L;
+
     deadlineColumnFamily.whileTrue(
         ((compositeKey, zbNil) -> {
           final long deadline = compositeKey.getFirst().getValue();
+
+          boolean visited = false;
           if (deadline <= timestamp) {
             final long messageKey = compositeKey.getSecond().getValue();
             final Message message = getMessage(messageKey);
-            return visitor.visit(message);
+            visited = visitor.visit(message);
+          }
+
+          if (!visited) {
+            nextDeadline = deadline;
           }
-          return false;
+          return visited;
         }));
+
+    return nextDeadline;
   }
 
   public boolean exist(
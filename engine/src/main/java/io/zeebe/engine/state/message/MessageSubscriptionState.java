@@ -43,6 +43,8 @@ public final class MessageSubscriptionState {
   private final ColumnFamily<DbCompositeKey<DbCompositeKey<DbString, DbString>, DbLong>, DbNil>
       messageNameAndCorrelationKeyColumnFamily;
 
+  private long nextSentTime;
+
   public MessageSubscriptionState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
     this.dbContext = dbContext;
@@ -160,16 +162,33 @@ public final class MessageSubscriptionState {
     }
   }
 
-  public void visitSubscriptionBefore(
+  /**
+   * Visits the subscriptions which were sent before the given deadline, ordered by their sent time,
+   * until the visitor returns false.
+   *
+   * @return the sent time of the first subscription which was not visited or for which the visitor
+   *     returned false, or -1 if there is no such subscription
+   */
+  public long visitSubscriptionBefore(
       final long deadline, final MessageSubscriptionVisitor visitor) {
+    nextSentTime = -1L;
+
     sentTimeColumnFamily.whileTrue(
         (compositeKey, nil) -> {
           final long sentTime = compositeKey.getFirst().getValue();
+
+          boolean visited = false;
           if (sentTime < deadline) {
-            return visitMessageSubscription(compositeKey.getSecond(), visitor);
+            visited = visitMessageSubscription(compositeKey.getSecond(), visitor);
           }
-          return false;
+
+          if (!visited) {
+            nextSentTime = sentTime;
+          }
+          return visited;
         });
+
+    return nextSentTime;
   }
 
   public boolean existSubscriptionForElementInstance(
@@ -35,6 +35,8 @@ public final class WorkflowInstanceSubscriptionState {
   private final ColumnFamily<DbCompositeKey<DbLong, DbCompositeKey<DbLong, DbString>>, DbNil>
       sentTimeColumnFamily;
 
+  private long nextSentTime;
+
   public WorkflowInstanceSubscriptionState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
     this.dbContext = dbContext;
@@ -88,20 +90,36 @@ public final class WorkflowInstanceSubscriptionState {
         });
   }
 
-  public void visitSubscriptionBefore(
+  /**
+   * Visits the subscriptions which were sent before the given deadline, ordered by their sent time,
+   * until the visitor returns false.
+   *
+   * @return the sent time of the first subscription which was not visited or for which the visitor
+   *     returned false, or -1 if there is no such subscription
+   */
+  public long visitSubscriptionBefore(
       final long deadline, final WorkflowInstanceSubscriptionVisitor visitor) {
+    nextSentTime = -1L;
 
     sentTimeColumnFamily.whileTrue(
         (compositeKey, nil) -> {
           final long sentTime = compositeKey.getFirst().getValue();
+
+          boolean visited = false;
           if (sentTime < deadline) {
             final WorkflowInstanceSubscription workflowInstanceSubscription =
                 subscriptionColumnFamily.get(compositeKey.getSecond());
 
-            return visitor.visit(workflowInstanceSubscription);
+            visited = visitor.visit(workflowInstanceSubscription);
           }
-          return false;
+
+          if (!visited) {
+            nextSentTime = sentTime;
+          }
+          return visited;
         });
+
+    return nextSentTime;
   }
 
   public void updateToOpenedState(
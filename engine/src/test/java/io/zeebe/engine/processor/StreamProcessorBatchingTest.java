@@ -0,0 +1,281 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor;
+
+import static io.zeebe.engine.processor.TypedRecordProcessors.processors;
+import static io.zeebe.test.util.TestUtil.waitUntil;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.LastProcessedPositionState;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.state.message.Message;
+import io.zeebe.engine.state.message.MessageState;
+import io.zeebe.engine.util.StreamProcessorRule;
+import io.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.util.exception.RecoverableException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Verifies the processing of multiple records in one state transaction. The records are written
+ * before the stream processor is started, so that they are all available right away and processed
+ * in the same batch. The committed state is read with a separate database context, which doesn't
+ * see the changes of the open transaction.
+ */
+public final class StreamProcessorBatchingTest {
+
+  private static final int PARTITION_ID = 0;
+  private static final int MAX_COMMANDS_IN_BATCH = 10;
+
+  private final AtomicReference<ZeebeDb<ZbColumnFamilies>> zeebeDb = new AtomicReference<>();
+
+  @Rule
+  public final StreamProcessorRule streamProcessorRule =
+      new StreamProcessorRule(
+          PARTITION_ID,
+          1,
+          path -> {
+            final ZeebeDb<ZbColumnFamilies> db =
+                DefaultZeebeDbFactory.DEFAULT_DB_FACTORY.createDb(path);
+            zeebeDb.set(db);
+            return db;
+          });
+
+  @Test
+  public void shouldCommitBatchIfTrailingRecordsAreSkipped() {
+    // given
+    streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    final long lastProcessedPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    // no processor exists for these records
+    streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+    streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+
+    // when
+    final StreamProcessor streamProcessor =
+        streamProcessorRule.startTypedStreamProcessor(
+            processingContext -> {
+              processingContext.maxCommandsInBatch(MAX_COMMANDS_IN_BATCH);
+              return processors(processingContext.getZeebeState().getKeyGenerator())
+                  .onEvent(
+                      ValueType.WORKFLOW_INSTANCE,
+                      WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                      new TypedRecordProcessor<>() {});
+            });
+
+    // then
+    waitUntil(
+        () -> streamProcessor.getLastProcessedPositionAsync().join() == lastProcessedPosition);
+    assertThat(getCommittedProcessedPosition()).isEqualTo(lastProcessedPosition);
+  }
+
+  @Test
+  public void shouldKeepChangesOfPreviousRecordsInBatchOnFailure() {
+    // given
+    streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    // the failed workflow instance is blacklisted, the last record belongs to another instance
+    streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATED, 2);
+    final long lastPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(
+            WorkflowInstanceIntent.ELEMENT_COMPLETING, 3);
+
+    // when
+    final StreamProcessor streamProcessor =
+        streamProcessorRule.startTypedStreamProcessor(
+            processingContext -> {
+              processingContext.maxCommandsInBatch(MAX_COMMANDS_IN_BATCH);
+              final MessageState messageState = processingContext.getZeebeState().getMessageState();
+              return processors(processingContext.getZeebeState().getKeyGenerator())
+                  .onEvent(
+                      ValueType.WORKFLOW_INSTANCE,
+                      WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                      new TypedRecordProcessor<>() {
+                        @Override
+                        public void processRecord(
+                            final TypedRecord<UnifiedRecordValue> record,
+                            final TypedResponseWriter responseWriter,
+                            final TypedStreamWriter streamWriter,
+                            final Consumer<SideEffectProducer> sideEffect) {
+                          messageState.put(newMessage(1L));
+                        }
+                      })
+                  .onEvent(
+                      ValueType.WORKFLOW_INSTANCE,
+                      WorkflowInstanceIntent.ELEMENT_ACTIVATED,
+                      new TypedRecordProcessor<>() {
+                        @Override
+                        public void processRecord(
+                            final TypedRecord<UnifiedRecordValue> record,
+                            final TypedResponseWriter responseWriter,
+                            final TypedStreamWriter streamWriter,
+                            final Consumer<SideEffectProducer> sideEffect) {
+                          messageState.put(newMessage(2L));
+                          throw new RuntimeException("expected");
+                        }
+                      })
+                  .onEvent(
+                      ValueType.WORKFLOW_INSTANCE,
+                      WorkflowInstanceIntent.ELEMENT_COMPLETING,
+                      new TypedRecordProcessor<>() {
+                        @Override
+                        public void processRecord(
+                            final TypedRecord<UnifiedRecordValue> record,
+                            final TypedResponseWriter responseWriter,
+                            final TypedStreamWriter streamWriter,
+                            final Consumer<SideEffectProducer> sideEffect) {
+                          messageState.put(newMessage(3L));
+                        }
+                      });
+            });
+
+    // then
+    waitUntil(() -> streamProcessor.getLastProcessedPositionAsync().join() == lastPosition);
+    assertThat(getCommittedProcessedPosition()).isEqualTo(lastPosition);
+
+    final MessageState committedMessageState = new MessageState(zeebeDb.get(), newDbContext());
+    assertThat(committedMessageState.getMessage(1L)).isNotNull();
+    assertThat(committedMessageState.getMessage(2L)).isNull();
+    assertThat(committedMessageState.getMessage(3L)).isNotNull();
+  }
+
+  @Test
+  public void shouldRollbackAllAttemptsOfRetriedRecordInBatchOnFailure() {
+    // given
+    streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    final long lastPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+    final AtomicInteger attempts = new AtomicInteger();
+
+    // when
+    final StreamProcessor streamProcessor =
+        streamProcessorRule.startTypedStreamProcessor(
+            processingContext -> {
+              processingContext.maxCommandsInBatch(MAX_COMMANDS_IN_BATCH);
+              final MessageState messageState = processingContext.getZeebeState().getMessageState();
+              return processors(processingContext.getZeebeState().getKeyGenerator())
+                  .onEvent(
+                      ValueType.WORKFLOW_INSTANCE,
+                      WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                      new TypedRecordProcessor<>() {
+                        @Override
+                        public void processRecord(
+                            final TypedRecord<UnifiedRecordValue> record,
+                            final TypedResponseWriter responseWriter,
+                            final TypedStreamWriter streamWriter,
+                            final Consumer<SideEffectProducer> sideEffect) {
+                          messageState.put(newMessage(1L));
+                        }
+                      })
+                  .onEvent(
+                      ValueType.WORKFLOW_INSTANCE,
+                      WorkflowInstanceIntent.ELEMENT_ACTIVATED,
+                      new TypedRecordProcessor<>() {
+                        @Override
+                        public void processRecord(
+                            final TypedRecord<UnifiedRecordValue> record,
+                            final TypedResponseWriter responseWriter,
+                            final TypedStreamWriter streamWriter,
+                            final Consumer<SideEffectProducer> sideEffect) {
+                          if (attempts.getAndIncrement() == 0) {
+                            messageState.put(newMessage(2L));
+                            throw new RecoverableException("expected");
+                          }
+                          throw new RuntimeException("expected");
+                        }
+                      });
+            });
+
+    // then
+    waitUntil(() -> streamProcessor.getLastProcessedPositionAsync().join() == lastPosition);
+    assertThat(attempts.get()).isEqualTo(2);
+
+    final MessageState committedMessageState = new MessageState(zeebeDb.get(), newDbContext());
+    assertThat(committedMessageState.getMessage(1L)).isNotNull();
+    assertThat(committedMessageState.getMessage(2L)).isNull();
+  }
+
+  @Test
+  public void shouldExecuteSideEffectsBeforeBatchIsCommitted() throws Exception {
+    // given
+    final long firstPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    final long lastPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    final AtomicLong committedPositionOnSideEffect = new AtomicLong();
+    final CountDownLatch sideEffectLatch = new CountDownLatch(1);
+
+    // when
+    final StreamProcessor streamProcessor =
+        streamProcessorRule.startTypedStreamProcessor(
+            processingContext -> {
+              processingContext.maxCommandsInBatch(MAX_COMMANDS_IN_BATCH);
+              return processors(processingContext.getZeebeState().getKeyGenerator())
+                  .onEvent(
+                      ValueType.WORKFLOW_INSTANCE,
+                      WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                      new TypedRecordProcessor<>() {
+                        @Override
+                        public void processRecord(
+                            final long position,
+                            final TypedRecord<UnifiedRecordValue> record,
+                            final TypedResponseWriter responseWriter,
+                            final TypedStreamWriter streamWriter,
+                            final Consumer<SideEffectProducer> sideEffect) {
+                          if (position == firstPosition) {
+                            sideEffect.accept(
+                                () -> {
+                                  committedPositionOnSideEffect.set(
+                                      getCommittedProcessedPosition());
+                                  sideEffectLatch.countDown();
+                                  return true;
+                                });
+                          }
+                        }
+                      });
+            });
+
+    // then
+    assertThat(sideEffectLatch.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(committedPositionOnSideEffect.get()).isLessThan(firstPosition);
+
+    waitUntil(() -> streamProcessor.getLastProcessedPositionAsync().join() == lastPosition);
+    assertThat(getCommittedProcessedPosition()).isEqualTo(lastPosition);
+  }
+
+  private long getCommittedProcessedPosition() {
+    return new LastProcessedPositionState(zeebeDb.get(), newDbContext()).getPosition();
+  }
+
+  private DbContext newDbContext() {
+    return zeebeDb.get().createContext();
+  }
+
+  private static Message newMessage(final long key) {
+    return new Message(
+        key,
+        wrapString("name"),
+        wrapString("correlation-key-" + key),
+        wrapString(""),
+        new UnsafeBuffer(0, 0),
+        Long.MAX_VALUE,
+        Long.MAX_VALUE);
+  }
+}
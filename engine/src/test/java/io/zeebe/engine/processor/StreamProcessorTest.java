@@ -491,6 +491,122 @@ public final class StreamProcessorTest {
         .join();
   }
 
+  @Test
+  public void shouldOnlyRollbackFailedRecordOnBatchProcessing() throws Exception {
+    // given
+    final AtomicLong firstGeneratedKey = new AtomicLong(-1L);
+    final AtomicLong secondGeneratedKey = new AtomicLong(-1L);
+    final CountDownLatch processLatch = new CountDownLatch(1);
+    streamProcessorRule.startTypedStreamProcessor(
+        processingContext -> {
+          processingContextActor = processingContext.getActor();
+          processingContext.maxCommandsInBatch(10);
+          final ZeebeState state = processingContext.getZeebeState();
+          return processors(state.getKeyGenerator())
+              .onEvent(
+                  ValueType.WORKFLOW_INSTANCE,
+                  WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                  new TypedRecordProcessor<>() {
+                    @Override
+                    public void processRecord(
+                        final TypedRecord<UnifiedRecordValue> record,
+                        final TypedResponseWriter responseWriter,
+                        final TypedStreamWriter streamWriter,
+                        final Consumer<SideEffectProducer> sideEffect) {
+                      firstGeneratedKey.set(state.getKeyGenerator().nextKey());
+                    }
+                  })
+              .onEvent(
+                  ValueType.WORKFLOW_INSTANCE,
+                  WorkflowInstanceIntent.ELEMENT_ACTIVATED,
+                  new TypedRecordProcessor<>() {
+                    @Override
+                    public void processRecord(
+                        final TypedRecord<UnifiedRecordValue> record,
+                        final TypedResponseWriter responseWriter,
+                        final TypedStreamWriter streamWriter,
+                        final Consumer<SideEffectProducer> sideEffect) {
+                      secondGeneratedKey.set(state.getKeyGenerator().nextKey());
+                      throw new RuntimeException("expected");
+                    }
+                  })
+              .onEvent(
+                  ValueType.WORKFLOW_INSTANCE,
+                  WorkflowInstanceIntent.ELEMENT_COMPLETING,
+                  new TypedRecordProcessor<>() {
+                    @Override
+                    public void processRecord(
+                        final TypedRecord<UnifiedRecordValue> record,
+                        final TypedResponseWriter responseWriter,
+                        final TypedStreamWriter streamWriter,
+                        final Consumer<SideEffectProducer> sideEffect) {
+                      processLatch.countDown();
+                    }
+                  });
+        });
+
+    // when
+    streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATED, 2);
+    final long lastPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(
+            WorkflowInstanceIntent.ELEMENT_COMPLETING, 3);
+
+    // then
+    assertThat(processLatch.await(5, TimeUnit.SECONDS)).isTrue();
+    processingContextActor
+        .call(
+            () -> {
+              final long newGenerated =
+                  streamProcessorRule.getZeebeState().getKeyGenerator().nextKey();
+              assertThat(firstGeneratedKey.get()).isLessThan(secondGeneratedKey.get());
+              assertThat(secondGeneratedKey.get()).isEqualTo(newGenerated);
+            })
+        .join();
+    waitUntil(
+        () ->
+            streamProcessorRule.getZeebeState().getLastSuccessfulProcessedRecordPosition()
+                == lastPosition);
+  }
+
+  @Test
+  public void shouldCommitBatchWhenNoMoreRecordsAvailable() throws Exception {
+    // given
+    final CountDownLatch processLatch = new CountDownLatch(3);
+    streamProcessorRule.startTypedStreamProcessor(
+        processingContext -> {
+          processingContext.maxCommandsInBatch(10);
+          final ZeebeState state = processingContext.getZeebeState();
+          return processors(state.getKeyGenerator())
+              .onEvent(
+                  ValueType.WORKFLOW_INSTANCE,
+                  WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                  new TypedRecordProcessor<>() {
+                    @Override
+                    public void processRecord(
+                        final TypedRecord<UnifiedRecordValue> record,
+                        final TypedResponseWriter responseWriter,
+                        final TypedStreamWriter streamWriter,
+                        final Consumer<SideEffectProducer> sideEffect) {
+                      processLatch.countDown();
+                    }
+                  });
+        });
+
+    // when
+    streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    final long lastPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+
+    // then
+    assertThat(processLatch.await(5, TimeUnit.SECONDS)).isTrue();
+    waitUntil(
+        () ->
+            streamProcessorRule.getZeebeState().getLastSuccessfulProcessedRecordPosition()
+                == lastPosition);
+  }
+
   @Test
   public void shouldCreateSnapshot() throws Exception {
     // given
@@ -21,6 +21,7 @@ import io.zeebe.protocol.record.value.JobRecordValue;
 import io.zeebe.test.util.Strings;
 import io.zeebe.test.util.record.RecordingExporter;
 import io.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.Before;
@@ -49,7 +50,7 @@ public final class JobTimeOutTest {
     final long timeout = 10L;
 
     ENGINE.jobs().withType(jobType).withTimeout(timeout).activate();
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    ENGINE.increaseTime(Duration.ofMillis(timeout));
 
     // when expired
     RecordingExporter.jobRecords(TIME_OUT).withType(jobType).getFirst();
@@ -78,11 +79,11 @@ public final class JobTimeOutTest {
     final long timeout = 10L;
 
     ENGINE.jobs().withType(jobType).withTimeout(timeout).activate();
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    ENGINE.increaseTime(Duration.ofMillis(timeout));
     jobRecords(TIME_OUT).withRecordKey(jobKey).getFirst();
 
     final long jobKey2 = ENGINE.createJob(jobType, PROCESS_ID).getKey();
-    ENGINE.jobs().withType(jobType).activate();
+    ENGINE.jobs().withType(jobType).withTimeout(timeout).activate();
     ENGINE.job().withKey(jobKey).complete();
 
     // when
@@ -90,7 +91,7 @@ public final class JobTimeOutTest {
     ENGINE.jobs().withType(jobType).activate();
 
     // then
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    ENGINE.increaseTime(Duration.ofMillis(timeout));
     jobRecords(TIME_OUT).withRecordKey(jobKey2).getFirst();
   }
 
@@ -100,7 +101,7 @@ public final class JobTimeOutTest {
     ENGINE.createJob(jobType, PROCESS_ID);
     final long timeout = 10L;
     ENGINE.jobs().withType(jobType).withTimeout(timeout).activate();
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    ENGINE.increaseTime(Duration.ofMillis(timeout));
 
     // when expired
     RecordingExporter.jobRecords(TIME_OUT).getFirst();
@@ -156,7 +157,7 @@ public final class JobTimeOutTest {
         .limit(2)
         .getFirst();
 
-    ENGINE.increaseTime(JobTimeoutTrigger.TIME_OUT_POLLING_INTERVAL);
+    ENGINE.increaseTime(Duration.ofMillis(timeout));
     RecordingExporter.jobRecords(JobIntent.TIMED_OUT)
         .withWorkflowInstanceKey(instanceKey1)
         .getFirst();
@@ -8,7 +8,11 @@
 package io.zeebe.engine.processor.workflow.job;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -19,6 +23,8 @@ import io.zeebe.engine.util.ZeebeStateRule;
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.protocol.record.intent.JobIntent;
 import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.ScheduledTimer;
+import java.time.Duration;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -28,19 +34,25 @@ import org.mockito.Mockito;
 
 public final class JobTimeoutTriggerTest {
 
+  private static final int MAX_BATCH_LENGTH = 4 * 1024 * 1024;
+
   @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
 
   @Mock private ActorControl someActor;
 
+  @Mock private ScheduledTimer scheduledTimer;
+
   @Mock private TypedStreamWriter typedStreamWriter;
+  private JobState jobState;
   private JobTimeoutTrigger jobTimeoutTrigger;
 
   @Before
   public void setUp() {
     initMocks(this);
+    when(someActor.runDelayed(any(), any(Runnable.class))).thenReturn(scheduledTimer);
 
-    final JobState jobState = stateRule.getZeebeState().getJobState();
-    jobTimeoutTrigger = new JobTimeoutTrigger(jobState);
+    jobState = stateRule.getZeebeState().getJobState();
+    jobTimeoutTrigger = new JobTimeoutTrigger(jobState, MAX_BATCH_LENGTH);
 
     final ProcessingContext processingContext =
         new ProcessingContext().actor(someActor).logStreamWriter(typedStreamWriter);
@@ -62,9 +74,9 @@ public final class JobTimeoutTriggerTest {
   }
 
   @Test
-  public void shouldNotWriteAgainAfterFlushFailed() {
+  public void shouldWriteTimedOutJobsInOneBatch() {
     // given
-    when(typedStreamWriter.flush()).thenReturn(1L, -1L);
+    when(typedStreamWriter.flush()).thenReturn(1L);
 
     // when
     jobTimeoutTrigger.deactivateTimedOutJobs();
@@ -75,12 +87,89 @@ public final class JobTimeoutTriggerTest {
     inOrder
         .verify(typedStreamWriter)
         .appendFollowUpCommand(eq(0L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
-    inOrder.verify(typedStreamWriter).flush();
     inOrder
         .verify(typedStreamWriter)
         .appendFollowUpCommand(eq(1L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
+    inOrder
+        .verify(typedStreamWriter)
+        .appendFollowUpCommand(eq(2L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
     inOrder.verify(typedStreamWriter).flush();
-    inOrder.verify(typedStreamWriter).reset();
     inOrder.verifyNoMoreInteractions();
   }
+
+  @Test
+  public void shouldNotWriteAgainAfterFlushed() {
+    // given
+    when(typedStreamWriter.flush()).thenReturn(1L);
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // when
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // then
+    verify(typedStreamWriter, times(3))
+        .appendFollowUpCommand(anyLong(), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
+    verify(typedStreamWriter, times(1)).flush();
+  }
+
+  @Test
+  public void shouldRetryAfterFlushFailed() {
+    // given
+    when(typedStreamWriter.flush()).thenReturn(-1L, 1L);
+
+    // when
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // then
+    verify(someActor).runDelayed(eq(JobTimeoutTrigger.RETRY_DELAY), any(Runnable.class));
+
+    // when
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // then
+    verify(typedStreamWriter, times(2))
+        .appendFollowUpCommand(eq(0L), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
+    verify(typedStreamWriter, times(2)).flush();
+  }
+
+  @Test
+  public void shouldLimitJobsPerBatch() {
+    // given
+    when(typedStreamWriter.flush()).thenReturn(1L);
+    for (int i = 3; i <= JobTimeoutTrigger.MAX_JOBS_PER_BATCH; i++) {
+      jobState.activate(i, newJobRecord());
+    }
+
+    // when
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // then
+    verify(typedStreamWriter, times(JobTimeoutTrigger.MAX_JOBS_PER_BATCH))
+        .appendFollowUpCommand(anyLong(), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
+    verify(someActor).runDelayed(eq(Duration.ZERO), any(Runnable.class));
+
+    // when
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // then
+    verify(typedStreamWriter, times(JobTimeoutTrigger.MAX_JOBS_PER_BATCH + 1))
+        .appendFollowUpCommand(anyLong(), eq(JobIntent.TIME_OUT), any(JobRecord.class), any());
+    verify(typedStreamWriter, times(2)).flush();
+  }
+
+  @Test
+  public void shouldScheduleAtEarliestDeadline() {
+    // given
+    final long now = System.currentTimeMillis();
+
+    // when
+    jobTimeoutTrigger.scheduleTimeout(now + Duration.ofMinutes(5).toMillis());
+    jobTimeoutTrigger.scheduleTimeout(now + Duration.ofMinutes(10).toMillis());
+    jobTimeoutTrigger.scheduleTimeout(now + Duration.ofMinutes(1).toMillis());
+
+    // then
+    verify(someActor, times(2)).runDelayed(any(), any(Runnable.class));
+    verify(scheduledTimer).cancel();
+    verify(typedStreamWriter, never()).flush();
+  }
 }
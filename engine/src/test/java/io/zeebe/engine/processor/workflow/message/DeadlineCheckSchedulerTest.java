@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor.workflow.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import io.zeebe.util.sched.ActorControl;
+import java.time.Duration;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+public final class DeadlineCheckSchedulerTest {
+
+  private static final Duration MAX_INTERVAL = Duration.ofSeconds(10);
+
+  @Mock private ActorControl actor;
+  @Mock private Runnable check;
+
+  private DeadlineCheckScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    initMocks(this);
+    scheduler = new DeadlineCheckScheduler(actor, MAX_INTERVAL, check);
+  }
+
+  @Test
+  public void shouldSubmitFirstCheckOnStart() {
+    // when
+    scheduler.start();
+
+    // then
+    verify(actor).submit(check);
+    verify(actor, never()).runDelayed(any(), any(Runnable.class));
+  }
+
+  @Test
+  public void shouldLimitEntriesPerCheck() {
+    // given
+    scheduler.onCheckStarted();
+
+    // when
+    for (int i = 0; i < DeadlineCheckScheduler.MAX_ENTRIES_PER_CHECK; i++) {
+      assertThat(scheduler.tryVisitEntry()).isTrue();
+    }
+
+    // then
+    assertThat(scheduler.tryVisitEntry()).isFalse();
+  }
+
+  @Test
+  public void shouldSubmitNextCheckIfLimitReached() {
+    // given
+    scheduler.onCheckStarted();
+    visitAllEntries();
+
+    // when
+    scheduler.onCheckFinished(System.currentTimeMillis());
+
+    // then
+    verify(actor).submit(check);
+    verify(actor, never()).runDelayed(any(), any(Runnable.class));
+  }
+
+  @Test
+  public void shouldResetLimitOnNextCheck() {
+    // given
+    scheduler.onCheckStarted();
+    visitAllEntries();
+    scheduler.onCheckFinished(System.currentTimeMillis());
+
+    // when
+    scheduler.onCheckStarted();
+
+    // then
+    assertThat(scheduler.tryVisitEntry()).isTrue();
+  }
+
+  @Test
+  public void shouldScheduleNextCheckAtNextDeadline() {
+    // given
+    scheduler.onCheckStarted();
+    scheduler.tryVisitEntry();
+
+    // when
+    scheduler.onCheckFinished(System.currentTimeMillis() + 5_000);
+
+    // then
+    assertThat(nextCheckDelay()).isBetween(Duration.ofSeconds(4), Duration.ofSeconds(5));
+    verify(actor, never()).submit(check);
+  }
+
+  @Test
+  public void shouldScheduleNextCheckWithMinDelayIfDeadlineIsDue() {
+    // given
+    scheduler.onCheckStarted();
+
+    // when
+    scheduler.onCheckFinished(System.currentTimeMillis() - 1_000);
+
+    // then
+    assertThat(nextCheckDelay()).isEqualTo(Duration.ofMillis(DeadlineCheckScheduler.MIN_DELAY));
+  }
+
+  @Test
+  public void shouldScheduleNextCheckAtMaxIntervalIfDeadlineIsLater() {
+    // given
+    scheduler.onCheckStarted();
+
+    // when
+    scheduler.onCheckFinished(System.currentTimeMillis() + MAX_INTERVAL.toMillis() * 2);
+
+    // then
+    assertThat(nextCheckDelay()).isEqualTo(MAX_INTERVAL);
+  }
+
+  @Test
+  public void shouldScheduleNextCheckAtMaxIntervalIfNoEntriesLeft() {
+    // given
+    scheduler.onCheckStarted();
+
+    // when
+    scheduler.onCheckFinished(-1L);
+
+    // then
+    assertThat(nextCheckDelay()).isEqualTo(MAX_INTERVAL);
+  }
+
+  private void visitAllEntries() {
+    while (scheduler.tryVisitEntry()) {
+      // visit until the limit is reached
+    }
+  }
+
+  private Duration nextCheckDelay() {
+    final ArgumentCaptor<Duration> delayCaptor = ArgumentCaptor.forClass(Duration.class);
+    verify(actor).runDelayed(delayCaptor.capture(), eq(check));
+    return delayCaptor.getValue();
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor.workflow.message;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import io.zeebe.engine.processor.TypedCommandWriter;
+import io.zeebe.engine.state.message.Message;
+import io.zeebe.engine.state.message.MessageState;
+import io.zeebe.engine.util.ZeebeStateRule;
+import io.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.zeebe.protocol.record.intent.MessageIntent;
+import io.zeebe.util.sched.ActorControl;
+import java.time.Duration;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+
+public final class MessageTimeToLiveCheckerTest {
+
+  private static final long DEADLINE = 1_000L;
+
+  @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
+
+  @Mock private ActorControl actor;
+  @Mock private TypedCommandWriter writer;
+
+  private MessageState messageState;
+  private MessageTimeToLiveChecker checker;
+
+  @Before
+  public void setUp() {
+    initMocks(this);
+    when(writer.flush()).thenReturn(1L);
+
+    messageState = stateRule.getZeebeState().getMessageState();
+    checker = new MessageTimeToLiveChecker(writer, messageState, actor, Duration.ofSeconds(60));
+  }
+
+  @Test
+  public void shouldWriteDeleteCommandOfExpiredMessages() {
+    // given
+    putMessages(3);
+
+    // when
+    checker.run();
+
+    // then
+    for (long key = 1; key <= 3; key++) {
+      verify(writer)
+          .appendFollowUpCommand(eq(key), eq(MessageIntent.DELETE), any(MessageRecord.class));
+    }
+    verify(actor, never()).submit(checker);
+  }
+
+  @Test
+  public void shouldNotWriteDeleteCommandAgainOnNextCheck() {
+    // given
+    putMessages(3);
+    checker.run();
+
+    // when
+    checker.run();
+
+    // then
+    verify(writer, times(3))
+        .appendFollowUpCommand(anyLong(), eq(MessageIntent.DELETE), any(MessageRecord.class));
+  }
+
+  @Test
+  public void shouldContinueWithRemainingMessagesOnChainedCheck() {
+    // given
+    final int messageCount = DeadlineCheckScheduler.MAX_ENTRIES_PER_CHECK + 1;
+    putMessages(messageCount);
+
+    // when
+    checker.run();
+
+    // then
+    verify(actor).submit(checker);
+    verify(writer, times(DeadlineCheckScheduler.MAX_ENTRIES_PER_CHECK))
+        .appendFollowUpCommand(anyLong(), eq(MessageIntent.DELETE), any(MessageRecord.class));
+
+    // when
+    checker.run();
+
+    // then
+    verify(writer, times(messageCount))
+        .appendFollowUpCommand(anyLong(), eq(MessageIntent.DELETE), any(MessageRecord.class));
+    verify(writer)
+        .appendFollowUpCommand(
+            eq((long) messageCount), eq(MessageIntent.DELETE), any(MessageRecord.class));
+  }
+
+  @Test
+  public void shouldWriteDeleteCommandAgainIfFlushFailed() {
+    // given
+    when(writer.flush()).thenReturn(-1L, 1L);
+    putMessages(1);
+
+    // when
+    checker.run();
+    checker.run();
+
+    // then
+    verify(writer, times(2))
+        .appendFollowUpCommand(eq(1L), eq(MessageIntent.DELETE), any(MessageRecord.class));
+  }
+
+  private void putMessages(final int count) {
+    for (long key = 1; key <= count; key++) {
+      messageState.put(
+          new Message(
+              key,
+              wrapString("name"),
+              wrapString("correlation-key-" + key),
+              wrapString(""),
+              new UnsafeBuffer(0, 0),
+              DEADLINE,
+              DEADLINE));
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor.workflow.message.command;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class SubscriptionCommandBatchTest {
+
+  private final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+
+  @Test
+  public void shouldReadCommandsOfBatch() {
+    // given
+    batch.add(closeCommand(1L));
+    batch.add(closeCommand(2L));
+    batch.add(closeCommand(3L));
+
+    // when
+    final byte[] bytes = batch.toByteArray();
+
+    // then
+    final List<Long> workflowInstanceKeys = new ArrayList<>();
+    SubscriptionCommandBatch.forEachCommand(
+        new UnsafeBuffer(bytes),
+        0,
+        bytes.length,
+        (buffer, offset, length) -> {
+          final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+          command.wrap(buffer, offset, length);
+          workflowInstanceKeys.add(command.getWorkflowInstanceKey());
+        });
+
+    assertThat(batch.getCommandCount()).isEqualTo(3);
+    assertThat(workflowInstanceKeys).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldWriteSingleCommandWithoutFraming() {
+    // given
+    final CloseMessageSubscriptionCommand command = closeCommand(1L);
+    batch.add(command);
+
+    // when
+    final byte[] bytes = batch.toByteArray();
+
+    // then
+    final byte[] commandBytes = new byte[command.getLength()];
+    command.write(new UnsafeBuffer(commandBytes), 0);
+    assertThat(bytes).isEqualTo(commandBytes);
+  }
+
+  @Test
+  public void shouldBeEmptyAfterReset() {
+    // given
+    batch.add(closeCommand(1L));
+
+    // when
+    batch.reset();
+    batch.add(closeCommand(2L));
+
+    // then
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    final byte[] bytes = batch.toByteArray();
+    command.wrap(new UnsafeBuffer(bytes), 0, bytes.length);
+
+    assertThat(batch.getCommandCount()).isEqualTo(1);
+    assertThat(command.getWorkflowInstanceKey()).isEqualTo(2L);
+  }
+
+  private static CloseMessageSubscriptionCommand closeCommand(final long workflowInstanceKey) {
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setSubscriptionPartitionId(1);
+    command.setWorkflowInstanceKey(workflowInstanceKey);
+    command.setElementInstanceKey(workflowInstanceKey + 100);
+    command.setMessageName(wrapString("message"));
+    return command;
+  }
+}
@@ -423,6 +423,36 @@ public final class WorkflowStateTest {
     Assertions.assertThat(latestWorkflow.getVersion()).isEqualTo(2);
   }
 
+  @Test
+  public void shouldEvictLeastRecentlyUsedWorkflow() throws Exception {
+    // given
+    final var zeebeDb = stateRule.createNewDb();
+    try {
+      final var cache = new WorkflowPersistenceCache(zeebeDb, zeebeDb.createContext(), 1, 2);
+      cache.putDeployment(1, creatingDeploymentRecord(zeebeState, "a", 1));
+      cache.putDeployment(2, creatingDeploymentRecord(zeebeState, "b", 1));
+      cache.putDeployment(3, creatingDeploymentRecord(zeebeState, "c", 1));
+
+      final DeployedWorkflow workflowA = cache.getWorkflowByProcessIdAndVersion(wrapString("a"), 1);
+      final DeployedWorkflow workflowB = cache.getWorkflowByProcessIdAndVersion(wrapString("b"), 1);
+      cache.getWorkflowByKey(workflowA.getKey());
+
+      // when
+      cache.getWorkflowByProcessIdAndVersion(wrapString("c"), 1);
+
+      // then
+      assertThat(cache.getWorkflowByKey(workflowA.getKey())).isSameAs(workflowA);
+
+      final DeployedWorkflow reloadedWorkflowB =
+          cache.getWorkflowByProcessIdAndVersion(wrapString("b"), 1);
+      assertThat(reloadedWorkflowB).isNotSameAs(workflowB);
+      assertThat(reloadedWorkflowB.getKey()).isEqualTo(workflowB.getKey());
+      assertThat(reloadedWorkflowB.getWorkflow().getId()).isEqualTo(wrapString("b"));
+    } finally {
+      zeebeDb.close();
+    }
+  }
+
   public static DeploymentRecord creatingDeploymentRecord(final ZeebeState zeebeState) {
     return creatingDeploymentRecord(zeebeState, "processId");
   }
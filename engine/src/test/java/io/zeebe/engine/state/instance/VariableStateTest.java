@@ -671,6 +671,66 @@ public final class VariableStateTest {
     assertThat(listener.updated.get(0).key).isEqualTo(variableKey);
   }
 
+  @Test
+  public void shouldResolveLocalVariableAfterLookupInParentScope() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("x"), asMsgPack("'parent'"));
+    assertEquality(variablesState.getVariable(child, wrapString("x")), "'parent'");
+
+    // when
+    setVariableLocal(child, wrapString("x"), asMsgPack("'child'"));
+
+    // then
+    assertEquality(variablesState.getVariable(child, wrapString("x")), "'child'");
+    assertEquality(variablesState.getVariable(parent, wrapString("x")), "'parent'");
+  }
+
+  @Test
+  public void shouldNotResolveVariablesOfRemovedScope() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("x"), asMsgPack("'parent'"));
+    assertEquality(variablesState.getVariable(child, wrapString("x")), "'parent'");
+
+    // when
+    elementInstanceState.removeInstance(child);
+    elementInstanceState.removeInstance(parent);
+
+    // then
+    assertThat(variablesState.getVariable(child, wrapString("x"))).isNull();
+    assertThat(variablesState.getVariable(parent, wrapString("x"))).isNull();
+  }
+
+  @Test
+  public void shouldNotResolveVariablesOfRolledBackTransaction() throws Exception {
+    // given
+    final var zeebeDb = ZEEBE_STATE_RULE.createNewDb();
+    try {
+      final var dbContext = zeebeDb.createContext();
+      final var zeebeState = new ZeebeState(1, zeebeDb, dbContext);
+      final var state = zeebeState.getWorkflowState().getElementInstanceState().getVariablesState();
+      state.createScope(parent, VariablesState.NO_PARENT);
+      state.createScope(child, parent);
+
+      final var transaction = dbContext.getCurrentTransaction();
+      transaction.run(
+          () -> state.setVariableLocal(child, WORKFLOW_KEY, wrapString("x"), asMsgPack("1")));
+      assertEquality(state.getVariable(child, wrapString("x")), "1");
+
+      // when
+      transaction.rollback();
+      zeebeState.onRollback();
+
+      // then
+      assertThat(state.getVariable(child, wrapString("x"))).isNull();
+    } finally {
+      zeebeDb.close();
+    }
+  }
+
   private byte[] stringToMsgpack(final String value) {
     return MsgPackUtil.encodeMsgPack(b -> b.packString(value)).byteArray();
   }
@@ -233,6 +233,51 @@ public final class MessageStateTest {
     assertThat(readMessage).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldReturnDeadlineOfNextMessage() {
+    // given
+    final Message message = createMessage(1L, "name", "correlationKey", "{}", "nr1", 1234);
+    final Message message2 = createMessage(2L, "otherName", "correlationKey", "{}", "nr2", 2000);
+
+    messageState.put(message);
+    messageState.put(message2);
+
+    // when
+    final long nextDeadline = messageState.visitMessagesWithDeadlineBefore(1_999, m -> true);
+
+    // then
+    assertThat(nextDeadline).isEqualTo(message2.getDeadline());
+  }
+
+  @Test
+  public void shouldReturnDeadlineOfMessageWhichWasNotConsumed() {
+    // given
+    final Message message = createMessage(1L, "name", "correlationKey", "{}", "nr1", 1234);
+    final Message message2 = createMessage(2L, "otherName", "correlationKey", "{}", "nr2", 2000);
+
+    messageState.put(message);
+    messageState.put(message2);
+
+    // when
+    final long nextDeadline = messageState.visitMessagesWithDeadlineBefore(2_000, m -> false);
+
+    // then
+    assertThat(nextDeadline).isEqualTo(message.getDeadline());
+  }
+
+  @Test
+  public void shouldReturnNoDeadlineIfAllMessagesWereVisited() {
+    // given
+    final Message message = createMessage(1L, "name", "correlationKey", "{}", "nr1", 1234);
+    messageState.put(message);
+
+    // when
+    final long nextDeadline = messageState.visitMessagesWithDeadlineBefore(2_000, m -> true);
+
+    // then
+    assertThat(nextDeadline).isEqualTo(-1L);
+  }
+
   @Test
   public void shouldRemoveMessage() {
     // given
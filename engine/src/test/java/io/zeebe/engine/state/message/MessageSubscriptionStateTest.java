@@ -176,6 +176,25 @@ public final class MessageSubscriptionStateTest {
     assertThat(keys).hasSize(1).contains(1L);
   }
 
+  @Test
+  public void shouldReturnSentTimeOfNextMessageSubscription() {
+    // given
+    final MessageSubscription subscription1 = subscriptionWithElementInstanceKey(1L);
+    state.put(subscription1);
+    state.updateSentTime(subscription1, 1_000);
+
+    final MessageSubscription subscription2 = subscriptionWithElementInstanceKey(2L);
+    state.put(subscription2);
+    state.updateSentTime(subscription2, 3_000);
+
+    // when
+    final long nextSentTime = state.visitSubscriptionBefore(2_000, s -> true);
+
+    // then
+    assertThat(nextSentTime).isEqualTo(3_000);
+    assertThat(state.visitSubscriptionBefore(4_000, s -> true)).isEqualTo(-1L);
+  }
+
   @Test
   public void shouldFindMessageSubscriptionBeforeTimeInOrder() {
     // given
@@ -114,6 +114,51 @@ public final class WorkflowInstanceSubscriptionStateTest {
     assertThat(keys).hasSize(2).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldReturnSentTimeOfNextSubscription() {
+    // given
+    final WorkflowInstanceSubscription subscription1 = subscriptionWithElementInstanceKey(1L);
+    state.put(subscription1);
+    state.updateSentTime(subscription1, 1_000);
+
+    final WorkflowInstanceSubscription subscription2 = subscriptionWithElementInstanceKey(2L);
+    state.put(subscription2);
+    state.updateSentTime(subscription2, 3_000);
+
+    // when
+    final long nextSentTime = state.visitSubscriptionBefore(2_000, s -> true);
+
+    // then
+    assertThat(nextSentTime).isEqualTo(3_000);
+    assertThat(state.visitSubscriptionBefore(4_000, s -> true)).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldReturnSentTimeOfSubscriptionWhichWasNotVisited() {
+    // given
+    final WorkflowInstanceSubscription subscription1 = subscriptionWithElementInstanceKey(1L);
+    state.put(subscription1);
+    state.updateSentTime(subscription1, 1_000);
+
+    final WorkflowInstanceSubscription subscription2 = subscriptionWithElementInstanceKey(2L);
+    state.put(subscription2);
+    state.updateSentTime(subscription2, 2_000);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextSentTime =
+        state.visitSubscriptionBefore(
+            3_000,
+            s -> {
+              keys.add(s.getElementInstanceKey());
+              return false;
+            });
+
+    // then
+    assertThat(keys).containsExactly(1L);
+    assertThat(nextSentTime).isEqualTo(1_000);
+  }
+
   @Test
   public void shouldNotVisitSubscriptionIfOpened() {
     // given
@@ -17,6 +17,7 @@ import io.zeebe.engine.processor.TypedRecordProcessorFactory;
 import io.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.util.StreamProcessingComposite.StreamProcessorTestFactory;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.logstreams.state.StateSnapshotController;
 import io.zeebe.logstreams.util.SynchronousLogStream;
@@ -117,6 +118,10 @@ public final class StreamProcessorRule implements TestRule {
     return streamProcessingComposite.getLogStreamRecordWriter(partitionId);
   }
 
+  public LogStreamBatchWriter getLogStreamBatchWriter(final int partitionId) {
+    return streamProcessingComposite.getLogStreamBatchWriter(partitionId);
+  }
+
   public StreamProcessor startTypedStreamProcessor(final StreamProcessorTestFactory factory) {
     return streamProcessingComposite.startTypedStreamProcessor(factory, r -> {});
   }
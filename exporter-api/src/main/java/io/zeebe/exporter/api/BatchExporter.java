@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.exporter.api;
+
+import io.zeebe.exporter.api.context.Controller;
+import io.zeebe.protocol.record.Record;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Optional extension of {@link Exporter} for exporters which can handle multiple records at once,
+ * e.g. to write them with a single request to a bulk sink.
+ *
+ * <p>Instead of calling {@link #export(Record)} for every record, the broker passes a contiguous
+ * window of the records which are accepted by the exporter's record filter to {@link
+ * #exportBatch(List)}.
+ */
+public interface BatchExporter extends Exporter {
+
+  /**
+   * Called at least once for every window of records to be exported. The records are ordered by
+   * their position. Once the records are guaranteed to have been exported, implementations should
+   * call {@link Controller#updateLastExportedRecordPosition(long)} with the position of the last
+   * record of the window, to signal that these records should not be received here ever again.
+   *
+   * <p>Should the method throw an unexpected {@link RuntimeException}, the method will be called
+   * again with the same window of records until it terminates without any exception. Records which
+   * were exported before the exception was thrown are part of the retried window as well.
+   *
+   * <p>The given list and records are only valid during this call; they are views over the
+   * underlying internal buffer which are reused for the next window. If the implementation needs to
+   * keep records, it either has to call {@link Record#toJson()} to get the serialized version of a
+   * record or {@link Record#clone()} to get a deep copy.
+   *
+   * @param records the records to export, never empty
+   */
+  void exportBatch(List<Record<?>> records);
+
+  /**
+   * Exports a single record as a window of one record.
+   *
+   * @param record the record to export
+   */
+  @Override
+  default void export(final Record record) {
+    exportBatch(Collections.singletonList(record));
+  }
+}
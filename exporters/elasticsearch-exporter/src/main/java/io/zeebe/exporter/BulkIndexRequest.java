@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.exporter;
+
+import io.zeebe.protocol.record.JsonSerializable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.entity.NByteArrayEntity;
+
+/**
+ * Collects index actions as the newline delimited JSON body of a bulk request. The documents are
+ * serialized directly into a buffer, which is reused for the following bulk requests, to avoid an
+ * intermediate string and request object per document.
+ */
+final class BulkIndexRequest {
+
+  static final ContentType CONTENT_TYPE = ContentType.create("application/x-ndjson");
+
+  private static final byte[] INDEX_ACTION_START = bytes("{\"index\":{\"_index\":\"");
+  private static final byte[] TYPE_FIELD = bytes("\",\"_type\":\"");
+  private static final byte[] ID_FIELD = bytes("\",\"_id\":\"");
+  private static final byte[] ROUTING_FIELD = bytes("\",\"routing\":\"");
+  private static final byte[] INDEX_ACTION_END = bytes("\"}}\n");
+  private static final byte NEW_LINE = '\n';
+
+  private final BulkBuffer buffer = new BulkBuffer();
+  private int numberOfActions;
+
+  void index(
+      final String index,
+      final String type,
+      final String id,
+      final String routing,
+      final JsonSerializable document) {
+    final int actionOffset = buffer.size();
+
+    buffer.writeBytes(INDEX_ACTION_START);
+    writeString(index);
+    buffer.writeBytes(TYPE_FIELD);
+    writeString(type);
+    buffer.writeBytes(ID_FIELD);
+    writeString(id);
+    buffer.writeBytes(ROUTING_FIELD);
+    writeString(routing);
+    buffer.writeBytes(INDEX_ACTION_END);
+
+    try {
+      document.writeJson(buffer);
+    } catch (final IOException | RuntimeException e) {
+      // drop the incomplete action, otherwise the whole bulk body would be corrupted
+      buffer.truncate(actionOffset);
+      throw new ElasticsearchExporterException(
+          "Failed to serialize document " + id + " for index " + index, e);
+    }
+
+    buffer.write(NEW_LINE);
+    numberOfActions++;
+  }
+
+  int numberOfActions() {
+    return numberOfActions;
+  }
+
+  HttpEntity toEntity() {
+    return new NByteArrayEntity(buffer.array(), 0, buffer.size(), CONTENT_TYPE);
+  }
+
+  void clear() {
+    buffer.reset();
+    numberOfActions = 0;
+  }
+
+  private void writeString(final String value) {
+    // index names, ids and routing values must not contain characters which need escaping
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) >= 0x80) {
+        buffer.writeBytes(bytes(value));
+        return;
+      }
+    }
+
+    for (int i = 0; i < value.length(); i++) {
+      buffer.write(value.charAt(i));
+    }
+  }
+
+  private static byte[] bytes(final String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static final class BulkBuffer extends ByteArrayOutputStream {
+
+    private BulkBuffer() {
+      super(64 * 1024);
+    }
+
+    private byte[] array() {
+      return buf;
+    }
+
+    private void truncate(final int size) {
+      count = size;
+    }
+  }
+}
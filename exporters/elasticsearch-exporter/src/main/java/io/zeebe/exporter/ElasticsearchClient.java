@@ -19,8 +19,11 @@ import java.net.URISyntaxException;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
@@ -30,14 +33,18 @@ import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.apache.http.impl.nio.reactor.IOReactorConfig;
 import org.elasticsearch.action.admin.indices.template.put.PutIndexTemplateRequest;
 import org.elasticsearch.action.bulk.BulkItemResponse;
-import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkResponse;
-import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.client.Request;
 import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.xcontent.DeprecationHandler;
+import org.elasticsearch.common.xcontent.NamedXContentRegistry;
 import org.elasticsearch.common.xcontent.XContentHelper;
+import org.elasticsearch.common.xcontent.XContentParser;
 import org.elasticsearch.common.xcontent.XContentType;
 import org.slf4j.Logger;
 
@@ -50,7 +57,10 @@ public class ElasticsearchClient {
   private final ElasticsearchExporterConfiguration configuration;
   private final Logger log;
   private final DateTimeFormatter formatter;
-  private BulkRequest bulkRequest;
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
+  private final Deque<BulkIndexRequest> recycledBulkRequests = new ArrayDeque<>();
+  private BulkIndexRequest bulkRequest;
+  private long flushedPosition = -1;
   private ElasticsearchMetrics metrics;
 
   public ElasticsearchClient(
@@ -58,7 +68,7 @@ public class ElasticsearchClient {
     this.configuration = configuration;
     this.log = log;
     this.client = createClient();
-    this.bulkRequest = new BulkRequest();
+    this.bulkRequest = new BulkIndexRequest();
     this.formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneOffset.UTC);
   }
 
@@ -73,11 +83,12 @@ public class ElasticsearchClient {
 
     checkRecord(record);
 
-    final IndexRequest request =
-        new IndexRequest(indexFor(record), typeFor(record), idFor(record))
-            .source(record.toJson(), XContentType.JSON)
-            .routing(String.valueOf(record.getPartitionId()));
-    bulk(request);
+    bulkRequest.index(
+        indexFor(record),
+        typeFor(record),
+        idFor(record),
+        String.valueOf(record.getPartitionId()),
+        record);
   }
 
   @SuppressWarnings("unchecked")
@@ -103,10 +114,6 @@ public class ElasticsearchClient {
     }
   }
 
-  public void bulk(final IndexRequest indexRequest) {
-    bulkRequest.add(indexRequest);
-  }
-
   /** @return true if all bulk records where flushed successfully */
   public boolean flush() {
     boolean success = true;
@@ -121,17 +128,120 @@ public class ElasticsearchClient {
       }
 
       if (success) {
-        // all records where flushed, create new bulk request, otherwise retry next time
-        bulkRequest = new BulkRequest();
+        // all records where flushed, reuse the bulk request, otherwise retry next time
+        bulkRequest.clear();
       }
     }
 
     return success;
   }
 
+  /**
+   * Sends the current bulk without waiting for its response. If the configured number of bulk
+   * requests is already in flight, it waits for the oldest one to complete. A failed bulk request
+   * is retried before any later bulk is acknowledged, see {@link #getFlushedPosition()}.
+   *
+   * @param position the position of the last record in the current bulk
+   * @return true if the bulk was sent, false if it is kept to be sent with the next flush because
+   *     the oldest bulk request in flight failed
+   */
+  public boolean flushAsync(final long position) {
+    if (bulkRequest.numberOfActions() == 0) {
+      return true;
+    }
+
+    while (inFlightBulks.size() >= configuration.bulk.maxInFlightRequests) {
+      inFlightBulks.getFirst().awaitCompletion();
+      if (!completeFlushedBulks(true)) {
+        return false;
+      }
+    }
+
+    final InFlightBulk inFlightBulk = new InFlightBulk(bulkRequest, position);
+    inFlightBulks.addLast(inFlightBulk);
+    inFlightBulk.send();
+
+    bulkRequest = newBulkRequest();
+    return true;
+  }
+
+  /**
+   * Waits until all bulk requests in flight are completed, without retrying the failed ones. Used
+   * on close, such that the position of all acknowledged bulks can be reported.
+   */
+  public void awaitInFlightBulks() {
+    for (final InFlightBulk inFlightBulk : inFlightBulks) {
+      inFlightBulk.awaitCompletion();
+    }
+
+    completeFlushedBulks(false);
+  }
+
+  /**
+   * @return the position of the last record which was flushed successfully by an asynchronous bulk
+   *     request, together with all records before it, or -1 if there is none yet
+   */
+  public long getFlushedPosition() {
+    completeFlushedBulks(true);
+    return flushedPosition;
+  }
+
+  /** @return true if no failed bulk request is pending to be retried */
+  private boolean completeFlushedBulks(final boolean retryFailedBulk) {
+    InFlightBulk oldestBulk = inFlightBulks.peekFirst();
+
+    while (oldestBulk != null && oldestBulk.isCompleted()) {
+      if (!oldestBulk.isSucceeded()) {
+        if (retryFailedBulk) {
+          // the later bulks can only be acknowledged after the oldest one succeeded
+          oldestBulk.send();
+        }
+        return false;
+      }
+
+      inFlightBulks.removeFirst();
+      flushedPosition = oldestBulk.position;
+      recycleBulkRequest(oldestBulk.request);
+
+      oldestBulk = inFlightBulks.peekFirst();
+    }
+
+    return true;
+  }
+
+  private BulkIndexRequest newBulkRequest() {
+    final BulkIndexRequest recycledBulkRequest = recycledBulkRequests.pollFirst();
+    return recycledBulkRequest != null ? recycledBulkRequest : new BulkIndexRequest();
+  }
+
+  private void recycleBulkRequest(final BulkIndexRequest request) {
+    request.clear();
+    recycledBulkRequests.addLast(request);
+  }
+
   private BulkResponse exportBulk() throws IOException {
     try (final Histogram.Timer timer = metrics.measureFlushDuration()) {
-      return client.bulk(bulkRequest, RequestOptions.DEFAULT);
+      final Response response =
+          client.getLowLevelClient().performRequest(newRestRequest(bulkRequest));
+      return parseBulkResponse(response);
+    }
+  }
+
+  private static Request newRestRequest(final BulkIndexRequest bulkRequest) {
+    final Request request = new Request("POST", "/_bulk");
+    request.setEntity(bulkRequest.toEntity());
+    return request;
+  }
+
+  private static BulkResponse parseBulkResponse(final Response response) throws IOException {
+    try (final XContentParser parser =
+        XContentType.JSON
+            .xContent()
+            .createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                response.getEntity().getContent())) {
+      return BulkResponse.fromXContent(parser);
     }
   }
 
@@ -278,4 +388,58 @@ public class ElasticsearchClient {
   private static String indexTemplateForValueType(final ValueType valueType) {
     return String.format(INDEX_TEMPLATE_FILENAME_PATTERN, valueTypeToString(valueType));
   }
+
+  private final class InFlightBulk implements ResponseListener {
+
+    private final BulkIndexRequest request;
+    private final long position;
+    private volatile CompletableFuture<Boolean> result;
+    private Histogram.Timer timer;
+
+    private InFlightBulk(final BulkIndexRequest request, final long position) {
+      this.request = request;
+      this.position = position;
+    }
+
+    private void send() {
+      metrics.recordBulkSize(request.numberOfActions());
+      result = new CompletableFuture<>();
+      timer = metrics.measureFlushDuration();
+      client.getLowLevelClient().performRequestAsync(newRestRequest(request), this);
+    }
+
+    private boolean isCompleted() {
+      return result.isDone();
+    }
+
+    private boolean isSucceeded() {
+      return result.join();
+    }
+
+    private void awaitCompletion() {
+      result.join();
+    }
+
+    @Override
+    public void onSuccess(final Response response) {
+      timer.observeDuration();
+
+      boolean success;
+      try {
+        success = checkBulkResponses(parseBulkResponse(response));
+      } catch (final IOException | RuntimeException e) {
+        log.warn("Failed to read bulk response, will retry the bulk", e);
+        success = false;
+      }
+
+      result.complete(success);
+    }
+
+    @Override
+    public void onFailure(final Exception exception) {
+      timer.observeDuration();
+      log.warn("Failed to flush bulk, will retry it", exception);
+      result.complete(false);
+    }
+  }
 }
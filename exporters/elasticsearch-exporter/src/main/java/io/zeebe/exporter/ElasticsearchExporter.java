@@ -30,6 +30,7 @@ public class ElasticsearchExporter implements Exporter {
   private ElasticsearchClient client;
 
   private long lastPosition = -1;
+  private long lastFlushedPosition = -1;
   private boolean indexTemplatesCreated;
 
   @Override
@@ -51,6 +52,13 @@ public class ElasticsearchExporter implements Exporter {
               "Elasticsearch prefix must not contain underscore. Current value: %s",
               configuration.index.prefix));
     }
+
+    if (configuration.bulk.asyncFlush && configuration.bulk.maxInFlightRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch max in flight requests must be at least 1 for an asynchronous flush. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
   }
 
   @Override
@@ -67,6 +75,11 @@ public class ElasticsearchExporter implements Exporter {
 
     try {
       flush();
+
+      if (configuration.bulk.asyncFlush) {
+        client.awaitInFlightBulks();
+        updateFlushedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -113,13 +126,31 @@ public class ElasticsearchExporter implements Exporter {
   }
 
   private void flush() {
-    if (client.flush()) {
+    if (configuration.bulk.asyncFlush) {
+      flushAsync();
+    } else if (client.flush()) {
       controller.updateLastExportedRecordPosition(lastPosition);
     } else {
       log.warn("Failed to flush bulk completely");
     }
   }
 
+  private void flushAsync() {
+    if (!client.flushAsync(lastPosition)) {
+      log.warn("Failed to flush bulk, retrying the oldest bulk in flight first");
+    }
+
+    updateFlushedPosition();
+  }
+
+  private void updateFlushedPosition() {
+    final long flushedPosition = client.getFlushedPosition();
+    if (flushedPosition > lastFlushedPosition) {
+      lastFlushedPosition = flushedPosition;
+      controller.updateLastExportedRecordPosition(flushedPosition);
+    }
+  }
+
   private void createIndexTemplates() {
     final IndexConfiguration index = configuration.index;
 
@@ -160,10 +160,23 @@ public class ElasticsearchExporterConfiguration {
     public int delay = 5;
     // bulk size before flush
     public int size = 1_000;
+    // send bulks without blocking the exporter until the response is received
+    public boolean asyncFlush = false;
+    // max number of bulks which are sent but not acknowledged yet, if the flush is asynchronous
+    public int maxInFlightRequests = 2;
 
     @Override
     public String toString() {
-      return "BulkConfiguration{" + "delay=" + delay + ", size=" + size + '}';
+      return "BulkConfiguration{"
+          + "delay="
+          + delay
+          + ", size="
+          + size
+          + ", asyncFlush="
+          + asyncFlush
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
+          + '}';
     }
   }
 
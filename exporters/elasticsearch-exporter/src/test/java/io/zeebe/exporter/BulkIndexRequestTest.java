@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.zeebe.protocol.record.JsonSerializable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.apache.http.HttpEntity;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+public class BulkIndexRequestTest {
+
+  private final BulkIndexRequest bulkRequest = new BulkIndexRequest();
+
+  @Test
+  public void shouldWriteActionAndDocumentAsLines() throws IOException {
+    // when
+    bulkRequest.index("index-a", "_doc", "1-1", "1", () -> "{\"foo\":1}");
+    bulkRequest.index("index-b", "_doc", "1-2", "1", () -> "{\"foo\":\"bär\"}");
+
+    // then
+    assertThat(bulkRequest.numberOfActions()).isEqualTo(2);
+    assertThat(bodyOf(bulkRequest.toEntity()))
+        .isEqualTo(
+            "{\"index\":{\"_index\":\"index-a\",\"_type\":\"_doc\",\"_id\":\"1-1\",\"routing\":\"1\"}}\n"
+                + "{\"foo\":1}\n"
+                + "{\"index\":{\"_index\":\"index-b\",\"_type\":\"_doc\",\"_id\":\"1-2\",\"routing\":\"1\"}}\n"
+                + "{\"foo\":\"bär\"}\n");
+  }
+
+  @Test
+  public void shouldUseNdJsonContentType() {
+    // when
+    bulkRequest.index("index", "_doc", "1-1", "1", () -> "{}");
+
+    // then
+    assertThat(bulkRequest.toEntity().getContentType().getValue())
+        .isEqualTo(BulkIndexRequest.CONTENT_TYPE.toString());
+  }
+
+  @Test
+  public void shouldClearActions() throws IOException {
+    // given
+    bulkRequest.index("index", "_doc", "1-1", "1", () -> "{}");
+
+    // when
+    bulkRequest.clear();
+    bulkRequest.index("index", "_doc", "1-2", "1", () -> "{}");
+
+    // then
+    assertThat(bulkRequest.numberOfActions()).isEqualTo(1);
+    assertThat(bodyOf(bulkRequest.toEntity()))
+        .isEqualTo(
+            "{\"index\":{\"_index\":\"index\",\"_type\":\"_doc\",\"_id\":\"1-2\",\"routing\":\"1\"}}\n"
+                + "{}\n");
+  }
+
+  @Test
+  public void shouldDropActionIfDocumentCannotBeSerialized() throws IOException {
+    // given
+    bulkRequest.index("index", "_doc", "1-1", "1", () -> "{}");
+    final String expectedBody = bodyOf(bulkRequest.toEntity());
+
+    // when
+    assertThatThrownBy(() -> bulkRequest.index("index", "_doc", "1-2", "1", new FailingDocument()))
+        .isInstanceOf(ElasticsearchExporterException.class)
+        .hasCauseInstanceOf(IOException.class);
+
+    // then
+    assertThat(bulkRequest.numberOfActions()).isEqualTo(1);
+    assertThat(bodyOf(bulkRequest.toEntity())).isEqualTo(expectedBody);
+  }
+
+  private static String bodyOf(final HttpEntity entity) throws IOException {
+    return EntityUtils.toString(entity, StandardCharsets.UTF_8);
+  }
+
+  private static final class FailingDocument implements JsonSerializable {
+
+    @Override
+    public String toJson() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void writeJson(final OutputStream outputStream) throws IOException {
+      outputStream.write("{\"foo\":".getBytes(StandardCharsets.UTF_8));
+      throw new IOException("expected");
+    }
+  }
+}
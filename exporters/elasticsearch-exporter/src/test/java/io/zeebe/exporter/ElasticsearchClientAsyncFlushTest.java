@@ -0,0 +1,207 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.test.util.TestUtil;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+public class ElasticsearchClientAsyncFlushTest {
+
+  private static final Pattern ID_PATTERN = Pattern.compile("\"_id\":\"([^\"]+)\"");
+  private static final String SUCCESS_ITEM =
+      "{\"index\":{\"_index\":\"index\",\"_type\":\"_doc\",\"_id\":\"%s\",\"_version\":1,"
+          + "\"result\":\"created\",\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},"
+          + "\"_seq_no\":0,\"_primary_term\":1,\"status\":201}}";
+  private static final String FAILURE_ITEM =
+      "{\"index\":{\"_index\":\"index\",\"_type\":\"_doc\",\"_id\":\"%s\",\"status\":400,"
+          + "\"error\":{\"type\":\"mapper_parsing_exception\",\"reason\":\"expected\"}}}";
+
+  private final Map<String, CompletableFuture<Boolean>> responses = new ConcurrentHashMap<>();
+  private final List<String> requestedIds = new CopyOnWriteArrayList<>();
+
+  private ExecutorService serverExecutor;
+  private HttpServer server;
+  private ElasticsearchExporterConfiguration configuration;
+  private ElasticsearchClient client;
+
+  @Before
+  public void setUp() throws IOException {
+    serverExecutor = Executors.newCachedThreadPool();
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/_bulk", this::handleBulkRequest);
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    configuration = new ElasticsearchExporterConfiguration();
+    configuration.url = "http://localhost:" + server.getAddress().getPort();
+    configuration.bulk.asyncFlush = true;
+    configuration.bulk.maxInFlightRequests = 2;
+    client =
+        new ElasticsearchClient(
+            configuration, LoggerFactory.getLogger(ElasticsearchClientAsyncFlushTest.class));
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    responses.values().forEach(response -> response.complete(false));
+    client.close();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  public void shouldSendBulksWithoutWaitingForResponse() {
+    // when
+    indexAndFlushAsync(1);
+    indexAndFlushAsync(2);
+
+    // then
+    TestUtil.waitUntil(() -> requestedIds.size() == 2);
+    assertThat(requestedIds).containsExactlyInAnyOrder("1-1", "1-2");
+    assertThat(client.getFlushedPosition()).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldAcknowledgePositionOnlyAfterAllPreviousBulksSucceeded() {
+    // given
+    indexAndFlushAsync(1);
+    indexAndFlushAsync(2);
+
+    // when
+    respond("1-2", true);
+    TestUtil.waitUntil(() -> !responses.containsKey("1-2"));
+
+    // then
+    assertThat(client.getFlushedPosition()).isEqualTo(-1);
+
+    // when
+    respond("1-1", true);
+
+    // then
+    TestUtil.waitUntil(() -> client.getFlushedPosition() == 2);
+  }
+
+  @Test
+  public void shouldRetryFailedBulkBeforeAcknowledgingLaterBulks() {
+    // given
+    indexAndFlushAsync(1);
+    indexAndFlushAsync(2);
+    respond("1-2", true);
+
+    // when
+    respond("1-1", false);
+    TestUtil.waitUntil(
+        () ->
+            client.getFlushedPosition() < 0
+                && requestedIds.stream().filter("1-1"::equals).count() == 2);
+    respond("1-1", true);
+
+    // then
+    TestUtil.waitUntil(() -> client.getFlushedPosition() == 2);
+  }
+
+  @Test
+  public void shouldWaitForOldestBulkIfTooManyBulksAreInFlight() {
+    // given
+    indexAndFlushAsync(1);
+    indexAndFlushAsync(2);
+    respond("1-1", true);
+
+    // when
+    indexAndFlushAsync(3);
+
+    // then
+    TestUtil.waitUntil(() -> requestedIds.contains("1-3"));
+    assertThat(client.getFlushedPosition()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldKeepBulkIfOldestBulkInFlightFailed() {
+    // given
+    indexAndFlushAsync(1);
+    indexAndFlushAsync(2);
+    respond("1-1", false);
+
+    // when
+    client.index(record(3));
+    final boolean sent = client.flushAsync(3);
+
+    // then
+    assertThat(sent).isFalse();
+    assertThat(requestedIds).doesNotContain("1-3");
+  }
+
+  private void indexAndFlushAsync(final long position) {
+    client.index(record(position));
+    assertThat(client.flushAsync(position)).isTrue();
+  }
+
+  private void respond(final String id, final boolean success) {
+    responses.computeIfAbsent(id, ignored -> new CompletableFuture<>()).complete(success);
+  }
+
+  private void handleBulkRequest(final HttpExchange exchange) throws IOException {
+    final String body =
+        new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    final Matcher matcher = ID_PATTERN.matcher(body);
+    matcher.find();
+    final String id = matcher.group(1);
+    requestedIds.add(id);
+
+    final boolean success =
+        responses
+            .computeIfAbsent(id, ignored -> new CompletableFuture<>())
+            .completeOnTimeout(false, 30, TimeUnit.SECONDS)
+            .join();
+    responses.remove(id);
+
+    final String item = String.format(success ? SUCCESS_ITEM : FAILURE_ITEM, id);
+    final byte[] response =
+        String.format("{\"took\":1,\"errors\":%s,\"items\":[%s]}", !success, item)
+            .getBytes(StandardCharsets.UTF_8);
+
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, response.length);
+    try (final OutputStream responseBody = exchange.getResponseBody()) {
+      responseBody.write(response);
+    }
+  }
+
+  private static Record<?> record(final long position) {
+    final Record<?> record = mock(Record.class);
+    when(record.getPartitionId()).thenReturn(1);
+    when(record.getPosition()).thenReturn(position);
+    when(record.getValueType()).thenReturn(ValueType.JOB);
+    return record;
+  }
+}
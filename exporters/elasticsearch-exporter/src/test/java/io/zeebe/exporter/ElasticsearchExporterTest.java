@@ -11,8 +11,10 @@ import static io.zeebe.exporter.ElasticsearchExporter.ZEEBE_RECORD_TEMPLATE_JSON
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -297,6 +299,45 @@ public class ElasticsearchExporterTest {
     assertThat(testHarness.getController().getPosition()).isEqualTo(exported.get(3).getPosition());
   }
 
+  @Test
+  public void shouldUpdatePositionOfAsynchronouslyFlushedBulks() {
+    // given
+    config.index.event = true;
+    config.bulk.asyncFlush = true;
+    when(esClient.flushAsync(anyLong())).thenReturn(true);
+    createAndOpenExporter();
+
+    final List<Record> exported =
+        testHarness.stream(
+                r ->
+                    r.getMetadata()
+                        .setValueType(ValueType.WORKFLOW_INSTANCE)
+                        .setRecordType(RecordType.EVENT))
+            .export(4);
+    when(esClient.getFlushedPosition()).thenReturn(exported.get(1).getPosition());
+
+    // when
+    testHarness.getController().runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+
+    // then
+    verify(esClient).flushAsync(exported.get(3).getPosition());
+    verify(esClient, never()).flush();
+    assertThat(testHarness.getController().getPosition()).isEqualTo(exported.get(1).getPosition());
+  }
+
+  @Test
+  public void shouldFailOnInvalidMaxInFlightRequests() {
+    // given
+    config.bulk.asyncFlush = true;
+    config.bulk.maxInFlightRequests = 0;
+
+    createExporterAndTestHarness();
+
+    // then
+    assertThatThrownBy(() -> testHarness.configure("els", config))
+        .isInstanceOf(ExporterException.class);
+  }
+
   @Test
   public void shouldNotHandleFlushException() {
     // given
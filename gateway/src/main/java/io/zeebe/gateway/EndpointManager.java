@@ -24,20 +24,28 @@ import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerError;
 import io.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.zeebe.gateway.impl.job.ActivatedJobsStream;
 import io.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.zeebe.gateway.protocol.GatewayGrpc;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
 import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo.Builder;
+import io.zeebe.gateway.protocol.GatewayOuterClass.BundleItemError;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResult;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
@@ -46,10 +54,14 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.Partition;
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.TopologyRequest;
@@ -63,10 +75,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
 
+  /** The maximum number of requests which are accepted in a single bundle RPC. */
+  public static final int MAX_BUNDLE_SIZE = 1_000;
+
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final LongPollingActivateJobsHandler activateJobsHandler;
@@ -143,6 +161,21 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
         responseObserver);
   }
 
+  @Override
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final StreamObserver<CompleteJobsResponse> responseObserver) {
+    sendBundledRequests(
+        request,
+        request.getRequestsList(),
+        RequestMapper::toCompleteJobRequest,
+        ResponseMapper::toCompleteJobResponse,
+        response -> CompleteJobResult.newBuilder().setResponse(response).build(),
+        error -> CompleteJobResult.newBuilder().setError(error).build(),
+        results -> CompleteJobsResponse.newBuilder().addAllResults(results).build(),
+        responseObserver);
+  }
+
   @Override
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
@@ -154,6 +187,21 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
         responseObserver);
   }
 
+  @Override
+  public void createWorkflowInstances(
+      final CreateWorkflowInstancesRequest request,
+      final StreamObserver<CreateWorkflowInstancesResponse> responseObserver) {
+    sendBundledRequests(
+        request,
+        request.getRequestsList(),
+        RequestMapper::toCreateWorkflowInstanceRequest,
+        ResponseMapper::toCreateWorkflowInstanceResponse,
+        response -> CreateWorkflowInstanceResult.newBuilder().setResponse(response).build(),
+        error -> CreateWorkflowInstanceResult.newBuilder().setError(error).build(),
+        results -> CreateWorkflowInstancesResponse.newBuilder().addAllResults(results).build(),
+        responseObserver);
+  }
+
   @Override
   public void createWorkflowInstanceWithResult(
       final CreateWorkflowInstanceWithResultRequest request,
@@ -218,6 +266,21 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
         responseObserver);
   }
 
+  @Override
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final StreamObserver<PublishMessagesResponse> responseObserver) {
+    sendBundledRequests(
+        request,
+        request.getRequestsList(),
+        RequestMapper::toPublishMessageRequest,
+        ResponseMapper::toPublishMessageResponse,
+        response -> PublishMessageResult.newBuilder().setResponse(response).build(),
+        error -> PublishMessageResult.newBuilder().setError(error).build(),
+        results -> PublishMessagesResponse.newBuilder().addAllResults(results).build(),
+        responseObserver);
+  }
+
   @Override
   public void resolveIncident(
       final ResolveIncidentRequest request,
@@ -240,6 +303,12 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
         responseObserver);
   }
 
+  @Override
+  public StreamObserver<StreamActivatedJobsRequest> streamActivatedJobs(
+      final StreamObserver<ActivateJobsResponse> responseObserver) {
+    return new ActivatedJobsStream(activateJobsHandler, responseObserver);
+  }
+
   @Override
   public void topology(
       final TopologyRequest request, final StreamObserver<TopologyResponse> responseObserver) {
@@ -332,6 +401,93 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
         timeout);
   }
 
+  /**
+   * Sends the broker request of each item as an independent request, without waiting for the
+   * responses of the other items. The requests are dispatched like single requests, so there is no
+   * guarantee in which order the items are written, not even for items of the same partition, and
+   * they may interleave with other requests. The bundle response is sent after all items are
+   * answered and contains the results in the order of the items.
+   *
+   * <p>Bundling only saves round trips between the client and the gateway. The broker transport
+   * answers each request with exactly one response, so the items are not appended as one
+   * multi-record write, and the broker handles the same number of requests as if the items were
+   * sent as single RPCs.
+   */
+  private <
+          GrpcBundleRequestT,
+          GrpcRequestT,
+          BrokerResponseT,
+          GrpcResponseT,
+          GrpcResultT,
+          GrpcBundleResponseT>
+      void sendBundledRequests(
+          final GrpcBundleRequestT grpcBundleRequest,
+          final List<GrpcRequestT> grpcRequests,
+          final Function<GrpcRequestT, BrokerRequest<BrokerResponseT>> requestMapper,
+          final BrokerResponseMapper<BrokerResponseT, GrpcResponseT> responseMapper,
+          final Function<GrpcResponseT, GrpcResultT> resultMapper,
+          final Function<BundleItemError, GrpcResultT> errorMapper,
+          final Function<List<GrpcResultT>, GrpcBundleResponseT> bundleResponseMapper,
+          final StreamObserver<GrpcBundleResponseT> streamObserver) {
+
+    if (grpcRequests.size() > MAX_BUNDLE_SIZE) {
+      streamObserver.onError(
+          convertThrowable(
+              new GrpcStatusExceptionImpl(
+                  String.format(
+                      "Expected to handle at most %d requests in a bundle, but got %d",
+                      MAX_BUNDLE_SIZE, grpcRequests.size()),
+                  Status.INVALID_ARGUMENT)));
+      return;
+    }
+
+    suppressCancelledException(grpcBundleRequest, streamObserver);
+    final BundleResults<GrpcResultT> results =
+        new BundleResults<>(
+            grpcRequests.size(),
+            bundleResults -> {
+              streamObserver.onNext(bundleResponseMapper.apply(bundleResults));
+              streamObserver.onCompleted();
+            });
+
+    for (int i = 0; i < grpcRequests.size(); i++) {
+      final int index = i;
+
+      final BrokerRequest<BrokerResponseT> brokerRequest;
+      try {
+        brokerRequest = requestMapper.apply(grpcRequests.get(index));
+      } catch (final MsgpackPropertyException e) {
+        results.set(
+            index,
+            errorMapper.apply(
+                toBundleItemError(
+                    new GrpcStatusExceptionImpl(e.getMessage(), Status.INVALID_ARGUMENT, e))));
+        continue;
+      } catch (final Exception e) {
+        results.set(index, errorMapper.apply(toBundleItemError(e)));
+        continue;
+      }
+
+      brokerClient.sendRequest(
+          brokerRequest,
+          (key, response) ->
+              results.set(index, resultMapper.apply(responseMapper.apply(key, response))),
+          error -> results.set(index, errorMapper.apply(toBundleItemError(error))));
+    }
+  }
+
+  private static BundleItemError toBundleItemError(final Throwable error) {
+    final Status status = convertThrowable(error).getStatus();
+    final BundleItemError.Builder bundleItemError =
+        BundleItemError.newBuilder().setCode(status.getCode().value());
+
+    if (status.getDescription() != null) {
+      bundleItemError.setMessage(status.getDescription());
+    }
+
+    return bundleItemError.build();
+  }
+
   private <GrpcRequestT, GrpcResponseT> void suppressCancelledException(
       final GrpcRequestT grpcRequest, final StreamObserver<GrpcResponseT> streamObserver) {
     final ServerCallStreamObserver<GrpcResponseT> serverObserver =
@@ -446,4 +602,32 @@ public final class EndpointManager extends GatewayGrpc.GatewayImplBase {
 
     return status.augmentDescription(description);
   }
+
+  private static final class BundleResults<T> {
+    private final AtomicReferenceArray<T> results;
+    private final AtomicInteger remainingResults;
+    private final Consumer<List<T>> onCompleted;
+
+    private BundleResults(final int size, final Consumer<List<T>> onCompleted) {
+      results = new AtomicReferenceArray<>(size);
+      remainingResults = new AtomicInteger(size);
+      this.onCompleted = onCompleted;
+
+      if (size == 0) {
+        onCompleted.accept(List.of());
+      }
+    }
+
+    private void set(final int index, final T result) {
+      results.set(index, result);
+
+      if (remainingResults.decrementAndGet() == 0) {
+        final List<T> completedResults = new ArrayList<>(results.length());
+        for (int i = 0; i < results.length(); i++) {
+          completedResults.add(results.get(i));
+        }
+        onCompleted.accept(completedResults);
+      }
+    }
+  }
 }
@@ -164,7 +164,11 @@ public final class Gateway {
   }
 
   private LongPollingActivateJobsHandler buildLongPollingHandler(final BrokerClient brokerClient) {
-    return LongPollingActivateJobsHandler.newBuilder().setBrokerClient(brokerClient).build();
+    return LongPollingActivateJobsHandler.newBuilder()
+        .setBrokerClient(brokerClient)
+        .setMaxConcurrentPartitionRequests(
+            gatewayCfg.getJobActivation().getMaxConcurrentPartitionRequests())
+        .build();
   }
 
   public void listenAndServe() throws InterruptedException, IOException {
@@ -28,6 +28,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 
@@ -40,7 +41,8 @@ public final class BrokerClientImpl implements BrokerClient {
   private final BrokerTopologyManagerImpl topologyManager;
   private final AtomixCluster atomixCluster;
   private final boolean ownsActorScheduler;
-  private final BrokerRequestManager requestManager;
+  private final BrokerRequestManager[] requestManagers;
+  private final AtomicInteger nextRequestManager = new AtomicInteger();
   private boolean isClosed;
   private Subscription jobAvailableSubscription;
 
@@ -90,13 +92,22 @@ public final class BrokerClientImpl implements BrokerClient {
     final var messagingService = atomixCluster.getMessagingService();
     final var atomixTransportAdapter = new AtomixClientTransportAdapter(messagingService);
     actorScheduler.submitActor(atomixTransportAdapter);
-    requestManager =
-        new BrokerRequestManager(
-            atomixTransportAdapter,
-            topologyManager,
-            new RoundRobinDispatchStrategy(topologyManager),
-            clusterCfg.getRequestTimeout());
-    actorScheduler.submitActor(requestManager);
+
+    // the request managers share the topology, which is replaced as a whole on every change, and
+    // the dispatch strategy, so they only differ in the actor on which the requests are handled
+    final var dispatchStrategy = new LoadAwareDispatchStrategy(topologyManager);
+    final int shards = Math.max(1, configuration.getThreads().getRequestManagerShards());
+    requestManagers = new BrokerRequestManager[shards];
+    for (int shard = 0; shard < shards; shard++) {
+      requestManagers[shard] =
+          new BrokerRequestManager(
+              atomixTransportAdapter,
+              topologyManager,
+              dispatchStrategy,
+              clusterCfg.getRequestTimeout(),
+              shard);
+      actorScheduler.submitActor(requestManagers[shard]);
+    }
   }
 
   @Override
@@ -135,7 +146,7 @@ public final class BrokerClientImpl implements BrokerClient {
    */
   @Override
   public <T> ActorFuture<BrokerResponse<T>> sendRequest(final BrokerRequest<T> request) {
-    return requestManager.sendRequest(request);
+    return nextRequestManager().sendRequest(request);
   }
 
   @Override
@@ -143,13 +154,13 @@ public final class BrokerClientImpl implements BrokerClient {
       final BrokerRequest<T> request,
       final BrokerResponseConsumer<T> responseConsumer,
       final Consumer<Throwable> throwableConsumer) {
-    requestManager.sendRequest(request, responseConsumer, throwableConsumer);
+    nextRequestManager().sendRequest(request, responseConsumer, throwableConsumer);
   }
 
   @Override
   public <T> ActorFuture<BrokerResponse<T>> sendRequest(
       final BrokerRequest<T> request, final Duration requestTimeout) {
-    return requestManager.sendRequest(request, requestTimeout);
+    return nextRequestManager().sendRequest(request, requestTimeout);
   }
 
   @Override
@@ -158,7 +169,7 @@ public final class BrokerClientImpl implements BrokerClient {
       final BrokerResponseConsumer<T> responseConsumer,
       final Consumer<Throwable> throwableConsumer,
       final Duration requestTimeout) {
-    requestManager.sendRequest(request, responseConsumer, throwableConsumer, requestTimeout);
+    nextRequestManager().sendRequest(request, responseConsumer, throwableConsumer, requestTimeout);
   }
 
   @Override
@@ -181,6 +192,15 @@ public final class BrokerClientImpl implements BrokerClient {
             .join();
   }
 
+  private BrokerRequestManager nextRequestManager() {
+    if (requestManagers.length == 1) {
+      return requestManagers[0];
+    }
+
+    final int shard = Math.floorMod(nextRequestManager.getAndIncrement(), requestManagers.length);
+    return requestManagers[shard];
+  }
+
   private void doAndLogException(final Runnable r) {
     try {
       r.run();
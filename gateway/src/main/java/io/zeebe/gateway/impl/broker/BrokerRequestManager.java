@@ -44,16 +44,38 @@ public final class BrokerRequestManager extends Actor {
   private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManagerImpl topologyManager;
   private final Duration requestTimeout;
+  private final String name;
 
   public BrokerRequestManager(
       final ClientTransport clientTransport,
       final BrokerTopologyManagerImpl topologyManager,
       final RequestDispatchStrategy dispatchStrategy,
       final Duration requestTimeout) {
+    this(clientTransport, topologyManager, dispatchStrategy, requestTimeout, 0);
+  }
+
+  /**
+   * Creates one of several request managers, which share the transport, the topology and the
+   * dispatch strategy, to distribute the requests between multiple actors.
+   *
+   * @param shard the index of the request manager, which is used in its name
+   */
+  public BrokerRequestManager(
+      final ClientTransport clientTransport,
+      final BrokerTopologyManagerImpl topologyManager,
+      final RequestDispatchStrategy dispatchStrategy,
+      final Duration requestTimeout,
+      final int shard) {
     this.clientTransport = clientTransport;
     this.dispatchStrategy = dispatchStrategy;
     this.topologyManager = topologyManager;
     this.requestTimeout = requestTimeout;
+    this.name = "GatewayRequestManager-" + shard;
+  }
+
+  @Override
+  public String getName() {
+    return name;
   }
 
   private static boolean responseValidation(final DirectBuffer responseContent) {
@@ -180,18 +202,31 @@ public final class BrokerRequestManager extends Actor {
             nodeIdProvider, BrokerRequestManager::responseValidation, request, requestTimeout);
 
     if (responseFuture != null) {
+      final int partitionId = request.getPartitionId();
+      final boolean isPartitionRequest = partitionId >= Protocol.START_PARTITION_ID;
+      final long sentTime = System.nanoTime();
+      if (isPartitionRequest) {
+        dispatchStrategy.onRequestSent(partitionId);
+      }
+
       actor.runOnCompletion(
           responseFuture,
           (clientResponse, error) -> {
+            BrokerResponse<T> response = null;
             try {
               if (error == null) {
-                final BrokerResponse<T> response = request.getResponse(clientResponse);
+                response = request.getResponse(clientResponse);
                 responseConsumer.accept(response, null);
               } else {
                 responseConsumer.accept(null, error);
               }
             } catch (final RuntimeException e) {
               responseConsumer.accept(null, new ClientResponseException(e));
+            } finally {
+              if (isPartitionRequest) {
+                dispatchStrategy.onRequestCompleted(
+                    partitionId, System.nanoTime() - sentTime, isRejected(response, error));
+              }
             }
           });
     } else {
@@ -199,6 +234,13 @@ public final class BrokerRequestManager extends Actor {
     }
   }
 
+  private static boolean isRejected(final BrokerResponse<?> response, final Throwable error) {
+    return error != null
+        || (response != null
+            && response.isError()
+            && response.getError().getCode() == ErrorCode.RESOURCE_EXHAUSTED);
+  }
+
   private BrokerAddressProvider determineBrokerNodeIdProvider(final BrokerRequest<?> request) {
     if (request.addressesSpecificPartition()) {
       final BrokerClusterState topology = topologyManager.getTopology();
@@ -0,0 +1,167 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.broker;
+
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongSupplier;
+
+/**
+ * Picks the partitions round robin, but skips a partition whose leader is considerably more loaded
+ * than a randomly chosen other partition (power of two choices). The load of a partition is
+ * estimated from the requests in flight, the latency of its responses and the rate of requests
+ * rejected because of backpressure. These signals decay over time, so that a skipped partition gets
+ * requests again once it is no longer known to be loaded. Without any signals all partitions are
+ * equally loaded, and the partitions are picked purely round robin.
+ */
+public final class LoadAwareDispatchStrategy implements RequestDispatchStrategy {
+
+  /** The candidate is skipped only if its load is at least this factor higher. */
+  private static final double LOAD_SKEW_THRESHOLD = 2.0;
+  /** A rejected request weighs like this many requests in flight. */
+  private static final double REJECTION_WEIGHT = 10.0;
+  /** Latencies below this are considered equal, to not react to noise. */
+  private static final double MIN_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  /** The weight of a new sample in the moving averages. */
+  private static final double SMOOTHING_FACTOR = 0.2;
+  /** The time after which the signals of a partition decayed to a third. */
+  private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final BrokerTopologyManager topologyManager;
+  private final LongSupplier nanoClock;
+  private final IntUnaryOperator random;
+  private final AtomicInteger partitions = new AtomicInteger(0);
+  private volatile PartitionLoad[] loads = new PartitionLoad[0];
+
+  public LoadAwareDispatchStrategy(final BrokerTopologyManager topologyManager) {
+    this(topologyManager, System::nanoTime, bound -> ThreadLocalRandom.current().nextInt(bound));
+  }
+
+  LoadAwareDispatchStrategy(
+      final BrokerTopologyManager topologyManager,
+      final LongSupplier nanoClock,
+      final IntUnaryOperator random) {
+    this.topologyManager = topologyManager;
+    this.nanoClock = nanoClock;
+    this.random = random;
+  }
+
+  @Override
+  public int determinePartition() {
+    final BrokerClusterState topology = topologyManager.getTopology();
+    if (topology == null) {
+      return BrokerClusterState.PARTITION_ID_NULL;
+    }
+
+    final int partitionsCount = topology.getPartitions().size();
+    if (partitionsCount <= 1) {
+      return topology.getPartition(0);
+    }
+
+    final int offset = Math.floorMod(partitions.getAndIncrement(), partitionsCount);
+    final int candidate = topology.getPartition(offset);
+    final int alternative =
+        topology.getPartition(
+            (offset + 1 + random.applyAsInt(partitionsCount - 1)) % partitionsCount);
+
+    final long now = nanoClock.getAsLong();
+    final double candidateLoad = getLoad(candidate, now);
+    final double alternativeLoad = getLoad(alternative, now);
+
+    return candidateLoad > alternativeLoad * LOAD_SKEW_THRESHOLD ? alternative : candidate;
+  }
+
+  @Override
+  public void onRequestSent(final int partitionId) {
+    getOrCreateLoad(partitionId).inFlight.incrementAndGet();
+  }
+
+  @Override
+  public void onRequestCompleted(
+      final int partitionId, final long latencyNanos, final boolean rejected) {
+    final PartitionLoad load = getOrCreateLoad(partitionId);
+    load.inFlight.decrementAndGet();
+    load.update(nanoClock.getAsLong(), latencyNanos, rejected);
+  }
+
+  private double getLoad(final int partitionId, final long now) {
+    final PartitionLoad[] currentLoads = loads;
+    if (partitionId < 0 || partitionId >= currentLoads.length) {
+      return PartitionLoad.IDLE_LOAD;
+    }
+
+    final PartitionLoad load = currentLoads[partitionId];
+    return load != null ? load.get(now) : PartitionLoad.IDLE_LOAD;
+  }
+
+  private PartitionLoad getOrCreateLoad(final int partitionId) {
+    final PartitionLoad[] currentLoads = loads;
+    if (partitionId < currentLoads.length && currentLoads[partitionId] != null) {
+      return currentLoads[partitionId];
+    }
+
+    return createLoad(partitionId);
+  }
+
+  private synchronized PartitionLoad createLoad(final int partitionId) {
+    // copy on write, so that the loads can be read without synchronization
+    final PartitionLoad[] newLoads = Arrays.copyOf(loads, Math.max(loads.length, partitionId + 1));
+    if (newLoads[partitionId] == null) {
+      newLoads[partitionId] = new PartitionLoad(nanoClock.getAsLong());
+      loads = newLoads;
+    }
+
+    return newLoads[partitionId];
+  }
+
+  /**
+   * The averages are updated without synchronization by the threads which receive the responses; an
+   * update which is lost because of a concurrent update only delays the reaction to a change.
+   */
+  private static final class PartitionLoad {
+    private static final double IDLE_LOAD = MIN_LATENCY_NANOS;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double latencyNanos = MIN_LATENCY_NANOS;
+    private volatile double rejectionRate;
+    private volatile long lastUpdate;
+
+    private PartitionLoad(final long now) {
+      lastUpdate = now;
+    }
+
+    private double get(final long now) {
+      final double decay = decay(now);
+      final double latency = MIN_LATENCY_NANOS + (latencyNanos - MIN_LATENCY_NANOS) * decay;
+      final double rejections = rejectionRate * decay;
+
+      return (Math.max(inFlight.get(), 0) + 1) * latency * (1 + REJECTION_WEIGHT * rejections);
+    }
+
+    private void update(final long now, final long latencySample, final boolean rejected) {
+      final double decay = decay(now);
+      final double latency = MIN_LATENCY_NANOS + (latencyNanos - MIN_LATENCY_NANOS) * decay;
+      final double rejections = rejectionRate * decay;
+      final double latencyValue = Math.max(latencySample, MIN_LATENCY_NANOS);
+
+      latencyNanos = latency + SMOOTHING_FACTOR * (latencyValue - latency);
+      rejectionRate = rejections + SMOOTHING_FACTOR * ((rejected ? 1.0 : 0.0) - rejections);
+      lastUpdate = now;
+    }
+
+    private double decay(final long now) {
+      final long elapsed = Math.max(now - lastUpdate, 0);
+      return Math.exp(-elapsed / DECAY_NANOS);
+    }
+  }
+}
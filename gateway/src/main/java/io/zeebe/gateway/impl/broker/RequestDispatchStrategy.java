@@ -14,4 +14,22 @@ public interface RequestDispatchStrategy {
 
   /** @return {@link BrokerClusterState#PARTITION_ID_NULL} if no partition can be determined */
   int determinePartition();
+
+  /**
+   * Called when a request was sent to the leader of the given partition.
+   *
+   * @param partitionId the partition to which the request was sent
+   */
+  default void onRequestSent(final int partitionId) {}
+
+  /**
+   * Called when a request which was sent to the given partition completed.
+   *
+   * @param partitionId the partition to which the request was sent
+   * @param latencyNanos the time between sending the request and receiving the response
+   * @param rejected true if the request was rejected because the partition is under backpressure,
+   *     or if no response was received at all
+   */
+  default void onRequestCompleted(
+      final int partitionId, final long latencyNanos, final boolean rejected) {}
 }
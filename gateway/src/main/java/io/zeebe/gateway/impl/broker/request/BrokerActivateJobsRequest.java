@@ -15,6 +15,8 @@ import io.zeebe.protocol.record.intent.JobBatchIntent;
 import io.zeebe.util.buffer.BufferUtil;
 import java.util.List;
 import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBatchRecord> {
 
@@ -25,6 +27,21 @@ public final class BrokerActivateJobsRequest extends BrokerExecuteCommand<JobBat
     requestDto.setType(jobType);
   }
 
+  /**
+   * Creates a new request for the same jobs, e.g. to send it to another partition while this
+   * request is still in flight.
+   *
+   * @return a copy of this request, without the partition id
+   */
+  public BrokerActivateJobsRequest copy() {
+    final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[requestDto.getLength()]);
+    requestDto.write(buffer, 0);
+
+    final BrokerActivateJobsRequest copy = new BrokerActivateJobsRequest(requestDto.getType());
+    copy.requestDto.wrap(buffer);
+    return copy;
+  }
+
   public BrokerActivateJobsRequest setWorker(final String worker) {
     requestDto.setWorker(worker);
     return this;
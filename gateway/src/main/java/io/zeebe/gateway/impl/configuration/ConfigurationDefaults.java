@@ -31,6 +31,9 @@ public final class ConfigurationDefaults {
   public static final int DEFAULT_MONITORING_PORT = 9600;
 
   public static final int DEFAULT_MANAGEMENT_THREADS = 1;
+  public static final int DEFAULT_REQUEST_MANAGER_SHARDS = 1;
+
+  public static final int DEFAULT_MAX_CONCURRENT_PARTITION_REQUESTS = 1;
 
   public static final String DEFAULT_KEEP_ALIVE_INTERVAL = "30s";
 }
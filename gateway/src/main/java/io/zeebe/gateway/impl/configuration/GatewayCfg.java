@@ -24,6 +24,7 @@ public class GatewayCfg {
   private ThreadsCfg threads = new ThreadsCfg();
   private MonitoringCfg monitoring = new MonitoringCfg();
   private SecurityCfg security = new SecurityCfg();
+  private JobActivationCfg jobActivation = new JobActivationCfg();
 
   public void init() {
     init(ConfigurationDefaults.DEFAULT_HOST);
@@ -79,9 +80,18 @@ public class GatewayCfg {
     return this;
   }
 
+  public JobActivationCfg getJobActivation() {
+    return jobActivation;
+  }
+
+  public GatewayCfg setJobActivation(final JobActivationCfg jobActivation) {
+    this.jobActivation = jobActivation;
+    return this;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(network, cluster, threads, monitoring, security);
+    return Objects.hash(network, cluster, threads, monitoring, security, jobActivation);
   }
 
   @Override
@@ -97,7 +107,8 @@ public class GatewayCfg {
         && Objects.equals(cluster, that.cluster)
         && Objects.equals(threads, that.threads)
         && Objects.equals(monitoring, that.monitoring)
-        && Objects.equals(security, that.security);
+        && Objects.equals(security, that.security)
+        && Objects.equals(jobActivation, that.jobActivation);
   }
 
   @Override
@@ -113,6 +124,8 @@ public class GatewayCfg {
         + monitoring
         + ", securityCfg="
         + security
+        + ", jobActivationCfg="
+        + jobActivation
         + '}';
   }
 
@@ -0,0 +1,52 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.configuration;
+
+import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_MAX_CONCURRENT_PARTITION_REQUESTS;
+
+import java.util.Objects;
+
+public final class JobActivationCfg {
+
+  private int maxConcurrentPartitionRequests = DEFAULT_MAX_CONCURRENT_PARTITION_REQUESTS;
+
+  public int getMaxConcurrentPartitionRequests() {
+    return maxConcurrentPartitionRequests;
+  }
+
+  public JobActivationCfg setMaxConcurrentPartitionRequests(
+      final int maxConcurrentPartitionRequests) {
+    this.maxConcurrentPartitionRequests = maxConcurrentPartitionRequests;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(maxConcurrentPartitionRequests);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final JobActivationCfg that = (JobActivationCfg) o;
+    return maxConcurrentPartitionRequests == that.maxConcurrentPartitionRequests;
+  }
+
+  @Override
+  public String toString() {
+    return "JobActivationCfg{"
+        + "maxConcurrentPartitionRequests="
+        + maxConcurrentPartitionRequests
+        + '}';
+  }
+}
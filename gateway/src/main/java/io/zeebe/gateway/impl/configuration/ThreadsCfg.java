@@ -8,12 +8,14 @@
 package io.zeebe.gateway.impl.configuration;
 
 import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_MANAGEMENT_THREADS;
+import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_REQUEST_MANAGER_SHARDS;
 
 import java.util.Objects;
 
 public final class ThreadsCfg {
 
   private int managementThreads = DEFAULT_MANAGEMENT_THREADS;
+  private int requestManagerShards = DEFAULT_REQUEST_MANAGER_SHARDS;
 
   public int getManagementThreads() {
     return managementThreads;
@@ -24,9 +26,18 @@ public final class ThreadsCfg {
     return this;
   }
 
+  public int getRequestManagerShards() {
+    return requestManagerShards;
+  }
+
+  public ThreadsCfg setRequestManagerShards(final int requestManagerShards) {
+    this.requestManagerShards = requestManagerShards;
+    return this;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(managementThreads);
+    return Objects.hash(managementThreads, requestManagerShards);
   }
 
   @Override
@@ -38,11 +49,17 @@ public final class ThreadsCfg {
       return false;
     }
     final ThreadsCfg that = (ThreadsCfg) o;
-    return managementThreads == that.managementThreads;
+    return managementThreads == that.managementThreads
+        && requestManagerShards == that.requestManagerShards;
   }
 
   @Override
   public String toString() {
-    return "ThreadsCfg{" + "managementThreads=" + managementThreads + '}';
+    return "ThreadsCfg{"
+        + "managementThreads="
+        + managementThreads
+        + ", requestManagerShards="
+        + requestManagerShards
+        + '}';
   }
 }
@@ -15,17 +15,44 @@ import io.zeebe.gateway.ResponseMapper;
 import io.zeebe.gateway.impl.broker.BrokerClient;
 import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
-import java.util.HashMap;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 public final class ActivateJobsHandler {
 
-  private final Map<String, Integer> jobTypeToNextPartitionId = new HashMap<>();
+  private final Map<String, Integer> jobTypeToNextPartitionId = new ConcurrentHashMap<>();
+  // jobType -> partitions which had no jobs of this type on the last request
+  private final Map<String, Set<Integer>> jobTypeToEmptyPartitionIds = new ConcurrentHashMap<>();
   private final BrokerClient brokerClient;
+  private final int maxConcurrentPartitionRequests;
 
   public ActivateJobsHandler(final BrokerClient brokerClient) {
+    this(brokerClient, 1);
+  }
+
+  /**
+   * @param brokerClient the client to send the requests to the partitions
+   * @param maxConcurrentPartitionRequests the maximum number of partitions which are asked for jobs
+   *     at the same time by a single activate jobs call; if it is 1, the partitions are asked one
+   *     after another
+   */
+  public ActivateJobsHandler(
+      final BrokerClient brokerClient, final int maxConcurrentPartitionRequests) {
+    if (maxConcurrentPartitionRequests < 1) {
+      throw new IllegalArgumentException(
+          "Expected max concurrent partition requests to be greater than 0, but was "
+              + maxConcurrentPartitionRequests);
+    }
+
     this.brokerClient = brokerClient;
+    this.maxConcurrentPartitionRequests = maxConcurrentPartitionRequests;
   }
 
   public void activateJobs(
@@ -35,13 +62,16 @@ public final class ActivateJobsHandler {
       final String type,
       final Consumer<ActivateJobsResponse> onResponse,
       final Consumer<Integer> onCompleted) {
-    activateJobs(
-        request,
-        partitionIdIteratorForType(type, partitionsCount),
-        maxJobsToActivate,
-        type,
-        onResponse,
-        onCompleted);
+    final PartitionIdIterator partitionIdIterator =
+        partitionIdIteratorForType(type, partitionsCount);
+
+    if (maxConcurrentPartitionRequests > 1 && partitionsCount > 1) {
+      new ConcurrentActivation(
+              request, partitionIdIterator, maxJobsToActivate, type, onResponse, onCompleted)
+          .sendRequests();
+    } else {
+      activateJobs(request, partitionIdIterator, maxJobsToActivate, type, onResponse, onCompleted);
+    }
   }
 
   private void activateJobs(
@@ -93,7 +123,7 @@ public final class ActivateJobsHandler {
                 response.getTruncated());
           },
           error -> {
-            logErrorResponse(partitionIdIterator, jobType, error);
+            logErrorResponse(partitionIdIterator.getCurrentPartitionId(), jobType, error);
             activateJobs(
                 request, partitionIdIterator, remainingAmount, jobType, onResponse, onCompleted);
           });
@@ -105,14 +135,11 @@ public final class ActivateJobsHandler {
   }
 
   private void logErrorResponse(
-      final PartitionIdIterator partitionIdIterator, final String jobType, final Throwable error) {
+      final int partitionId, final String jobType, final Throwable error) {
     final StatusRuntimeException statusRuntimeException = EndpointManager.convertThrowable(error);
     if (statusRuntimeException.getStatus().getCode() != Code.RESOURCE_EXHAUSTED) {
       Loggers.GATEWAY_LOGGER.warn(
-          "Failed to activate jobs for type {} from partition {}",
-          jobType,
-          partitionIdIterator.getCurrentPartitionId(),
-          error);
+          "Failed to activate jobs for type {} from partition {}", jobType, partitionId, error);
     }
   }
 
@@ -121,4 +148,142 @@ public final class ActivateJobsHandler {
     final Integer nextPartitionId = jobTypeToNextPartitionId.computeIfAbsent(jobType, t -> 0);
     return new PartitionIdIterator(nextPartitionId, partitionsCount);
   }
+
+  /**
+   * Asks up to {@link #maxConcurrentPartitionRequests} partitions at the same time. The jobs which
+   * are not activated yet are split evenly between the requests; if a partition activates fewer
+   * jobs than it was asked for, the remaining amount is asked from the next partitions. Partitions
+   * which had no jobs of the type on the last request are asked last. The responses are passed on
+   * as they arrive.
+   *
+   * <p>The responses can be received on different threads, so the state is guarded by this object.
+   */
+  private final class ConcurrentActivation {
+    private final BrokerActivateJobsRequest request;
+    private final String jobType;
+    private final int maxJobsToActivate;
+    private final Consumer<ActivateJobsResponse> onResponse;
+    private final Consumer<Integer> onCompleted;
+    private final Set<Integer> emptyPartitionIds;
+    private final Deque<Integer> partitionIds = new ArrayDeque<>();
+
+    private int unassignedAmount;
+    private int activatedAmount;
+    private int inflightRequests;
+    private int lastPartitionId;
+    private boolean completed;
+
+    private ConcurrentActivation(
+        final BrokerActivateJobsRequest request,
+        final PartitionIdIterator partitionIdIterator,
+        final int maxJobsToActivate,
+        final String jobType,
+        final Consumer<ActivateJobsResponse> onResponse,
+        final Consumer<Integer> onCompleted) {
+      this.request = request;
+      this.jobType = jobType;
+      this.maxJobsToActivate = maxJobsToActivate;
+      this.onResponse = onResponse;
+      this.onCompleted = onCompleted;
+      unassignedAmount = maxJobsToActivate;
+
+      emptyPartitionIds =
+          jobTypeToEmptyPartitionIds.computeIfAbsent(jobType, t -> ConcurrentHashMap.newKeySet());
+
+      final List<Integer> emptyPartitions = new ArrayList<>();
+      while (partitionIdIterator.hasNext()) {
+        final int partitionId = partitionIdIterator.next();
+        if (emptyPartitionIds.contains(partitionId)) {
+          emptyPartitions.add(partitionId);
+        } else {
+          partitionIds.add(partitionId);
+        }
+      }
+      partitionIds.addAll(emptyPartitions);
+    }
+
+    private void sendRequests() {
+      final List<BrokerActivateJobsRequest> requests = new ArrayList<>();
+      final boolean isDone;
+
+      synchronized (this) {
+        while (unassignedAmount > 0
+            && inflightRequests < maxConcurrentPartitionRequests
+            && !partitionIds.isEmpty()) {
+          final int freeRequests =
+              Math.min(maxConcurrentPartitionRequests - inflightRequests, partitionIds.size());
+          final int amount = (unassignedAmount + freeRequests - 1) / freeRequests;
+          final int partitionId = partitionIds.poll();
+
+          final BrokerActivateJobsRequest partitionRequest = request.copy();
+          partitionRequest.setPartitionId(partitionId);
+          partitionRequest.setMaxJobsToActivate(amount);
+          requests.add(partitionRequest);
+
+          unassignedAmount -= amount;
+          inflightRequests += 1;
+          lastPartitionId = partitionId;
+        }
+
+        isDone = inflightRequests == 0 && !completed;
+        completed |= isDone;
+      }
+
+      for (final BrokerActivateJobsRequest partitionRequest : requests) {
+        final int partitionId = partitionRequest.getPartitionId();
+        final int amount = partitionRequest.getRequestWriter().getMaxJobsToActivate();
+        brokerClient.sendRequest(
+            partitionRequest,
+            (key, response) -> onPartitionResponse(partitionId, amount, key, response),
+            error -> onPartitionError(partitionId, amount, error));
+      }
+
+      if (isDone) {
+        // enough jobs activated or no more partitions left to check
+        jobTypeToNextPartitionId.put(jobType, lastPartitionId);
+        onCompleted.accept(maxJobsToActivate - activatedAmount());
+      }
+    }
+
+    private void onPartitionResponse(
+        final int partitionId, final int amount, final long key, final JobBatchRecord response) {
+      final ActivateJobsResponse grpcResponse =
+          ResponseMapper.toActivateJobsResponse(key, response);
+      final int jobsCount = grpcResponse.getJobsCount();
+      if (jobsCount > 0) {
+        emptyPartitionIds.remove(partitionId);
+        onResponse.accept(grpcResponse);
+      } else {
+        emptyPartitionIds.add(partitionId);
+      }
+
+      synchronized (this) {
+        inflightRequests -= 1;
+        activatedAmount += jobsCount;
+        unassignedAmount += amount - jobsCount;
+
+        if (response.getTruncated()) {
+          // the partition has more jobs than fit into the response
+          partitionIds.addFirst(partitionId);
+        }
+      }
+
+      sendRequests();
+    }
+
+    private void onPartitionError(final int partitionId, final int amount, final Throwable error) {
+      logErrorResponse(partitionId, jobType, error);
+
+      synchronized (this) {
+        inflightRequests -= 1;
+        unassignedAmount += amount;
+      }
+
+      sendRequests();
+    }
+
+    private synchronized int activatedAmount() {
+      return activatedAmount;
+    }
+  }
 }
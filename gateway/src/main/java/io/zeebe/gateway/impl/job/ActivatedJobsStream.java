@@ -0,0 +1,183 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.job;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.zeebe.gateway.EndpointManager;
+import io.zeebe.gateway.Loggers;
+import io.zeebe.gateway.cmd.GrpcStatusExceptionImpl;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import java.util.function.BooleanSupplier;
+import org.slf4j.Logger;
+
+/**
+ * A stream on which the activated jobs of a single worker are pushed. The worker registers its job
+ * type and initial credits with the first request, and returns credits for the handled jobs with
+ * the following requests.
+ *
+ * <p>While the worker has credits left, a long polling activate jobs request for up to that many
+ * jobs is kept open. It is answered as soon as the brokers notify the gateway that jobs of the type
+ * are available, and the next request is opened as soon as it is completed.
+ *
+ * <p>The requests of the worker and the responses of the long polling handler are received on
+ * different threads, so the state is guarded by this object.
+ */
+public final class ActivatedJobsStream implements StreamObserver<StreamActivatedJobsRequest> {
+
+  private static final Logger LOG = Loggers.GATEWAY_LOGGER;
+
+  private final LongPollingActivateJobsHandler activateJobsHandler;
+  private final StreamObserver<ActivateJobsResponse> responseObserver;
+  private final BooleanSupplier cancelCheck;
+
+  private ActivateJobsRequest.Builder requestBuilder;
+  private int credits;
+  private boolean isActivating;
+  private boolean isClosed;
+
+  public ActivatedJobsStream(
+      final LongPollingActivateJobsHandler activateJobsHandler,
+      final StreamObserver<ActivateJobsResponse> responseObserver) {
+    this.activateJobsHandler = activateJobsHandler;
+    this.responseObserver = responseObserver;
+
+    if (responseObserver instanceof ServerCallStreamObserver) {
+      final ServerCallStreamObserver<ActivateJobsResponse> serverCallObserver =
+          (ServerCallStreamObserver<ActivateJobsResponse>) responseObserver;
+      cancelCheck = () -> isClosed() || serverCallObserver.isCancelled();
+    } else {
+      cancelCheck = this::isClosed;
+    }
+  }
+
+  @Override
+  public synchronized void onNext(final StreamActivatedJobsRequest request) {
+    if (isClosed) {
+      return;
+    }
+
+    if (requestBuilder == null) {
+      final String error = validateFirstRequest(request);
+      if (error != null) {
+        closeWithError(new GrpcStatusExceptionImpl(error, Status.INVALID_ARGUMENT));
+        return;
+      }
+
+      requestBuilder =
+          ActivateJobsRequest.newBuilder()
+              .setType(request.getType())
+              .setWorker(request.getWorker())
+              .setTimeout(request.getTimeout())
+              .addAllFetchVariable(request.getFetchVariableList());
+    }
+
+    if (request.getCredits() < 0) {
+      closeWithError(
+          new GrpcStatusExceptionImpl(
+              "Expected credits to be not negative, but was " + request.getCredits(),
+              Status.INVALID_ARGUMENT));
+      return;
+    }
+
+    credits += request.getCredits();
+    activateJobs();
+  }
+
+  @Override
+  public synchronized void onError(final Throwable error) {
+    LOG.trace("Job stream of worker closed with error", error);
+    isClosed = true;
+  }
+
+  @Override
+  public synchronized void onCompleted() {
+    if (!isClosed) {
+      isClosed = true;
+      responseObserver.onCompleted();
+    }
+  }
+
+  public synchronized int getCredits() {
+    return credits;
+  }
+
+  private synchronized boolean isClosed() {
+    return isClosed;
+  }
+
+  private void activateJobs() {
+    if (isActivating || isClosed || credits <= 0) {
+      return;
+    }
+
+    isActivating = true;
+    final ActivateJobsRequest request = requestBuilder.setMaxJobsToActivate(credits).build();
+    activateJobsHandler.activateJobs(
+        new LongPollingActivateJobsRequest(request, new ActivationObserver(), cancelCheck));
+  }
+
+  private synchronized void onActivatedJobs(final ActivateJobsResponse response) {
+    if (isClosed) {
+      return;
+    }
+
+    credits -= response.getJobsCount();
+    responseObserver.onNext(response);
+  }
+
+  private synchronized void onActivationCompleted() {
+    isActivating = false;
+    activateJobs();
+  }
+
+  private synchronized void onActivationFailed(final Throwable error) {
+    isActivating = false;
+    closeWithError(error);
+  }
+
+  private void closeWithError(final Throwable error) {
+    if (!isClosed) {
+      isClosed = true;
+      responseObserver.onError(EndpointManager.convertThrowable(error));
+    }
+  }
+
+  private static String validateFirstRequest(final StreamActivatedJobsRequest request) {
+    if (request.getType().isBlank()) {
+      return "Expected type to be not blank";
+    } else if (request.getWorker().isBlank()) {
+      return "Expected worker to be not blank";
+    } else if (request.getTimeout() < 1) {
+      return "Expected timeout to be greater than 0, but was " + request.getTimeout();
+    }
+
+    return null;
+  }
+
+  private final class ActivationObserver implements StreamObserver<ActivateJobsResponse> {
+
+    @Override
+    public void onNext(final ActivateJobsResponse response) {
+      onActivatedJobs(response);
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      onActivationFailed(error);
+    }
+
+    @Override
+    public void onCompleted() {
+      onActivationCompleted();
+    }
+  }
+}
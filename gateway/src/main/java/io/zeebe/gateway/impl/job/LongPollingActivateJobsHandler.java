@@ -46,9 +46,11 @@ public final class LongPollingActivateJobsHandler extends Actor {
       final BrokerClient brokerClient,
       final long longPollingTimeout,
       final long probeTimeoutMillis,
-      final int emptyResponseThreshold) {
+      final int emptyResponseThreshold,
+      final int maxConcurrentPartitionRequests) {
     this.brokerClient = brokerClient;
-    this.activateJobsHandler = new ActivateJobsHandler(brokerClient);
+    this.activateJobsHandler =
+        new ActivateJobsHandler(brokerClient, maxConcurrentPartitionRequests);
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
     this.emptyResponseThreshold = emptyResponseThreshold;
@@ -231,6 +233,7 @@ public final class LongPollingActivateJobsHandler extends Actor {
     private long longPollingTimeout = DEFAULT_LONG_POLLING_TIMEOUT;
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     private int minEmptyResponses = EMPTY_RESPONSE_THRESHOLD;
+    private int maxConcurrentPartitionRequests = 1;
 
     public Builder setBrokerClient(final BrokerClient brokerClient) {
       this.brokerClient = brokerClient;
@@ -252,10 +255,19 @@ public final class LongPollingActivateJobsHandler extends Actor {
       return this;
     }
 
+    public Builder setMaxConcurrentPartitionRequests(final int maxConcurrentPartitionRequests) {
+      this.maxConcurrentPartitionRequests = maxConcurrentPartitionRequests;
+      return this;
+    }
+
     public LongPollingActivateJobsHandler build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
       return new LongPollingActivateJobsHandler(
-          brokerClient, longPollingTimeout, probeTimeoutMillis, minEmptyResponses);
+          brokerClient,
+          longPollingTimeout,
+          probeTimeoutMillis,
+          minEmptyResponses,
+          maxConcurrentPartitionRequests);
     }
   }
 }
@@ -46,6 +46,18 @@ public final class LongPollingActivateJobsRequest {
         request.getRequestTimeout());
   }
 
+  /**
+   * @param cancelCheck returns true if the request is not needed anymore, e.g. because the stream
+   *     it was sent for is closed
+   */
+  public LongPollingActivateJobsRequest(
+      final ActivateJobsRequest request,
+      final StreamObserver<ActivateJobsResponse> responseObserver,
+      final BooleanSupplier cancelCheck) {
+    this(request, responseObserver);
+    this.cancelCheck = cancelCheck;
+  }
+
   private LongPollingActivateJobsRequest(
       final BrokerActivateJobsRequest request,
       final StreamObserver<ActivateJobsResponse> responseObserver,
@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.zeebe.protocol.Protocol;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class ActivateJobsHandlerTest {
+
+  private static final String TYPE = "test";
+  private static final int MAX_CONCURRENT_PARTITION_REQUESTS = 3;
+
+  private final StubbedBrokerClient brokerClient = new StubbedBrokerClient();
+  private final List<ActivateJobsResponse> responses = new ArrayList<>();
+  private final List<Integer> remainingAmounts = new ArrayList<>();
+  private ActivateJobsStub stub;
+  private ActivateJobsHandler handler;
+  private int partitionsCount;
+
+  @Before
+  public void setup() {
+    stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+    handler = new ActivateJobsHandler(brokerClient, MAX_CONCURRENT_PARTITION_REQUESTS);
+    partitionsCount = brokerClient.getTopologyManager().getTopology().getPartitionsCount();
+  }
+
+  @Test
+  public void shouldSplitJobsToActivateBetweenPartitions() {
+    // given
+    stub.addAvailableJobs(TYPE, 100);
+
+    // when
+    activateJobs(10);
+
+    // then
+    assertThat(responses).hasSize(MAX_CONCURRENT_PARTITION_REQUESTS);
+    assertThat(activatedJobs()).hasSize(10);
+    assertThat(remainingAmounts).containsExactly(0);
+  }
+
+  @Test
+  public void shouldActivateJobsFromDifferentPartitions() {
+    // given
+    stub.addAvailableJobs(TYPE, 100);
+
+    // when
+    activateJobs(10);
+
+    // then
+    final List<Integer> partitionIds =
+        activatedJobs().stream()
+            .map(job -> Protocol.decodePartitionId(job.getKey()))
+            .distinct()
+            .collect(Collectors.toList());
+    assertThat(partitionIds).hasSize(MAX_CONCURRENT_PARTITION_REQUESTS);
+  }
+
+  @Test
+  public void shouldAskRemainingPartitionsIfNotEnoughJobsActivated() {
+    // given
+    stub.addAvailableJobs(TYPE, 4);
+
+    // when
+    activateJobs(10);
+
+    // then
+    assertThat(activatedJobs()).hasSize(4);
+    assertThat(remainingAmounts).containsExactly(6);
+  }
+
+  @Test
+  public void shouldCompleteOnceIfNoJobsAvailable() {
+    // given
+    stub.addAvailableJobs(TYPE, 0);
+
+    // when
+    activateJobs(10);
+
+    // then
+    assertThat(responses).isEmpty();
+    assertThat(remainingAmounts).containsExactly(10);
+  }
+
+  @Test
+  public void shouldRejectNonPositiveConcurrentPartitionRequests() {
+    assertThatThrownBy(() -> new ActivateJobsHandler(brokerClient, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private void activateJobs(final int maxJobsToActivate) {
+    final BrokerActivateJobsRequest request =
+        new BrokerActivateJobsRequest(TYPE).setWorker("worker").setTimeout(1000);
+
+    handler.activateJobs(
+        partitionsCount, request, maxJobsToActivate, TYPE, responses::add, remainingAmounts::add);
+  }
+
+  private List<ActivatedJob> activatedJobs() {
+    return responses.stream()
+        .flatMap(response -> response.getJobsList().stream())
+        .collect(Collectors.toList());
+  }
+}
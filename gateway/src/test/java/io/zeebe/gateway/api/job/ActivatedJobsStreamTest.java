@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.grpc.Status.Code;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import io.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.zeebe.gateway.impl.job.ActivatedJobsStream;
+import io.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
+import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import io.zeebe.util.sched.clock.ControlledActorClock;
+import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public final class ActivatedJobsStreamTest {
+
+  private static final String TYPE = "test";
+  private static final long TIMEOUT = 2000;
+
+  private final ControlledActorClock actorClock = new ControlledActorClock();
+  @Rule public final ActorSchedulerRule actorSchedulerRule = new ActorSchedulerRule(actorClock);
+  private final StubbedBrokerClient brokerClient = new StubbedBrokerClient();
+
+  @SuppressWarnings("unchecked")
+  private final StreamObserver<ActivateJobsResponse> responseObserver = mock(StreamObserver.class);
+
+  private ActivateJobsStub stub;
+  private ActivatedJobsStream stream;
+
+  @Before
+  public void setup() {
+    final LongPollingActivateJobsHandler handler =
+        LongPollingActivateJobsHandler.newBuilder().setBrokerClient(brokerClient).build();
+    actorSchedulerRule.submitActor(handler);
+
+    stub = spy(new ActivateJobsStub());
+    stub.registerWith(brokerClient);
+
+    stream = new ActivatedJobsStream(handler, responseObserver);
+  }
+
+  @Test
+  public void shouldPushActivatedJobs() {
+    // given
+    stub.addAvailableJobs(TYPE, 3);
+
+    // when
+    stream.onNext(registration(10));
+
+    // then
+    final ArgumentCaptor<ActivateJobsResponse> responseCaptor =
+        ArgumentCaptor.forClass(ActivateJobsResponse.class);
+    verify(responseObserver, timeout(TIMEOUT)).onNext(responseCaptor.capture());
+    assertThat(responseCaptor.getValue().getJobsCount()).isEqualTo(3);
+    assertThat(stream.getCredits()).isEqualTo(7);
+  }
+
+  @Test
+  public void shouldNotActivateMoreJobsThanCredits() {
+    // given
+    stub.addAvailableJobs(TYPE, 5);
+
+    // when
+    stream.onNext(registration(2));
+
+    // then
+    verify(responseObserver, timeout(TIMEOUT)).onNext(any());
+    assertThat(stream.getCredits()).isEqualTo(0);
+
+    // when
+    stream.onNext(StreamActivatedJobsRequest.newBuilder().setCredits(3).build());
+
+    // then
+    verify(responseObserver, timeout(TIMEOUT).times(2)).onNext(any());
+    assertThat(stream.getCredits()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldNotActivateJobsWithoutCredits() throws Exception {
+    // given
+    stub.addAvailableJobs(TYPE, 5);
+
+    // when
+    stream.onNext(registration(0));
+
+    // then
+    verify(stub, times(0)).handle(any());
+    verify(responseObserver, times(0)).onNext(any());
+  }
+
+  @Test
+  public void shouldPushJobsWhenNotified() throws Exception {
+    // given
+    stream.onNext(registration(10));
+    verify(stub, timeout(TIMEOUT).atLeastOnce()).handle(any());
+
+    // when
+    stub.addAvailableJobs(TYPE, 1);
+    brokerClient.notifyJobsAvailable(TYPE);
+
+    // then
+    verify(responseObserver, timeout(TIMEOUT)).onNext(any());
+  }
+
+  @Test
+  public void shouldRejectRegistrationWithoutType() {
+    // when
+    stream.onNext(registration(10).toBuilder().setType("").build());
+
+    // then
+    final ArgumentCaptor<Throwable> errorCaptor = ArgumentCaptor.forClass(Throwable.class);
+    verify(responseObserver).onError(errorCaptor.capture());
+    assertThat(errorCaptor.getValue())
+        .isInstanceOfSatisfying(
+            StatusRuntimeException.class,
+            e -> assertThat(e.getStatus().getCode()).isEqualTo(Code.INVALID_ARGUMENT));
+  }
+
+  @Test
+  public void shouldRejectNegativeCredits() {
+    // when
+    stream.onNext(registration(-1));
+
+    // then
+    verify(responseObserver).onError(any());
+  }
+
+  @Test
+  public void shouldCompleteStream() {
+    // given
+    stream.onNext(registration(0));
+
+    // when
+    stream.onCompleted();
+
+    // then
+    verify(responseObserver).onCompleted();
+  }
+
+  private static StreamActivatedJobsRequest registration(final int credits) {
+    return StreamActivatedJobsRequest.newBuilder()
+        .setType(TYPE)
+        .setWorker("worker")
+        .setTimeout(1000)
+        .setCredits(credits)
+        .build();
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.StatusRuntimeException;
+import io.zeebe.gateway.EndpointManager;
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.zeebe.gateway.api.util.StubbedBrokerClient.RequestStub;
+import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult.ResultCase;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.intent.JobIntent;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  private static final long MISSING_JOB_KEY = 404;
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    new CompleteJobStub().registerWith(brokerClient);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(1))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(2))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(3))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CompleteJobResult::getResultCase)
+        .containsOnly(ResultCase.RESPONSE)
+        .hasSize(3);
+
+    assertThat(
+            brokerClient.getBrokerRequests().stream()
+                .map(r -> ((BrokerCompleteJobRequest) r).getKey())
+                .collect(Collectors.toList()))
+        .containsExactlyInAnyOrder(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldReturnErrorOfEachFailedJob() {
+    // given
+    new RejectingCompleteJobStub().registerWith(brokerClient);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(1))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(MISSING_JOB_KEY))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList()).hasSize(2);
+    assertThat(response.getResults(0).hasResponse()).isTrue();
+    assertThat(response.getResults(1).hasError()).isTrue();
+    assertThat(response.getResults(1).getError().getCode())
+        .isEqualTo(Status.Code.NOT_FOUND.value());
+    assertThat(response.getResults(1).getError().getMessage()).contains("no such job");
+  }
+
+  @Test
+  public void shouldCompleteEmptyBundle() {
+    // given
+    new CompleteJobStub().registerWith(brokerClient);
+
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(CompleteJobsRequest.getDefaultInstance());
+
+    // then
+    assertThat(response.getResultsList()).isEmpty();
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  @Test
+  public void shouldRejectTooLargeBundle() {
+    // given
+    new CompleteJobStub().registerWith(brokerClient);
+
+    final CompleteJobsRequest.Builder request = CompleteJobsRequest.newBuilder();
+    for (int i = 0; i <= EndpointManager.MAX_BUNDLE_SIZE; i++) {
+      request.addRequests(CompleteJobRequest.newBuilder().setJobKey(i));
+    }
+
+    // when / then
+    assertThatThrownBy(() -> client.completeJobs(request.build()))
+        .isInstanceOfSatisfying(
+            StatusRuntimeException.class,
+            e -> assertThat(e.getStatus().getCode()).isEqualTo(Code.INVALID_ARGUMENT));
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  private static final class RejectingCompleteJobStub
+      implements RequestStub<BrokerCompleteJobRequest, BrokerResponse<JobRecord>> {
+
+    private final CompleteJobStub completeJobStub = new CompleteJobStub();
+
+    @Override
+    public BrokerResponse<JobRecord> handle(final BrokerCompleteJobRequest request)
+        throws Exception {
+      if (request.getKey() == MISSING_JOB_KEY) {
+        return new BrokerRejectionResponse<>(
+            new BrokerRejection(
+                JobIntent.COMPLETE, request.getKey(), RejectionType.NOT_FOUND, "no such job"));
+      }
+
+      return completeJobStub.handle(request);
+    }
+
+    @Override
+    public void registerWith(final StubbedBrokerClient gateway) {
+      gateway.registerHandler(BrokerCompleteJobRequest.class, this);
+    }
+  }
+}
@@ -105,6 +105,10 @@ public final class StubbedBrokerClient implements BrokerClient {
     jobsAvailableHandler.accept(type);
   }
 
+  public List<BrokerRequest> getBrokerRequests() {
+    return brokerRequests;
+  }
+
   public <T extends BrokerRequest<?>> T getSingleBrokerRequest() {
     assertThat(brokerRequests).hasSize(1);
     return (T) brokerRequests.get(0);
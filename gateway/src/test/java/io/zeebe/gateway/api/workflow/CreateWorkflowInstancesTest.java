@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstancesResponse;
+import org.junit.Test;
+
+public final class CreateWorkflowInstancesTest extends GatewayTest {
+
+  @Test
+  public void shouldMapRequestsAndResponses() {
+    // given
+    final CreateWorkflowInstanceStub stub = new CreateWorkflowInstanceStub();
+    stub.registerWith(brokerClient);
+
+    final CreateWorkflowInstanceRequest request =
+        CreateWorkflowInstanceRequest.newBuilder().setWorkflowKey(stub.getWorkflowKey()).build();
+
+    // when
+    final CreateWorkflowInstancesResponse response =
+        client.createWorkflowInstances(
+            CreateWorkflowInstancesRequest.newBuilder()
+                .addRequests(request)
+                .addRequests(request)
+                .build());
+
+    // then
+    assertThat(response.getResultsList()).hasSize(2);
+    assertThat(response.getResultsList())
+        .allSatisfy(
+            result -> {
+              final CreateWorkflowInstanceResponse instance = result.getResponse();
+              assertThat(instance.getWorkflowKey()).isEqualTo(stub.getWorkflowKey());
+              assertThat(instance.getWorkflowInstanceKey())
+                  .isEqualTo(stub.getWorkflowInstanceKey());
+            });
+    assertThat(brokerClient.getBrokerRequests()).hasSize(2);
+  }
+
+  @Test
+  public void shouldReturnErrorOfInvalidItemOnly() {
+    // given
+    final CreateWorkflowInstanceStub stub = new CreateWorkflowInstanceStub();
+    stub.registerWith(brokerClient);
+
+    final CreateWorkflowInstanceRequest validRequest =
+        CreateWorkflowInstanceRequest.newBuilder().setWorkflowKey(stub.getWorkflowKey()).build();
+    final CreateWorkflowInstanceRequest invalidRequest =
+        validRequest.toBuilder().setVariables("{").build();
+
+    // when
+    final CreateWorkflowInstancesResponse response =
+        client.createWorkflowInstances(
+            CreateWorkflowInstancesRequest.newBuilder()
+                .addRequests(invalidRequest)
+                .addRequests(validRequest)
+                .build());
+
+    // then
+    assertThat(response.getResults(0).hasError()).isTrue();
+    assertThat(response.getResults(1).hasResponse()).isTrue();
+    assertThat(brokerClient.getBrokerRequests()).hasSize(1);
+  }
+}
@@ -43,11 +43,15 @@ import io.zeebe.test.broker.protocol.brokerapi.ExecuteCommandResponseBuilder;
 import io.zeebe.test.broker.protocol.brokerapi.StubBrokerRule;
 import io.zeebe.test.util.AutoCloseableRule;
 import io.zeebe.test.util.socket.SocketUtil;
+import io.zeebe.util.sched.ActorThread;
 import io.zeebe.util.sched.clock.ControlledActorClock;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.After;
@@ -68,17 +72,6 @@ public final class BrokerClientTest {
 
   @Before
   public void setUp() {
-    final GatewayCfg configuration = new GatewayCfg();
-    configuration
-        .getCluster()
-        .setHost("0.0.0.0")
-        .setPort(SocketUtil.getNextAddress().getPort())
-        .setContactPoint(io.zeebe.util.SocketUtil.toHostAndPortString(broker.getSocketAddress()))
-        .setRequestTimeout(Duration.ofSeconds(3));
-    configuration.init();
-
-    final ControlledActorClock clock = new ControlledActorClock();
-
     final var stubAddress = Address.from(broker.getCurrentStubHost(), broker.getCurrentStubPort());
     final var stubNode = Node.builder().withAddress(stubAddress).build();
     final var listOfNodes = List.of(stubNode);
@@ -92,15 +85,30 @@ public final class BrokerClientTest {
             .build();
     atomixCluster.start().join();
 
-    client = new BrokerClientImpl(configuration, atomixCluster, clock);
+    client = createClient(new GatewayCfg());
+  }
 
+  private BrokerClient createClient(final GatewayCfg configuration) {
+    configuration
+        .getCluster()
+        .setHost("0.0.0.0")
+        .setPort(SocketUtil.getNextAddress().getPort())
+        .setContactPoint(io.zeebe.util.SocketUtil.toHostAndPortString(broker.getSocketAddress()))
+        .setRequestTimeout(Duration.ofSeconds(3));
+    configuration.init();
+
+    final ControlledActorClock clock = new ControlledActorClock();
+    final BrokerClient brokerClient = new BrokerClientImpl(configuration, atomixCluster, clock);
+
+    final var stubAddress = Address.from(broker.getCurrentStubHost(), broker.getCurrentStubPort());
     final BrokerClusterStateImpl topology = new BrokerClusterStateImpl();
     topology.addPartitionIfAbsent(START_PARTITION_ID);
     topology.setPartitionLeader(START_PARTITION_ID, 0, 1);
     topology.addBrokerIfAbsent(0);
     topology.setBrokerAddressIfPresent(0, stubAddress.toString());
 
-    ((BrokerTopologyManagerImpl) client.getTopologyManager()).setTopology(topology);
+    ((BrokerTopologyManagerImpl) brokerClient.getTopologyManager()).setTopology(topology);
+    return brokerClient;
   }
 
   @After
@@ -185,6 +193,43 @@ public final class BrokerClientTest {
     client.sendRequest(new BrokerCreateWorkflowInstanceRequest()).join();
   }
 
+  @Test
+  public void shouldDistributeRequestsBetweenRequestManagers() {
+    // given
+    registerCreateWfCommand();
+    final GatewayCfg configuration = new GatewayCfg();
+    configuration.getThreads().setManagementThreads(2).setRequestManagerShards(3);
+    final BrokerClient shardedClient = createClient(configuration);
+    closeables.manage(shardedClient);
+
+    // when
+    final List<CompletableFuture<String>> handledBy =
+        IntStream.range(0, 6)
+            .mapToObj(
+                i -> {
+                  final CompletableFuture<String> requestManager = new CompletableFuture<>();
+                  shardedClient.sendRequest(
+                      new BrokerCreateWorkflowInstanceRequest(),
+                      // the response is consumed on the actor of the request manager
+                      (key, response) ->
+                          requestManager.complete(ActorThread.current().getCurrentTask().getName()),
+                      requestManager::completeExceptionally);
+                  return requestManager;
+                })
+            .collect(Collectors.toList());
+
+    // then
+    assertThat(handledBy.stream().map(CompletableFuture::join))
+        .containsExactlyInAnyOrder(
+            "GatewayRequestManager-0",
+            "GatewayRequestManager-0",
+            "GatewayRequestManager-1",
+            "GatewayRequestManager-1",
+            "GatewayRequestManager-2",
+            "GatewayRequestManager-2");
+    assertThat(broker.getReceivedCommandRequests()).hasSize(6);
+  }
+
   @Test
   public void shouldCloseIdempotently() {
     // given
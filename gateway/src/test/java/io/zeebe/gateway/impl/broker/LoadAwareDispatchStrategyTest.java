@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class LoadAwareDispatchStrategyTest {
+
+  private final AtomicLong nanoTime = new AtomicLong(Duration.ofHours(1).toNanos());
+  private BrokerClusterStateImpl topology;
+  private LoadAwareDispatchStrategy strategy;
+
+  @Before
+  public void setUp() {
+    topology = new BrokerClusterStateImpl();
+    topology.addPartitionIfAbsent(1);
+    topology.addPartitionIfAbsent(2);
+    topology.addPartitionIfAbsent(3);
+
+    // always compare with the partition after the candidate
+    strategy = new LoadAwareDispatchStrategy(() -> topology, nanoTime::get, bound -> 0);
+  }
+
+  @Test
+  public void shouldReturnNullPartitionWithoutTopology() {
+    // given
+    strategy = new LoadAwareDispatchStrategy(() -> null, nanoTime::get, bound -> 0);
+
+    // when
+    final int partitionId = strategy.determinePartition();
+
+    // then
+    assertThat(partitionId).isEqualTo(BrokerClusterState.PARTITION_ID_NULL);
+  }
+
+  @Test
+  public void shouldDispatchRoundRobinWithoutLoad() {
+    // when
+    final List<Integer> partitions = determinePartitions(6);
+
+    // then
+    assertThat(partitions).containsExactly(1, 2, 3, 1, 2, 3);
+  }
+
+  @Test
+  public void shouldSkipPartitionWithRejectedRequests() {
+    // given
+    for (int i = 0; i < 5; i++) {
+      strategy.onRequestSent(2);
+      strategy.onRequestCompleted(2, Duration.ofMillis(1).toNanos(), true);
+    }
+
+    // when
+    final List<Integer> partitions = determinePartitions(3);
+
+    // then
+    assertThat(partitions).containsExactly(1, 3, 3);
+  }
+
+  @Test
+  public void shouldSkipPartitionWithManyRequestsInFlight() {
+    // given
+    strategy.onRequestSent(1);
+    strategy.onRequestSent(1);
+    strategy.onRequestSent(1);
+
+    // when
+    final List<Integer> partitions = determinePartitions(3);
+
+    // then
+    assertThat(partitions).containsExactly(2, 2, 3);
+  }
+
+  @Test
+  public void shouldSkipPartitionWithHighLatency() {
+    // given
+    for (int i = 0; i < 5; i++) {
+      strategy.onRequestSent(3);
+      strategy.onRequestCompleted(3, Duration.ofMillis(100).toNanos(), false);
+    }
+
+    // when
+    final List<Integer> partitions = determinePartitions(3);
+
+    // then
+    assertThat(partitions).containsExactly(1, 2, 1);
+  }
+
+  @Test
+  public void shouldDispatchToPartitionAgainAfterLoadDecayed() {
+    // given
+    for (int i = 0; i < 5; i++) {
+      strategy.onRequestSent(2);
+      strategy.onRequestCompleted(2, Duration.ofMillis(1).toNanos(), true);
+    }
+
+    // when
+    nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+    final List<Integer> partitions = determinePartitions(3);
+
+    // then
+    assertThat(partitions).containsExactly(1, 2, 3);
+  }
+
+  private List<Integer> determinePartitions(final int count) {
+    final List<Integer> partitions = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      partitions.add(strategy.determinePartition());
+    }
+    return partitions;
+  }
+}
@@ -44,7 +44,8 @@ public final class GatewayCfgTest {
         .setCertificateChainPath("certificateChainPath")
         .setPrivateKeyPath("privateKeyPath");
     CUSTOM_CFG.getMonitoring().setEnabled(true).setHost("monitoringHost").setPort(1234);
-    CUSTOM_CFG.getThreads().setManagementThreads(100);
+    CUSTOM_CFG.getThreads().setManagementThreads(100).setRequestManagerShards(4);
+    CUSTOM_CFG.getJobActivation().setMaxConcurrentPartitionRequests(3);
   }
 
   private final Map<String, String> environment = new HashMap<>();
@@ -83,6 +84,8 @@ public final class GatewayCfgTest {
     setEnv("zeebe.gateway.network.port", "5432");
     setEnv("zeebe.gateway.cluster.contactPoint", "broker:432");
     setEnv("zeebe.gateway.threads.managementThreads", "32");
+    setEnv("zeebe.gateway.threads.requestManagerShards", "8");
+    setEnv("zeebe.gateway.jobActivation.maxConcurrentPartitionRequests", "5");
     setEnv("zeebe.gateway.cluster.requestTimeout", Duration.ofMinutes(43).toString());
     setEnv("zeebe.gateway.cluster.clusterName", "envCluster");
     setEnv("zeebe.gateway.cluster.memberId", "envMember");
@@ -120,7 +123,8 @@ public final class GatewayCfgTest {
         .setMemberId("envMember")
         .setHost("envHost")
         .setPort(12345);
-    expected.getThreads().setManagementThreads(32);
+    expected.getThreads().setManagementThreads(32).setRequestManagerShards(8);
+    expected.getJobActivation().setMaxConcurrentPartitionRequests(5);
     expected.getMonitoring().setEnabled(true).setHost("monitorHost").setPort(231);
     expected
         .getSecurity()
@@ -7,9 +7,17 @@
  */
 package io.zeebe.logstreams.impl.log;
 
-import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.alignedFramedLength;
+import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.HEADER_LENGTH;
+import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.TYPE_MESSAGE;
+import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.alignedLength;
+import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.framedLength;
+import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.lengthOffset;
+import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.messageOffset;
+import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.streamIdOffset;
+import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
 import static io.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION;
 import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.HEADER_BLOCK_LENGTH;
+import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.getSourceEventPosition;
 import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.headerLength;
 import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.metadataOffset;
 import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.setKey;
@@ -19,14 +27,11 @@ import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.setSourceEventPosi
 import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.setTimestamp;
 import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.valueOffset;
 import static io.zeebe.util.EnsureUtil.ensureNotNull;
-import static org.agrona.BitUtil.SIZE_OF_INT;
-import static org.agrona.BitUtil.SIZE_OF_LONG;
 
 import io.zeebe.dispatcher.ClaimedFragmentBatch;
 import io.zeebe.dispatcher.Dispatcher;
 import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
-import io.zeebe.protocol.Protocol;
 import io.zeebe.util.buffer.BufferWriter;
 import io.zeebe.util.buffer.DirectBufferWriter;
 import io.zeebe.util.sched.clock.ActorClock;
@@ -46,6 +51,8 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
   private final DirectBufferWriter metadataWriterInstance = new DirectBufferWriter();
   private final DirectBufferWriter bufferWriterInstance = new DirectBufferWriter();
 
+  private long[] positions = new long[0];
+
   private int eventBufferOffset;
   private int eventLength;
   private int eventCount;
@@ -153,36 +160,46 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     return this;
   }
 
+  /**
+   * Copies the current event into the event buffer. The event is laid out exactly like it is
+   * written into the claimed batch of the dispatcher, i.e. each event is a fragment with a frame
+   * header, followed by the log entry header, the metadata and the value. This allows to transfer
+   * the whole batch with a single copy on {@link #tryWrite()}. Only the position, the source event
+   * position and the timestamp of the log entries are set afterwards.
+   *
+   * <p>Until the batch is written, the source event position field of a log entry holds its source
+   * index.
+   */
   public void copyExistingEventToBuffer() {
     // validation
     if (valueWriter == null) {
       return;
     }
 
-    // copy event to buffer
     final int metadataLength = metadataWriter.getLength();
     final int valueLength = valueWriter.getLength();
+    final int fragmentLength = headerLength(metadataLength) + valueLength;
+    final int framedLength = framedLength(fragmentLength);
+    final int alignedFramedLength = alignedLength(framedLength);
 
-    eventBuffer.putLong(eventBufferOffset, key, Protocol.ENDIANNESS);
-    eventBufferOffset += SIZE_OF_LONG;
-
-    eventBuffer.putInt(eventBufferOffset, sourceIndex, Protocol.ENDIANNESS);
-    eventBufferOffset += SIZE_OF_INT;
+    // the frame header is committed by the claimed batch, until then the length stays negative
+    eventBuffer.setMemory(eventBufferOffset, alignedFramedLength, (byte) 0);
+    eventBuffer.putInt(lengthOffset(eventBufferOffset), -framedLength);
+    eventBuffer.putShort(typeOffset(eventBufferOffset), TYPE_MESSAGE);
+    eventBuffer.putInt(streamIdOffset(eventBufferOffset), logId);
 
-    eventBuffer.putInt(eventBufferOffset, metadataLength, Protocol.ENDIANNESS);
-    eventBufferOffset += SIZE_OF_INT;
-
-    eventBuffer.putInt(eventBufferOffset, valueLength, Protocol.ENDIANNESS);
-    eventBufferOffset += SIZE_OF_INT;
+    final int entryOffset = messageOffset(eventBufferOffset);
+    setSourceEventPosition(eventBuffer, entryOffset, sourceIndex);
+    setKey(eventBuffer, entryOffset, key);
+    setMetadataLength(eventBuffer, entryOffset, (short) metadataLength);
 
     if (metadataLength > 0) {
-      metadataWriter.write(eventBuffer, eventBufferOffset);
-      eventBufferOffset += metadataLength;
+      metadataWriter.write(eventBuffer, metadataOffset(entryOffset));
     }
 
-    valueWriter.write(eventBuffer, eventBufferOffset);
-    eventBufferOffset += valueLength;
+    valueWriter.write(eventBuffer, valueOffset(entryOffset, metadataLength));
 
+    eventBufferOffset += alignedFramedLength;
     eventLength += metadataLength + valueLength;
     eventCount += 1;
   }
@@ -226,59 +243,45 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
   }
 
   private long writeEventsToBuffer(final MutableDirectBuffer writeBuffer) {
-    long lastEventPosition = -1L;
-    eventBufferOffset = 0;
+    if (positions.length < eventCount) {
+      positions = new long[eventCount];
+    }
 
-    final long[] positions = new long[eventCount];
+    // add the fragments to the batch first - the fragments start at the same offsets as in the
+    // event buffer, and their negative length keeps the batch invisible until it is committed
+    int fragmentOffset = 0;
     for (int i = 0; i < eventCount; i++) {
-      final long key = eventBuffer.getLong(eventBufferOffset, Protocol.ENDIANNESS);
-      eventBufferOffset += SIZE_OF_LONG;
-
-      final int sourceIndex = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
-      eventBufferOffset += SIZE_OF_INT;
-
-      final int metadataLength = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
-      eventBufferOffset += SIZE_OF_INT;
-
-      final int valueLength = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
-      eventBufferOffset += SIZE_OF_INT;
+      final int framedLength = -eventBuffer.getInt(lengthOffset(fragmentOffset));
+      final long nextFragmentPosition =
+          claimedBatch.nextFragment(framedLength - HEADER_LENGTH, logId);
 
-      final int fragmentLength = headerLength(metadataLength) + valueLength;
-
-      // allocate fragment for log entry
-      final long nextFragmentPosition = claimedBatch.nextFragment(fragmentLength, logId);
-      final int bufferOffset = claimedBatch.getFragmentOffset();
+      positions[i] = nextFragmentPosition - alignedLength(framedLength);
+      fragmentOffset += alignedLength(framedLength);
+    }
 
-      final long position = nextFragmentPosition - alignedFramedLength(fragmentLength);
-      positions[i] = position;
+    // the frame headers in the event buffer are equal to the ones which were just written
+    writeBuffer.putBytes(0, eventBuffer, 0, eventBufferOffset);
 
-      // write log entry header
-      setPosition(writeBuffer, bufferOffset, position);
+    // complete the log entry headers
+    final long timestamp = ActorClock.currentTimeMillis();
+    fragmentOffset = 0;
+    for (int i = 0; i < eventCount; i++) {
+      final int entryOffset = messageOffset(fragmentOffset);
+      setPosition(writeBuffer, entryOffset, positions[i]);
 
+      final long sourceIndex = getSourceEventPosition(eventBuffer, entryOffset);
       if (sourceIndex >= 0 && sourceIndex < i) {
-        setSourceEventPosition(writeBuffer, bufferOffset, positions[sourceIndex]);
+        setSourceEventPosition(writeBuffer, entryOffset, positions[(int) sourceIndex]);
       } else {
-        setSourceEventPosition(writeBuffer, bufferOffset, sourceEventPosition);
+        setSourceEventPosition(writeBuffer, entryOffset, sourceEventPosition);
       }
 
-      setKey(writeBuffer, bufferOffset, key);
-      setTimestamp(writeBuffer, bufferOffset, ActorClock.currentTimeMillis());
-      setMetadataLength(writeBuffer, bufferOffset, (short) metadataLength);
+      setTimestamp(writeBuffer, entryOffset, timestamp);
 
-      if (metadataLength > 0) {
-        writeBuffer.putBytes(
-            metadataOffset(bufferOffset), eventBuffer, eventBufferOffset, metadataLength);
-        eventBufferOffset += metadataLength;
-      }
-
-      // write log entry value
-      writeBuffer.putBytes(
-          valueOffset(bufferOffset, metadataLength), eventBuffer, eventBufferOffset, valueLength);
-      eventBufferOffset += valueLength;
-
-      lastEventPosition = position;
+      fragmentOffset += alignedLength(-eventBuffer.getInt(lengthOffset(fragmentOffset)));
     }
-    return lastEventPosition;
+
+    return positions[eventCount - 1];
   }
 
   private void resetEvent() {
@@ -159,6 +159,11 @@ public final class LogStreamImpl extends Actor implements LogStream, FailureList
     return actorName;
   }
 
+  @Override
+  public int getAffinityKey() {
+    return partitionId;
+  }
+
   @Override
   protected void onActorClosing() {
     LOG.info("On closing logstream {} close {} readers", logName, readers.size());
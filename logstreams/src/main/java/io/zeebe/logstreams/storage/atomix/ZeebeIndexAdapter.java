@@ -12,18 +12,31 @@ import io.atomix.storage.journal.Indexed;
 import io.atomix.storage.journal.index.JournalIndex;
 import io.atomix.storage.journal.index.Position;
 import io.atomix.storage.journal.index.SparseJournalIndex;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
-
+import java.util.Arrays;
+
+/**
+ * Maps the lowest record position of every n-th {@link ZeebeEntry} to its index, where n is the
+ * configured density.
+ *
+ * <p>Entries are only appended with increasing index and increasing position, such that the mapping
+ * is kept in two parallel primitive arrays, which are sorted by index as well as by position. This
+ * avoids boxing a key and value object per mapping and allows to look up a position via binary
+ * search. Truncation removes entries at the tail, compaction moves the start of the valid range,
+ * which is reclaimed once the arrays need to grow.
+ */
 public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping {
 
-  private final ConcurrentNavigableMap<Long, Long> positionIndexMapping =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> indexPositionMapping =
-      new ConcurrentSkipListMap<>();
+  private static final int INITIAL_CAPACITY = 1024;
+
   private final SparseJournalIndex sparseJournalIndex;
   private final int density;
 
+  // guarded by this
+  private long[] indices = new long[INITIAL_CAPACITY];
+  private long[] positions = new long[INITIAL_CAPACITY];
+  private int head;
+  private int tail;
+
   private ZeebeIndexAdapter(final int density) {
     this.density = density;
     sparseJournalIndex = new SparseJournalIndex(density);
@@ -39,10 +52,7 @@ public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping
     if (index % density == 0) {
       if (indexedEntry.type() == ZeebeEntry.class) {
         final ZeebeEntry zeebeEntry = (ZeebeEntry) indexedEntry.entry();
-        final var lowestPosition = zeebeEntry.lowestPosition();
-
-        positionIndexMapping.put(lowestPosition, index);
-        indexPositionMapping.put(index, lowestPosition);
+        append(index, zeebeEntry.lowestPosition());
       }
     }
 
@@ -56,15 +66,9 @@ public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping
 
   @Override
   public void truncate(final long index) {
-    final var higherEntry = indexPositionMapping.higherEntry(index);
-
-    if (higherEntry != null) {
-
-      final var higherIndex = higherEntry.getKey();
-      final var higherPosition = higherEntry.getValue();
-
-      indexPositionMapping.tailMap(higherIndex).clear();
-      positionIndexMapping.tailMap(higherPosition).clear();
+    synchronized (this) {
+      // remove all mappings with a higher index
+      tail = floor(indices, index) + 1;
     }
 
     sparseJournalIndex.truncate(index);
@@ -72,29 +76,66 @@ public final class ZeebeIndexAdapter implements JournalIndex, ZeebeIndexMapping
 
   @Override
   public void compact(final long index) {
-    final var lowerEntry = indexPositionMapping.lowerEntry(index);
+    synchronized (this) {
+      // keep the mapping right before the given index, since it is still needed to find positions
+      // which are contained in the entries between that mapping and the given index
+      final int lower = floor(indices, index - 1);
+      if (lower >= head) {
+        head = lower;
+      }
+    }
 
-    if (lowerEntry != null) {
+    sparseJournalIndex.compact(index);
+  }
 
-      final var lowerIndex = lowerEntry.getKey();
-      final var lowerPosition = lowerEntry.getValue();
+  @Override
+  public synchronized long lookupPosition(final long position) {
+    final int floor = floor(positions, position);
+    return floor >= head ? indices[floor] : -1L;
+  }
 
-      indexPositionMapping.headMap(lowerIndex).clear();
-      positionIndexMapping.headMap(lowerPosition).clear();
+  private synchronized void append(final long index, final long lowestPosition) {
+    if (tail > head && index <= indices[tail - 1]) {
+      // segments are indexed again when they are re-opened, e.g. on unmapping, such that the entry
+      // is either already mapped or was compacted before
+      final int offset = Arrays.binarySearch(indices, head, tail, index);
+      if (offset >= 0) {
+        positions[offset] = lowestPosition;
+      }
+      return;
     }
 
-    sparseJournalIndex.compact(index);
+    if (tail == indices.length) {
+      ensureCapacity();
+    }
+
+    indices[tail] = index;
+    positions[tail] = lowestPosition;
+    tail++;
   }
 
-  @Override
-  public long lookupPosition(final long position) {
-    long index = -1L;
+  private void ensureCapacity() {
+    final int size = tail - head;
 
-    final var lowerEntry = positionIndexMapping.floorEntry(position);
-    if (lowerEntry != null) {
-      index = lowerEntry.getValue();
+    if (size * 2 > indices.length) {
+      indices = Arrays.copyOfRange(indices, head, head + indices.length * 2);
+      positions = Arrays.copyOfRange(positions, head, head + positions.length * 2);
+    } else {
+      // reclaim the space of the compacted mappings
+      System.arraycopy(indices, head, indices, 0, size);
+      System.arraycopy(positions, head, positions, 0, size);
     }
 
-    return index;
+    head = 0;
+    tail = size;
+  }
+
+  /**
+   * @return the array offset of the greatest value which is less than or equal to the given value,
+   *     or {@code head - 1} if there is no such value
+   */
+  private int floor(final long[] values, final long value) {
+    final int result = Arrays.binarySearch(values, head, tail, value);
+    return result >= 0 ? result : -result - 2;
   }
 }
@@ -350,6 +350,67 @@ public final class LogStreamBatchWriterTest {
     assertThat(events.get(1).getSourceEventPosition()).isEqualTo(-1L);
   }
 
+  @Test
+  public void shouldWriteEventWithSourceIndex() {
+    // when
+    final long position =
+        write(
+            w ->
+                w.sourceRecordPosition(123L)
+                    .event()
+                    .key(1)
+                    .value(EVENT_VALUE_1)
+                    .done()
+                    .event()
+                    .key(2)
+                    .sourceIndex(0)
+                    .value(EVENT_VALUE_2)
+                    .done()
+                    .event()
+                    .key(3)
+                    .sourceIndex(2)
+                    .value(EVENT_VALUE_2)
+                    .done());
+
+    // then
+    final List<LoggedEvent> events = getWrittenEvents(position);
+
+    assertThat(events.get(0).getSourceEventPosition()).isEqualTo(123L);
+    assertThat(events.get(1).getSourceEventPosition()).isEqualTo(events.get(0).getPosition());
+    assertThat(events.get(2).getSourceEventPosition()).isEqualTo(123L);
+  }
+
+  @Test
+  public void shouldWriteConsecutiveBatches() {
+    // given
+    final long firstPosition =
+        write(
+            w ->
+                w.event()
+                    .key(1)
+                    .metadata(EVENT_METADATA_1)
+                    .value(EVENT_VALUE_1)
+                    .done()
+                    .event()
+                    .key(2)
+                    .value(EVENT_VALUE_2)
+                    .done());
+
+    // when
+    final long secondPosition =
+        write(w -> w.event().key(3).metadata(EVENT_METADATA_2).value(EVENT_VALUE_2).done());
+
+    // then
+    final List<LoggedEvent> events = getWrittenEvents(secondPosition);
+    assertThat(events).hasSize(3);
+    assertThat(events.get(1).getPosition()).isEqualTo(firstPosition);
+    assertThat(events.get(2).getPosition()).isEqualTo(secondPosition);
+    assertThat(events).extracting(LoggedEvent::getKey).containsExactly(1L, 2L, 3L);
+    assertThat(getMetadataBuffer(events.get(2))).isEqualTo(EVENT_METADATA_2);
+    assertThat(getValueBuffer(events.get(2))).isEqualTo(EVENT_VALUE_2);
+    assertThat(events.get(1).getMetadataLength()).isEqualTo((short) 0);
+  }
+
   @Test
   public void shouldWriteEventWithTimestamp() throws InterruptedException, ExecutionException {
     // given
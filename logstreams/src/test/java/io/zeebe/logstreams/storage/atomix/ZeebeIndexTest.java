@@ -220,6 +220,60 @@ public class ZeebeIndexTest {
     assertThat(zeebeIndexAdapter.lookupPosition(46)).isEqualTo(10);
   }
 
+  @Test
+  public void shouldFindIndexAfterGrowing() {
+    // given - every entry is added
+    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(1);
+
+    // when
+    for (int i = 1; i <= 10_000; i++) {
+      zeebeIndexAdapter.index(asZeebeEntry(i, i * 10L), i);
+    }
+
+    // then
+    assertThat(zeebeIndexAdapter.lookupPosition(5)).isEqualTo(-1);
+    assertThat(zeebeIndexAdapter.lookupPosition(10)).isEqualTo(1);
+    assertThat(zeebeIndexAdapter.lookupPosition(55_555)).isEqualTo(5_555);
+    assertThat(zeebeIndexAdapter.lookupPosition(100_000)).isEqualTo(10_000);
+    assertThat(zeebeIndexAdapter.lookupPosition(Long.MAX_VALUE)).isEqualTo(10_000);
+  }
+
+  @Test
+  public void shouldFindIndexAfterCompactingAndGrowing() {
+    // given - every entry is added
+    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(1);
+    for (int i = 1; i <= 1_000; i++) {
+      zeebeIndexAdapter.index(asZeebeEntry(i, i * 10L), i);
+    }
+
+    // when
+    zeebeIndexAdapter.compact(900);
+    for (int i = 1_001; i <= 5_000; i++) {
+      zeebeIndexAdapter.index(asZeebeEntry(i, i * 10L), i);
+    }
+
+    // then
+    assertThat(zeebeIndexAdapter.lookupPosition(8_989)).isEqualTo(-1);
+    assertThat(zeebeIndexAdapter.lookupPosition(8_995)).isEqualTo(899);
+    assertThat(zeebeIndexAdapter.lookupPosition(10_000)).isEqualTo(1_000);
+    assertThat(zeebeIndexAdapter.lookupPosition(50_000)).isEqualTo(5_000);
+  }
+
+  @Test
+  public void shouldNotRemoveHigherIndexWhenIndexingAgain() {
+    // given - every 5 index is added
+    final ZeebeIndexAdapter zeebeIndexAdapter = ZeebeIndexAdapter.ofDensity(5);
+    zeebeIndexAdapter.index(asZeebeEntry(5, 20), 10);
+    zeebeIndexAdapter.index(asZeebeEntry(10, 45), 20);
+
+    // when
+    zeebeIndexAdapter.index(asZeebeEntry(5, 20), 10);
+
+    // then
+    assertThat(zeebeIndexAdapter.lookupPosition(20)).isEqualTo(5);
+    assertThat(zeebeIndexAdapter.lookupPosition(46)).isEqualTo(10);
+  }
+
   private static Indexed asZeebeEntry(final long index, final long lowestPos) {
     return new Indexed(
         index,
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.backpressure;
+
+import io.zeebe.broker.system.configuration.BackpressureCfg.LimitAlgorithm;
+import io.zeebe.broker.transport.backpressure.PartitionAwareRequestLimiter;
+import io.zeebe.broker.transport.backpressure.RequestLimiter;
+import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.protocol.record.intent.WorkflowInstanceCreationIntent;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the path of every command through the backpressure: acquiring the limiter when the
+ * command is received, and releasing it when the command was processed. A window of requests is
+ * kept in flight, like the requests of a gateway which are processed concurrently. Run with {@code
+ * -prof gc} to see the allocation rate per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CommandRateLimiterBenchmark {
+
+  private static final int PARTITION_ID = 1;
+  private static final int STREAM_ID = PARTITION_ID;
+  private static final Intent INTENT = WorkflowInstanceCreationIntent.CREATE;
+
+  @Param({"1", "16"})
+  private int inflightRequests;
+
+  private PartitionAwareRequestLimiter partitionLimiter;
+  private RequestLimiter<Intent> limiter;
+  private long requestId;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    partitionLimiter = PartitionAwareRequestLimiter.newLimiter(LimitAlgorithm.VEGAS, false);
+    limiter = partitionLimiter.getLimiter(PARTITION_ID);
+    requestId = 0;
+
+    for (int i = 0; i < inflightRequests - 1; i++) {
+      limiter.tryAcquire(STREAM_ID, requestId++, INTENT);
+    }
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    partitionLimiter.removePartition(PARTITION_ID);
+  }
+
+  @Benchmark
+  public boolean acquireAndRespond() {
+    final boolean acquired = limiter.tryAcquire(STREAM_ID, requestId, INTENT);
+    limiter.onResponse(STREAM_ID, requestId - inflightRequests + 1);
+    requestId++;
+    return acquired;
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.db;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.zeebe.util.FileUtil;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the basic operations of the {@link ZeebeDb} on a composite key column family, which is
+ * the most common layout in the engine state: point reads, writes inside a transaction and prefix
+ * iteration over the entries of one scope.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ZeebeTransactionDbBenchmark {
+
+  @Param({"10000"})
+  private int scopeCount;
+
+  @Param({"10"})
+  private int entriesPerScope;
+
+  private File directory;
+  private ZeebeDb<ColumnFamilies> zeebeDb;
+  private DbContext dbContext;
+  private DbLong scopeKey;
+  private DbLong entryKey;
+  private DbCompositeKey<DbLong, DbLong> compositeKey;
+  private DbLong value;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+  private long nextScope;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("zeebe-db-benchmark").toFile();
+    zeebeDb = ZeebeRocksDbFactory.newFactory(ColumnFamilies.class).createDb(directory);
+    dbContext = zeebeDb.createContext();
+
+    scopeKey = new DbLong();
+    entryKey = new DbLong();
+    compositeKey = new DbCompositeKey<>(scopeKey, entryKey);
+    value = new DbLong();
+    columnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.ENTRIES, dbContext, compositeKey, value);
+
+    for (int scope = 0; scope < scopeCount; scope++) {
+      final long currentScope = scope;
+      dbContext.runInTransaction(
+          () -> {
+            for (int entry = 0; entry < entriesPerScope; entry++) {
+              scopeKey.wrapLong(currentScope);
+              entryKey.wrapLong(entry);
+              value.wrapLong(entry);
+              columnFamily.put(compositeKey, value);
+            }
+          });
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory.getAbsolutePath());
+  }
+
+  @Benchmark
+  public DbLong get() {
+    scopeKey.wrapLong(nextScope());
+    entryKey.wrapLong(entriesPerScope / 2);
+    return columnFamily.get(compositeKey);
+  }
+
+  @Benchmark
+  public void putInTransaction() {
+    final long scope = nextScope();
+    dbContext.runInTransaction(
+        () -> {
+          scopeKey.wrapLong(scope);
+          entryKey.wrapLong(0);
+          value.wrapLong(scope);
+          columnFamily.put(compositeKey, value);
+        });
+  }
+
+  @Benchmark
+  public void prefixIteration(final Blackhole blackhole) {
+    scopeKey.wrapLong(nextScope());
+    columnFamily.whileEqualPrefix(
+        scopeKey,
+        (DbCompositeKey<DbLong, DbLong> key, DbLong value) -> blackhole.consume(value.getValue()));
+  }
+
+  private long nextScope() {
+    nextScope = (nextScope + 1) % scopeCount;
+    return nextScope;
+  }
+
+  private enum ColumnFamilies {
+    DEFAULT,
+    ENTRIES
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.dispatcher;
+
+import io.zeebe.dispatcher.ClaimedFragment;
+import io.zeebe.dispatcher.Dispatcher;
+import io.zeebe.dispatcher.Dispatchers;
+import io.zeebe.dispatcher.FragmentHandler;
+import io.zeebe.dispatcher.Subscription;
+import io.zeebe.util.ByteValue;
+import io.zeebe.util.sched.ActorScheduler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures claiming, writing and committing a fragment in the {@link Dispatcher}. The fragments are
+ * consumed by a subscription on the same thread, to keep the publisher limit moving.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatcherBenchmark {
+
+  private static final FragmentHandler CONSUME =
+      (buffer, offset, length, streamId, isMarkedFailed) -> FragmentHandler.CONSUME_FRAGMENT_RESULT;
+
+  @Param({"128", "1024"})
+  private int fragmentLength;
+
+  private final ClaimedFragment claimedFragment = new ClaimedFragment();
+  private ActorScheduler actorScheduler;
+  private Dispatcher dispatcher;
+  private Subscription subscription;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+
+    dispatcher =
+        Dispatchers.create("benchmark")
+            .actorScheduler(actorScheduler)
+            .bufferSize((int) ByteValue.ofMegabytes(32))
+            .build();
+    subscription = dispatcher.openSubscription("benchmark");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    dispatcher.close();
+    actorScheduler.stop().get();
+  }
+
+  @Benchmark
+  public long claimAndCommit() {
+    long position = dispatcher.claim(claimedFragment, fragmentLength);
+    while (position < 0) {
+      subscription.poll(CONSUME, Integer.MAX_VALUE);
+      position = dispatcher.claim(claimedFragment, fragmentLength);
+    }
+
+    claimedFragment.getBuffer().setMemory(claimedFragment.getOffset(), fragmentLength, (byte) 1);
+    claimedFragment.commit();
+
+    subscription.poll(CONSUME, 1);
+    return position;
+  }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.engine;
+
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.processor.CommandResponseWriter;
+import io.zeebe.engine.processor.StreamProcessor;
+import io.zeebe.engine.processor.TypedRecord;
+import io.zeebe.engine.processor.workflow.EngineProcessors;
+import io.zeebe.engine.processor.workflow.deployment.distribute.DeploymentDistributor;
+import io.zeebe.engine.processor.workflow.deployment.distribute.PendingDeploymentDistribution;
+import io.zeebe.engine.processor.workflow.message.command.SubscriptionCommandSender;
+import io.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.util.ListLogStorage;
+import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.zeebe.logstreams.util.SyncLogStream;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceCreationRecord;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.DeploymentIntent;
+import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.protocol.record.intent.WorkflowInstanceCreationIntent;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.protocol.record.value.BpmnElementType;
+import io.zeebe.protocol.record.value.deployment.ResourceType;
+import io.zeebe.util.FileUtil;
+import io.zeebe.util.buffer.BufferWriter;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the end-to-end processing of workflow instance commands by the {@link StreamProcessor},
+ * i.e. the {@code ProcessingStateMachine} with the engine processors, the state and the log writes.
+ * Every operation creates an instance of a workflow with a single start and end event and waits
+ * until the process is completed.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ProcessingStateMachineBenchmark {
+
+  private static final int INSTANCES_PER_INVOCATION = 1_000;
+  private static final int PARTITION_ID = Protocol.DEPLOYMENT_PARTITION;
+  private static final String PROCESS_ID = "benchmark";
+  private static final long WAIT_INTERVAL_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private final AtomicLong completedInstances = new AtomicLong();
+  private final AtomicLong processedDeployments = new AtomicLong();
+
+  private File directory;
+  private ActorScheduler actorScheduler;
+  private SyncLogStream logStream;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private StreamProcessor streamProcessor;
+  private LogStreamRecordWriter writer;
+  private RecordMetadata creationMetadata;
+  private WorkflowInstanceCreationRecord creationRecord;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("processing-benchmark").toFile();
+
+    actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+
+    final ListLogStorage logStorage = new ListLogStorage();
+    logStream =
+        SyncLogStream.builder()
+            .withActorScheduler(actorScheduler)
+            .withLogStorage(logStorage)
+            .withPartitionId(PARTITION_ID)
+            .withLogName("benchmark")
+            .build();
+    logStorage.setPositionListener(logStream::setCommitPosition);
+
+    zeebeDb = DefaultZeebeDbFactory.DEFAULT_DB_FACTORY.createDb(directory);
+    streamProcessor =
+        StreamProcessor.builder()
+            .logStream(logStream.getAsyncLogStream())
+            .zeebeDb(zeebeDb)
+            .actorScheduler(actorScheduler)
+            .commandResponseWriter(new NoopCommandResponseWriter())
+            .onProcessedListener(this::onProcessed)
+            .streamProcessorFactory(
+                processingContext ->
+                    EngineProcessors.createEngineProcessors(
+                        processingContext,
+                        1,
+                        new SubscriptionCommandSender(
+                            PARTITION_ID, (receiverPartitionId, command) -> true),
+                        new NoopDeploymentDistributor(),
+                        (key, partition) -> {},
+                        jobType -> {}))
+            .build();
+    streamProcessor.openAsync().join();
+
+    writer = logStream.newLogStreamRecordWriter();
+    deployWorkflow();
+
+    creationMetadata = metadata(ValueType.WORKFLOW_INSTANCE_CREATION);
+    creationMetadata.intent(WorkflowInstanceCreationIntent.CREATE);
+    creationRecord = new WorkflowInstanceCreationRecord().setBpmnProcessId(PROCESS_ID);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    streamProcessor.closeAsync().join();
+    logStream.close();
+    zeebeDb.close();
+    actorScheduler.stop().get();
+    FileUtil.deleteFolder(directory.getAbsolutePath());
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(INSTANCES_PER_INVOCATION)
+  public long createAndCompleteInstances() {
+    final long expectedCompletions = completedInstances.get() + INSTANCES_PER_INVOCATION;
+
+    for (int i = 0; i < INSTANCES_PER_INVOCATION; i++) {
+      write(creationMetadata, creationRecord);
+    }
+
+    awaitCount(completedInstances, expectedCompletions);
+    return expectedCompletions;
+  }
+
+  private void deployWorkflow() {
+    final byte[] resource =
+        Bpmn.convertToString(
+                Bpmn.createExecutableProcess(PROCESS_ID).startEvent().endEvent().done())
+            .getBytes();
+
+    final DeploymentRecord deploymentRecord = new DeploymentRecord();
+    deploymentRecord
+        .resources()
+        .add()
+        .setResourceName("benchmark.bpmn")
+        .setResourceType(ResourceType.BPMN_XML)
+        .setResource(resource);
+
+    final RecordMetadata deploymentMetadata = metadata(ValueType.DEPLOYMENT);
+    deploymentMetadata.intent(DeploymentIntent.CREATE);
+
+    write(deploymentMetadata, deploymentRecord);
+    awaitCount(processedDeployments, 1);
+  }
+
+  private void write(final RecordMetadata metadata, final UnifiedRecordValue value) {
+    long position;
+    do {
+      position = writer.keyNull().metadataWriter(metadata).valueWriter(value).tryWrite();
+    } while (position < 0);
+  }
+
+  private void onProcessed(final TypedRecord<?> record) {
+    final Intent intent = record.getIntent();
+
+    if (intent == DeploymentIntent.CREATE) {
+      processedDeployments.incrementAndGet();
+    } else if (intent == WorkflowInstanceIntent.ELEMENT_COMPLETED
+        && ((WorkflowInstanceRecord) record.getValue()).getBpmnElementType()
+            == BpmnElementType.PROCESS) {
+      completedInstances.incrementAndGet();
+    }
+  }
+
+  private static RecordMetadata metadata(final ValueType valueType) {
+    return new RecordMetadata()
+        .protocolVersion(Protocol.PROTOCOL_VERSION)
+        .recordType(RecordType.COMMAND)
+        .valueType(valueType);
+  }
+
+  private static void awaitCount(final AtomicLong counter, final long expected) {
+    while (counter.get() < expected) {
+      // park instead of spinning, the stream processor must not compete with this thread
+      LockSupport.parkNanos(WAIT_INTERVAL_NANOS);
+    }
+  }
+
+  private static final class NoopDeploymentDistributor implements DeploymentDistributor {
+
+    private final Map<Long, PendingDeploymentDistribution> pendingDeployments = new HashMap<>();
+
+    @Override
+    public ActorFuture<Void> pushDeployment(
+        final long key, final long position, final DirectBuffer buffer) {
+      pendingDeployments.put(key, new PendingDeploymentDistribution(buffer, position, 0));
+      return CompletableActorFuture.completed(null);
+    }
+
+    @Override
+    public PendingDeploymentDistribution removePendingDeployment(final long key) {
+      return pendingDeployments.remove(key);
+    }
+  }
+
+  private static final class NoopCommandResponseWriter implements CommandResponseWriter {
+
+    @Override
+    public CommandResponseWriter partitionId(final int partitionId) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter key(final long key) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter intent(final Intent intent) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter recordType(final RecordType type) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter valueType(final ValueType valueType) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter rejectionType(final RejectionType rejectionType) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter rejectionReason(final DirectBuffer rejectionReason) {
+      return this;
+    }
+
+    @Override
+    public CommandResponseWriter valueWriter(final BufferWriter value) {
+      return this;
+    }
+
+    @Override
+    public boolean tryWriteResponse(final int requestStreamId, final long requestId) {
+      return true;
+    }
+  }
+}
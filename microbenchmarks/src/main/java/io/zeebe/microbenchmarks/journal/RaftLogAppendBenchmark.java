@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.journal;
+
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogWriter;
+import io.atomix.raft.zeebe.ZeebeEntry;
+import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.Indexed;
+import io.zeebe.util.FileUtil;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures appending {@link ZeebeEntry ZeebeEntries} to the segmented Raft log, which includes the
+ * serialization of the entry and the update of the journal index. The log is recreated for every
+ * iteration so the disk usage stays bounded.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RaftLogAppendBenchmark {
+
+  private static final int MAX_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  @Param({"128", "4096"})
+  private int entrySize;
+
+  @Param({"MAPPED", "DISK"})
+  private StorageLevel storageLevel;
+
+  private File directory;
+  private RaftLog raftLog;
+  private RaftLogWriter writer;
+  private ByteBuffer data;
+  private long position;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final byte[] bytes = new byte[entrySize];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    data = ByteBuffer.wrap(bytes);
+  }
+
+  @Setup(Level.Iteration)
+  public void openLog() throws Exception {
+    directory = Files.createTempDirectory("raft-log-benchmark").toFile();
+    raftLog =
+        RaftLog.builder()
+            .withName("benchmark")
+            .withDirectory(directory)
+            .withNamespace(RaftNamespaces.RAFT_STORAGE)
+            .withStorageLevel(storageLevel)
+            .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+            .build();
+    writer = raftLog.writer();
+    position = 0;
+  }
+
+  @TearDown(Level.Iteration)
+  public void closeLog() throws Exception {
+    raftLog.close();
+    FileUtil.deleteFolder(directory.getAbsolutePath());
+  }
+
+  @Benchmark
+  public Indexed<ZeebeEntry> append() {
+    position++;
+    return writer.append(new ZeebeEntry(1, position, position, position, data));
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.logstreams;
+
+import io.zeebe.engine.util.ListLogStorage;
+import io.zeebe.logstreams.log.LogStreamReader;
+import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.logstreams.util.SyncLogStream;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.util.sched.ActorScheduler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading the log sequentially with a {@link LogStreamReader}, which is how the stream
+ * processor and the exporters consume the log. The log is kept in memory, such that only the reader
+ * itself is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LogStreamReaderBenchmark {
+
+  private static final int RECORD_COUNT = 100_000;
+
+  private ActorScheduler actorScheduler;
+  private SyncLogStream logStream;
+  private LogStreamReader reader;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+
+    final ListLogStorage logStorage = new ListLogStorage();
+    logStream =
+        SyncLogStream.builder()
+            .withActorScheduler(actorScheduler)
+            .withLogStorage(logStorage)
+            .withPartitionId(1)
+            .withLogName("benchmark")
+            .build();
+    logStorage.setPositionListener(logStream::setCommitPosition);
+
+    final long lastPosition = writeRecords(logStream.newLogStreamRecordWriter());
+
+    reader = logStream.newLogStreamReader();
+    awaitCommitted(lastPosition);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    reader.close();
+    logStream.close();
+    actorScheduler.stop().get();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public void readSequentially(final Blackhole blackhole) {
+    reader.seekToFirstEvent();
+    while (reader.hasNext()) {
+      final LoggedEvent event = reader.next();
+      blackhole.consume(event.getPosition());
+      blackhole.consume(event.getValueLength());
+    }
+  }
+
+  private static long writeRecords(final LogStreamRecordWriter writer) {
+    final RecordMetadata metadata =
+        new RecordMetadata()
+            .protocolVersion(Protocol.PROTOCOL_VERSION)
+            .recordType(RecordType.COMMAND)
+            .valueType(ValueType.JOB)
+            .intent(JobIntent.CREATE);
+    final JobRecord value = new JobRecord().setType("benchmark").setRetries(3);
+
+    long position = -1;
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      do {
+        position = writer.keyNull().metadataWriter(metadata).valueWriter(value).tryWrite();
+      } while (position < 0);
+    }
+    return position;
+  }
+
+  private void awaitCommitted(final long lastPosition) {
+    long readPosition = -1;
+    while (readPosition < lastPosition) {
+      reader.seekToFirstEvent();
+      while (reader.hasNext()) {
+        readPosition = reader.next().getPosition();
+      }
+      Thread.onSpinWait();
+    }
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.msgpack;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapArray;
+
+import io.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.protocol.record.value.BpmnElementType;
+import java.util.concurrent.TimeUnit;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures reading (decoding) and writing (encoding) of the two most frequent record values, which
+ * are encoded as msgpack by {@link io.zeebe.msgpack.UnpackedObject}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class UnpackedObjectBenchmark {
+
+  private static final String VARIABLES =
+      "{\"orderId\":\"order-4711\",\"amount\":123.45,\"customer\":{\"id\":42,\"name\":\"foo\"},"
+          + "\"items\":[\"a\",\"b\",\"c\"],\"approved\":true}";
+  private static final String CUSTOM_HEADERS = "{\"retryBackoff\":\"PT5S\",\"team\":\"payments\"}";
+
+  private final JobRecord jobRecord = new JobRecord();
+  private final WorkflowInstanceRecord workflowInstanceRecord = new WorkflowInstanceRecord();
+
+  private final MutableDirectBuffer encodedJob = new ExpandableArrayBuffer();
+  private final MutableDirectBuffer encodedWorkflowInstance = new ExpandableArrayBuffer();
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+  private int encodedJobLength;
+  private int encodedWorkflowInstanceLength;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final JobRecord job =
+        new JobRecord()
+            .setType("payment-service")
+            .setWorker("worker-1")
+            .setRetries(3)
+            .setDeadline(System.currentTimeMillis())
+            .setCustomHeaders(wrapArray(MsgPackConverter.convertToMsgPack(CUSTOM_HEADERS)))
+            .setVariables(wrapArray(MsgPackConverter.convertToMsgPack(VARIABLES)))
+            .setBpmnProcessId("order-process")
+            .setWorkflowDefinitionVersion(1)
+            .setWorkflowKey(2251799813685249L)
+            .setWorkflowInstanceKey(2251799813685251L)
+            .setElementId("collect-money")
+            .setElementInstanceKey(2251799813685260L);
+    encodedJobLength = job.getLength();
+    job.write(encodedJob, 0);
+
+    final WorkflowInstanceRecord workflowInstance =
+        new WorkflowInstanceRecord()
+            .setBpmnProcessId("order-process")
+            .setVersion(1)
+            .setWorkflowKey(2251799813685249L)
+            .setWorkflowInstanceKey(2251799813685251L)
+            .setElementId("collect-money")
+            .setBpmnElementType(BpmnElementType.SERVICE_TASK)
+            .setFlowScopeKey(2251799813685251L);
+    encodedWorkflowInstanceLength = workflowInstance.getLength();
+    workflowInstance.write(encodedWorkflowInstance, 0);
+  }
+
+  @Benchmark
+  public JobRecord readJobRecord() {
+    jobRecord.wrap(encodedJob, 0, encodedJobLength);
+    return jobRecord;
+  }
+
+  @Benchmark
+  public int writeJobRecord() {
+    jobRecord.wrap(encodedJob, 0, encodedJobLength);
+    jobRecord.write(writeBuffer, 0);
+    return jobRecord.getLength();
+  }
+
+  @Benchmark
+  public WorkflowInstanceRecord readWorkflowInstanceRecord() {
+    workflowInstanceRecord.wrap(encodedWorkflowInstance, 0, encodedWorkflowInstanceLength);
+    return workflowInstanceRecord;
+  }
+
+  @Benchmark
+  public int writeWorkflowInstanceRecord() {
+    workflowInstanceRecord.wrap(encodedWorkflowInstance, 0, encodedWorkflowInstanceLength);
+    workflowInstanceRecord.write(writeBuffer, 0);
+    return workflowInstanceRecord.getLength();
+  }
+}
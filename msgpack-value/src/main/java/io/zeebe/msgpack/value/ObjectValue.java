@@ -14,6 +14,8 @@ import io.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
 
 public class ObjectValue extends BaseValue {
   private final List<BaseProperty<? extends BaseValue>> declaredProperties = new ArrayList<>();
@@ -22,8 +24,12 @@ public class ObjectValue extends BaseValue {
 
   private final StringValue decodedKey = new StringValue();
 
+  // open addressing table of (declared property index + 1), built on the first lookup
+  private int[] keyTable;
+
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    keyTable = null;
     return this;
   }
 
@@ -86,19 +92,27 @@ public class ObjectValue extends BaseValue {
   @Override
   public void read(final MsgPackReader reader) {
     final int mapSize = reader.readMapHeader();
+    int expectedIndex = 0;
 
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
       BaseProperty<? extends BaseValue> prop = null;
 
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
+      // the properties are usually written in the order in which they are declared
+      if (expectedIndex < declaredProperties.size()) {
+        final BaseProperty<?> expectedProperty = declaredProperties.get(expectedIndex);
+        if (expectedProperty.getKey().equals(decodedKey)) {
+          prop = expectedProperty;
+          expectedIndex += 1;
+        }
+      }
 
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
+      if (prop == null) {
+        final int index = indexOfDeclaredProperty(decodedKey);
+        if (index >= 0) {
+          prop = declaredProperties.get(index);
+          expectedIndex = index + 1;
         }
       }
 
@@ -123,6 +137,50 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  private int indexOfDeclaredProperty(final StringValue key) {
+    if (keyTable == null) {
+      keyTable = buildKeyTable();
+    }
+
+    final int mask = keyTable.length - 1;
+    for (int slot = hashKey(key) & mask; keyTable[slot] != 0; slot = (slot + 1) & mask) {
+      final int index = keyTable[slot] - 1;
+      if (declaredProperties.get(index).getKey().equals(key)) {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+
+  private int[] buildKeyTable() {
+    // keep the load factor at most 0.5, so that probe sequences stay short
+    final int[] table = new int[BitUtil.findNextPositivePowerOfTwo(declaredProperties.size() * 2)];
+    final int mask = table.length - 1;
+
+    for (int index = 0; index < declaredProperties.size(); index++) {
+      int slot = hashKey(declaredProperties.get(index).getKey()) & mask;
+      while (table[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = index + 1;
+    }
+
+    return table;
+  }
+
+  private static int hashKey(final StringValue key) {
+    final DirectBuffer bytes = key.getValue();
+    final int length = key.getLength();
+
+    int hash = length;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + bytes.getByte(i);
+    }
+
+    return hash ^ (hash >>> 16);
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
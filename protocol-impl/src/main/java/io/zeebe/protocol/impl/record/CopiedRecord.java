@@ -14,6 +14,8 @@ import io.zeebe.protocol.record.RejectionType;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.util.StringUtil;
+import java.io.IOException;
+import java.io.OutputStream;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class CopiedRecord<T extends UnifiedRecordValue> implements Record<T> {
@@ -143,6 +145,11 @@ public final class CopiedRecord<T extends UnifiedRecordValue> implements Record<
     return MsgPackConverter.convertJsonSerializableObjectToJson(this);
   }
 
+  @Override
+  public void writeJson(final OutputStream outputStream) throws IOException {
+    MsgPackConverter.writeJsonSerializableObject(this, outputStream);
+  }
+
   @Override
   public Record<T> clone() {
     return new CopiedRecord<>(this);
@@ -40,8 +40,11 @@ import io.zeebe.protocol.record.value.ErrorType;
 import io.zeebe.protocol.record.value.VariableDocumentUpdateSemantic;
 import io.zeebe.protocol.record.value.deployment.ResourceType;
 import io.zeebe.test.util.JsonUtil;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -687,6 +690,18 @@ public final class JsonSerializableToJsonTest {
     JsonUtil.assertEquality(json, expectedJson);
   }
 
+  @Test
+  public void shouldWriteJsonSerializableAsJson() throws IOException {
+    // given
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // when
+    actualRecordSupplier.get().writeJson(outputStream);
+
+    // then
+    JsonUtil.assertEquality(outputStream.toString(StandardCharsets.UTF_8), expectedJson);
+  }
+
   private static String errorRecordAsJson(final long workflowInstanceKey, final String stacktrace) {
     final Map<String, Object> params = new HashMap<>();
     params.put("exceptionMessage", "test");
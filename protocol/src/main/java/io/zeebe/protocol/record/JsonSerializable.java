@@ -15,8 +15,24 @@
  */
 package io.zeebe.protocol.record;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 public interface JsonSerializable {
 
   /** @return a JSON marshaled representation */
   String toJson();
+
+  /**
+   * Writes the JSON marshaled representation, encoded as UTF-8, to the given stream. The stream is
+   * not closed afterwards. Implementations should override it to avoid the intermediate string of
+   * {@link #toJson()}.
+   *
+   * @param outputStream the stream to write to
+   * @throws IOException if the stream cannot be written
+   */
+  default void writeJson(final OutputStream outputStream) throws IOException {
+    outputStream.write(toJson().getBytes(StandardCharsets.UTF_8));
+  }
 }
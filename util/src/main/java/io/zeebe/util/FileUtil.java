@@ -116,6 +116,15 @@ public final class FileUtil {
     }
   }
 
+  /**
+   * Copies the given snapshot into the runtime directory. The RocksDB SST files are immutable, so
+   * they are hard linked instead of copied, which makes the recovery independent of the size of the
+   * state. If a file can't be linked, e.g. because the directories are on different file systems,
+   * it is copied.
+   *
+   * @param runtimeDirectory the directory to copy the snapshot to
+   * @param snapshotDirectory the snapshot to copy
+   */
   public static void copySnapshot(final Path runtimeDirectory, final Path snapshotDirectory)
       throws Exception {
     Files.walkFileTree(snapshotDirectory, new SnapshotCopier(snapshotDirectory, runtimeDirectory));
@@ -123,6 +132,8 @@ public final class FileUtil {
 
   public static final class SnapshotCopier extends SimpleFileVisitor<Path> {
 
+    private static final String SST_FILE_EXTENSION = ".sst";
+
     private final Path targetPath;
     private final Path sourcePath;
 
@@ -149,6 +160,10 @@ public final class FileUtil {
     public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
       final Path newFile = targetPath.resolve(sourcePath.relativize(file));
 
+      if (isImmutable(file) && tryLink(file, newFile)) {
+        return CONTINUE;
+      }
+
       try {
         Files.copy(file, newFile);
       } catch (final IOException ioException) {
@@ -158,6 +173,20 @@ public final class FileUtil {
       return CONTINUE;
     }
 
+    private boolean isImmutable(final Path file) {
+      return file.getFileName().toString().endsWith(SST_FILE_EXTENSION);
+    }
+
+    private boolean tryLink(final Path file, final Path newFile) {
+      try {
+        Files.createLink(newFile, file);
+        return true;
+      } catch (final IOException | UnsupportedOperationException e) {
+        LOG.debug("Failed to link {} to {}, copy it instead.", file, newFile, e);
+        return false;
+      }
+    }
+
     @Override
     public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
       LOG.error("Problem on copying snapshot to runtime.", exc);
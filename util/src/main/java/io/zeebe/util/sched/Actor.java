@@ -15,6 +15,9 @@ import java.util.function.Consumer;
 
 public abstract class Actor implements CloseableSilently {
 
+  /** The affinity key of actors which can be run by any thread of a thread group. */
+  public static final int NO_AFFINITY = -1;
+
   private static final int MAX_CLOSE_TIMEOUT = 300;
   protected final ActorControl actor = new ActorControl(this);
 
@@ -22,6 +25,19 @@ public abstract class Actor implements CloseableSilently {
     return getClass().getName();
   }
 
+  /**
+   * Actors with the same affinity key are always submitted to the same thread of a thread group,
+   * e.g. the actors of a partition, so that they keep their data in the caches of the same core.
+   * Other threads of the group still steal them when they are idle. The key is only used if the
+   * scheduler is built with thread affinity enabled, and it is read once when the actor is
+   * submitted.
+   *
+   * @return a non-negative affinity key, e.g. the partition id, or {@link #NO_AFFINITY}
+   */
+  public int getAffinityKey() {
+    return NO_AFFINITY;
+  }
+
   public boolean isActorClosed() {
     return actor.isClosed();
   }
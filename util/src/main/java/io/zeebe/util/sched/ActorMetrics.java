@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import io.prometheus.client.Histogram;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * The metrics of a single actor task. An execution of the task is the time between being picked up
+ * by an actor thread and being released again, in which it runs one or more jobs.
+ *
+ * <p>Only the actor thread which executes the task may call {@link #onExecutionStarted()} and
+ * {@link #onExecutionFinished()}.
+ */
+final class ActorMetrics {
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+  private static final long NOT_QUEUED = Long.MIN_VALUE;
+
+  private static final Histogram EXECUTION_CPU_TIME =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("actor_task_execution_cpu_time_seconds")
+          .help("CPU time spent by an actor thread in a single execution of an actor task")
+          .labelNames("actorName")
+          .buckets(.00001, .00005, .0001, .0005, .001, .005, .01, .05, .1, .5, 1)
+          .register();
+
+  private static final Histogram QUEUE_DELAY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("actor_task_queue_delay_seconds")
+          .help("Time between submitting an actor task and an actor thread picking it up")
+          .labelNames("actorName")
+          .buckets(.00001, .00005, .0001, .0005, .001, .005, .01, .05, .1, .5, 1, 5)
+          .register();
+
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+  private final Histogram.Child executionCpuTime;
+  private final Histogram.Child queueDelay;
+  private final boolean cpuTimeSupported;
+
+  private volatile long queuedAt = NOT_QUEUED;
+  private long executionCpuTimeStart;
+
+  ActorMetrics(final String actorName) {
+    executionCpuTime = EXECUTION_CPU_TIME.labels(actorName);
+    queueDelay = QUEUE_DELAY.labels(actorName);
+    cpuTimeSupported = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+  }
+
+  void onQueued() {
+    queuedAt = System.nanoTime();
+  }
+
+  void onExecutionStarted() {
+    final long queuedAt = this.queuedAt;
+    if (queuedAt != NOT_QUEUED) {
+      queueDelay.observe((System.nanoTime() - queuedAt) / NANOS_PER_SECOND);
+      this.queuedAt = NOT_QUEUED;
+    }
+
+    if (cpuTimeSupported) {
+      executionCpuTimeStart = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+    }
+  }
+
+  void onExecutionFinished() {
+    if (cpuTimeSupported) {
+      final long cpuTime = THREAD_MX_BEAN.getCurrentThreadCpuTime() - executionCpuTimeStart;
+      executionCpuTime.observe(cpuTime / NANOS_PER_SECOND);
+    }
+  }
+}
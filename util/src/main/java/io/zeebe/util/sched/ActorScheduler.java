@@ -109,6 +109,8 @@ public final class ActorScheduler {
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
     private ActorThreadGroup ioBoundActorGroup;
+    private boolean threadAffinityEnabled = false;
+    private boolean actorMetricsEnabled = false;
 
     private ActorThreadFactory actorThreadFactory;
     private ThreadPoolExecutor blockingTasksRunner;
@@ -162,6 +164,32 @@ public final class ActorScheduler {
       return this;
     }
 
+    public boolean isThreadAffinityEnabled() {
+      return threadAffinityEnabled;
+    }
+
+    /**
+     * If enabled, actors with an affinity key are always submitted to the same thread of their
+     * thread group. See {@link Actor#getAffinityKey()}.
+     */
+    public ActorSchedulerBuilder setThreadAffinityEnabled(final boolean threadAffinityEnabled) {
+      this.threadAffinityEnabled = threadAffinityEnabled;
+      return this;
+    }
+
+    public boolean isActorMetricsEnabled() {
+      return actorMetricsEnabled;
+    }
+
+    /**
+     * If enabled, the CPU time and the queue delay of each actor task execution are recorded per
+     * actor name. Measuring the CPU time adds some overhead to every execution.
+     */
+    public ActorSchedulerBuilder setActorMetricsEnabled(final boolean actorMetricsEnabled) {
+      this.actorMetricsEnabled = actorMetricsEnabled;
+      return this;
+    }
+
     public double[] getPriorityQuotas() {
       return Arrays.copyOf(priorityQuotas, priorityQuotas.length);
     }
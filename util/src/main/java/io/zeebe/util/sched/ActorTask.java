@@ -32,6 +32,9 @@ public class ActorTask {
   final Actor actor;
   ActorJob currentJob;
   boolean shouldYield;
+  /** the metrics of the task, or null if the scheduler doesn't collect metrics per actor */
+  ActorMetrics metrics;
+
   final AtomicReference<TaskSchedulingState> schedulingState = new AtomicReference<>();
   final AtomicLong stateCount = new AtomicLong(0);
   private final CompletableActorFuture<Void> jobClosingTaskFuture = new CompletableActorFuture<>();
@@ -52,6 +55,8 @@ public class ActorTask {
    */
   private volatile Queue<ActorJob> submittedJobs = new ClosedQueue();
 
+  private int affinityKey = Actor.NO_AFFINITY;
+
   public ActorTask(final Actor actor) {
     this.actor = actor;
   }
@@ -61,6 +66,8 @@ public class ActorTask {
       final ActorExecutor actorExecutor, final ActorThreadGroup actorThreadGroup) {
     this.actorExecutor = actorExecutor;
     this.actorThreadGroup = actorThreadGroup;
+    this.affinityKey = actor.getAffinityKey();
+    this.metrics = actorThreadGroup.isActorMetricsEnabled() ? new ActorMetrics(getName()) : null;
     // reset previous state to allow re-scheduling
     this.closeFuture.close();
     this.closeFuture.setAwaitingResult();
@@ -479,6 +486,10 @@ public class ActorTask {
     this.priority = priority;
   }
 
+  public int getAffinityKey() {
+    return affinityKey;
+  }
+
   public ActorExecutor getActorExecutor() {
     return actorExecutor;
   }
@@ -103,6 +103,11 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     boolean resubmit = false;
 
+    final ActorMetrics metrics = currentTask.metrics;
+    if (metrics != null) {
+      metrics.onExecutionStarted();
+    }
+
     try {
       resubmit = currentTask.execute(this);
     } catch (final Exception e) {
@@ -113,6 +118,9 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       // TODO: resubmit on exception?
       //                resubmit = true;
     } finally {
+      if (metrics != null) {
+        metrics.onExecutionFinished();
+      }
       MDC.remove("actor-name");
 
       clock.update();
@@ -20,6 +20,8 @@ public abstract class ActorThreadGroup {
   protected final ActorThread[] threads;
   protected final MultiLevelWorkstealingGroup tasks;
   protected final int numOfThreads;
+  protected final boolean threadAffinityEnabled;
+  protected final boolean actorMetricsEnabled;
 
   public ActorThreadGroup(
       final String groupName,
@@ -28,6 +30,8 @@ public abstract class ActorThreadGroup {
       final ActorSchedulerBuilder builder) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
+    this.threadAffinityEnabled = builder.isThreadAffinityEnabled();
+    this.actorMetricsEnabled = builder.isActorMetricsEnabled();
 
     this.tasks = new MultiLevelWorkstealingGroup(numOfThreads, numOfQueuesPerThread);
 
@@ -58,8 +62,20 @@ public abstract class ActorThreadGroup {
   public void submit(final ActorTask actorTask) {
     final int level = getLevel(actorTask);
 
+    final ActorMetrics metrics = actorTask.metrics;
+    if (metrics != null) {
+      metrics.onQueued();
+    }
+
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final int affinityKey = actorTask.getAffinityKey();
+    if (threadAffinityEnabled && affinityKey != Actor.NO_AFFINITY) {
+      final int threadId = affinityKey % numOfThreads;
+      tasks.submit(actorTask, level, threadId);
+      if (current != threads[threadId]) {
+        threads[threadId].hintWorkAvailable();
+      }
+    } else if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, level, current.getRunnerId());
     } else {
       final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
@@ -78,6 +94,10 @@ public abstract class ActorThreadGroup {
     return numOfThreads;
   }
 
+  public boolean isActorMetricsEnabled() {
+    return actorMetricsEnabled;
+  }
+
   public void start() {
     for (final ActorThread actorThread : threads) {
       actorThread.start();
@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import org.junit.Rule;
 import org.junit.Test;
@@ -73,4 +74,23 @@ public final class FileUtilTest {
     assertThat(filesInFolder).hasSize(1);
     assertThat(filesInFolder[0]).hasName(fileToCreate);
   }
+
+  @Test
+  public void shouldLinkImmutableFilesWhenCopyingSnapshot() throws Exception {
+    // given
+    final var snapshot = tempFolder.newFolder("snapshot").toPath();
+    final var runtime = tempFolder.getRoot().toPath().resolve("runtime");
+    Files.write(snapshot.resolve("000001.sst"), new byte[] {1, 2, 3});
+    Files.write(snapshot.resolve("CURRENT"), new byte[] {4});
+
+    // when
+    FileUtil.copySnapshot(runtime, snapshot);
+
+    // then
+    assertThat(Files.readAllBytes(runtime.resolve("000001.sst"))).containsExactly(1, 2, 3);
+    assertThat(Files.readAllBytes(runtime.resolve("CURRENT"))).containsExactly(4);
+    assertThat(Files.isSameFile(snapshot.resolve("000001.sst"), runtime.resolve("000001.sst")))
+        .isTrue();
+    assertThat(Files.isSameFile(snapshot.resolve("CURRENT"), runtime.resolve("CURRENT"))).isFalse();
+  }
 }
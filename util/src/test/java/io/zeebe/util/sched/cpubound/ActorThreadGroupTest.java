@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched.cpubound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.prometheus.client.CollectorRegistry;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.ActorScheduler.ActorSchedulerBuilder;
+import io.zeebe.util.sched.ActorTask;
+import io.zeebe.util.sched.ActorThread;
+import io.zeebe.util.sched.ActorThreadGroup;
+import io.zeebe.util.sched.CpuThreadGroup;
+import io.zeebe.util.sched.FutureUtil;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class ActorThreadGroupTest {
+
+  private final List<ActorThread> threads = new ArrayList<>();
+
+  @Test
+  public void shouldSubmitTaskToThreadOfAffinityKey() {
+    // given
+    final ActorThreadGroup threadGroup = newThreadGroup(true);
+    final ActorTask task = newScheduledTask(threadGroup, 5);
+
+    // when
+    threadGroup.submit(task);
+
+    // then
+    verify(threads.get(1)).hintWorkAvailable();
+    verify(threads.get(0), never()).hintWorkAvailable();
+    verify(threads.get(2), never()).hintWorkAvailable();
+    verify(threads.get(3), never()).hintWorkAvailable();
+  }
+
+  @Test
+  public void shouldSubmitTasksWithSameAffinityKeyToSameThread() {
+    // given
+    final ActorThreadGroup threadGroup = newThreadGroup(true);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      threadGroup.submit(newScheduledTask(threadGroup, 2));
+    }
+
+    // then
+    verify(threads.get(2), times(10)).hintWorkAvailable();
+  }
+
+  @Test
+  public void shouldIgnoreAffinityKeyIfDisabled() {
+    // given
+    final ActorThreadGroup threadGroup = newThreadGroup(false);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      threadGroup.submit(newScheduledTask(threadGroup, 2));
+    }
+
+    // then
+    verify(threads.get(0), atLeastOnce()).hintWorkAvailable();
+    verify(threads.get(1), atLeastOnce()).hintWorkAvailable();
+    verify(threads.get(3), atLeastOnce()).hintWorkAvailable();
+  }
+
+  @Test
+  public void shouldRecordActorMetrics() {
+    // given
+    final String actorName = "metrics-test-actor";
+    final ActorScheduler scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorMetricsEnabled(true)
+            .build();
+    scheduler.start();
+
+    try {
+      // when
+      final Actor actor =
+          new Actor() {
+            @Override
+            public String getName() {
+              return actorName;
+            }
+          };
+      FutureUtil.join(scheduler.submitActor(actor));
+      actor.close();
+
+      // then
+      assertThat(getSampleValue("zeebe_actor_task_queue_delay_seconds_count", actorName))
+          .isGreaterThan(0);
+      assertThat(getSampleValue("zeebe_actor_task_execution_cpu_time_seconds_count", actorName))
+          .isGreaterThan(0);
+    } finally {
+      FutureUtil.join(scheduler.stop());
+    }
+  }
+
+  private ActorThreadGroup newThreadGroup(final boolean threadAffinityEnabled) {
+    final ActorSchedulerBuilder builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(4)
+            .setThreadAffinityEnabled(threadAffinityEnabled)
+            .setActorThreadFactory(
+                (name, id, threadGroup, taskScheduler, clock, timerQueue) -> {
+                  final ActorThread thread = mock(ActorThread.class);
+                  threads.add(thread);
+                  return thread;
+                });
+
+    return new CpuThreadGroup(builder);
+  }
+
+  private static ActorTask newScheduledTask(
+      final ActorThreadGroup threadGroup, final int affinityKey) {
+    final Actor actor =
+        new Actor() {
+          @Override
+          public int getAffinityKey() {
+            return affinityKey;
+          }
+        };
+    final ActorTask task = new ActorTask(actor);
+    task.onTaskScheduled(null, threadGroup);
+    return task;
+  }
+
+  private static Double getSampleValue(final String name, final String actorName) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        name, new String[] {"actorName"}, new String[] {actorName});
+  }
+}
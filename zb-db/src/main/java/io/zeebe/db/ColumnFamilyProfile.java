@@ -0,0 +1,71 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db;
+
+/**
+ * Describes how the keys of a column family are accessed, which allows the database to tune the
+ * storage of the column family, e.g. with filters which avoid reading files that don't contain a
+ * key.
+ */
+public final class ColumnFamilyProfile {
+
+  /** The keys are mostly read by iterating over the column family, e.g. ordered by a deadline. */
+  public static final ColumnFamilyProfile DEFAULT = new ColumnFamilyProfile(false, 0);
+
+  /** The keys are mostly read one by one, e.g. an entity by its key. */
+  public static final ColumnFamilyProfile POINT_LOOKUP = new ColumnFamilyProfile(true, 0);
+
+  private final boolean pointLookup;
+  private final int prefixLength;
+
+  private ColumnFamilyProfile(final boolean pointLookup, final int prefixLength) {
+    this.pointLookup = pointLookup;
+    this.prefixLength = prefixLength;
+  }
+
+  /**
+   * The keys are read one by one, or by iterating over all keys with the same prefix, see {@link
+   * ColumnFamily#whileEqualPrefix(DbKey, KeyValuePairVisitor)}. The given length must not be
+   * greater than the length of any prefix which is used to iterate over the column family,
+   * otherwise keys are missed.
+   *
+   * @param prefixLength the length of the shortest prefix used to iterate, e.g. {@link Long#BYTES}
+   *     for a composite key starting with a long
+   * @return the profile
+   */
+  public static ColumnFamilyProfile prefixScan(final int prefixLength) {
+    if (prefixLength <= 0) {
+      throw new IllegalArgumentException(
+          "Expected prefix length to be greater than 0, but was " + prefixLength);
+    }
+
+    return new ColumnFamilyProfile(true, prefixLength);
+  }
+
+  public boolean isPointLookup() {
+    return pointLookup;
+  }
+
+  public boolean hasPrefix() {
+    return prefixLength > 0;
+  }
+
+  public int getPrefixLength() {
+    return prefixLength;
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnFamilyProfile{"
+        + "pointLookup="
+        + pointLookup
+        + ", prefixLength="
+        + prefixLength
+        + '}';
+  }
+}
@@ -38,4 +38,23 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Records the current state of the transaction as a savepoint. A later call to {@link
+   * #rollbackToSavepoint()} discards only the changes made after this savepoint, while the changes
+   * made before are kept in the transaction. Savepoints are released on commit or rollback.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavepoint() throws Exception;
+
+  /**
+   * Rolls the transaction back to the latest savepoint, discards all changes made since then and
+   * removes the savepoint.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void rollbackToSavepoint() throws Exception;
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import org.rocksdb.Cache;
+import org.rocksdb.LRUCache;
+import org.rocksdb.RocksDB;
+import org.rocksdb.WriteBufferManager;
+
+/**
+ * The memory which is shared by all databases created with the same factory, e.g. the databases of
+ * all partitions of a broker. It consists of an LRU block cache and a write buffer manager, which
+ * charges the memory of the memtables to the same cache. This bounds the memory used by RocksDB,
+ * independent of the number of partitions.
+ *
+ * <p>The resources must only be closed after all databases using them were closed.
+ */
+public final class SharedRocksDbResources implements AutoCloseable {
+
+  /** The part of the memory limit which can be used by the memtables of all databases. */
+  private static final double WRITE_BUFFER_RATIO = 0.25;
+
+  static {
+    RocksDB.loadLibrary();
+  }
+
+  private final LRUCache blockCache;
+  private final WriteBufferManager writeBufferManager;
+
+  private SharedRocksDbResources(
+      final LRUCache blockCache, final WriteBufferManager writeBufferManager) {
+    this.blockCache = blockCache;
+    this.writeBufferManager = writeBufferManager;
+  }
+
+  /**
+   * Allocates the shared resources.
+   *
+   * @param memoryLimit the memory in bytes which can be used by the block cache and the memtables
+   * @return the shared resources
+   */
+  public static SharedRocksDbResources allocate(final long memoryLimit) {
+    if (memoryLimit <= 0) {
+      throw new IllegalArgumentException(
+          "Expected memory limit to be greater than 0, but was " + memoryLimit);
+    }
+
+    final var blockCache = new LRUCache(memoryLimit);
+    final var writeBufferManager =
+        new WriteBufferManager((long) (memoryLimit * WRITE_BUFFER_RATIO), blockCache);
+    return new SharedRocksDbResources(blockCache, writeBufferManager);
+  }
+
+  Cache getBlockCache() {
+    return blockCache;
+  }
+
+  WriteBufferManager getWriteBufferManager() {
+    return writeBufferManager;
+  }
+
+  @Override
+  public void close() {
+    writeBufferManager.close();
+    blockCache.close();
+  }
+}
@@ -7,13 +7,16 @@
  */
 package io.zeebe.db.impl.rocksdb;
 
+import io.zeebe.db.ColumnFamilyProfile;
 import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.function.Function;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
@@ -28,46 +31,89 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     RocksDB.loadLibrary();
   }
 
+  private static final int BLOOM_FILTER_BITS_PER_KEY = 10;
+  private static final double MEMTABLE_PREFIX_BLOOM_SIZE_RATIO = 0.1;
+
   private final Class<ColumnFamilyType> columnFamilyTypeClass;
+  private final Function<ColumnFamilyType, ColumnFamilyProfile> profiles;
+  private final SharedRocksDbResources sharedResources;
 
-  private ZeebeRocksDbFactory(final Class<ColumnFamilyType> columnFamilyTypeClass) {
+  private ZeebeRocksDbFactory(
+      final Class<ColumnFamilyType> columnFamilyTypeClass,
+      final Function<ColumnFamilyType, ColumnFamilyProfile> profiles,
+      final SharedRocksDbResources sharedResources) {
     this.columnFamilyTypeClass = columnFamilyTypeClass;
+    this.profiles = profiles;
+    this.sharedResources = sharedResources;
   }
 
   public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
       ZeebeDbFactory<ColumnFamilyType> newFactory(
           final Class<ColumnFamilyType> columnFamilyTypeClass) {
-    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass);
+    return new ZeebeRocksDbFactory<>(
+        columnFamilyTypeClass, columnFamily -> ColumnFamilyProfile.DEFAULT, null);
+  }
+
+  /**
+   * Creates a factory which tunes each column family by its profile. Each created database has its
+   * own block cache and memtable memory.
+   *
+   * @param columnFamilyTypeClass the enum class, which contains the column family names
+   * @param profiles returns the profile of a column family
+   * @param <ColumnFamilyType> the type of the enum
+   * @return the created factory
+   */
+  public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
+      ZeebeDbFactory<ColumnFamilyType> newFactory(
+          final Class<ColumnFamilyType> columnFamilyTypeClass,
+          final Function<ColumnFamilyType, ColumnFamilyProfile> profiles) {
+    return new ZeebeRocksDbFactory<>(columnFamilyTypeClass, Objects.requireNonNull(profiles), null);
+  }
+
+  /**
+   * Creates a factory which tunes each column family by its profile, and whose databases share the
+   * block cache and the memtable memory of the given resources.
+   *
+   * @param columnFamilyTypeClass the enum class, which contains the column family names
+   * @param profiles returns the profile of a column family
+   * @param sharedResources the resources shared by all created databases
+   * @param <ColumnFamilyType> the type of the enum
+   * @return the created factory
+   */
+  public static <ColumnFamilyType extends Enum<ColumnFamilyType>>
+      ZeebeDbFactory<ColumnFamilyType> newFactory(
+          final Class<ColumnFamilyType> columnFamilyTypeClass,
+          final Function<ColumnFamilyType, ColumnFamilyProfile> profiles,
+          final SharedRocksDbResources sharedResources) {
+    return new ZeebeRocksDbFactory<>(
+        columnFamilyTypeClass,
+        Objects.requireNonNull(profiles),
+        Objects.requireNonNull(sharedResources));
   }
 
   @Override
   public ZeebeTransactionDb<ColumnFamilyType> createDb(final File pathName) {
-    return open(
-        pathName,
-        Arrays.stream(columnFamilyTypeClass.getEnumConstants())
-            .map(c -> c.name().toLowerCase().getBytes())
-            .collect(Collectors.toList()));
+    return open(pathName);
   }
 
-  private ZeebeTransactionDb<ColumnFamilyType> open(
-      final File dbDirectory, final List<byte[]> columnFamilyNames) {
+  private ZeebeTransactionDb<ColumnFamilyType> open(final File dbDirectory) {
 
     final ZeebeTransactionDb<ColumnFamilyType> db;
     try {
       final List<AutoCloseable> closeables = new ArrayList<>();
 
       // column family options have to be closed as last
-      final ColumnFamilyOptions columnFamilyOptions = createColumnFamilyOptions();
-      closeables.add(columnFamilyOptions);
-
       final List<ColumnFamilyDescriptor> columnFamilyDescriptors =
-          createFamilyDescriptors(columnFamilyNames, columnFamilyOptions);
+          createFamilyDescriptors(closeables);
       final DBOptions dbOptions =
           new DBOptions()
               .setCreateMissingColumnFamilies(true)
               .setErrorIfExists(false)
               .setCreateIfMissing(true)
               .setParanoidChecks(true);
+      if (sharedResources != null) {
+        dbOptions.setWriteBufferManager(sharedResources.getWriteBufferManager());
+      }
       closeables.add(dbOptions);
 
       db =
@@ -85,22 +131,48 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
   }
 
   private List<ColumnFamilyDescriptor> createFamilyDescriptors(
-      final List<byte[]> columnFamilyNames, final ColumnFamilyOptions columnFamilyOptions) {
+      final List<AutoCloseable> closeables) {
     final List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
 
-    if (columnFamilyNames != null && !columnFamilyNames.isEmpty()) {
-      for (final byte[] name : columnFamilyNames) {
-        final ColumnFamilyDescriptor columnFamilyDescriptor =
-            new ColumnFamilyDescriptor(name, columnFamilyOptions);
-        columnFamilyDescriptors.add(columnFamilyDescriptor);
-      }
+    for (final ColumnFamilyType columnFamily : columnFamilyTypeClass.getEnumConstants()) {
+      final ColumnFamilyOptions columnFamilyOptions =
+          createColumnFamilyOptions(profiles.apply(columnFamily), closeables);
+      final ColumnFamilyDescriptor columnFamilyDescriptor =
+          new ColumnFamilyDescriptor(
+              columnFamily.name().toLowerCase().getBytes(), columnFamilyOptions);
+      columnFamilyDescriptors.add(columnFamilyDescriptor);
     }
     return columnFamilyDescriptors;
   }
 
-  private static ColumnFamilyOptions createColumnFamilyOptions() {
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final ColumnFamilyProfile profile, final List<AutoCloseable> closeables) {
     // Options which are used on all column families
-    return new ColumnFamilyOptions()
-        .setCompactionPriority(CompactionPriority.OldestSmallestSeqFirst);
+    final ColumnFamilyOptions columnFamilyOptions =
+        new ColumnFamilyOptions().setCompactionPriority(CompactionPriority.OldestSmallestSeqFirst);
+
+    final BlockBasedTableConfig tableConfig = new BlockBasedTableConfig();
+    if (sharedResources != null) {
+      tableConfig
+          .setBlockCache(sharedResources.getBlockCache())
+          .setCacheIndexAndFilterBlocks(true)
+          .setPinL0FilterAndIndexBlocksInCache(true);
+    }
+
+    if (profile.isPointLookup()) {
+      final BloomFilter filter = new BloomFilter(BLOOM_FILTER_BITS_PER_KEY, false);
+      // the closeables are closed in reverse order, so the filter is closed after the options
+      closeables.add(filter);
+      tableConfig.setFilterPolicy(filter).setWholeKeyFiltering(true);
+    }
+
+    if (profile.hasPrefix()) {
+      columnFamilyOptions
+          .useFixedLengthPrefixExtractor(profile.getPrefixLength())
+          .setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_BLOOM_SIZE_RATIO);
+    }
+
+    closeables.add(columnFamilyOptions);
+    return columnFamilyOptions.setTableFormatConfig(tableConfig);
   }
 }
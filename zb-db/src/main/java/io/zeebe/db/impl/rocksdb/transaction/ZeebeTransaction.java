@@ -112,6 +112,33 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void setSavepoint() throws RocksDBException {
+    try {
+      transaction.setSavePoint();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage = "Unexpected error occurred during RocksDB transaction savepoint.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
+  @Override
+  public void rollbackToSavepoint() throws RocksDBException {
+    try {
+      transaction.rollbackToSavePoint();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction rollback to savepoint.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.commit();
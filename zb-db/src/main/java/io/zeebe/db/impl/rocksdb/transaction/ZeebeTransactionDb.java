@@ -52,6 +52,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private final Long2ObjectHashMap<ColumnFamilyHandle> handelToEnumMap;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
+  private final ReadOptions iteratorReadOptions;
   private final WriteOptions defaultWriteOptions;
 
   protected ZeebeTransactionDb(
@@ -68,6 +69,9 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     closables.add(prefixReadOptions);
     defaultReadOptions = new ReadOptions();
     closables.add(defaultReadOptions);
+    // column families with a prefix extractor would otherwise only be iterated within one prefix
+    iteratorReadOptions = new ReadOptions().setTotalOrderSeek(true);
+    closables.add(iteratorReadOptions);
     defaultWriteOptions = new WriteOptions();
     closables.add(defaultWriteOptions);
   }
@@ -269,7 +273,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         context,
         transaction -> {
           try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
+              newIterator(columnFamilyHandle, context, iteratorReadOptions)) {
             for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
               context.wrapKeyView(iterator.key());
               context.wrapValueView(iterator.value());
@@ -289,7 +293,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         context,
         transaction -> {
           try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
+              newIterator(columnFamilyHandle, context, iteratorReadOptions)) {
             boolean shouldVisitNext = true;
             for (iterator.seekToFirst(); iterator.isValid() && shouldVisitNext; iterator.next()) {
               shouldVisitNext = visit(context, keyInstance, valueInstance, visitor, iterator);
@@ -393,7 +397,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         context,
         transaction -> {
           try (final RocksIterator iterator =
-              newIterator(columnFamilyHandle, context, defaultReadOptions)) {
+              newIterator(columnFamilyHandle, context, iteratorReadOptions)) {
             iterator.seekToFirst();
             final boolean hasEntry = iterator.isValid();
             isEmpty.set(!hasEntry);
@@ -230,6 +230,38 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldRollbackToSavepoint() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    twoKey.wrapLong(52000);
+    twoValue.wrapLong(192313);
+
+    threeKey.wrapLong(Short.MAX_VALUE);
+    threeValue.wrapLong(Integer.MAX_VALUE);
+
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.setSavepoint();
+    transaction.run(() -> oneColumnFamily.put(oneKey, oneValue));
+    transaction.setSavepoint();
+    transaction.run(
+        () -> {
+          twoColumnFamily.put(twoKey, twoValue);
+          threeColumnFamily.put(threeKey, threeValue);
+        });
+
+    // when
+    transaction.rollbackToSavepoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+    assertThat(threeColumnFamily.exists(threeKey)).isFalse();
+  }
+
   @Test
   public void shouldGetValueInTransaction() {
     // given
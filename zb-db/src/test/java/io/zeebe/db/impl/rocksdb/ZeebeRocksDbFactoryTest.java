@@ -9,10 +9,17 @@ package io.zeebe.db.impl.rocksdb;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.ColumnFamilyProfile;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
+import io.zeebe.db.impl.DbCompositeKey;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DbNil;
 import io.zeebe.db.impl.DefaultColumnFamily;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -58,4 +65,71 @@ public final class ZeebeRocksDbFactoryTest {
     firstDb.close();
     secondDb.close();
   }
+
+  @Test
+  public void shouldIterateOverColumnFamilyWithPrefixProfile() throws Exception {
+    // given
+    final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+        ZeebeRocksDbFactory.newFactory(
+            DefaultColumnFamily.class, columnFamily -> ColumnFamilyProfile.prefixScan(Long.BYTES));
+
+    // when - then
+    assertPrefixAndFullIteration(dbFactory);
+  }
+
+  @Test
+  public void shouldIterateOverColumnFamilyWithPrefixProfileAndSharedResources() throws Exception {
+    // given
+    try (final SharedRocksDbResources sharedResources =
+        SharedRocksDbResources.allocate(8 * 1024 * 1024)) {
+      final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+          ZeebeRocksDbFactory.newFactory(
+              DefaultColumnFamily.class,
+              columnFamily -> ColumnFamilyProfile.prefixScan(Long.BYTES),
+              sharedResources);
+
+      // when - then
+      assertPrefixAndFullIteration(dbFactory);
+    }
+  }
+
+  private void assertPrefixAndFullIteration(final ZeebeDbFactory<DefaultColumnFamily> dbFactory)
+      throws Exception {
+    try (final ZeebeDb<DefaultColumnFamily> db = dbFactory.createDb(temporaryFolder.newFolder())) {
+      final DbLong firstKey = new DbLong();
+      final DbLong secondKey = new DbLong();
+      final DbCompositeKey<DbLong, DbLong> compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+      final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> columnFamily =
+          db.createColumnFamily(
+              DefaultColumnFamily.DEFAULT, db.createContext(), compositeKey, DbNil.INSTANCE);
+
+      for (long prefix = 0; prefix < 3; prefix++) {
+        firstKey.wrapLong(prefix);
+        for (long suffix = 0; suffix < 2; suffix++) {
+          secondKey.wrapLong(suffix);
+          columnFamily.put(compositeKey, DbNil.INSTANCE);
+        }
+      }
+
+      final List<Long> prefixKeys = new ArrayList<>();
+      firstKey.wrapLong(1);
+      columnFamily.whileEqualPrefix(
+          firstKey,
+          (key, value) -> {
+            prefixKeys.add(key.getSecond().getValue());
+          });
+
+      final List<Long> allKeys = new ArrayList<>();
+      columnFamily.forEach((key, value) -> allKeys.add(key.getFirst().getValue()));
+
+      assertThat(prefixKeys).containsExactly(0L, 1L);
+      assertThat(allKeys).containsExactly(0L, 0L, 1L, 1L, 2L, 2L);
+
+      firstKey.wrapLong(2);
+      secondKey.wrapLong(1);
+      assertThat(columnFamily.exists(compositeKey)).isTrue();
+      secondKey.wrapLong(3);
+      assertThat(columnFamily.exists(compositeKey)).isFalse();
+    }
+  }
 }